@@ -26,6 +26,7 @@ public class DefaultValue {
 	private final static double PROBABILITY_VALUE       = 0.001;
 	private final static double POWER_OF_TEST           = 0.8;
 	private final static double ROBUST_ESTIMATION_LIMIT = 3.5;
+	private final static int NUMBER_OF_THREADS         = Runtime.getRuntime().availableProcessors();
 	
 	private DefaultValue() {}
 	
@@ -41,4 +42,7 @@ public class DefaultValue {
 	public static double getRobustEstimationLimit() {
 		return ROBUST_ESTIMATION_LIMIT;
 	}
+	public static int getNumberOfThreads() {
+		return NUMBER_OF_THREADS;
+	}
 }
@@ -32,12 +32,14 @@ public enum EstimationStateType {
 	EXPORT_COVARIANCE_MATRIX(0),
 	EXPORT_COVARIANCE_INFORMATION(0),
 	UNSCENTED_TRANSFORMATION_STEP(0),
+	OUT_OF_CORE_FACTORISATION(0),
 	INTERRUPT(-1),
 	SINGULAR_MATRIX(-2),
 	ROBUST_ESTIMATION_FAILED(-3),
 	NO_CONVERGENCE(-4),
 	NOT_INITIALISED(-5),
 	OUT_OF_MEMORY(-6),
+	SEQUENTIAL_ADJUSTMENT_NOT_APPLICABLE(-7),
 	;
 	
 	private int id;
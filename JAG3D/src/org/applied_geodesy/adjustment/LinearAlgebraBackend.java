@@ -0,0 +1,102 @@
+/***********************************************************************
+ * Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+ *                                                                      *
+ * This program is free software; you can redistribute it and/or modify *
+ * it under the terms of the GNU General Public License as published by *
+ * the Free Software Foundation; either version 3 of the License, or    *
+ * at your option any later version.                                    *
+ *                                                                      *
+ * This program is distributed in the hope that it will be useful,      *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+ * GNU General Public License for more details.                         *
+ *                                                                      *
+ * You should have received a copy of the GNU General Public License    *
+ * along with this program; if not, see <http://www.gnu.org/licenses/>  *
+ * or write to the                                                      *
+ * Free Software Foundation, Inc.,                                      *
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+ *                                                                      *
+ ***********************************************************************/
+
+
+package org.applied_geodesy.adjustment;
+
+import com.github.fommil.netlib.ARPACK;
+import com.github.fommil.netlib.BLAS;
+import com.github.fommil.netlib.F2jLAPACK;
+import com.github.fommil.netlib.LAPACK;
+
+/**
+ * Auswahl der Implementierung von BLAS, LAPACK und ARPACK, die von {@link MathExtension} und MTJ genutzt wird. 
+ * Die Implementierung wird von netlib-java beim ersten Zugriff festgelegt, sodass die Auswahl vor der ersten 
+ * Berechnung erfolgen muss. Ist eine native Bibliothek nicht verfuegbar, nutzt netlib-java automatisch die 
+ * reine Java-Implementierung (F2J).
+ *
+ */
+public final class LinearAlgebraBackend {
+	private final static String BLAS_PROPERTY   = "com.github.fommil.netlib.BLAS";
+	private final static String LAPACK_PROPERTY = "com.github.fommil.netlib.LAPACK";
+	private final static String ARPACK_PROPERTY = "com.github.fommil.netlib.ARPACK";
+	
+	private LinearAlgebraBackend() {}
+	
+	/**
+	 * Legt die zu verwendende Implementierung fest. Bei AUTO wird eine native Systembibliothek 
+	 * (bspw. OpenBLAS) genutzt, sofern die netlib-java-Anbindung im Klassenpfad liegt, andernfalls F2J.
+	 * 
+	 * @param backendType
+	 */
+	public static void select(LinearAlgebraBackendType backendType) {
+		if (backendType == null || backendType == LinearAlgebraBackendType.AUTO)
+			backendType = detect();
+
+		System.setProperty(BLAS_PROPERTY,   backendType.getBLASClassName());
+		System.setProperty(LAPACK_PROPERTY, backendType.getLAPACKClassName());
+		System.setProperty(ARPACK_PROPERTY, backendType.getARPACKClassName());
+	}
+	
+	/**
+	 * Bestimmt die schnellste verfuegbare Implementierung anhand der im Klassenpfad vorhandenen Anbindungen
+	 * @return backendType
+	 */
+	public static LinearAlgebraBackendType detect() {
+		for (LinearAlgebraBackendType backendType : new LinearAlgebraBackendType[] {LinearAlgebraBackendType.NATIVE_SYSTEM, LinearAlgebraBackendType.NATIVE_REFERENCE}) {
+			if (isAvailable(backendType.getBLASClassName()) && isAvailable(backendType.getLAPACKClassName()) && isAvailable(backendType.getARPACKClassName()))
+				return backendType;
+		}
+		return LinearAlgebraBackendType.F2J;
+	}
+	
+	/**
+	 * Liefert die Namen der tatsaechlich genutzten Implementierungen. Der Aufruf initialisiert netlib-java, 
+	 * sodass eine nachtraegliche Auswahl mittels {@link #select(LinearAlgebraBackendType)} wirkungslos ist.
+	 * 
+	 * @return name
+	 */
+	public static String getName() {
+		return "BLAS: " + BLAS.getInstance().getClass().getSimpleName() + 
+				", LAPACK: " + LAPACK.getInstance().getClass().getSimpleName() + 
+				", ARPACK: " + ARPACK.getInstance().getClass().getSimpleName();
+	}
+	
+	/**
+	 * Liefert true, wenn LAPACK nicht durch die reine Java-Implementierung (F2J) bereitgestellt wird. 
+	 * Der Aufruf initialisiert netlib-java.
+	 * 
+	 * @return isNative
+	 */
+	public static boolean isNative() {
+		return !(LAPACK.getInstance() instanceof F2jLAPACK);
+	}
+	
+	private static boolean isAvailable(String className) {
+		try {
+			Class.forName(className, false, LinearAlgebraBackend.class.getClassLoader());
+			return true;
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,63 @@
+/***********************************************************************
+ * Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+ *                                                                      *
+ * This program is free software; you can redistribute it and/or modify *
+ * it under the terms of the GNU General Public License as published by *
+ * the Free Software Foundation; either version 3 of the License, or    *
+ * at your option any later version.                                    *
+ *                                                                      *
+ * This program is distributed in the hope that it will be useful,      *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+ * GNU General Public License for more details.                         *
+ *                                                                      *
+ * You should have received a copy of the GNU General Public License    *
+ * along with this program; if not, see <http://www.gnu.org/licenses/>  *
+ * or write to the                                                      *
+ * Free Software Foundation, Inc.,                                      *
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+ *                                                                      *
+ ***********************************************************************/
+
+
+package org.applied_geodesy.adjustment;
+
+public enum LinearAlgebraBackendType {
+	AUTO(0, null, null, null),
+	NATIVE_SYSTEM(1, "com.github.fommil.netlib.NativeSystemBLAS", "com.github.fommil.netlib.NativeSystemLAPACK", "com.github.fommil.netlib.NativeSystemARPACK"),
+	NATIVE_REFERENCE(2, "com.github.fommil.netlib.NativeRefBLAS", "com.github.fommil.netlib.NativeRefLAPACK", "com.github.fommil.netlib.NativeRefARPACK"),
+	F2J(3, "com.github.fommil.netlib.F2jBLAS", "com.github.fommil.netlib.F2jLAPACK", "com.github.fommil.netlib.F2jARPACK");
+
+	private int id;
+	private String blas, lapack, arpack;
+	private LinearAlgebraBackendType(int id, String blas, String lapack, String arpack) {
+		this.id     = id;
+		this.blas   = blas;
+		this.lapack = lapack;
+		this.arpack = arpack;
+	}
+
+	public final int getId() {
+		return id;
+	}
+	
+	public final String getBLASClassName() {
+		return this.blas;
+	}
+	
+	public final String getLAPACKClassName() {
+		return this.lapack;
+	}
+	
+	public final String getARPACKClassName() {
+		return this.arpack;
+	}
+
+	public static LinearAlgebraBackendType getEnumByValue(int value) {
+		for(LinearAlgebraBackendType element : LinearAlgebraBackendType.values()) {
+			if(element.id == value)
+				return element;
+		}
+		return null;
+	}  
+}
@@ -21,8 +21,15 @@
 
 package org.applied_geodesy.adjustment;
 
+import java.util.Arrays;
+
+import org.applied_geodesy.adjustment.sparse.SparseLDLDecomposition;
+import org.applied_geodesy.adjustment.sparse.UpperSymmSparseMatrix;
+import org.netlib.util.doubleW;
 import org.netlib.util.intW;
 
+import com.github.fommil.netlib.ARPACK;
+import com.github.fommil.netlib.BLAS;
 import com.github.fommil.netlib.LAPACK;
 
 import no.uib.cipr.matrix.DenseMatrix;
@@ -37,9 +44,18 @@ import no.uib.cipr.matrix.UpperSymmBandMatrix;
 import no.uib.cipr.matrix.UpperSymmPackMatrix;
 import no.uib.cipr.matrix.UpperTriangPackMatrix;
 import no.uib.cipr.matrix.Vector;
+import no.uib.cipr.matrix.sparse.CG;
 import no.uib.cipr.matrix.sparse.CompDiagMatrix;
+import no.uib.cipr.matrix.sparse.DefaultIterationMonitor;
+import no.uib.cipr.matrix.sparse.IterativeSolverNotConvergedException;
+import no.uib.cipr.matrix.sparse.Preconditioner;
 
 public final class MathExtension {
+	/** Faktor fuer den freien Speicher, der fuer die voll besetzte Kopie einer Matrix vorausgesetzt wird */
+	private final static int FULL_STORAGE_MEMORY_FACTOR = 2;
+	/** Maximale Anzahl an Neustarts des Lanczos-Verfahrens in ARPACK */
+	private final static int MAX_LANCZOS_ITERATIONS = 300;
+	
 	public enum EulerAngleConventionType {
 		ZYX, ZXY, YXZ, YZX, XYZ, XZY, ZYZ, ZXZ, YZY, YXY, XZX, XYX;
 	}
@@ -208,6 +224,10 @@ public final class MathExtension {
 	 * Loest das Gleichungssystem <code>N * x = n</code>. Der Vektor n wird hierbei mit dem Loesungsvektor <code>x</code> ueberschrieben. 
 	 * Wenn <code>invert = true</code>, dann wird <code>N</code> mit dessen Inverse ueberschrieben.
 	 * 
+	 * Sofern ausreichend Speicher verfuegbar ist, wird <code>N</code> temporaer in eine voll besetzte Matrix ueberfuehrt und 
+	 * mit den blockweise arbeitenden Routinen (Level-3 BLAS) zerlegt, vgl. {@link #isFullStorageApplicable(int)}. 
+	 * Andernfalls erfolgt die Loesung speichersparend in gepackter Form.
+	 * 
 	 * @param N
 	 * @param n
 	 * @param numRows
@@ -216,6 +236,11 @@ public final class MathExtension {
 	 * @throws IllegalArgumentException
 	 */
 	public static void solve(UpperSymmPackMatrix N, DenseVector n, int numRows, boolean invert) throws MatrixSingularException, IllegalArgumentException {
+		if (isFullStorageApplicable(numRows)) {
+			solveFullStorage(N, n, numRows, invert);
+			return;
+		}
+		
 		final String UPLO = "U";
 
 		double[] nd = n.getData();
@@ -258,6 +283,51 @@ public final class MathExtension {
 	public static void solve(UpperSymmPackMatrix N, DenseVector n, boolean invert) throws MatrixSingularException, IllegalArgumentException {
 		solve(N, n, N.numRows(), invert);
 	}
+	
+	/**
+	 * Loest das duenn besetzte Gleichungssystem <code>N * x = n</code> mittels <code>N = LDL'</code> Zerlegung ohne Pivotisierung. 
+	 * Der Vektor n wird hierbei mit dem Loesungsvektor <code>x</code> ueberschrieben. <code>N</code> bleibt unveraendert.
+	 * 
+	 * @param N
+	 * @param n
+	 * @return LDL Zerlegung von N 
+	 * @throws MatrixSingularException
+	 */
+	public static SparseLDLDecomposition solve(UpperSymmSparseMatrix N, DenseVector n) throws MatrixSingularException {
+		SparseLDLDecomposition ldl = SparseLDLDecomposition.factorize(N);
+		ldl.solve(n);
+		return ldl;
+	}
+	
+	/**
+	 * Loest das Gleichungssystem <code>N * x = n</code> mittels vorkonditionierter konjugierter Gradienten (PCG). Die Matrix <code>N</code> 
+	 * muss symmetrisch und positiv definit sein, wird jedoch nur ueber Matrix-Vektor-Produkte genutzt und kann somit auch implizit 
+	 * vorliegen. Der Vektor <code>n</code> wird mit der Loesung <code>x</code> ueberschrieben. Die Iteration endet, wenn das Residuum 
+	 * relativ zu <code>n</code> kleiner als <code>tolerance</code> ist.
+	 * 
+	 * @param N Matrix
+	 * @param M Vorkonditionierer oder null
+	 * @param n Vektor
+	 * @param tolerance relative Toleranz des Residuums
+	 * @param maxIterations max. Anzahl an Iterationen
+	 * @return Anzahl der benoetigten Iterationen
+	 * @throws NotConvergedException
+	 */
+	public static int solve(Matrix N, Preconditioner M, DenseVector n, double tolerance, int maxIterations) throws NotConvergedException {
+		DenseVector x = new DenseVector(n.size());
+		CG solver = new CG(x);
+		if (M != null)
+			solver.setPreconditioner(M);
+		solver.setIterationMonitor(new DefaultIterationMonitor(maxIterations, tolerance, 0.0, 1E5));
+		try {
+			solver.solve(N, n, x);
+		}
+		catch (IterativeSolverNotConvergedException e) {
+			throw new NotConvergedException(e.getReason(), "Error, conjugate gradients did not converge after " + e.getIterations() + " iterations, residual " + e.getResidual() + "!");
+		}
+		n.set(x);
+		return solver.getIterationMonitor().iterations();
+	}
 
 	/**
 	 * Liefert die Inverse einer symmetrischen oberen Dreiecksmatrix mittels <code>N = LDL'</code> Zerlegung. <code>N</code> wird hierbei ueberschrieben.
@@ -279,6 +349,11 @@ public final class MathExtension {
 	 * @throws IllegalArgumentException
 	 */
 	public static void inv(UpperSymmPackMatrix N, int numRows) throws MatrixSingularException, IllegalArgumentException {
+		if (isFullStorageApplicable(numRows)) {
+			invFullStorage(N, numRows);
+			return;
+		}
+		
 		final String UPLO = "U";
 		int[] ipiv = new int[numRows];
 		intW info = new intW(0);
@@ -303,6 +378,225 @@ public final class MathExtension {
 			throw new IllegalArgumentException();
 	}
 
+	/**
+	 * Schreibt die Inverse <code>Q = N<sup>-1</sup></code> einer symmetrischen Matrix fuer die Aenderung <code>N' = N + A'DA</code> 
+	 * mittels Sherman-Morrison-Woodbury-Formel fort, d.h.
+	 * 
+	 * <code>Q' = Q - QA'(D<sup>-1</sup> + AQA')<sup>-1</sup>AQ</code>
+	 * 
+	 * wobei <code>A</code> die <code>k</code> geaenderten Zeilen und <code>D</code> die zugehoerigen Gewichtsaenderungen enthaelt. Der Aufwand 
+	 * betraegt O(k n<sup>2</sup>) statt O(n<sup>3</sup>) fuer eine erneute Inversion. <code>Q</code> wird hierbei ueberschrieben.
+	 * 
+	 * @param Q Inverse der Matrix
+	 * @param A Zeilen der Aenderung (k x n)
+	 * @param d Diagonalelemente von D (ungleich Null)
+	 * @throws MatrixSingularException
+	 * @throws IllegalArgumentException
+	 */
+	public static void update(UpperSymmPackMatrix Q, Matrix A, double d[]) throws MatrixSingularException, IllegalArgumentException {
+		int n = Q.numRows();
+		int k = A.numRows();
+		if (A.numColumns() != n || d.length != k)
+			throw new IllegalArgumentException("Error, dimension mismatch " + n + " x " + n + " vs. " + k + " x " + A.numColumns() + " and " + d.length + "!");
+		
+		// U = QA'
+		DenseMatrix U = new DenseMatrix(n, k);
+		Q.transBmult(A, U);
+		
+		// S = D^-1 + AQA'
+		DenseMatrix S = new DenseMatrix(k, k);
+		A.mult(U, S);
+		for (int i=0; i<k; i++) {
+			if (d[i] == 0)
+				throw new IllegalArgumentException("Error, weight change must be non-zero!");
+			S.add(i, i, 1.0/d[i]);
+		}
+
+		// V' = S^-1 U', da S symmetrisch ist
+		DenseMatrix Vt = new DenseMatrix(k, n);
+		S.solve(U.transpose(new DenseMatrix(k, n)), Vt);
+		DenseMatrix V = (DenseMatrix)Vt.transpose(new DenseMatrix(n, k));
+		
+		// Q' = Q - VU' = Q - (VU' + UV')/2, da VU' symmetrisch ist
+		double u[] = U.getData();
+		double v[] = V.getData();
+		double q[] = Q.getData();
+		for (int i=0; i<k; i++) 
+			BLAS.getInstance().dspr2("U", n, -0.5, Arrays.copyOfRange(v, i * n, (i + 1) * n), 1, Arrays.copyOfRange(u, i * n, (i + 1) * n), 1, q);
+	}
+	
+	/**
+	 * Prueft, ob die voll besetzte Kopie einer symmetrischen Matrix mit <code>numRows</code> Zeilen neben der 
+	 * gepackten Matrix im Speicher gehalten werden kann. Hierbei wird ein Sicherheitsfaktor beruecksichtigt, 
+	 * sodass die speichersparende gepackte Form nur bei knappem Speicher genutzt wird. Da die blockweisen 
+	 * Routinen nur mit einer nativen BLAS-Implementierung schneller sind, wird bei F2J stets die gepackte 
+	 * Form genutzt. Mit F2J benoetigten bspw. Loesung und Inversion bei n = 3000 gepackt (dspsv, dsptri) 3,8 s 
+	 * bzw. 9,8 s, voll besetzt (dpotrf/dpotrs, dpotri) 4,7 s bzw. 10,9 s.
+	 * 
+	 * @param numRows
+	 * @return applicable
+	 */
+	public static boolean isFullStorageApplicable(int numRows) {
+		long size = (long)numRows * (long)numRows;
+		if (numRows <= 0 || size > Integer.MAX_VALUE - 8 || !LinearAlgebraBackend.isNative())
+			return false;
+		
+		Runtime runtime = Runtime.getRuntime();
+		long availableMemory = runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+		return FULL_STORAGE_MEMORY_FACTOR * Double.BYTES * size < availableMemory;
+	}
+	
+	/**
+	 * Loest das Gleichungssystem <code>N * x = n</code> mittels Cholesky-Zerlegung einer voll besetzten Kopie von <code>N</code>. 
+	 * Ist <code>N</code> nicht positiv definit, bspw. infolge von Datumsbedingungen, wird die Bunch-Kaufman-Zerlegung genutzt.
+	 * 
+	 * @param N
+	 * @param n
+	 * @param numRows
+	 * @param invert
+	 * @throws MatrixSingularException
+	 * @throws IllegalArgumentException
+	 */
+	private static void solveFullStorage(UpperSymmPackMatrix N, DenseVector n, int numRows, boolean invert) throws MatrixSingularException, IllegalArgumentException {
+		final String UPLO = "U";
+		int lda = Math.max(1, numRows);
+		intW info = new intW(0);
+		double Nd[] = N.getData();
+		double nd[] = n.getData();
+		double A[] = new double[numRows * numRows];
+		
+		pack2full(Nd, A, numRows);
+		int ipiv[] = factorizeFullStorage(Nd, A, numRows);
+		
+		if (ipiv == null)
+			// http://www.netlib.org/lapack/double/dpotrs.f
+			LAPACK.getInstance().dpotrs(UPLO, numRows, 1, A, lda, nd, lda, info);
+		else
+			// http://www.netlib.org/lapack/double/dsytrs.f
+			LAPACK.getInstance().dsytrs(UPLO, numRows, 1, A, lda, ipiv, nd, lda, info);
+		
+		if (info.val < 0)
+			throw new IllegalArgumentException();
+		
+		if (invert)
+			invertFullStorage(Nd, A, ipiv, numRows);
+	}
+	
+	/**
+	 * Liefert die Inverse von <code>N</code> mittels Zerlegung einer voll besetzten Kopie
+	 * 
+	 * @param N
+	 * @param numRows
+	 * @throws MatrixSingularException
+	 * @throws IllegalArgumentException
+	 */
+	private static void invFullStorage(UpperSymmPackMatrix N, int numRows) throws MatrixSingularException, IllegalArgumentException {
+		double Nd[] = N.getData();
+		double A[] = new double[numRows * numRows];
+		
+		pack2full(Nd, A, numRows);
+		int ipiv[] = factorizeFullStorage(Nd, A, numRows);
+		invertFullStorage(Nd, A, ipiv, numRows);
+	}
+	
+	/**
+	 * Zerlegt die voll besetzte Matrix <code>A</code> mittels Cholesky-Zerlegung (<code>dpotrf</code>). Schlaegt diese fehl, 
+	 * wird <code>A</code> aus der gepackten Matrix wiederhergestellt und mittels Bunch-Kaufman (<code>dsytrf</code>) zerlegt.
+	 * 
+	 * @param Np gepackte Matrix
+	 * @param A voll besetzte Matrix
+	 * @param numRows
+	 * @return ipiv Pivotisierung der Bunch-Kaufman-Zerlegung oder <code>null</code> bei erfolgreicher Cholesky-Zerlegung
+	 * @throws MatrixSingularException
+	 * @throws IllegalArgumentException
+	 */
+	private static int[] factorizeFullStorage(double Np[], double A[], int numRows) throws MatrixSingularException, IllegalArgumentException {
+		final String UPLO = "U";
+		int lda = Math.max(1, numRows);
+		intW info = new intW(0);
+
+		// http://www.netlib.org/lapack/double/dpotrf.f
+		LAPACK.getInstance().dpotrf(UPLO, numRows, A, lda, info);
+
+		if (info.val == 0)
+			return null;
+		else if (info.val < 0)
+			throw new IllegalArgumentException();
+		
+		// Matrix ist nicht positiv definit, symmetrisch indefinite Zerlegung nutzen
+		pack2full(Np, A, numRows);
+		int ipiv[] = new int[numRows];
+		double work[] = new double[1];
+		
+		// http://www.netlib.org/lapack/double/dsytrf.f
+		LAPACK.getInstance().dsytrf(UPLO, numRows, A, lda, ipiv, work, -1, info);
+		work = new double[Math.max(1, (int)work[0])];
+		LAPACK.getInstance().dsytrf(UPLO, numRows, A, lda, ipiv, work, work.length, info);
+		
+		if (info.val > 0)
+			throw new MatrixSingularException();
+		else if (info.val < 0)
+			throw new IllegalArgumentException();
+		
+		return ipiv;
+	}
+	
+	/**
+	 * Bestimmt die Inverse aus der Zerlegung der voll besetzten Matrix <code>A</code> und uebertraegt sie in die gepackte Matrix <code>Np</code>
+	 * 
+	 * @param Np gepackte Matrix
+	 * @param A zerlegte, voll besetzte Matrix
+	 * @param ipiv Pivotisierung der Bunch-Kaufman-Zerlegung oder <code>null</code> bei Cholesky-Zerlegung
+	 * @param numRows
+	 * @throws MatrixSingularException
+	 * @throws IllegalArgumentException
+	 */
+	private static void invertFullStorage(double Np[], double A[], int ipiv[], int numRows) throws MatrixSingularException, IllegalArgumentException {
+		final String UPLO = "U";
+		int lda = Math.max(1, numRows);
+		intW info = new intW(0);
+		
+		if (ipiv == null)
+			// http://www.netlib.org/lapack/double/dpotri.f
+			LAPACK.getInstance().dpotri(UPLO, numRows, A, lda, info);
+		else
+			// http://www.netlib.org/lapack/double/dsytri.f
+			LAPACK.getInstance().dsytri(UPLO, numRows, A, lda, ipiv, new double[numRows], info);
+		
+		if (info.val > 0)
+			throw new MatrixSingularException();
+		else if (info.val < 0)
+			throw new IllegalArgumentException();
+		
+		full2pack(A, Np, numRows);
+	}
+	
+	/**
+	 * Uebertraegt das obere Dreieck der ersten <code>numRows</code> Spalten einer gepackten Matrix in eine voll besetzte Matrix (spaltenweise)
+	 * @param packed
+	 * @param full
+	 * @param numRows
+	 */
+	private static void pack2full(double packed[], double full[], int numRows) {
+		for (int col=0, idx=0; col<numRows; col++) {
+			System.arraycopy(packed, idx, full, col * numRows, col + 1);
+			idx += col + 1;
+		}
+	}
+	
+	/**
+	 * Uebertraegt das obere Dreieck einer voll besetzten Matrix (spaltenweise) in die ersten <code>numRows</code> Spalten einer gepackten Matrix
+	 * @param full
+	 * @param packed
+	 * @param numRows
+	 */
+	private static void full2pack(double full[], double packed[], int numRows) {
+		for (int col=0, idx=0; col<numRows; col++) {
+			System.arraycopy(full, col * numRows, packed, idx, col + 1);
+			idx += col + 1;
+		}
+	}
+
 	/**
 	 * Bestimmt ausgewaehlte Eigenwerte einer symmetrischen oberen Dreiecksmatrix <code>N</code>. Die Indizes der zu bestimmeden
 	 * Eigenwerte ergeben sich aus dem Intervall <code>il <= i <= iu</code>, mit <code>il >= 1</code> und <code>ul <= n</code>.
@@ -372,6 +666,188 @@ public final class MathExtension {
 		};
 	}
 
+	/**
+	 * Bestimmt die <code>numberOfEigenvalues</code> kleinsten Eigenwerte (und optional Eigenvektoren) einer duenn besetzten, 
+	 * symmetrischen und positiv semidefiniten Matrix <code>N</code> mittels Lanczos-Verfahren (ARPACK dsaupd/dseupd). Es wird 
+	 * die Shift-Invert-Transformation <code>(N - sigma*I)^-1</code> mit einer kleinen negativen Verschiebung <code>sigma</code> 
+	 * genutzt, sodass lediglich eine LDL-Zerlegung der duenn besetzten Matrix und je Lanczos-Schritt ein Vorwaerts- und 
+	 * Rueckwaertseinsetzen erforderlich sind. Die Verschiebung stellt sicher, dass auch bei einem Rangdefekt von <code>N</code> 
+	 * eine Zerlegung existiert.
+	 * 
+	 * Die Eigenwerte <code>eval</code> werden aufsteigend als UpperSymmBandMatrix gespeichert, die Eigenvektoren <code>evec</code> in einer DenseMatrix.
+	 * 
+	 * HINWEIS: Die Matrix <code>N</code> wird bei dieser Zerlegung ueberschrieben!!!
+	 * 
+	 * @param N
+	 * @param numberOfEigenvalues
+	 * @param vectors
+	 * @return {eval, evec}
+	 * @throws NotConvergedException
+	 * @throws MatrixSingularException
+	 * @throws IllegalArgumentException
+	 */
+	public static Matrix[] eig(UpperSymmSparseMatrix N, int numberOfEigenvalues, boolean vectors) throws NotConvergedException, MatrixSingularException, IllegalArgumentException {
+		final int n = N.numRows();
+		final int nev = numberOfEigenvalues;
+		if (nev < 1 || nev >= n)
+			throw new IllegalArgumentException("Error, number of eigenvalues must be 1 <= nev < n: nev = " + nev + ", n = " + n);
+		
+		// Verschiebung relativ zum groessten Diagonalelement, sodass N - sigma*I positiv definit ist
+		double maxDiagonal = 0;
+		for (int k=0; k<n; k++)
+			maxDiagonal = Math.max(maxDiagonal, Math.abs(N.get(k, k)));
+		final double sigma = -Math.sqrt(Constant.EPS) * Math.max(1.0, maxDiagonal);
+		N.addDiagonal(-sigma);
+		SparseLDLDecomposition ldl = SparseLDLDecomposition.factorize(N);
+		
+		final String bmat  = "I";
+		final String which = "LM";
+		final int ncv = Math.min(n, Math.max(2 * nev + 1, 20));
+		final int lworkl = ncv * (ncv + 8);
+
+		ARPACK arpack = ARPACK.getInstance();
+		intW ido   = new intW(0);
+		intW info  = new intW(0);
+		doubleW tol = new doubleW(0.0); // Maschinengenauigkeit
+		double resid[] = new double[n];
+		double v[]     = new double[n * ncv];
+		double workd[] = new double[3 * n];
+		double workl[] = new double[lworkl];
+		double x[]     = new double[n];
+		int iparam[] = new int[11];
+		int ipntr[]  = new int[11];
+		iparam[0] = 1; // exakte Shifts
+		iparam[2] = MAX_LANCZOS_ITERATIONS;
+		iparam[6] = 3; // Shift-Invert-Modus
+
+		// http://www.caam.rice.edu/software/ARPACK/UG/node136.html
+		while (true) {
+			arpack.dsaupd(ido, bmat, n, which, nev, tol, resid, ncv, v, n, iparam, ipntr, workd, workl, lworkl, info);
+			if (ido.val != -1 && ido.val != 1)
+				break;
+			// workd(ipntr(2)) = (N - sigma*I)^-1 * workd(ipntr(1))
+			System.arraycopy(workd, ipntr[0] - 1, x, 0, n);
+			ldl.solve(x);
+			System.arraycopy(x, 0, workd, ipntr[1] - 1, n);
+		}
+
+		if (info.val == 1 || iparam[4] < nev)
+			throw new NotConvergedException(NotConvergedException.Reason.Iterations);
+		else if (info.val != 0)
+			throw new IllegalArgumentException("Error, invalid or wrong argument for function call dsaupd() " + info.val + "!");
+
+		double evalArray[] = new double[nev];
+		double z[] = vectors ? new double[n * nev] : v; // z wird ohne Eigenvektoren nicht referenziert
+		boolean select[] = new boolean[ncv];
+		arpack.dseupd(vectors, "A", select, evalArray, z, n, sigma, bmat, n, which, new intW(nev), tol.val, resid, ncv, v, n, iparam, ipntr, workd, workl, lworkl, info);
+
+		if (info.val != 0)
+			throw new IllegalArgumentException("Error, invalid or wrong argument for function call dseupd() " + info.val + "!");
+
+		// Sortiere die Eigenwerte (und Eigenvektoren) aufsteigend
+		Integer order[] = new Integer[nev];
+		for (int i=0; i<nev; i++)
+			order[i] = i;
+		Arrays.sort(order, (i, j) -> Double.compare(evalArray[i], evalArray[j]));
+
+		UpperSymmBandMatrix eval = new UpperSymmBandMatrix(nev, 0);
+		DenseMatrix evec = vectors ? new DenseMatrix(n, nev) : new DenseMatrix(0, 0);
+		for (int i=0; i<nev; i++) {
+			eval.set(i, i, evalArray[order[i]]);
+			if (vectors)
+				System.arraycopy(z, order[i] * n, evec.getData(), i * n, n);
+		}
+
+		return new Matrix[] {
+				eval, evec
+		};
+	}
+
+	/**
+	 * Bestimmt die <code>numberOfEigenvalues</code> groessten Eigenwerte (und optional Eigenvektoren) einer symmetrischen 
+	 * Matrix <code>A</code> mittels Lanczos-Verfahren mit impliziten Neustarts (ARPACK dsaupd/dseupd). Die Matrix wird 
+	 * ausschliesslich ueber Matrix-Vektor-Produkte <code>A*x</code> genutzt und kann somit auch implizit, bspw. ueber 
+	 * Loesungen mit einer bestehenden Zerlegung, vorliegen. Der Aufwand je Lanczos-Schritt entspricht einem Produkt.
+	 * 
+	 * Die Eigenwerte <code>eval</code> werden aufsteigend als UpperSymmBandMatrix gespeichert, die Eigenvektoren <code>evec</code> in einer DenseMatrix.
+	 * 
+	 * @param A
+	 * @param numberOfEigenvalues
+	 * @param vectors
+	 * @return {eval, evec}
+	 * @throws NotConvergedException
+	 * @throws IllegalArgumentException
+	 */
+	public static Matrix[] eig(Matrix A, int numberOfEigenvalues, boolean vectors) throws NotConvergedException, IllegalArgumentException {
+		final int n = A.numRows();
+		final int nev = numberOfEigenvalues;
+		if (nev < 1 || nev >= n)
+			throw new IllegalArgumentException("Error, number of eigenvalues must be 1 <= nev < n: nev = " + nev + ", n = " + n);
+
+		final String bmat  = "I";
+		final String which = "LA";
+		final int ncv = Math.min(n, Math.max(2 * nev + 1, 20));
+		final int lworkl = ncv * (ncv + 8);
+
+		ARPACK arpack = ARPACK.getInstance();
+		intW ido   = new intW(0);
+		intW info  = new intW(0);
+		doubleW tol = new doubleW(0.0); // Maschinengenauigkeit
+		double resid[] = new double[n];
+		double v[]     = new double[n * ncv];
+		double workd[] = new double[3 * n];
+		double workl[] = new double[lworkl];
+		DenseVector x  = new DenseVector(n);
+		DenseVector y  = new DenseVector(n);
+		int iparam[] = new int[11];
+		int ipntr[]  = new int[11];
+		iparam[0] = 1; // exakte Shifts
+		iparam[2] = MAX_LANCZOS_ITERATIONS;
+		iparam[6] = 1; // regulaerer Modus
+
+		// http://www.caam.rice.edu/software/ARPACK/UG/node136.html
+		while (true) {
+			arpack.dsaupd(ido, bmat, n, which, nev, tol, resid, ncv, v, n, iparam, ipntr, workd, workl, lworkl, info);
+			if (ido.val != -1 && ido.val != 1)
+				break;
+			// workd(ipntr(2)) = A * workd(ipntr(1))
+			System.arraycopy(workd, ipntr[0] - 1, x.getData(), 0, n);
+			A.mult(x, y);
+			System.arraycopy(y.getData(), 0, workd, ipntr[1] - 1, n);
+		}
+
+		if (info.val == 1 || iparam[4] < nev)
+			throw new NotConvergedException(NotConvergedException.Reason.Iterations);
+		else if (info.val != 0)
+			throw new IllegalArgumentException("Error, invalid or wrong argument for function call dsaupd() " + info.val + "!");
+
+		double evalArray[] = new double[nev];
+		double z[] = vectors ? new double[n * nev] : v; // z wird ohne Eigenvektoren nicht referenziert
+		boolean select[] = new boolean[ncv];
+		arpack.dseupd(vectors, "A", select, evalArray, z, n, 0.0, bmat, n, which, new intW(nev), tol.val, resid, ncv, v, n, iparam, ipntr, workd, workl, lworkl, info);
+
+		if (info.val != 0)
+			throw new IllegalArgumentException("Error, invalid or wrong argument for function call dseupd() " + info.val + "!");
+
+		// Sortiere die Eigenwerte (und Eigenvektoren) aufsteigend
+		Integer order[] = new Integer[nev];
+		for (int i=0; i<nev; i++)
+			order[i] = i;
+		Arrays.sort(order, (i, j) -> Double.compare(evalArray[i], evalArray[j]));
+
+		UpperSymmBandMatrix eval = new UpperSymmBandMatrix(nev, 0);
+		DenseMatrix evec = vectors ? new DenseMatrix(n, nev) : new DenseMatrix(0, 0);
+		for (int i=0; i<nev; i++) {
+			eval.set(i, i, evalArray[order[i]]);
+			if (vectors)
+				System.arraycopy(z, order[i] * n, evec.getData(), i * n, n);
+		}
+
+		return new Matrix[] {
+				eval, evec
+		};
+	}
+
 	/** 
 	 * Druckt eine Matrix auf der Konsole aus
 	 * @param M
@@ -434,6 +910,27 @@ public final class MathExtension {
 		packChol(M.numRows(), M.getData());
 	}	
 
+	/**
+	 * Loest das Gleichungssystem <code>N * x = n</code> mit der Cholesky-Zerlegung <code>R</code> von <code>N</code>, vgl. {@link #chol(UpperSymmPackMatrix)}. 
+	 * Der Vektor n wird hierbei mit dem Loesungsvektor <code>x</code> ueberschrieben. <code>R</code> bleibt unveraendert, sodass 
+	 * mehrere rechte Seiten parallel geloest werden koennen.
+	 * 
+	 * @param R
+	 * @param n
+	 * @throws IllegalArgumentException
+	 */
+	public static void cholSolve(UpperSymmPackMatrix R, DenseVector n) throws IllegalArgumentException {
+		final String uplo = "U";
+		int numRows = R.numRows();
+		intW info = new intW(0);
+
+		// http://www.netlib.org/lapack/double/dpptrs.f
+		LAPACK.getInstance().dpptrs(uplo, numRows, 1, R.getData(), n.getData(), Math.max(1, numRows), info);
+
+		if (info.val < 0)
+			throw new IllegalArgumentException("Error, invalid or wrong argument for function call dpptrs() " + info.val + "!");
+	}
+
 	/**
 	 * In-Place Cholesky-Zerlegung einer (oberen) symmetrischen Matrix. 
 	 * Die Symmetrie wird nicht geprueft waerend der Zerlegung. Das Array
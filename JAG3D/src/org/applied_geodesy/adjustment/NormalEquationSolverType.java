@@ -0,0 +1,48 @@
+/***********************************************************************
+ * Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+ *                                                                      *
+ * This program is free software; you can redistribute it and/or modify *
+ * it under the terms of the GNU General Public License as published by *
+ * the Free Software Foundation; either version 3 of the License, or    *
+ * at your option any later version.                                    *
+ *                                                                      *
+ * This program is distributed in the hope that it will be useful,      *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+ * GNU General Public License for more details.                         *
+ *                                                                      *
+ * You should have received a copy of the GNU General Public License    *
+ * along with this program; if not, see <http://www.gnu.org/licenses/>  *
+ * or write to the                                                      *
+ * Free Software Foundation, Inc.,                                      *
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+ *                                                                      *
+ ***********************************************************************/
+
+
+package org.applied_geodesy.adjustment;
+
+public enum NormalEquationSolverType {
+	DENSE(1),
+	SPARSE(2),
+	OUT_OF_CORE(3),
+	ITERATIVE(4),
+	HELMERT_BLOCKING(5);
+
+	private int id;
+	private NormalEquationSolverType(int id) {
+		this.id = id;
+	}
+
+	public final int getId() {
+		return id;
+	}
+
+	public static NormalEquationSolverType getEnumByValue(int value) {
+		for(NormalEquationSolverType element : NormalEquationSolverType.values()) {
+			if(element.id == value)
+				return element;
+		}
+		return null;
+	}  
+}
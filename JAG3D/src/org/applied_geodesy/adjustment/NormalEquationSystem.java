@@ -21,12 +21,23 @@
 
 package org.applied_geodesy.adjustment;
 
+import org.applied_geodesy.adjustment.blocking.HelmertBlockedMatrix;
+import org.applied_geodesy.adjustment.outofcore.TiledSymmMatrix;
+import org.applied_geodesy.adjustment.sparse.UpperSymmSparseMatrix;
+
 import no.uib.cipr.matrix.DenseVector;
+import no.uib.cipr.matrix.Matrix;
 import no.uib.cipr.matrix.UpperSymmBandMatrix;
 import no.uib.cipr.matrix.UpperSymmPackMatrix;
+import no.uib.cipr.matrix.sparse.Preconditioner;
 
 public class NormalEquationSystem {
 	private final UpperSymmPackMatrix N;
+	private final UpperSymmSparseMatrix sparseN;
+	private final TiledSymmMatrix tiledN;
+	private final Matrix implicitN;
+	private final HelmertBlockedMatrix blockedN;
+	private final Preconditioner M;
 	private final DenseVector n;
 	private UpperSymmBandMatrix V;
 	
@@ -36,9 +47,58 @@ public class NormalEquationSystem {
 	
 	public NormalEquationSystem(UpperSymmPackMatrix N, DenseVector n, UpperSymmBandMatrix V) {
 		this.N = N;
+		this.sparseN = null;
+		this.tiledN = null;
+		this.implicitN = null;
+		this.blockedN = null;
+		this.M = null;
 		this.n = n;
 		this.V = V;
 	}
+	
+	public NormalEquationSystem(UpperSymmSparseMatrix N, DenseVector n) {
+		this.N = null;
+		this.sparseN = N;
+		this.tiledN = null;
+		this.implicitN = null;
+		this.blockedN = null;
+		this.M = null;
+		this.n = n;
+		this.V = null;
+	}
+	
+	public NormalEquationSystem(TiledSymmMatrix N, DenseVector n) {
+		this.N = null;
+		this.sparseN = null;
+		this.tiledN = N;
+		this.implicitN = null;
+		this.blockedN = null;
+		this.M = null;
+		this.n = n;
+		this.V = null;
+	}
+	
+	public NormalEquationSystem(Matrix N, Preconditioner M, DenseVector n) {
+		this.N = null;
+		this.sparseN = null;
+		this.tiledN = null;
+		this.implicitN = N;
+		this.blockedN = null;
+		this.M = M;
+		this.n = n;
+		this.V = null;
+	}
+	
+	public NormalEquationSystem(HelmertBlockedMatrix N, DenseVector n) {
+		this.N = null;
+		this.sparseN = null;
+		this.tiledN = null;
+		this.implicitN = null;
+		this.blockedN = N;
+		this.M = null;
+		this.n = n;
+		this.V = null;
+	}
 	  
 	/**
 	 * Liefert die Normalgleichung 
@@ -50,6 +110,82 @@ public class NormalEquationSystem {
 	public UpperSymmPackMatrix getMatrix() {
 		return this.N;
 	}
+	
+	/**
+	 * Liefert die duenn besetzte Normalgleichung N = A'*P*A, 
+	 * sofern diese nicht in gepackter Form vorliegt
+	 * @return N
+	 */
+	public UpperSymmSparseMatrix getSparseMatrix() {
+		return this.sparseN;
+	}
+	
+	/**
+	 * Liefert true, wenn die Normalgleichung duenn besetzt vorliegt
+	 * @return isSparse
+	 */
+	public boolean isSparse() {
+		return this.sparseN != null;
+	}
+	
+	/**
+	 * Liefert die kachelweise ausgelagerte Normalgleichung N = A'*P*A, 
+	 * sofern diese nicht in gepackter Form vorliegt
+	 * @return N
+	 */
+	public TiledSymmMatrix getTiledMatrix() {
+		return this.tiledN;
+	}
+	
+	/**
+	 * Liefert true, wenn die Normalgleichung ausgelagert vorliegt
+	 * @return isOutOfCore
+	 */
+	public boolean isOutOfCore() {
+		return this.tiledN != null;
+	}
+	 
+	/**
+	 * Liefert die implizite Normalgleichung N = A'*P*A, die lediglich Matrix-Vektor-Produkte 
+	 * fuer iterative Loeser bereitstellt, sofern diese nicht in gepackter Form vorliegt
+	 * @return N
+	 */
+	public Matrix getImplicitMatrix() {
+		return this.implicitN;
+	}
+	
+	/**
+	 * Liefert den Vorkonditionierer der impliziten Normalgleichung
+	 * @return M
+	 */
+	public Preconditioner getImplicitMatrixPreconditioner() {
+		return this.M;
+	}
+	
+	/**
+	 * Liefert true, wenn die Normalgleichung nur implizit vorliegt und iterativ zu loesen ist
+	 * @return isImplicit
+	 */
+	public boolean isImplicit() {
+		return this.implicitN != null;
+	}
+	
+	/**
+	 * Liefert die in Bloecke (Helmert) unterteilte Normalgleichung N = A'*P*A, 
+	 * sofern diese nicht in gepackter Form vorliegt
+	 * @return N
+	 */
+	public HelmertBlockedMatrix getBlockedMatrix() {
+		return this.blockedN;
+	}
+	
+	/**
+	 * Liefert true, wenn die Normalgleichung in Bloecke unterteilt vorliegt
+	 * @return isBlocked
+	 */
+	public boolean isBlocked() {
+		return this.blockedN != null;
+	}
 	 
 	/**
 	 * Liefert den n-Vektor
@@ -0,0 +1,364 @@
+/***********************************************************************
+ * Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+ *                                                                      *
+ * This program is free software; you can redistribute it and/or modify *
+ * it under the terms of the GNU General Public License as published by *
+ * the Free Software Foundation; either version 3 of the License, or    *
+ * at your option any later version.                                    *
+ *                                                                      *
+ * This program is distributed in the hope that it will be useful,      *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+ * GNU General Public License for more details.                         *
+ *                                                                      *
+ * You should have received a copy of the GNU General Public License    *
+ * along with this program; if not, see <http://www.gnu.org/licenses/>  *
+ * or write to the                                                      *
+ * Free Software Foundation, Inc.,                                      *
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+ *                                                                      *
+ ***********************************************************************/
+
+package org.applied_geodesy.adjustment.blocking;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import org.applied_geodesy.adjustment.MathExtension;
+import org.netlib.util.intW;
+
+import com.github.fommil.netlib.BLAS;
+import com.github.fommil.netlib.LAPACK;
+
+import no.uib.cipr.matrix.DenseVector;
+import no.uib.cipr.matrix.MatrixNotSPDException;
+import no.uib.cipr.matrix.MatrixSingularException;
+import no.uib.cipr.matrix.UpperSymmPackMatrix;
+
+/**
+ * Normalgleichung in Bloecken nach Helmert. Die Unbekannten werden in die inneren Unbekannten der Bloecke 
+ * sowie in die Verknuepfungsunbekannten (Junction) unterteilt, die von mehreren Bloecken gemeinsam 
+ * bestimmt werden. Innere Unbekannte verschiedener Bloecke sind nicht verknuepft, sodass die Normalgleichung 
+ * die Struktur
+ * 
+ * <pre>
+ *     | N<sub>11</sub>             N<sub>1j</sub> |
+ * N = |      ...        ...  |
+ *     |           N<sub>BB</sub>   N<sub>Bj</sub> |
+ *     | N<sub>j1</sub> ... N<sub>jB</sub>   N<sub>jj</sub> |
+ * </pre>
+ * 
+ * besitzt. Je Block werden nur N<sub>bb</sub> (gepackt) sowie N<sub>bj</sub> bzgl. der im Block auftretenden 
+ * Verknuepfungsunbekannten gespeichert. Die Bloecke werden parallel mittels Cholesky-Zerlegung N<sub>bb</sub> = R<sup>T</sup>R auf die 
+ * Verknuepfungsunbekannten reduziert (Schur-Komplement), das reduzierte System der Verknuepfungsunbekannten geloest und 
+ * die inneren Unbekannten anschliessend parallel durch Rueckwaertseinsetzen bestimmt.
+ * 
+ * vgl. Wolf, H. (1978): The Helmert block method - its origin and development. Proceedings of the Second 
+ * International Symposium on Problems Related to the Redefinition of North American Geodetic Networks, 319-326
+ *
+ */
+public class HelmertBlockedMatrix {
+	/** Kennzeichnung einer Verknuepfungsunbekannten in columnBlock */
+	public final static int JUNCTION = -1;
+	
+	private final int size, numberOfBlocks;
+	private final int columnBlock[], localIndex[];
+	private final int blockColumns[][], blockJunctions[][];
+	private final double blockN[][], blockNj[][], blockn[][];
+	private final UpperSymmPackMatrix Njj;
+	private final DenseVector nj;
+	private ForkJoinPool forkJoinPool = null;
+	
+	/**
+	 * Erzeugt eine in Bloecke unterteilte Normalgleichung. columnBlock enthaelt je Spalte den Index des Blocks 
+	 * (0 &lt;= b &lt; numberOfBlocks) oder {@link #JUNCTION}; blockJunctions enthaelt je Block die Spalten der 
+	 * Verknuepfungsunbekannten, die mit inneren Unbekannten des Blocks verknuepft sind.
+	 * 
+	 * @param columnBlock
+	 * @param blockJunctions
+	 * @throws IllegalArgumentException
+	 */
+	public HelmertBlockedMatrix(int columnBlock[], int blockJunctions[][]) throws IllegalArgumentException {
+		this.size           = columnBlock.length;
+		this.numberOfBlocks = blockJunctions.length;
+		this.columnBlock    = columnBlock;
+		this.localIndex     = new int[this.size];
+		
+		int blockSize[] = new int[this.numberOfBlocks];
+		int numberOfJunctions = 0;
+		for (int col=0; col<this.size; col++) {
+			int block = columnBlock[col];
+			if (block == JUNCTION)
+				this.localIndex[col] = numberOfJunctions++;
+			else if (block >= 0 && block < this.numberOfBlocks)
+				this.localIndex[col] = blockSize[block]++;
+			else
+				throw new IllegalArgumentException("Error, invalid block index " + block + " of column " + col + "!");
+		}
+		
+		this.blockColumns   = new int[this.numberOfBlocks][];
+		this.blockJunctions = new int[this.numberOfBlocks][];
+		this.blockN         = new double[this.numberOfBlocks][];
+		this.blockNj        = new double[this.numberOfBlocks][];
+		this.blockn         = new double[this.numberOfBlocks][];
+		
+		for (int b=0; b<this.numberOfBlocks; b++) {
+			int m = blockSize[b];
+			if ((long)m * (m + 1L) / 2L > Integer.MAX_VALUE)
+				throw new IllegalArgumentException("Error, block " + b + " is too large! " + m);
+			
+			// Verknuepfungsunbekannte des Blocks als (aufsteigend sortierte) Indizes im System Njj
+			int junctions[] = new int[blockJunctions[b].length];
+			for (int j=0; j<junctions.length; j++) {
+				int col = blockJunctions[b][j];
+				if (columnBlock[col] != JUNCTION)
+					throw new IllegalArgumentException("Error, column " + col + " is not a junction parameter!");
+				junctions[j] = this.localIndex[col];
+			}
+			Arrays.sort(junctions);
+			
+			if ((long)m * junctions.length > Integer.MAX_VALUE)
+				throw new IllegalArgumentException("Error, block " + b + " has too many junction parameters! " + junctions.length);
+			
+			this.blockColumns[b]   = new int[m];
+			this.blockJunctions[b] = junctions;
+			this.blockN[b]         = new double[(int)((long)m * (m + 1L) / 2L)];
+			this.blockNj[b]        = new double[m * junctions.length];
+			this.blockn[b]         = new double[m];
+		}
+		
+		for (int col=0; col<this.size; col++) {
+			int block = columnBlock[col];
+			if (block != JUNCTION)
+				this.blockColumns[block][this.localIndex[col]] = col;
+		}
+		
+		this.Njj = new UpperSymmPackMatrix(numberOfJunctions);
+		this.nj  = new DenseVector(numberOfJunctions);
+	}
+	
+	/**
+	 * Liefert die Dimension der Normalgleichung
+	 * @return size
+	 */
+	public int numRows() {
+		return this.size;
+	}
+	
+	/**
+	 * Liefert die Anzahl der Bloecke
+	 * @return numberOfBlocks
+	 */
+	public int getNumberOfBlocks() {
+		return this.numberOfBlocks;
+	}
+	
+	/**
+	 * Liefert die Anzahl der Verknuepfungsunbekannten, d.h. die Dimension des reduzierten Systems
+	 * @return numberOfJunctions
+	 */
+	public int getNumberOfJunctions() {
+		return this.Njj.numRows();
+	}
+	
+	/**
+	 * Legt den Thread-Pool fest, in dem die Reduktion und das Rueckwaertseinsetzen der Bloecke erfolgen; 
+	 * ist kein Pool gesetzt, werden die Bloecke nacheinander bearbeitet
+	 * @param forkJoinPool
+	 */
+	public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+		this.forkJoinPool = forkJoinPool;
+	}
+	
+	/**
+	 * Addiert value zum Element (row, column) bzw. (column, row) der symmetrischen Matrix. Jedes Element 
+	 * ausserhalb der Hauptdiagonalen ist somit genau einmal zu uebergeben.
+	 * 
+	 * @param row
+	 * @param column
+	 * @param value
+	 * @throws IllegalArgumentException
+	 */
+	public void add(int row, int column, double value) throws IllegalArgumentException {
+		int rowBlock = this.columnBlock[row];
+		int colBlock = this.columnBlock[column];
+		
+		if (rowBlock == JUNCTION && colBlock == JUNCTION) {
+			int i = Math.min(this.localIndex[row], this.localIndex[column]);
+			int j = Math.max(this.localIndex[row], this.localIndex[column]);
+			this.Njj.add(i, j, value);
+		}
+		else if (rowBlock != JUNCTION && colBlock != JUNCTION) {
+			if (rowBlock != colBlock)
+				throw new IllegalArgumentException("Error, parameters " + row + " and " + column + " belong to different blocks!");
+			int i = Math.min(this.localIndex[row], this.localIndex[column]);
+			int j = Math.max(this.localIndex[row], this.localIndex[column]);
+			this.blockN[rowBlock][i + (int)(j * (j + 1L) / 2L)] += value;
+		}
+		else {
+			int block    = rowBlock == JUNCTION ? colBlock : rowBlock;
+			int interior = rowBlock == JUNCTION ? column : row;
+			int junction = rowBlock == JUNCTION ? row : column;
+			int j = Arrays.binarySearch(this.blockJunctions[block], this.localIndex[junction]);
+			if (j < 0)
+				throw new IllegalArgumentException("Error, junction parameter " + junction + " is not linked to block " + block + "!");
+			this.blockNj[block][this.localIndex[interior] + j * this.blockColumns[block].length] += value;
+		}
+	}
+	
+	/**
+	 * Loest das Gleichungssystem <code>N * x = n</code> blockweise. Der Vektor n wird mit dem Loesungsvektor x 
+	 * ueberschrieben, die Bloecke werden mit ihren Zerlegungen ueberschrieben.
+	 * 
+	 * @param n
+	 * @throws MatrixNotSPDException
+	 * @throws MatrixSingularException
+	 */
+	public void solve(DenseVector n) throws MatrixNotSPDException, MatrixSingularException {
+		if (n.size() != this.size)
+			throw new IllegalArgumentException("Error, dimension mismatch! " + n.size() + " != " + this.size);
+		
+		for (int col=0; col<this.size; col++) {
+			int block = this.columnBlock[col];
+			if (block == JUNCTION)
+				this.nj.add(this.localIndex[col], n.get(col));
+			else
+				this.blockn[block][this.localIndex[col]] = n.get(col);
+		}
+		
+		// Reduktion der Bloecke auf die Verknuepfungsunbekannten; die Beitraege Z'Z und Z'y werden je Block 
+		// vorgehalten und anschliessend in Blockreihenfolge addiert, sodass die Summation unabhaengig von der 
+		// Anzahl der Threads und der Abarbeitungsreihenfolge ist
+		double ZtZ[][] = new double[this.numberOfBlocks][];
+		double Zty[][] = new double[this.numberOfBlocks][];
+		this.parallelFor(this.numberOfBlocks, b -> this.reduce(b, ZtZ, Zty));
+		
+		for (int b=0; b<this.numberOfBlocks; b++) {
+			if (ZtZ[b] == null)
+				continue;
+			int junctions[] = this.blockJunctions[b];
+			int k = junctions.length;
+			for (int j=0; j<k; j++) {
+				for (int i=0; i<=j; i++)
+					this.Njj.add(junctions[i], junctions[j], -ZtZ[b][i + j * k]);
+				this.nj.add(junctions[j], -Zty[b][j]);
+			}
+			ZtZ[b] = null;
+			Zty[b] = null;
+		}
+		
+		// Loesung des reduzierten Systems
+		if (this.Njj.numRows() > 0)
+			MathExtension.solve(this.Njj, this.nj, false);
+		
+		// Rueckwaertseinsetzen
+		this.parallelFor(this.numberOfBlocks, b -> this.backSubstitute(b));
+		
+		for (int col=0; col<this.size; col++) {
+			int block = this.columnBlock[col];
+			if (block == JUNCTION)
+				n.set(col, this.nj.get(this.localIndex[col]));
+			else
+				n.set(col, this.blockn[block][this.localIndex[col]]);
+		}
+	}
+	
+	/**
+	 * Reduziert den Block b auf die Verknuepfungsunbekannten. Mit N<sub>bb</sub> = R<sup>T</sup>R, Z = R<sup>-T</sup>N<sub>bj</sub> 
+	 * und y = R<sup>-T</sup>n<sub>b</sub> ergibt sich N<sub>jj</sub> -= Z<sup>T</sup>Z sowie n<sub>j</sub> -= Z<sup>T</sup>y. 
+	 * N<sub>bb</sub>, N<sub>bj</sub> und n<sub>b</sub> werden durch R, Z und y ueberschrieben, Z<sup>T</sup>Z und Z<sup>T</sup>y 
+	 * werden in ZtZ[b] bzw. Zty[b] abgelegt.
+	 * 
+	 * @param b
+	 * @param ZtZ
+	 * @param Zty
+	 */
+	private void reduce(int b, double ZtZ[][], double Zty[][]) {
+		final String UPLO = "U";
+		int m = this.blockColumns[b].length;
+		int k = this.blockJunctions[b].length;
+		double R[] = this.blockN[b];
+		double Z[] = this.blockNj[b];
+		double y[] = this.blockn[b];
+		
+		if (m == 0)
+			return;
+		
+		intW info = new intW(0);
+		// http://www.netlib.org/lapack/double/dpptrf.f
+		LAPACK.getInstance().dpptrf(UPLO, m, R, info);
+		if (info.val > 0)
+			throw new MatrixNotSPDException();
+		else if (info.val < 0)
+			throw new IllegalArgumentException();
+		
+		// y = R^-T * nb
+		BLAS.getInstance().dtpsv(UPLO, "T", "N", m, R, y, 1);
+		
+		if (k == 0)
+			return;
+
+		// Z = R^-T * Nbj
+		// http://www.netlib.org/lapack/double/dtptrs.f
+		LAPACK.getInstance().dtptrs(UPLO, "T", "N", m, k, R, Z, m, info);
+		if (info.val > 0)
+			throw new MatrixSingularException();
+		else if (info.val < 0)
+			throw new IllegalArgumentException();
+		
+		// Z'Z und Z'y
+		ZtZ[b] = new double[k * k];
+		Zty[b] = new double[k];
+		BLAS.getInstance().dsyrk(UPLO, "T", k, m, 1.0, Z, m, 0.0, ZtZ[b], k);
+		BLAS.getInstance().dgemv("T", m, k, 1.0, Z, m, y, 1, 0.0, Zty[b], 1);
+	}
+	
+	/**
+	 * Bestimmt die inneren Unbekannten des Blocks b aus den Verknuepfungsunbekannten x<sub>j</sub>, d.h. x<sub>b</sub> = R<sup>-1</sup>(y - Z x<sub>j</sub>)
+	 * 
+	 * @param b
+	 */
+	private void backSubstitute(int b) {
+		int m = this.blockColumns[b].length;
+		int k = this.blockJunctions[b].length;
+		double y[] = this.blockn[b];
+		
+		if (m == 0)
+			return;
+		
+		if (k > 0) {
+			double xj[] = new double[k];
+			for (int j=0; j<k; j++)
+				xj[j] = this.nj.get(this.blockJunctions[b][j]);
+			BLAS.getInstance().dgemv("N", m, k, -1.0, this.blockNj[b], m, xj, 1, 1.0, y, 1);
+		}
+		BLAS.getInstance().dtpsv("U", "N", "N", m, this.blockN[b], y, 1);
+	}
+	
+	private void parallelFor(int size, IntConsumer task) {
+		ForkJoinPool pool = this.forkJoinPool;
+		if (pool == null || pool.getParallelism() <= 1 || size <= 1) {
+			for (int i=0; i<size; i++)
+				task.accept(i);
+			return;
+		}
+		try {
+			pool.submit(() -> IntStream.range(0, size).parallel().forEach(task)).get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+		catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException)cause;
+			if (cause instanceof Error)
+				throw (Error)cause;
+			throw new IllegalStateException(cause);
+		}
+	}
+}
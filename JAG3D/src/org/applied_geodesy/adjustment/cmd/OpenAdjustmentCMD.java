@@ -25,17 +25,33 @@ import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.logging.LogManager;
 
 import org.applied_geodesy.adjustment.EstimationStateType;
+import org.applied_geodesy.adjustment.LinearAlgebraBackend;
+import org.applied_geodesy.adjustment.LinearAlgebraBackendType;
+import org.applied_geodesy.adjustment.NormalEquationSolverType;
+import org.applied_geodesy.adjustment.network.CovarianceExportFormatType;
 import org.applied_geodesy.adjustment.network.NetworkAdjustment;
 import org.applied_geodesy.adjustment.network.sql.SQLAdjustmentManager;
 import org.applied_geodesy.util.sql.HSQLDB;
+import org.applied_geodesy.util.sql.StorageProfileType;
 
 public class OpenAdjustmentCMD {
 	private boolean displayState;
 	private HSQLDB dataBase;
+	private NormalEquationSolverType normalEquationSolverType = null;
+	private CovarianceExportFormatType covarianceExportFormatType = null;
+	private int numberOfThreads = -1;
+	private int numberOfHelmertBlocks = -1;
+	private double traceEstimationAccuracy = 0;
+	private boolean separateSubNetworks = false, robustEstimationDowndate = false, incrementalSaving = false;
+	private Path scratchDirectory = null;
+	private Set<Integer> sequentialObservationGroupIds = new LinkedHashSet<Integer>();
 	private AdjustmentStateListener adjustmentStateListener = new AdjustmentStateListener();
 	
 	private class AdjustmentStateListener implements PropertyChangeListener {
@@ -72,15 +88,40 @@ public class OpenAdjustmentCMD {
 			isOpen = this.dataBase.isOpen();
 			if (!isOpen)
 				this.dataBase.open();
+			this.dataBase.applyStorageProfile();
 
 			SQLAdjustmentManager adjustmentManager = new SQLAdjustmentManager(this.dataBase);
+			adjustmentManager.setSequentialObservationGroupIds(this.sequentialObservationGroupIds);
 			NetworkAdjustment adjustment = adjustmentManager.getNetworkAdjustment();
+			if (this.normalEquationSolverType != null)
+				adjustment.setNormalEquationSolverType(this.normalEquationSolverType);
+			if (this.numberOfThreads > 0)
+				adjustment.setNumberOfThreads(this.numberOfThreads);
+			if (this.scratchDirectory != null)
+				adjustment.setScratchDirectory(this.scratchDirectory);
+			if (this.numberOfHelmertBlocks > 0)
+				adjustment.setNumberOfHelmertBlocks(this.numberOfHelmertBlocks);
+			adjustment.setSeparateSubNetworks(this.separateSubNetworks);
+			adjustment.setRobustEstimationDowndate(this.robustEstimationDowndate);
+			adjustment.setTraceEstimationAccuracy(this.traceEstimationAccuracy);
+			if (this.covarianceExportFormatType != null)
+				adjustment.setCovarianceExportFormatType(this.covarianceExportFormatType);
 
 			adjustment.addPropertyChangeListener(this.adjustmentStateListener);
 			returnType = adjustment.estimateModel();
+			// Zurueckgehaltene Gruppen werden sequentiell in die Loesung eingefuehrt
+			if (returnType == EstimationStateType.ERROR_FREE_ESTIMATION && adjustmentManager.addSequentialObservationGroups())
+				returnType = adjustment.estimateSequentialModel();
+			if (this.displayState)
+				System.out.println("Linear algebra backend: " + adjustment.getLinearAlgebraBackend());
+			if (this.displayState)
+				System.out.println("Normal equation: bandwidth " + adjustment.getBandwidth() + ", profile " + adjustment.getProfile() + ", non-zeros in factor " + adjustment.getNumberOfNonZerosInFactor() + ", conjugate gradient iterations " + adjustment.getNumberOfConjugateGradientIterations() + ", junction parameters " + adjustment.getNumberOfJunctionParameters() + ", trace estimation probes " + adjustment.getNumberOfTraceEstimationProbes());
 			this.destroyNetworkAdjustment(adjustment);
 
+			adjustmentManager.setIncrementalSaving(this.incrementalSaving);
 			adjustmentManager.saveResults();
+			if (this.displayState)
+				System.out.println("Saved results: " + adjustmentManager.getNumberOfSavedRows() + " rows, " + Math.round(adjustmentManager.getSavedRowsPerSecond()) + " rows/s, " + adjustmentManager.getNumberOfUnchangedRows() + " unchanged rows");
 			adjustmentManager.clear();
 		}
 		finally {
@@ -90,6 +131,54 @@ public class OpenAdjustmentCMD {
 		return returnType.getId();
 	}
 
+	public void setNormalEquationSolverType(NormalEquationSolverType normalEquationSolverType) {
+		this.normalEquationSolverType = normalEquationSolverType;
+	}
+	
+	public void setNumberOfThreads(int numberOfThreads) {
+		this.numberOfThreads = numberOfThreads;
+	}
+	
+	public void setScratchDirectory(Path scratchDirectory) {
+		this.scratchDirectory = scratchDirectory;
+	}
+	
+	public void setNumberOfHelmertBlocks(int numberOfHelmertBlocks) {
+		this.numberOfHelmertBlocks = numberOfHelmertBlocks;
+	}
+	
+	public void setSeparateSubNetworks(boolean separateSubNetworks) {
+		this.separateSubNetworks = separateSubNetworks;
+	}
+	
+	public void setRobustEstimationDowndate(boolean robustEstimationDowndate) {
+		this.robustEstimationDowndate = robustEstimationDowndate;
+	}
+	
+	public void setTraceEstimationAccuracy(double traceEstimationAccuracy) {
+		this.traceEstimationAccuracy = traceEstimationAccuracy;
+	}
+	
+	public void setCovarianceExportFormatType(CovarianceExportFormatType covarianceExportFormatType) {
+		this.covarianceExportFormatType = covarianceExportFormatType;
+	}
+	
+	public void setSequentialObservationGroupIds(Set<Integer> sequentialObservationGroupIds) {
+		this.sequentialObservationGroupIds = sequentialObservationGroupIds;
+	}
+	
+	public void setIncrementalSaving(boolean incrementalSaving) {
+		this.incrementalSaving = incrementalSaving;
+	}
+	
+	public void setStorageProfileType(StorageProfileType storageProfileType) {
+		this.dataBase.setStorageProfileType(storageProfileType);
+	}
+	
+	public void setDefragLimit(int defragLimit) {
+		this.dataBase.setDefragLimit(defragLimit);
+	}
+	
 	private void destroyNetworkAdjustment(NetworkAdjustment adjustment) {
 		if (adjustment != null) {
 			adjustment.removePropertyChangeListener(this.adjustmentStateListener);
@@ -100,10 +189,6 @@ public class OpenAdjustmentCMD {
 	
 	public static void main(String[] args)  {
 		try {
-			System.setProperty("com.github.fommil.netlib.BLAS",   "com.github.fommil.netlib.F2jBLAS");
-			System.setProperty("com.github.fommil.netlib.LAPACK", "com.github.fommil.netlib.F2jLAPACK");
-			System.setProperty("com.github.fommil.netlib.ARPACK", "com.github.fommil.netlib.F2jARPACK");
-
 			System.setProperty("hsqldb.reconfig_logging", "false");
 
 			LogManager.getLogManager().reset();
@@ -126,6 +211,55 @@ public class OpenAdjustmentCMD {
 				throw new IOException("Error, related database files (e.g. script, properties or data) not found! " + dataBaseName);
 
 			OpenAdjustmentCMD openAdjustment = new OpenAdjustmentCMD(dataBaseName, displayState);
+			LinearAlgebraBackendType backendType = LinearAlgebraBackendType.AUTO;
+			
+			// optional arguments, e.g. -solver=SPARSE|ITERATIVE|HELMERT_BLOCKING -threads=4 -blocks=16 -subnetworks=TRUE -downdate=TRUE -traces=0.05 -covariance=BINARY -storage=AUTO -defrag=20 -incremental=TRUE -sequential=12,13 -backend=F2J -scratch=/tmp
+			for (int i = 2; i < args.length; i++) {
+				String arg = args[i].trim();
+				int idx = arg.indexOf('=');
+				if (!arg.startsWith("-") || idx < 0)
+					throw new IllegalArgumentException("Error, invalid argument " + arg + "! Expected -key=value.");
+				
+				String key   = arg.substring(1, idx).trim();
+				String value = arg.substring(idx + 1).trim();
+				
+				if (key.equalsIgnoreCase("solver"))
+					openAdjustment.setNormalEquationSolverType(NormalEquationSolverType.valueOf(value.toUpperCase()));
+				else if (key.equalsIgnoreCase("threads"))
+					openAdjustment.setNumberOfThreads(Integer.parseInt(value));
+				else if (key.equalsIgnoreCase("blocks"))
+					openAdjustment.setNumberOfHelmertBlocks(Integer.parseInt(value));
+				else if (key.equalsIgnoreCase("subnetworks"))
+					openAdjustment.setSeparateSubNetworks(Boolean.parseBoolean(value));
+				else if (key.equalsIgnoreCase("downdate"))
+					openAdjustment.setRobustEstimationDowndate(Boolean.parseBoolean(value));
+				else if (key.equalsIgnoreCase("traces"))
+					openAdjustment.setTraceEstimationAccuracy(Double.parseDouble(value));
+				else if (key.equalsIgnoreCase("covariance"))
+					openAdjustment.setCovarianceExportFormatType(CovarianceExportFormatType.valueOf(value.toUpperCase()));
+				else if (key.equalsIgnoreCase("storage"))
+					openAdjustment.setStorageProfileType(StorageProfileType.valueOf(value.toUpperCase()));
+				else if (key.equalsIgnoreCase("incremental"))
+					openAdjustment.setIncrementalSaving(Boolean.parseBoolean(value));
+				else if (key.equalsIgnoreCase("defrag"))
+					openAdjustment.setDefragLimit(Integer.parseInt(value));
+				else if (key.equalsIgnoreCase("sequential")) {
+					Set<Integer> groupIds = new LinkedHashSet<Integer>();
+					for (String groupId : value.split(","))
+						groupIds.add(Integer.parseInt(groupId.trim()));
+					openAdjustment.setSequentialObservationGroupIds(groupIds);
+				}
+				else if (key.equalsIgnoreCase("scratch"))
+					openAdjustment.setScratchDirectory(Paths.get(value));
+				else if (key.equalsIgnoreCase("backend"))
+					backendType = LinearAlgebraBackendType.valueOf(value.toUpperCase());
+				else
+					throw new IllegalArgumentException("Error, unknown argument " + key + "!");
+			}
+			
+			// the BLAS/LAPACK implementation has to be selected before the first computation
+			LinearAlgebraBackend.select(backendType);
+			
 			status = openAdjustment.process();
 		}
 		catch (Exception e) {
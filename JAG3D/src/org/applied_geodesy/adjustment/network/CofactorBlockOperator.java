@@ -0,0 +1,105 @@
+/***********************************************************************
+ * Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+ *                                                                      *
+ * This program is free software; you can redistribute it and/or modify *
+ * it under the terms of the GNU General Public License as published by *
+ * the Free Software Foundation; either version 3 of the License, or    *
+ * at your option any later version.                                    *
+ *                                                                      *
+ * This program is distributed in the hope that it will be useful,      *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+ * GNU General Public License for more details.                         *
+ *                                                                      *
+ * You should have received a copy of the GNU General Public License    *
+ * along with this program; if not, see <http://www.gnu.org/licenses/>  *
+ * or write to the                                                      *
+ * Free Software Foundation, Inc.,                                      *
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+ *                                                                      *
+ ***********************************************************************/
+
+package org.applied_geodesy.adjustment.network;
+
+import com.github.fommil.netlib.BLAS;
+
+import no.uib.cipr.matrix.AbstractMatrix;
+import no.uib.cipr.matrix.DenseVector;
+import no.uib.cipr.matrix.Matrix;
+import no.uib.cipr.matrix.UpperSymmPackMatrix;
+import no.uib.cipr.matrix.Vector;
+
+/**
+ * Impliziter Operator des fuehrenden Blocks Q<sub>pp</sub> der Kofaktormatrix Q<sub>xx</sub>, der die 
+ * Punktspalten enthaelt. Das Produkt Q<sub>pp</sub>*x wird aus Q<sub>xx</sub>*[x; 0] gebildet, sodass 
+ * Q<sub>xx</sub> lediglich Matrix-Vektor-Produkte bereitstellen muss und bspw. auch durch eine 
+ * Zerlegung der Normalgleichung gegeben sein kann. Liegt Q<sub>xx</sub> gepackt vor, wird der 
+ * fuehrende Block unmittelbar genutzt, da dieser in der oberen gepackten Speicherung zusammenhaengend steht.
+ *
+ */
+class CofactorBlockOperator extends AbstractMatrix {
+	private final Matrix Qxx;
+	
+	/**
+	 * @param Qxx Kofaktormatrix
+	 * @param size Anzahl der fuehrenden Spalten
+	 */
+	CofactorBlockOperator(Matrix Qxx, int size) {
+		super(size, size);
+		if (size > Qxx.numRows())
+			throw new IllegalArgumentException("Error, dimension mismatch! " + size + " > " + Qxx.numRows());
+		this.Qxx = Qxx;
+	}
+	
+	/**
+	 * Berechnet y = alpha*Q<sub>pp</sub>*x + y
+	 */
+	@Override
+	public Vector multAdd(double alpha, Vector x, Vector y) {
+		this.checkMultAdd(x, y);
+		if (!(x instanceof DenseVector) || !(y instanceof DenseVector))
+			throw new IllegalArgumentException("Error, cofactor block operator requires dense vectors!");
+		
+		double xd[] = ((DenseVector)x).getData();
+		double yd[] = ((DenseVector)y).getData();
+		if (this.Qxx instanceof UpperSymmPackMatrix) {
+			BLAS.getInstance().dspmv("U", this.numRows, alpha, ((UpperSymmPackMatrix)this.Qxx).getData(), xd, 1, 1.0, yd, 1);
+			return y;
+		}
+		
+		DenseVector z = new DenseVector(this.Qxx.numRows());
+		DenseVector qz = new DenseVector(this.Qxx.numRows());
+		System.arraycopy(xd, 0, z.getData(), 0, this.numRows);
+		this.Qxx.mult(z, qz);
+		for (int i=0; i<this.numRows; i++)
+			yd[i] += alpha * qz.get(i);
+		return y;
+	}
+	
+	/**
+	 * Bildet Q<sub>pp</sub> spaltenweise aus den Produkten mit den Einheitsvektoren; nur fuer kleine Bloecke geeignet
+	 * @return Qpp
+	 */
+	UpperSymmPackMatrix toUpperSymmPackMatrix() {
+		UpperSymmPackMatrix Qpp = new UpperSymmPackMatrix(this.numRows);
+		DenseVector e = new DenseVector(this.numRows);
+		DenseVector q = new DenseVector(this.numRows);
+		for (int j=0; j<this.numRows; j++) {
+			e.zero();
+			q.zero();
+			e.set(j, 1.0);
+			this.multAdd(1.0, e, q);
+			for (int i=0; i<=j; i++)
+				Qpp.set(i, j, q.get(i));
+		}
+		return Qpp;
+	}
+	
+	/**
+	 * Berechnet y = alpha*Q<sub>pp</sub>'*x + y; Q<sub>pp</sub> ist symmetrisch
+	 */
+	@Override
+	public Vector transMultAdd(double alpha, Vector x, Vector y) {
+		return this.multAdd(alpha, x, y);
+	}
+}
@@ -0,0 +1,140 @@
+/***********************************************************************
+ * Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+ *                                                                      *
+ * This program is free software; you can redistribute it and/or modify *
+ * it under the terms of the GNU General Public License as published by *
+ * the Free Software Foundation; either version 3 of the License, or    *
+ * at your option any later version.                                    *
+ *                                                                      *
+ * This program is distributed in the hope that it will be useful,      *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+ * GNU General Public License for more details.                         *
+ *                                                                      *
+ * You should have received a copy of the GNU General Public License    *
+ * along with this program; if not, see <http://www.gnu.org/licenses/>  *
+ * or write to the                                                      *
+ * Free Software Foundation, Inc.,                                      *
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+ *                                                                      *
+ ***********************************************************************/
+
+
+package org.applied_geodesy.adjustment.network;
+
+import java.util.Arrays;
+
+/**
+ * Zwischenspeicher fuer die Zeilen der Jacobi-Matrix A. Je Beobachtung werden die partiellen Ableitungen 
+ * und die zugehoerigen Spaltenindizes in einem zusammenhaengenden Block primitiver Felder abgelegt, sodass 
+ * die Ableitungen je Linearisierungspunkt nur einmal ausgewertet werden muessen. Die Eintraege einer Zeile 
+ * beginnen mit den Koordinaten des Stand- und Zielpunktes, gefolgt von den Zusatzparametern.
+ * 
+ * Wird der Linearisierungspunkt geaendert, ist der Speicher mittels {@link #invalidate()} zurueckzusetzen.
+ *
+ */
+class JacobiRowCache {
+	/** Maximale Anzahl an Nicht-Null-Elementen einer Zeile (2x3 Koordinaten, 4 Lotabweichungen, 7 Zusatzparameter) */
+	final static int MAX_NON_ZEROS_PER_ROW = 17;
+	
+	private final int numberOfRows;
+	private final int columns[];
+	private final double values[];
+	private final int nonZeros[], pointNonZeros[];
+	private final boolean valid[];
+	
+	JacobiRowCache(int numberOfRows) {
+		this.numberOfRows  = numberOfRows;
+		this.columns       = new int[numberOfRows * MAX_NON_ZEROS_PER_ROW];
+		this.values        = new double[numberOfRows * MAX_NON_ZEROS_PER_ROW];
+		this.nonZeros      = new int[numberOfRows];
+		this.pointNonZeros = new int[numberOfRows];
+		this.valid         = new boolean[numberOfRows];
+	}
+	
+	/**
+	 * Liefert die Anzahl der Zeilen
+	 * @return numberOfRows
+	 */
+	int numRows() {
+		return this.numberOfRows;
+	}
+	
+	/**
+	 * Verwirft alle gespeicherten Zeilen
+	 */
+	void invalidate() {
+		Arrays.fill(this.valid, false);
+	}
+	
+	/**
+	 * Liefert true, wenn die Zeile row fuer den aktuellen Linearisierungspunkt bestimmt wurde
+	 * @param row
+	 * @return isValid
+	 */
+	boolean isValid(int row) {
+		return this.valid[row];
+	}
+	
+	/**
+	 * Liefert den Index des ersten Elements der Zeile row in {@link #getColumns()} bzw. {@link #getValues()}
+	 * @param row
+	 * @return offset
+	 */
+	int offset(int row) {
+		return row * MAX_NON_ZEROS_PER_ROW;
+	}
+	
+	/**
+	 * Schliesst das Befuellen der Zeile row ab
+	 * @param row
+	 * @param nonZeros Anzahl der Elemente der Zeile
+	 * @param pointNonZeros Anzahl der Elemente, die zu Stand- und Zielpunkt gehoeren
+	 */
+	void setRow(int row, int nonZeros, int pointNonZeros) {
+		this.nonZeros[row]      = nonZeros;
+		this.pointNonZeros[row] = pointNonZeros;
+		this.valid[row]         = true;
+	}
+	
+	/**
+	 * Liefert die Anzahl der Elemente der Zeile row
+	 * @param row
+	 * @return nnz
+	 */
+	int getNonZeros(int row) {
+		return this.nonZeros[row];
+	}
+	
+	/**
+	 * Liefert die Anzahl der Elemente der Zeile row, die zu Stand- und Zielpunkt gehoeren
+	 * @param row
+	 * @return nnz
+	 */
+	int getPointNonZeros(int row) {
+		return this.pointNonZeros[row];
+	}
+	
+	/**
+	 * Liefert das Element A(row, column) oder Null, wenn die Beobachtung nicht vom Parameter abhaengt
+	 * @param row
+	 * @param column
+	 * @return a
+	 */
+	double get(int row, int column) {
+		int offset = this.offset(row);
+		for (int k=offset; k<offset + this.nonZeros[row]; k++) {
+			if (this.columns[k] == column)
+				return this.values[k];
+		}
+		return 0.0;
+	}
+	
+	int[] getColumns() {
+		return this.columns;
+	}
+	
+	double[] getValues() {
+		return this.values;
+	}
+}
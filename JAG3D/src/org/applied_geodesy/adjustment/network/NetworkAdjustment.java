@@ -28,7 +28,10 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -36,15 +39,24 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 import org.applied_geodesy.adjustment.ConfidenceRegion;
 import org.applied_geodesy.adjustment.Constant;
 import org.applied_geodesy.adjustment.DefaultValue;
 import org.applied_geodesy.adjustment.EstimationStateType;
 import org.applied_geodesy.adjustment.EstimationType;
+import org.applied_geodesy.adjustment.LinearAlgebraBackend;
 import org.applied_geodesy.adjustment.MathExtension;
+import org.applied_geodesy.adjustment.NormalEquationSolverType;
 import org.applied_geodesy.adjustment.NormalEquationSystem;
 import org.applied_geodesy.adjustment.UnscentedTransformationParameter;
+import org.applied_geodesy.adjustment.blocking.HelmertBlockedMatrix;
 import org.applied_geodesy.adjustment.network.congruence.CongruenceAnalysisGroup;
 import org.applied_geodesy.adjustment.network.congruence.CongruenceAnalysisPointPair;
 import org.applied_geodesy.adjustment.network.congruence.strain.CoordinateComponent;
@@ -72,6 +84,12 @@ import org.applied_geodesy.adjustment.network.parameter.VerticalDeflectionX;
 import org.applied_geodesy.adjustment.network.parameter.VerticalDeflectionY;
 import org.applied_geodesy.adjustment.network.point.Point;
 import org.applied_geodesy.adjustment.network.point.Point3D;
+import org.applied_geodesy.adjustment.outofcore.MappedCovarianceMatrix;
+import org.applied_geodesy.adjustment.outofcore.TiledSymmMatrix;
+import org.applied_geodesy.adjustment.sparse.BlockJacobiPreconditioner;
+import org.applied_geodesy.adjustment.sparse.SelectedInverseMatrix;
+import org.applied_geodesy.adjustment.sparse.SparseLDLDecomposition;
+import org.applied_geodesy.adjustment.sparse.UpperSymmSparseMatrix;
 import org.applied_geodesy.adjustment.statistic.BaardaMethodTestStatistic;
 import org.applied_geodesy.adjustment.statistic.BinomialTestStatisticParameters;
 import org.applied_geodesy.adjustment.statistic.SidakTestStatistic;
@@ -103,8 +121,28 @@ public class NetworkAdjustment implements Runnable {
 	private final PropertyChangeSupport change = new PropertyChangeSupport(this);
 	private boolean calculateStochasticParameters = false;
 	private static double SQRT_EPS = Math.sqrt(Constant.EPS);
+	/** Relative Toleranz des Residuums der konjugierten Gradienten je Iterationsschritt */
+	private final static double CONJUGATE_GRADIENT_TOLERANCE = 1E-12;
+	/** Angestrebte Anzahl an Punktspalten je Block der Helmert-Blockung, sofern die Anzahl der Bloecke nicht vorgegeben ist */
+	private final static int HELMERT_BLOCK_SIZE = 1000;
+	/** Maximaler Zuschlag der vorangegangenen Iteration bezogen auf die Standardabweichung des Parameters, bis zu dem Qxx der robusten Schaetzung fortgeschrieben statt neu bestimmt wird */
+	private final static double ROBUST_DOWNDATE_LINEARISATION_LIMIT = 0.5;
+	/** Maximale Anzahl aufeinanderfolgender Fortschreibungen von Qxx, bevor die Normalgleichung erneut invertiert wird */
+	private final static int ROBUST_DOWNDATE_INTERVAL = 50;
+	/** Anzahl der gleichzeitig ausgewerteten Zufallsvektoren der stochastischen Spurschaetzung */
+	private final static int TRACE_ESTIMATION_PROBES_PER_BATCH = 8;
+	/** Maximale Anzahl an Zufallsvektoren der stochastischen Spurschaetzung; die Anzahl ist zudem auf die Anzahl der Unbekannten begrenzt */
+	private final static int TRACE_ESTIMATION_MAX_PROBES = 1000;
+	/** Anzahl der Unbekannten, ab der die Kovarianzmatrix automatisch binaer exportiert wird */
+	private final static int BINARY_COVARIANCE_EXPORT_LIMIT = 1000;
+	/** Loesung Ny = b fuer einen Zufallsvektor der stochastischen Spurschaetzung, wobei b durch y ueberschrieben wird */
+	private interface TraceEstimationSolver {
+		void solve(DenseVector b) throws NotConvergedException;
+	}
 	private EstimationType estimationType = EstimationType.L2NORM;
-	private UpperSymmPackMatrix Qxx = null;
+	private NormalEquationSolverType normalEquationSolverType = NormalEquationSolverType.DENSE;
+	private CovarianceExportFormatType covarianceExportFormatType = CovarianceExportFormatType.AUTO;
+	private Matrix Qxx = null;
 	private SphericalDeflectionModel sphericalDeflectionModel = null;
 	
 	private int maximalNumberOfIterations        = DefaultValue.getMaximalNumberOfIterations(),
@@ -117,17 +155,38 @@ public class NetworkAdjustment implements Runnable {
 	            numberOfHypotesis                = 0,
 	            numberOfPrincipalComponents      = 0;
 	
+	private long numberOfNonZerosInFactor = 0;
+	private String linearAlgebraBackend = null;
+	private int numberOfConjugateGradientIterations = 0;
+	private int numberOfHelmertBlocks = 0, numberOfJunctionParameters = 0;
+	private int numberOfThreads = DefaultValue.getNumberOfThreads();
+	private ForkJoinPool forkJoinPool = null;
+	private JacobiRowCache jacobiRowCache = null;
+	private Path scratchDirectory = null;
+	private List<NetworkAdjustment> subNetworks = new ArrayList<NetworkAdjustment>(0);
+	private double robustEstimationWeights[] = null;
+	private UpperSymmPackMatrix sequentialCofactorMatrix = null;
+	private List<Observation> sequentialObservations = new ArrayList<Observation>();
+	private List<AdditionalUnknownParameter> sequentialAdditionalUnknownParameters = new ArrayList<AdditionalUnknownParameter>();
+	private int numberOfRobustDowndates = 0;
+	private double maxNormalizedDx = 0.0;
+	private int numberOfTraceEstimationProbes = 0;
+	
 	private boolean interrupt          = false,
 					freeNetwork	 	   = false,
 					congruenceAnalysis = false,
 					proofOfDatumDefectDetection = false,
-					applyAposterioriVarianceOfUnitWeight = true;
+					applyAposterioriVarianceOfUnitWeight = true,
+					eliminateAdditionalParameters = true,
+					separateSubNetworks = false,
+					robustEstimationDowndate = false;
 
 	private double maxDx            = Double.MIN_VALUE,
 	               degreeOfFreedom  = 0.0,
 	               omega            = 0.0,
 	               traceCxxPoints   = 0.0,
 	               finalLinearisationError = 0.0,
+	               traceEstimationAccuracy = 0.0,
 	               robustEstimationLimit   = DefaultValue.getRobustEstimationLimit(),
 	               alphaUT    = UnscentedTransformationParameter.getAlpha(),
 	               betaUT     = UnscentedTransformationParameter.getBeta(),
@@ -170,7 +229,7 @@ public class NetworkAdjustment implements Runnable {
 	 * @param N NEG-Matrix
 	 * @param n neg-Vektor
 	 */
-	private void estimateFactorsForOutherAccracy(UpperSymmPackMatrix N, DenseVector n) {
+	private void estimateFactorsForOutherAccracy(Matrix N, DenseVector n) {
 		// Indexzuordnung Submatrix vs. Gesamtmatrix
 		Map<Integer, Integer> idxAddParamGlobal2LocalInQxx = new LinkedHashMap<Integer, Integer>();
 		Map<Integer, Integer> idxPointGlobal2LocalInQxx = new LinkedHashMap<Integer, Integer>();
@@ -237,9 +296,39 @@ public class NetworkAdjustment implements Runnable {
 			e.printStackTrace();
 		}
 
-		// In-Situ Invertierung der NGL: N <-- Qxx, n <-- dx 
-		MathExtension.solve(N, n, true);
-		this.Qxx = N;
+		// In-Situ Invertierung der NGL: N <-- Qxx, n <-- dx; bei der robusten Schaetzung 
+		// wird Qxx der vorangegangenen Iteration nach Moeglichkeit fortgeschrieben
+		if (this.sequentialCofactorMatrix != null && this.sequentialCofactorMatrix.numRows() == N.numRows()) {
+			// Qxx wurde im Zuge der sequentiellen Ausgleichung bereits fortgeschrieben
+			this.Qxx = this.sequentialCofactorMatrix;
+			this.sequentialCofactorMatrix = null;
+			DenseVector dx = new DenseVector(n.size());
+			this.Qxx.mult(n, dx);
+			n.set(dx);
+		}
+		else if (N instanceof TiledSymmMatrix) {
+			// Bei einem Fehler wird die Auslagerungsdatei verworfen, andernfalls ersetzt N eine ggf. noch ausgelagerte Qxx
+			boolean solved = false;
+			try {
+				((TiledSymmMatrix)N).solve(n, true);
+				solved = true;
+			}
+			finally {
+				if (!solved)
+					((TiledSymmMatrix)N).close();
+			}
+			if (this.Qxx instanceof TiledSymmMatrix && this.Qxx != N)
+				((TiledSymmMatrix)this.Qxx).close();
+			this.Qxx = N;
+		}
+		else if (!this.downdateCofactorMatrix(N.numRows(), n)) {
+			MathExtension.solve((UpperSymmPackMatrix)N, n, true);
+			this.Qxx = N;
+		}
+		
+		// Dimensionsloses Linearisierungskriterium fuer die Fortschreibung von Qxx in der folgenden Iteration
+		if (this.estimationType == EstimationType.L1NORM && this.Qxx instanceof UpperSymmPackMatrix)
+			this.maxNormalizedDx = this.getMaxNormalizedDx((UpperSymmPackMatrix)this.Qxx, n);
 	
 		Set<Integer> gnssObsIds = new LinkedHashSet<Integer>();
 		for (int i=0; i<this.projectObservations.size(); i++) {
@@ -418,6 +507,322 @@ public class NetworkAdjustment implements Runnable {
 		}
 	}
 
+	/**
+	 * Schreibt die Kofaktormatrix Qxx der vorangegangenen Iteration der robusten Schaetzung fuer die seither geaenderten 
+	 * Gewichte mittels Sherman-Morrison-Woodbury-Formel fort, anstatt die neu aufgestellte Normalgleichung zu invertieren. 
+	 * Da je Iteration nur die Beobachtung mit der groessten normierten Verbesserung (bzw. die Komponenten einer GNSS-Basislinie) 
+	 * abgewichtet wird, sinkt der Aufwand von O(u<sup>3</sup>) auf O(k u<sup>2</sup>). Die Jacobi-Matrix der vorangegangenen 
+	 * Iteration wird hierbei als unveraendert angenommen, sodass die Fortschreibung nur bei kleinen Zuschlaegen erfolgt und 
+	 * in regelmaessigen Abstaenden sowie im abschliessenden Durchlauf eine vollstaendige Inversion stattfindet. Da die 
+	 * Zuschlaege von Koordinaten, Orientierungen, Massstaeben usw. verschiedene Einheiten besitzen, werden sie hierzu 
+	 * auf die Standardabweichung des jeweiligen Parameters bezogen (vgl. {@link #getMaxNormalizedDx(UpperSymmPackMatrix, Vector)}). Der 
+	 * Absolutgliedvektor wird in-situ ueberschrieben, sodass n == dx am Ende ist.
+	 * 
+	 * @param size Dimension der Normalgleichung
+	 * @param n neg-Vektor
+	 * @return isUpdated, <code>false</code>, wenn die Normalgleichung vollstaendig zu invertieren ist
+	 */
+	private boolean downdateCofactorMatrix(int size, DenseVector n) {
+		if (!this.robustEstimationDowndate || this.estimationType != EstimationType.L1NORM)
+			return false;
+		
+		// Qxx gilt anschliessend - fortgeschrieben oder neu bestimmt - fuer die aktuellen Gewichte
+		double lastWeights[] = this.robustEstimationWeights;
+		double weights[] = this.robustEstimationWeights = this.getRobustEstimationWeights();
+		
+		if (lastWeights == null || lastWeights.length != weights.length || 
+				!(this.Qxx instanceof UpperSymmPackMatrix) || this.Qxx.numRows() != size ||
+				this.maxNormalizedDx > ROBUST_DOWNDATE_LINEARISATION_LIMIT || this.numberOfRobustDowndates >= ROBUST_DOWNDATE_INTERVAL) {
+			this.numberOfRobustDowndates = 0;
+			return false;
+		}
+		
+		List<Integer> rows = new ArrayList<Integer>();
+		for (int row=0; row<weights.length; row++) {
+			if (weights[row] != lastWeights[row])
+				rows.add(row);
+		}
+		
+		// Bei vielen Aenderungen ist die Inversion guenstiger
+		if (4 * rows.size() > size) {
+			this.numberOfRobustDowndates = 0;
+			return false;
+		}
+
+		if (!rows.isEmpty()) {
+			Matrix A = new DenseMatrix(rows.size(), size);
+			double d[] = new double[rows.size()];
+			int columns[] = this.jacobiRowCache.getColumns();
+			double values[] = this.jacobiRowCache.getValues();
+			// Zeilen sind aufsteigend sortiert, sodass Pseudo-Beobachtungen am Ende folgen
+			int pseudoObservationColumns[] = rows.get(rows.size() - 1) < this.numberOfObservations ? null : this.getPseudoObservationColumns(weights.length);
+			
+			for (int i=0; i<rows.size(); i++) {
+				int row = rows.get(i);
+				d[i] = weights[row] - lastWeights[row];
+				if (row < this.numberOfObservations) {
+					this.getJacobiRow(this.projectObservations.get(row));
+					int offset = this.jacobiRowCache.offset(row);
+					int nnz = this.jacobiRowCache.getNonZeros(row);
+					for (int k=offset; k<offset + nnz; k++)
+						A.set(i, columns[k], values[k]);
+				}
+				else {
+					int col = pseudoObservationColumns[row - this.numberOfObservations];
+					if (col < 0)
+						throw new IllegalArgumentException(this.getClass().getSimpleName() + " Error, no pseudo-observation in row " + row + "!");
+					A.set(i, col, 1.0);
+				}
+			}
+			
+			try {
+				MathExtension.update((UpperSymmPackMatrix)this.Qxx, A, d);
+			}
+			catch (MatrixSingularException | IllegalArgumentException e) {
+				this.numberOfRobustDowndates = 0;
+				return false;
+			}
+		}
+		
+		DenseVector dx = new DenseVector(size);
+		this.Qxx.mult(n, dx);
+		n.set(dx);
+		this.numberOfRobustDowndates++;
+		return true;
+	}
+	
+	/**
+	 * Liefert den betragsgroessten Zuschlag bezogen auf die Standardabweichung des jeweiligen Parameters, 
+	 * d.h. max(|dx<sub>i</sub>|/&radic;q<sub>ii</sub>). Zeilen der Datumsbedingungen bleiben unberuecksichtigt.
+	 * 
+	 * @param Qxx Kofaktormatrix der Parameter
+	 * @param dx Zuschlagsvektor
+	 * @return maxNormalizedDx
+	 */
+	private double getMaxNormalizedDx(UpperSymmPackMatrix Qxx, Vector dx) {
+		double maxNormalizedDx = 0.0;
+		for (int col=0; col<Math.min(this.numberOfUnknownParameters, Qxx.numRows()); col++) {
+			double qii = Qxx.get(col, col);
+			if (qii > 0)
+				maxNormalizedDx = Math.max(maxNormalizedDx, Math.abs(dx.get(col)) / Math.sqrt(qii));
+		}
+		return maxNormalizedDx;
+	}
+	
+	/**
+	 * Liefert die Gewichte der Beobachtungen sowie der stochastischen Lotabweichungen und Punkte 
+	 * in der Reihenfolge der Zeilen der Jacobi-Matrix
+	 * @return weights
+	 */
+	private double[] getRobustEstimationWeights() {
+		double weights[] = new double[this.numberOfObservations + this.numberOfStochasticPointRows + this.numberOfStochasticDeflectionRows];
+		for (int i=0; i<this.numberOfObservations; i++) {
+			Observation observation = this.projectObservations.get(i);
+			double u = observation.getStdApriori();
+			weights[observation.getRowInJacobiMatrix()] = 1.0/u/u;
+		}
+		
+		for (Point point : this.pointsWithStochasticDeflection) {
+			VerticalDeflection deflectionX = point.getVerticalDeflectionX();
+			VerticalDeflection deflectionY = point.getVerticalDeflectionY();
+			weights[deflectionX.getRowInJacobiMatrix()] = 1.0/deflectionX.getStdApriori()/deflectionX.getStdApriori();
+			weights[deflectionY.getRowInJacobiMatrix()] = 1.0/deflectionY.getStdApriori()/deflectionY.getStdApriori();
+		}
+		
+		for (Point point : this.stochasticPoints) {
+			int row = point.getRowInJacobiMatrix();
+			int dim = point.getDimension();
+			if (row < 0)
+				continue;
+			if (dim != 1) {
+				weights[row++] = 1.0/point.getStdXApriori()/point.getStdXApriori();
+				weights[row++] = 1.0/point.getStdYApriori()/point.getStdYApriori();
+			}
+			if (dim != 2)
+				weights[row] = 1.0/point.getStdZApriori()/point.getStdZApriori();
+		}
+		return weights;
+	}
+	
+	/**
+	 * Liefert die Spalten der Parameter, die durch die Pseudo-Beobachtungen (stochastische Lotabweichungen bzw. 
+	 * stochastische Punkte) beobachtet werden. Der Index entspricht der Zeile der Jacobi-Matrix abzueglich der 
+	 * Anzahl der Beobachtungen; Zeilen ohne Pseudo-Beobachtung sind mit -1 belegt.
+	 * @param numberOfRows Anzahl der Zeilen der Jacobi-Matrix
+	 * @return columns
+	 */
+	private int[] getPseudoObservationColumns(int numberOfRows) {
+		int columns[] = new int[numberOfRows - this.numberOfObservations];
+		Arrays.fill(columns, -1);
+		
+		for (Point point : this.pointsWithStochasticDeflection) {
+			VerticalDeflection deflectionX = point.getVerticalDeflectionX();
+			VerticalDeflection deflectionY = point.getVerticalDeflectionY();
+			columns[deflectionX.getRowInJacobiMatrix() - this.numberOfObservations] = deflectionX.getColInJacobiMatrix();
+			columns[deflectionY.getRowInJacobiMatrix() - this.numberOfObservations] = deflectionY.getColInJacobiMatrix();
+		}
+		
+		for (Point point : this.stochasticPoints) {
+			int row = point.getRowInJacobiMatrix();
+			if (row < 0)
+				continue;
+			for (int d=0; d<point.getDimension(); d++)
+				columns[row - this.numberOfObservations + d] = point.getColInJacobiMatrix() + d;
+		}
+		return columns;
+	}
+	
+	/**
+	 * Berechnung von Vor-Faktoren zur Bestimmung von EP und EF*SP analog zu {@link #estimateFactorsForOutherAccracy(UpperSymmPackMatrix, DenseVector)}, 
+	 * jedoch ohne die vollstaendige Inverse der Normalgleichung. Statt dessen wird N = LDL' zerlegt und die Teilinverse 
+	 * auf der Besetzungsstruktur von L mittels Takahashi-Rekursion bestimmt, sodass Qxx nur die Elemente enthaelt, 
+	 * die zu Parametern gehoeren, die ueber Beobachtungen verknuepft sind. 
+	 * 
+	 * Fuer die reduzierte Designmatrix gilt mit Q<sub>xz</sub> = -Q<sub>xx</sub>N<sub>xz</sub>N<sub>zz</sub><sup>-1</sup> 
+	 * 
+	 * a<sub>x</sub>Q<sub>xx</sub>(a<sub>x</sub> - a<sub>z</sub>N<sub>zz</sub><sup>-1</sup>N<sub>zx</sub>)' = a<sub>x</sub>(Q<sub>xx</sub>a<sub>x</sub>' + Q<sub>xz</sub>a<sub>z</sub>')
+	 * 
+	 * sodass alle benoetigten Elemente von Qxx und N<sub>zz</sub><sup>-1</sup> in der jeweiligen Teilinversen liegen.
+	 * 
+	 * Der Absolutgliedvektor wird in-situ ueberschrieben, sodass n == dx am Ende ist.
+	 * 
+	 * @param N duenn besetzte NEG-Matrix
+	 * @param n neg-Vektor
+	 */
+	private void estimateFactorsForOutherAccracy(UpperSymmSparseMatrix N, DenseVector n) {
+		int numberOfColumns = N.numColumns();
+		// Indexzuordnung Zusatzparameter Gesamtmatrix vs. Submatrix; -1, wenn kein Zusatzparameter 
+		int idxAddParamGlobal2LocalInQxx[] = new int[numberOfColumns];
+		boolean isPointColumn[] = new boolean[numberOfColumns];
+		Arrays.fill(idxAddParamGlobal2LocalInQxx, -1);
+		int numberOfAdditionalParameters = 0;
+		
+		for (int i=0; i<this.unknownParameters.size(); i++) {
+			UnknownParameter param = this.unknownParameters.get(i);
+			int col = param.getColInJacobiMatrix();
+			if (col < 0) 
+				continue;
+			
+			if (param.getParameterType() == ParameterType.POINT1D)
+				isPointColumn[col] = true;
+			else if (param.getParameterType() == ParameterType.POINT2D)
+				isPointColumn[col] = isPointColumn[col + 1] = true;
+			else if (param.getParameterType() == ParameterType.POINT3D)
+				isPointColumn[col] = isPointColumn[col + 1] = isPointColumn[col + 2] = true;
+			else if (param instanceof AdditionalUnknownParameter)
+				idxAddParamGlobal2LocalInQxx[col] = numberOfAdditionalParameters++;
+		}
+
+		// Teilinverse von Nzz
+		SelectedInverseMatrix Qzz = null;
+		if (numberOfAdditionalParameters > 0) {
+			try {
+				UpperSymmSparseMatrix Nzz = new UpperSymmSparseMatrix(numberOfAdditionalParameters);
+				int colPointer[] = N.getColumnPointers();
+				int rowIndex[]   = N.getRowIndices();
+				double data[]    = N.getData();
+				for (int col=0; col<numberOfColumns; col++) {
+					int colZ = idxAddParamGlobal2LocalInQxx[col];
+					if (colZ < 0)
+						continue;
+					for (int p=colPointer[col]; p<colPointer[col + 1]; p++) {
+						int rowZ = idxAddParamGlobal2LocalInQxx[rowIndex[p]];
+						if (rowZ >= 0)
+							Nzz.add(rowZ, colZ, data[p]);
+					}
+				}
+				Qzz = new SelectedInverseMatrix(SparseLDLDecomposition.factorize(Nzz));
+			}
+			catch (Exception e) {
+				e.printStackTrace();
+			}
+		}
+
+		// Zerlegung der NGL, Loesung n <-- dx und Teilinverse Qxx
+		SparseLDLDecomposition ldl = MathExtension.solve(N, n);
+		this.numberOfNonZerosInFactor = ldl.nonZeros();
+		this.Qxx = new SelectedInverseMatrix(ldl);
+		
+		int columns[][] = new int[3][JacobiRowCache.MAX_NON_ZEROS_PER_ROW];
+		double values[][] = new double[3][JacobiRowCache.MAX_NON_ZEROS_PER_ROW];
+		int nnz[] = new int[3];
+		Set<Integer> gnssObsIds = new LinkedHashSet<Integer>();
+		for (int i=0; i<this.projectObservations.size(); i++) {
+			Observation obs = this.projectObservations.get(i);
+			boolean isGNSS = obs.getObservationType() == ObservationType.GNSS1D || obs.getObservationType() == ObservationType.GNSS2D || obs.getObservationType() == ObservationType.GNSS3D;
+			if (isGNSS && gnssObsIds.contains(obs.getId()))
+				continue;
+
+			if (isGNSS)
+				gnssObsIds.add(obs.getId());
+
+			List<Observation> observations = null;
+			if (isGNSS)
+				observations = ((GNSSBaseline)obs).getBaselineComponents();
+			else {
+				observations = new ArrayList<Observation>(1);
+				observations.add(obs);
+			}
+
+			int numOfObs = observations.size();
+			double weights[] = new double[numOfObs];
+			
+			for (int d=0; d<numOfObs; d++) {
+				Observation observation = observations.get(d);
+				// Gewicht der Beobachtung
+				weights[d] = 1.0/observation.getStdApriori()/observation.getStdApriori();
+				int row = this.getJacobiRow(observation);
+				int offset = this.jacobiRowCache.offset(row);
+				nnz[d] = this.jacobiRowCache.getNonZeros(row);
+				System.arraycopy(this.jacobiRowCache.getColumns(), offset, columns[d], 0, nnz[d]);
+				System.arraycopy(this.jacobiRowCache.getValues(),  offset, values[d],  0, nnz[d]);
+			}
+			
+			Matrix ATQxxBP = new DenseMatrix(numOfObs,numOfObs);
+			Matrix PAzTQzzAzP = new UpperSymmPackMatrix(numOfObs);
+			
+			for (int r=0; r<numOfObs; r++) {
+				for (int c=0; c<numOfObs; c++) {
+					double atqxxbp = 0, aztqzzaz = 0;
+					for (int j=0; j<nnz[r]; j++) {
+						int colR = columns[r][j];
+						if (isPointColumn[colR]) {
+							// ax*(Qxx*ax' + Qxz*az')
+							for (int k=0; k<nnz[c]; k++) {
+								int colC = columns[c][k];
+								if (isPointColumn[colC] || idxAddParamGlobal2LocalInQxx[colC] >= 0)
+									atqxxbp += values[r][j] * this.Qxx.get(colR, colC) * values[c][k];
+							}
+						}
+						else if (Qzz != null && idxAddParamGlobal2LocalInQxx[colR] >= 0 && c >= r) {
+							// az*Qzz*az'
+							for (int k=0; k<nnz[c]; k++) {
+								int colC = columns[c][k];
+								if (idxAddParamGlobal2LocalInQxx[colC] >= 0)
+									aztqzzaz += values[r][j] * Qzz.get(idxAddParamGlobal2LocalInQxx[colR], idxAddParamGlobal2LocalInQxx[colC]) * values[c][k];
+							}
+						}
+					}
+					ATQxxBP.set(r, c, weights[r] * atqxxbp);
+					if (c >= r)
+						PAzTQzzAzP.set(r, c, weights[c] * weights[r] * aztqzzaz);
+				}
+			}
+			
+			if (isGNSS) {			
+				this.ATQxxBP_GNSS_EP.put(obs.getId(), ATQxxBP);
+				this.PAzTQzzAzP_GNSS_EF.put(obs.getId(), PAzTQzzAzP);
+			}
+			else {
+				// Geschaetzte Modellstoerung ist noch nicht bestimmt
+				// Sodass hier zunachst nur der Faktor A'QxxArPi
+				// zwischengespeichert wird
+				obs.setInfluenceOnPointPosition(ATQxxBP.get(0, 0));
+				obs.setInfluenceOnNetworkDistortion(PAzTQzzAzP.get(0, 0));
+			}
+		}
+	}
+
 	/**
 	 * Liefert ein Element des Matrizenprodukts aqxx = AQ<sub>xx</sub>(i,j)
 	 * @param observation
@@ -440,81 +845,16 @@ public class NetworkAdjustment implements Runnable {
 		
 		double aqxx = 0.0;
 		
-		int row = observation.getStartPoint().getColInJacobiMatrix();
-		int dim = observation.getStartPoint().getDimension();
-		
-		// Startpunkt
-		if (row >= 0) {
-			if (dim != 1) {
-				aqxx += observation.diffXs()*this.Qxx.get(row++, column);
-				aqxx += observation.diffYs()*this.Qxx.get(row++, column);
-			}
-			if (dim != 2) {
-				aqxx += observation.diffZs()*this.Qxx.get(row, column);
-			}
-		}
-		
-		row = observation.getEndPoint().getColInJacobiMatrix();
-		dim = observation.getEndPoint().getDimension();
-		
-		// Zielpunkt
-		if (row >= 0) {
-			if (dim != 1) {
-				aqxx += observation.diffXe()*this.Qxx.get(row++, column);
-				aqxx += observation.diffYe()*this.Qxx.get(row++, column);
-			}
-			if (dim != 2) {
-				aqxx += observation.diffZe()*this.Qxx.get(row, column);
-			}
-		}
+		// Zeile der Jacobi-Matrix; Stand- und Zielpunkt stehen vor den Zusatzparametern
+		int row = this.getJacobiRow(observation);
+		int offset = this.jacobiRowCache.offset(row);
+		int nnz = withoutAdditionalParameters ? this.jacobiRowCache.getPointNonZeros(row) : this.jacobiRowCache.getNonZeros(row);
+		int columns[] = this.jacobiRowCache.getColumns();
+		double values[] = this.jacobiRowCache.getValues();
 		
-		if (!withoutAdditionalParameters) {
-			// Zusatzparameter
-			// X-Lotabweichung des Standpunktes
-			row = observation.getStartPoint().getVerticalDeflectionX().getColInJacobiMatrix();
-			if (row >= 0)
-				aqxx += observation.diffVerticalDeflectionXs()*this.Qxx.get(row, column);
-			// Y-Lotabweichung des Standpunktes
-			row = observation.getStartPoint().getVerticalDeflectionY().getColInJacobiMatrix();
-			if (row >= 0)
-				aqxx += observation.diffVerticalDeflectionYs()*this.Qxx.get(row, column);
-			// X-Lotabweichung des Zielpunktes
-			row = observation.getEndPoint().getVerticalDeflectionX().getColInJacobiMatrix();
-			if (row >= 0)
-				aqxx += observation.diffVerticalDeflectionXe()*this.Qxx.get(row, column);
-			// Y-Lotabweichung des Zielpunktes
-			row = observation.getEndPoint().getVerticalDeflectionY().getColInJacobiMatrix();
-			if (row >= 0)
-				aqxx += observation.diffVerticalDeflectionYe()*this.Qxx.get(row, column);
-			// Orientierung
-			row = observation.getColInJacobiMatrixFromOrientation();
-			if (row >= 0)
-				aqxx += observation.diffOri()*this.Qxx.get(row, column);
-			// Maßstab
-			row = observation.getColInJacobiMatrixFromScale();
-			if (row >= 0)
-				aqxx += observation.diffScale()*this.Qxx.get(row, column);
-			// Additionskonstante
-			row = observation.getColInJacobiMatrixFromAdd();
-			if (row >= 0)
-				aqxx += observation.diffAdd()*this.Qxx.get(row, column);
-			// Refraktion
-			row = observation.getColInJacobiMatrixFromRefCoeff();
-			if (row >= 0)
-				aqxx += observation.diffRefCoeff()*this.Qxx.get(row, column);
-			// Rotation X
-			row = observation.getColInJacobiMatrixFromRotationX();
-			if (row >= 0)
-				aqxx += observation.diffRotX()*this.Qxx.get(row, column);
-			// Rotation Y
-			row = observation.getColInJacobiMatrixFromRotationY();
-			if (row >= 0)
-				aqxx += observation.diffRotY()*this.Qxx.get(row, column);
-			// Rotation Z
-			row = observation.getColInJacobiMatrixFromRotationZ();
-			if (row >= 0)
-				aqxx += observation.diffRotZ()*this.Qxx.get(row, column);		
-		}
+		for (int k=offset; k<offset + nnz; k++)
+			aqxx += values[k]*this.Qxx.get(columns[k], column);
+
 		return aqxx;
 	}
 	
@@ -529,79 +869,12 @@ public class NetworkAdjustment implements Runnable {
 
 		double qll = 0;
 		
-		int col = observationTwo.getStartPoint().getColInJacobiMatrix();
-		int dim = observationTwo.getStartPoint().getDimension();
-		
-		// Startpunkt
-		if (col >= 0) {
-			if (dim != 1) {
-				qll += observationTwo.diffXs()*this.getAQxxElement(observationOne, col++);
-				qll += observationTwo.diffYs()*this.getAQxxElement(observationOne, col++);
-			}
-			if (dim != 2) {
-				qll += observationTwo.diffZs()*this.getAQxxElement(observationOne, col);
-			}
-		}
-		
-		col = observationTwo.getEndPoint().getColInJacobiMatrix();
-		dim = observationTwo.getEndPoint().getDimension();
-		
-		// Endpunkt
-		if (col >= 0) {
-			if (dim != 1) {
-				qll += observationTwo.diffXe()*this.getAQxxElement(observationOne, col++);
-				qll += observationTwo.diffYe()*this.getAQxxElement(observationOne, col++);
-			}
-			if (dim != 2) {
-				qll += observationTwo.diffZe()*this.getAQxxElement(observationOne, col);
-			}
-		}
+		int row = this.getJacobiRow(observationTwo);
+		int offset = this.jacobiRowCache.offset(row);
+		int nnz = this.jacobiRowCache.getNonZeros(row);
 		
-		// Zusatzparameter
-		// X-Lotabweichung des Standpunktes
-		col = observationTwo.getStartPoint().getVerticalDeflectionX().getColInJacobiMatrix();
-		if (col >= 0)
-			qll += observationTwo.diffVerticalDeflectionXs()*this.getAQxxElement(observationOne, col);
-		// Y-Lotabweichung des Standpunktes
-		col = observationTwo.getStartPoint().getVerticalDeflectionY().getColInJacobiMatrix();
-		if (col >= 0)
-			qll += observationTwo.diffVerticalDeflectionYs()*this.getAQxxElement(observationOne, col);
-		// X-Lotabweichung des Zielpunktes
-		col = observationTwo.getEndPoint().getVerticalDeflectionX().getColInJacobiMatrix();
-		if (col >= 0)
-			qll += observationTwo.diffVerticalDeflectionXe()*this.getAQxxElement(observationOne, col);
-		// Y-Lotabweichung des Zielpunktes
-		col = observationTwo.getEndPoint().getVerticalDeflectionY().getColInJacobiMatrix();
-		if (col >= 0)
-			qll += observationTwo.diffVerticalDeflectionYe()*this.getAQxxElement(observationOne, col);
-		// Orientierung
-		col = observationTwo.getColInJacobiMatrixFromOrientation();
-		if (col >= 0)
-			qll += observationTwo.diffOri()*this.getAQxxElement(observationOne, col);
-		// Maßstab
-		col = observationTwo.getColInJacobiMatrixFromScale();
-		if (col >= 0)
-			qll += observationTwo.diffScale()*this.getAQxxElement(observationOne, col);
-		// Additionskonstante
-		col = observationTwo.getColInJacobiMatrixFromAdd();
-		if (col >= 0)
-			qll += observationTwo.diffAdd()*this.getAQxxElement(observationOne, col);
-		// Refraktion
-		col = observationTwo.getColInJacobiMatrixFromRefCoeff();
-		if (col >= 0)
-			qll += observationTwo.diffRefCoeff()*this.getAQxxElement(observationOne, col);
-		// Rotation X
-		col = observationTwo.getColInJacobiMatrixFromRotationX();
-		if (col >= 0)
-			qll += observationTwo.diffRotX()*this.getAQxxElement(observationOne, col);
-		// Rotation Y
-		col = observationTwo.getColInJacobiMatrixFromRotationY();
-		if (col >= 0)
-			qll += observationTwo.diffRotY()*this.getAQxxElement(observationOne, col);
-		// Rotation Z
-		col = observationTwo.getColInJacobiMatrixFromRotationZ();
-		if (col >= 0)
-			qll += observationTwo.diffRotZ()*this.getAQxxElement(observationOne, col);
+		for (int k=offset; k<offset + nnz; k++)
+			qll += this.jacobiRowCache.getValues()[k]*this.getAQxxElement(observationOne, this.jacobiRowCache.getColumns()[k]);
 
 		return qll;
 	}
@@ -1034,6 +1307,28 @@ public class NetworkAdjustment implements Runnable {
 	 * wird durch den Kofaktor ueberschrieben.!!!  
 	 */
 	public void addSubRedundanceAndCofactor(Observation observation) {
+		double rr = this.estimateSubRedundanceAndCofactor(observation);
+		
+		if (rr > SQRT_EPS)
+			this.numberOfHypotesis++;
+
+		this.degreeOfFreedom += rr;
+	}
+	
+	/**
+	 * Bestimmt fuer die Beobachtung (bzw. die Komponenten einer GNSS-Basislinie) den Kofaktor qll 
+	 * und den Redundanzanteil r und liefert die Summe der Redundanzanteile. Die Gesamtredundanz 
+	 * wird nicht veraendert, sodass die Methode fuer unterschiedliche Beobachtungen parallel 
+	 * aufgerufen werden kann.
+	 * 
+	 * Die Teilmatrix Q<sub>ll</sub> = AQ<sub>xx</sub>A<sup>T</sup> wird blockweise bestimmt, d.h., die 
+	 * betroffenen Elemente von Q<sub>xx</sub> werden einmalig in eine kleine, voll besetzte Matrix 
+	 * uebertragen und anschliessend mit den Zeilen der Jacobi-Matrix multipliziert.
+	 * 
+	 * @param observation
+	 * @return rr Summe der Redundanzanteile
+	 */
+	private double estimateSubRedundanceAndCofactor(Observation observation) {
 		boolean isGNSS = observation.getObservationType() == ObservationType.GNSS1D || observation.getObservationType() == ObservationType.GNSS2D || observation.getObservationType() == ObservationType.GNSS3D;
 		List<Observation> observations = null;
 		if (isGNSS)
@@ -1044,97 +1339,36 @@ public class NetworkAdjustment implements Runnable {
 		}
 		
 		int dim = observations.size();
-		Matrix aRows = new DenseMatrix(dim, this.numberOfUnknownParameters);
 		
-		// Punkte der Beobachtung
-		Point startPoint = observation.getStartPoint();
-		Point endPoint   = observation.getEndPoint();
-		
-		// Hole Indizes in Jacobi-Matrix und speichere in Liste
-		Set<Integer> colums = new LinkedHashSet<Integer>(15);
+		// Hole Indizes in Jacobi-Matrix und speichere die Zeilen kompakt, d.h. 
+		// bezogen auf die lokale Spaltennummerierung in colums
+		int colums[] = new int[dim * JacobiRowCache.MAX_NON_ZEROS_PER_ROW];
+		double aRows[][] = new double[dim][colums.length];
+		int numberOfColumns = 0;
 		
 		for (int row=0; row<dim; row++) {
 			Observation obs = observations.get(row);
-			int colASp = startPoint.getColInJacobiMatrix();
-			int colAEp = endPoint.getColInJacobiMatrix();
-			
-			if (colASp >= 0) {
-				if (startPoint.getDimension() != 1) {
-					colums.add(colASp);
-					aRows.set(row, colASp++, obs.diffXs());
-					colums.add(colASp);
-					aRows.set(row, colASp++, obs.diffYs());
-				}
-			
-				if (startPoint.getDimension() != 2) {
-					colums.add(colASp);
-					aRows.set(row, colASp, obs.diffZs());
-				}
-			}
-			if (colAEp >= 0) {
-				if (endPoint.getDimension() != 1) {
-					colums.add(colAEp);
-					aRows.set(row, colAEp++, obs.diffXe());
-					colums.add(colAEp);
-					aRows.set(row, colAEp++, obs.diffYe());
-				}
-			
-				if (endPoint.getDimension() != 2) {
-					colums.add(colAEp);
-					aRows.set(row, colAEp, obs.diffZe());
-				}
-			}			
-			// mgl. Zusatzparameter
-			if (obs.getStartPoint().getVerticalDeflectionX().getColInJacobiMatrix() >= 0) {
-				colums.add(obs.getStartPoint().getVerticalDeflectionX().getColInJacobiMatrix());
-				aRows.set(row, obs.getStartPoint().getVerticalDeflectionX().getColInJacobiMatrix(), obs.diffVerticalDeflectionXs());
-			}
-			if (obs.getStartPoint().getVerticalDeflectionY().getColInJacobiMatrix() >= 0) {
-				colums.add(obs.getStartPoint().getVerticalDeflectionY().getColInJacobiMatrix());
-				aRows.set(row, obs.getStartPoint().getVerticalDeflectionY().getColInJacobiMatrix(), obs.diffVerticalDeflectionYs());
-			}
-			if (obs.getEndPoint().getVerticalDeflectionX().getColInJacobiMatrix() >= 0) {
-				colums.add(obs.getEndPoint().getVerticalDeflectionX().getColInJacobiMatrix());
-				aRows.set(row, obs.getEndPoint().getVerticalDeflectionX().getColInJacobiMatrix(), obs.diffVerticalDeflectionXe());
-			}
-			if (obs.getEndPoint().getVerticalDeflectionY().getColInJacobiMatrix() >= 0) {
-				colums.add(obs.getEndPoint().getVerticalDeflectionY().getColInJacobiMatrix());
-				aRows.set(row, obs.getEndPoint().getVerticalDeflectionY().getColInJacobiMatrix(), obs.diffVerticalDeflectionYe());
-			}
-			
-			if (obs.getColInJacobiMatrixFromOrientation() >= 0) {
-				colums.add(obs.getColInJacobiMatrixFromOrientation());
-				aRows.set(row, obs.getColInJacobiMatrixFromOrientation(), obs.diffOri());
-			}
-				
-			if (obs.getColInJacobiMatrixFromAdd() >= 0) {
-				colums.add(obs.getColInJacobiMatrixFromAdd());
-				aRows.set(row, obs.getColInJacobiMatrixFromAdd(), obs.diffAdd());
-			}
-				
-			if (obs.getColInJacobiMatrixFromScale() >= 0) {
-				colums.add(obs.getColInJacobiMatrixFromScale());
-				aRows.set(row, obs.getColInJacobiMatrixFromScale(), obs.diffScale());
-			}
-				
-			if (obs.getColInJacobiMatrixFromRefCoeff() >= 0) {
-				colums.add(obs.getColInJacobiMatrixFromRefCoeff());
-				aRows.set(row, obs.getColInJacobiMatrixFromRefCoeff(), obs.diffRefCoeff());
-			}
-			
-			if (obs.getColInJacobiMatrixFromRotationX() >= 0) {
-				colums.add(obs.getColInJacobiMatrixFromRotationX());
-				aRows.set(row, obs.getColInJacobiMatrixFromRotationX(), obs.diffRotX());
-			}
+			int rowInJacobi = this.getJacobiRow(obs);
+			int offset = this.jacobiRowCache.offset(rowInJacobi);
+			int nnz = this.jacobiRowCache.getNonZeros(rowInJacobi);
 			
-			if (obs.getColInJacobiMatrixFromRotationY() >= 0) {
-				colums.add(obs.getColInJacobiMatrixFromRotationY());
-				aRows.set(row, obs.getColInJacobiMatrixFromRotationY(), obs.diffRotY());
+			for (int k=offset; k<offset + nnz; k++) {
+				int col = this.jacobiRowCache.getColumns()[k];
+				int localCol = 0;
+				while (localCol < numberOfColumns && colums[localCol] != col)
+					localCol++;
+				if (localCol == numberOfColumns)
+					colums[numberOfColumns++] = col;
+				aRows[row][localCol] = this.jacobiRowCache.getValues()[k];
 			}
-			
-			if (obs.getColInJacobiMatrixFromRotationZ() >= 0) {
-				colums.add(obs.getColInJacobiMatrixFromRotationZ());
-				aRows.set(row, obs.getColInJacobiMatrixFromRotationZ(), obs.diffRotZ());
+		}
+		
+		// Teilmatrix von Qxx der beteiligten Parameter
+		double qxx[][] = new double[numberOfColumns][numberOfColumns];
+		for (int r=0; r<numberOfColumns; r++) {
+			for (int c=r; c<numberOfColumns; c++) {
+				qxx[r][c] = this.Qxx.get(colums[r], colums[c]);
+				qxx[c][r] = qxx[r][c];
 			}
 		}
 		
@@ -1144,18 +1378,13 @@ public class NetworkAdjustment implements Runnable {
 		
 		// Berechne A*Qxx und Q*Qxx*A'
 		for (int dc=0; dc<dim; dc++) {
-			for (Integer col : colums) {
-//			for (int c=0; c<colums.size(); c++) {
-//				int col = colums.get(c);
+			for (int col=0; col<numberOfColumns; col++) {
 				double aqxx = 0.0;
-				for (Integer row : colums) {
-//				for (int r=0; r<colums.size(); r++) {
-//					int row = colums.get(r);
-					aqxx += aRows.get(dc, row) * this.Qxx.get(row, col);
-				}
+				for (int row=0; row<numberOfColumns; row++)
+					aqxx += aRows[dc][row] * qxx[row][col];
 				
 				for (int dr=0; dr<dim; dr++) {
-					subR.set(dr, dc, subR.get(dr, dc) + aqxx * aRows.get(dr, col));
+					subR.set(dr, dc, subR.get(dr, dc) + aqxx * aRows[dr][col]);
 				}
 			}
 		}
@@ -1204,10 +1433,7 @@ public class NetworkAdjustment implements Runnable {
 		if (isGNSS) 
 			((GNSSBaseline)observation).setBaselineRedundancyMatrix(subR);
 		
-		if (rr > SQRT_EPS)
-			this.numberOfHypotesis++;
-
-		this.degreeOfFreedom += rr;
+		return rr;
 	}
 	
 	private void estimateRobustWeights() {
@@ -1402,17 +1628,95 @@ public class NetworkAdjustment implements Runnable {
 	}
 				
 	/**
-	 * erzeugt die Normalgleichungsmatrix N = A<sup>T</sup>PA <em>direkt</em>, d.h. ohne
-	 * das explizite Aufstellen von A und P
-	 * return NEQ
+	 * Berechnet die Zeile(n) der Normalgleichung N = A<sup>T</sup>PA sowie das zugehoerige Element von 
+	 * n = A<sup>T</sup>Pw fuer den u-ten unbekannten Parameter. Es werden nur die Elemente oberhalb der 
+	 * Hauptdiagonalen in den Zeilen des Parameters beschrieben.
+	 * 
+	 * @param u Index des Parameters
+	 * @param N Normalgleichung
+	 * @param n Absolutgliedvektor
 	 */
-	public NormalEquationSystem createNormalEquation() {
-		int numberOfStrainEquations  = 0; // Anzahl der zusaetzlichen Bedingungsgleichungen zur bestimmung der Strain-Parameter 
-
-		if (this.freeNetwork && this.congruenceAnalysis) {
-			for (CongruenceAnalysisGroup tieGroup : this.congruenceAnalysisGroup) {
-				StrainAnalysisEquations strainAnalysisEquations = tieGroup.getStrainAnalysisEquations();
-				int nou = strainAnalysisEquations.numberOfParameters();
+	private void addNormalEquationRows(int u, Matrix N, DenseVector n) {
+		UnknownParameter unknownParameterAT = this.unknownParameters.get(u);
+		ObservationGroup observationGroupAT = unknownParameterAT.getObservations();
+		int dimAT = 1;
+		switch (unknownParameterAT.getParameterType()) {
+		case POINT2D:
+			dimAT = 2;
+			break;
+		case POINT3D:
+			dimAT = 3;
+			break;
+		default:
+			dimAT = 1;
+			break;
+		}
+		for (int i=0; i<dimAT; i++) {
+			int colAT = unknownParameterAT.getColInJacobiMatrix() + i;
+			Vector aTp = new SparseVector(this.numberOfObservations, observationGroupAT.size());
+			for (int j=0; j<observationGroupAT.size(); j++) {
+				Observation observationAT = observationGroupAT.get(j);
+				int rowAT = observationAT.getRowInJacobiMatrix();
+				// Berechnet AT*P
+				double at = this.jacobiRowCache.get(rowAT, colAT);
+
+				// Zeile aT*p bestimmen
+				double atp = at / (observationAT.getStdApriori() * observationAT.getStdApriori());
+				aTp.set(rowAT, atp);
+				// Absolutgliedvektor bestimmen
+				n.add(colAT, atp * observationAT.getCorrection());
+				// Hauptdiagonalelement aT*p*a
+				N.add(colAT, colAT, atp * at);
+			}
+
+			for (int uu=u; uu<this.unknownParameters.size(); uu++) {
+				UnknownParameter unknownParameterA = this.unknownParameters.get(uu);
+				ObservationGroup observationGroupA = unknownParameterA.getObservations();
+
+				int dimA = 1;
+				switch (unknownParameterA.getParameterType()) {
+				case POINT2D:
+					dimA = 2;
+					break;
+				case POINT3D:
+					dimA = 3;
+					break;
+				default:
+					dimA = 1;
+					break;
+				}
+				for (int ii=uu==u?i+1:0; ii<dimA; ii++) {
+					int colA = unknownParameterA.getColInJacobiMatrix() + ii;
+
+					for (int jj=0; jj<observationGroupA.size(); jj++) {
+						Observation observationA = observationGroupA.get(jj);
+						int rowA = observationA.getRowInJacobiMatrix();
+						// skip zero multiplications
+						if (aTp.get(rowA) == 0)
+							continue;
+						
+						// Berechnte Normalgleichung N=AT*P*A
+						double a = this.jacobiRowCache.get(rowA, colA);
+						// Berechnung von N = ATP*A 
+						N.add(colAT, colA, aTp.get(rowA)*a);
+					}
+				}
+			}
+		}
+	}
+	
+	/**
+	 * erzeugt die Normalgleichungsmatrix N = A<sup>T</sup>PA <em>direkt</em>, d.h. ohne
+	 * das explizite Aufstellen von A und P
+	 * return NEQ
+	 */
+	public NormalEquationSystem createNormalEquation() {
+		int numberOfStrainEquations  = 0; // Anzahl der zusaetzlichen Bedingungsgleichungen zur bestimmung der Strain-Parameter 
+
+		if (this.freeNetwork && this.congruenceAnalysis) {
+			for (CongruenceAnalysisGroup tieGroup : this.congruenceAnalysisGroup) {
+				StrainAnalysisEquations strainAnalysisEquations = tieGroup.getStrainAnalysisEquations();
+				int nou = strainAnalysisEquations.numberOfParameters();
 				int nor = strainAnalysisEquations.numberOfRestrictions();
 				int not = tieGroup.size(true);
 				int dim = tieGroup.getDimension();
@@ -1423,230 +1727,29 @@ public class NetworkAdjustment implements Runnable {
 			}
 		}
 		
-		UpperSymmPackMatrix N = new UpperSymmPackMatrix( this.numberOfUnknownParameters + this.rankDefect.getDefect() + numberOfStrainEquations);
+		int size = this.numberOfUnknownParameters + this.rankDefect.getDefect() + numberOfStrainEquations;
+		TiledSymmMatrix tiledN = this.isOutOfCoreNormalEquationApplicable(size) ? this.createTiledMatrix(size) : null;
+		Matrix N = tiledN != null ? tiledN : new UpperSymmPackMatrix(size);
 		DenseVector n = new DenseVector( N.numRows() );
 		
 		if (this.estimationType == EstimationType.L1NORM) {
 			this.estimateRobustWeights();
 		}
 		
-		for (int u=0; u<this.unknownParameters.size(); u++) {
-			if (this.interrupt)
-				return null;
-			
-			UnknownParameter unknownParameterAT = this.unknownParameters.get(u);
-			ObservationGroup observationGroupAT = unknownParameterAT.getObservations();
-			int dimAT = 1;
-			switch (unknownParameterAT.getParameterType()) {
-			case POINT2D:
-				dimAT = 2;
-				break;
-			case POINT3D:
-				dimAT = 3;
-				break;
-			default:
-				dimAT = 1;
-				break;
-			}
-			for (int i=0; i<dimAT; i++) {
-				int colAT = unknownParameterAT.getColInJacobiMatrix() + i;
-				Vector aTp = new SparseVector(this.numberOfObservations, observationGroupAT.size());
-				for (int j=0; j<observationGroupAT.size(); j++) {
-					Observation observationAT = observationGroupAT.get(j);
-					int rowAT = observationAT.getRowInJacobiMatrix();
-					double at = 0.0;
-
-					// Berechnet AT*P
-					if (unknownParameterAT.getParameterType() == ParameterType.POINT1D) {
-						Point p = (Point)unknownParameterAT;
-						if (p.equals(observationAT.getStartPoint())) 
-							at = observationAT.diffZs();
-						else if (p.equals(observationAT.getEndPoint())) 
-							at = observationAT.diffZe();
-					}
-					else if (unknownParameterAT.getParameterType() == ParameterType.POINT2D) {
-						Point p = (Point)unknownParameterAT;
-						if (p.equals(observationAT.getStartPoint())) {
-							if (i==0)
-								at = observationAT.diffXs();
-							else if (i==1)
-								at = observationAT.diffYs();
-						}
-						else if (p.equals(observationAT.getEndPoint())) {
-							if (i==0)
-								at = observationAT.diffXe();
-							else if (i==1)
-								at = observationAT.diffYe();
-						}
-					}
-					else if (unknownParameterAT.getParameterType() == ParameterType.POINT3D) {
-						Point p = (Point)unknownParameterAT;
-						if (p.equals(observationAT.getStartPoint())) {
-							if (i==0)
-								at = observationAT.diffXs();
-							else if (i==1)
-								at = observationAT.diffYs();
-							else if (i==2)
-								at = observationAT.diffZs();
-						}
-						else if (p.equals(observationAT.getEndPoint())) {
-							if (i==0)
-								at = observationAT.diffXe();
-							else if (i==1)
-								at = observationAT.diffYe();
-							else if (i==2)
-								at = observationAT.diffZe();
-						}
-					}
-
-					else if (unknownParameterAT.getParameterType() == ParameterType.VERTICAL_DEFLECTION_X) {
-						VerticalDeflectionX deflection = (VerticalDeflectionX)unknownParameterAT;
-						Point p = deflection.getPoint();
-						if (p.equals(observationAT.getStartPoint()))
-							at = observationAT.diffVerticalDeflectionXs();
-						else if (p.equals(observationAT.getEndPoint()))
-							at = observationAT.diffVerticalDeflectionXe();
-					}
-					else if (unknownParameterAT.getParameterType() == ParameterType.VERTICAL_DEFLECTION_Y) {
-						VerticalDeflectionY deflection = (VerticalDeflectionY)unknownParameterAT;
-						Point p = deflection.getPoint();
-						if (p.equals(observationAT.getStartPoint()))
-							at = observationAT.diffVerticalDeflectionYs();
-						else if (p.equals(observationAT.getEndPoint()))
-							at = observationAT.diffVerticalDeflectionYe();
-					}
-					else if (unknownParameterAT.getParameterType() == ParameterType.ORIENTATION)
-						at = observationAT.diffOri();
-					else if (unknownParameterAT.getParameterType() == ParameterType.ZERO_POINT_OFFSET)
-						at = observationAT.diffAdd();
-					else if (unknownParameterAT.getParameterType() == ParameterType.SCALE) 
-						at = observationAT.diffScale();
-					else if (unknownParameterAT.getParameterType() == ParameterType.REFRACTION_INDEX)
-						at = observationAT.diffRefCoeff();
-					else if (unknownParameterAT.getParameterType() == ParameterType.ROTATION_X)
-						at = observationAT.diffRotX();
-					else if (unknownParameterAT.getParameterType() == ParameterType.ROTATION_Y)
-						at = observationAT.diffRotY();
-					else if (unknownParameterAT.getParameterType() == ParameterType.ROTATION_Z)
-						at = observationAT.diffRotZ();
-
-					// Zeile aT*p bestimmen
-					double atp = at / (observationAT.getStdApriori() * observationAT.getStdApriori());
-					aTp.set(rowAT, atp);
-					// Absolutgliedvektor bestimmen
-					n.add(colAT, atp * observationAT.getCorrection());
-					// Hauptdiagonalelement aT*p*a
-					N.add(colAT, colAT, atp * at);
-				}
-
-				for (int uu=u; uu<this.unknownParameters.size(); uu++) {
-					UnknownParameter unknownParameterA = this.unknownParameters.get(uu);
-					ObservationGroup observationGroupA = unknownParameterA.getObservations();
-
-					int dimA = 1;
-					switch (unknownParameterA.getParameterType()) {
-					case POINT2D:
-						dimA = 2;
-						break;
-					case POINT3D:
-						dimA = 3;
-						break;
-					default:
-						dimA = 1;
-						break;
-					}
-					for (int ii=uu==u?i+1:0; ii<dimA; ii++) {
-						int colA = unknownParameterA.getColInJacobiMatrix() + ii;
-
-						for (int jj=0; jj<observationGroupA.size(); jj++) {
-							Observation observationA = observationGroupA.get(jj);
-							int rowA = observationA.getRowInJacobiMatrix();
-							// skip zero multiplications
-							if (aTp.get(rowA) == 0)
-								continue;
-							
-							double a = 0.0;
-							// Berechnte Normalgleichung N=AT*P*A
-							if (unknownParameterA.getParameterType() == ParameterType.POINT1D) {
-								Point p = (Point)unknownParameterA;
-								
-								if (p.equals(observationA.getStartPoint())) 
-									a = observationA.diffZs();
-								else if (p.equals(observationA.getEndPoint())) 
-									a = observationA.diffZe();
-							}
-							else if (unknownParameterA.getParameterType() == ParameterType.POINT2D) {
-								Point p = (Point)unknownParameterA;
-								if (p.equals(observationA.getStartPoint())) {
-									if (ii==0)
-										a = observationA.diffXs();
-									else if (ii==1)
-										a = observationA.diffYs();
-
-								}
-								else if (p.equals(observationA.getEndPoint())) {
-									if (ii==0)
-										a = observationA.diffXe();
-									else if (ii==1)
-										a = observationA.diffYe();
-								}
-							}
-							else if (unknownParameterA.getParameterType() == ParameterType.POINT3D) {
-								Point p = (Point)unknownParameterA;
-								if (p.equals(observationA.getStartPoint())) {
-									if (ii==0)
-										a = observationA.diffXs();
-									else if (ii==1)
-										a = observationA.diffYs();
-									else if (ii==2)
-										a = observationA.diffZs();
-								}
-								else if (p.equals(observationA.getEndPoint())) {
-									if (ii==0)
-										a = observationA.diffXe();
-									else if (ii==1)
-										a = observationA.diffYe();
-									else if (ii==2)
-										a = observationA.diffZe();
-								}
-							}
-
-							else if (unknownParameterA.getParameterType() == ParameterType.VERTICAL_DEFLECTION_X) {
-								VerticalDeflectionX deflection = (VerticalDeflectionX)unknownParameterA;
-								Point p = deflection.getPoint();
-								if (p.equals(observationA.getStartPoint()))
-									a = observationA.diffVerticalDeflectionXs();
-								else if (p.equals(observationA.getEndPoint()))
-									a = observationA.diffVerticalDeflectionXe();
-							}
-							else if (unknownParameterA.getParameterType() == ParameterType.VERTICAL_DEFLECTION_Y) {
-								VerticalDeflectionY deflection = (VerticalDeflectionY)unknownParameterA;
-								Point p = deflection.getPoint();
-								if (p.equals(observationA.getStartPoint()))
-									a = observationA.diffVerticalDeflectionYs();
-								else if (p.equals(observationA.getEndPoint()))
-									a = observationA.diffVerticalDeflectionYe();
-							}
-							else if (unknownParameterA.getParameterType() == ParameterType.ORIENTATION)
-								a = observationA.diffOri();
-							else if (unknownParameterA.getParameterType() == ParameterType.ZERO_POINT_OFFSET)
-								a = observationA.diffAdd();
-							else if (unknownParameterA.getParameterType() == ParameterType.SCALE)
-								a = observationA.diffScale();
-							else if (unknownParameterA.getParameterType() == ParameterType.REFRACTION_INDEX)
-								a = observationA.diffRefCoeff();
-							else if (unknownParameterA.getParameterType() == ParameterType.ROTATION_X)
-								a = observationA.diffRotX();
-							else if (unknownParameterA.getParameterType() == ParameterType.ROTATION_Y)
-								a = observationA.diffRotY();
-							else if (unknownParameterA.getParameterType() == ParameterType.ROTATION_Z)
-								a = observationA.diffRotZ();
-							// Berechnung von N = ATP*A 
-							N.add(colAT, colA, aTp.get(rowA)*a);
-						}
-					}
-				}
-			}
+		// Bestimmt die Zeilen der Jacobi-Matrix am aktuellen Linearisierungspunkt
+		this.updateJacobiRowCache();
+
+		// Berechnet die Zeilen von N = AT*P*A je Unbekannten; da jede Zeile nur von einem Parameter beschrieben wird,
+		// ist eine parallele Berechnung ohne Schreibkonflikte und mit identischer Summationsreihenfolge moeglich
+		this.parallelFor(this.unknownParameters.size(), u -> {
+			if (!this.interrupt)
+				this.addNormalEquationRows(u, N, n);
+		});
+
+		if (this.interrupt) {
+			if (tiledN != null)
+				tiledN.close();
+			return null;
 		}
 
 		// Fuege stochastische Lotabweichungen hinzu
@@ -1992,135 +2095,1433 @@ public class NetworkAdjustment implements Runnable {
 		if (this.estimationType == EstimationType.SIMULATION)
 			n.zero();
 		
-		return new NormalEquationSystem(N, n);
+		if (tiledN != null)
+			return new NormalEquationSystem(tiledN, n);
+		return new NormalEquationSystem((UpperSymmPackMatrix)N, n);
 	}	
 	
 	/**
-	 * Bricht Iteration an der naechst moeglichen Stelle ab
+	 * Prueft, ob die Normalgleichung duenn besetzt aufgestellt und geloest werden kann. Dies ist nur 
+	 * moeglich, wenn keine Datumsbedingungen (freie Netzausgleichung) angefuegt werden muessen, da 
+	 * die geraenderte Normalgleichung indefinit ist und eine Pivotisierung erfordert.
+	 * 
+	 * @return applicable
 	 */
-	public void interrupt() {
-		this.interrupt = true;
+	private boolean isSparseNormalEquationApplicable() {
+		return this.normalEquationSolverType == NormalEquationSolverType.SPARSE && 
+				!this.freeNetwork && this.rankDefect.getDefect() == 0 &&
+				this.estimationType != EstimationType.L1NORM && this.estimationType != EstimationType.SIMULATION;
 	}
 	
 	/**
-	 * Setz die Varianzkomponenten der einzelnen Gruppen auf <em>Null</em> zurueck
+	 * Prueft, ob die Redundanzanteile im abschliessenden Iterationsschritt der dichten bzw. duenn besetzten Loesung mittels 
+	 * stochastischer Spurschaetzung genaehert werden, anstatt die Normalgleichung zu invertieren. Die Zufallsvektoren 
+	 * werden mit dem Faktor der Cholesky- bzw. LDL-Zerlegung geloest, der ohnehin fuer den Zuschlagsvektor bestimmt wird. 
+	 * Wie bei der iterativen Loesung ist das Verfahren auf die L2-Norm-Schaetzung ohne Datumsbedingungen, ohne Export der 
+	 * Kovarianzmatrix und ohne Hauptkomponentenanalyse beschraenkt. Ist die ausgewaehlte Inversion der duenn besetzten 
+	 * Loesung moeglich, wird diese bevorzugt, da sie die Redundanzanteile exakt liefert.
+	 * 
+	 * @return applicable
 	 */
-	private void resetVarianceComponents() {
-		Map<VarianceComponentType, VarianceComponent> varianceComponents = new LinkedHashMap<VarianceComponentType, VarianceComponent>();
-		for (VarianceComponent varianceEstimation : this.varianceComponents.values())
-			varianceComponents.put(varianceEstimation.getVarianceComponentType(), new VarianceComponent(varianceEstimation.getVarianceComponentType()));
-		this.varianceComponents = varianceComponents;
+	private boolean isTraceEstimationApplicable() {
+		return this.traceEstimationAccuracy > 0 &&
+				(this.normalEquationSolverType == NormalEquationSolverType.DENSE || this.normalEquationSolverType == NormalEquationSolverType.SPARSE && !this.isSelectedInversionApplicable()) &&
+				!this.freeNetwork && this.rankDefect.getDefect() == 0 &&
+				this.estimationType == EstimationType.L2NORM &&
+				this.coVarExportPathAndFileName == null && 
+				this.numberOfPrincipalComponents <= 0;
 	}
 	
 	/**
-	 * Berechnet das Ausgleichungsmodell iterativ 
-	 * und gibt im Erfolgsfall true zurueck
+	 * Prueft, ob die Normalgleichung implizit aufgestellt und mittels vorkonditionierter konjugierter Gradienten 
+	 * geloest werden kann. Da hierbei keine Kofaktormatrix Qxx bestimmt wird, ist das Verfahren auf die 
+	 * L2-Norm-Schaetzung ohne Export der Kovarianzmatrix und ohne Hauptkomponentenanalyse beschraenkt. 
+	 * Datumsbedingungen werden, wie bei der duenn besetzten Loesung, nicht unterstuetzt.
 	 * 
-	 * @return estimateStatus
+	 * @return applicable
 	 */
-	public EstimationStateType estimateModel() {
-		boolean applyUnscentedTransformation = this.estimationType == EstimationType.SPHERICAL_SIMPLEX_UNSCENTED_TRANSFORMATION || this.estimationType == EstimationType.MODIFIED_UNSCENTED_TRANSFORMATION;
-		this.maxDx = Double.MIN_VALUE;
-		this.currentMaxAbsDx = this.maxDx;
-		this.numberOfHypotesis = 0;
-		this.calculateStochasticParameters = false;
-		this.currentEstimationStatus = EstimationStateType.BUSY;
-    	this.change.firePropertyChange(this.currentEstimationStatus.name(), false, true);
-
-		int runs = this.maximalNumberOfIterations-1;
-		boolean isEstimated = false, estimateCompleteModel = false, isConverge = true;
-				
-		if (this.maximalNumberOfIterations == 0) {
-			estimateCompleteModel = isEstimated = true;
+	private boolean isIterativeNormalEquationApplicable() {
+		return this.normalEquationSolverType == NormalEquationSolverType.ITERATIVE && 
+				!this.freeNetwork && this.rankDefect.getDefect() == 0 &&
+				this.estimationType == EstimationType.L2NORM &&
+				this.coVarExportPathAndFileName == null && 
+				this.numberOfPrincipalComponents <= 0;
+	}
+	
+	/**
+	 * Prueft, ob die Normalgleichung in Bloecke nach Helmert unterteilt aufgestellt und geloest werden kann. Wie 
+	 * bei der iterativen Loesung wird keine Kofaktormatrix Qxx bestimmt, sodass das Verfahren auf die L2-Norm-Schaetzung 
+	 * ohne Export der Kovarianzmatrix und ohne Hauptkomponentenanalyse beschraenkt ist. Da die Bloecke mittels 
+	 * Cholesky-Zerlegung reduziert werden, sind Datumsbedingungen nicht zulaessig.
+	 * 
+	 * @return applicable
+	 */
+	private boolean isHelmertBlockingApplicable() {
+		return this.normalEquationSolverType == NormalEquationSolverType.HELMERT_BLOCKING && 
+				!this.freeNetwork && this.rankDefect.getDefect() == 0 &&
+				this.estimationType == EstimationType.L2NORM &&
+				this.coVarExportPathAndFileName == null && 
+				this.numberOfPrincipalComponents <= 0;
+	}
+	
+	/**
+	 * Prueft, ob unabhaengige Teilnetze getrennt voneinander ausgeglichen werden sollen. Jedes Teilnetz erhaelt hierbei 
+	 * einen eigenen Varianzfaktor a-posteriori und einen eigenen Freiheitsgrad fuer die Hypothesentests, sodass das Verfahren 
+	 * nur auf Wunsch angewandt wird. Ausgeschlossen sind freie Netze, deren Datum je Teilnetz festzulegen waere, sowie der 
+	 * Export der Kovarianzmatrix und die Hauptkomponentenanalyse, die die gemeinsame Kovarianzmatrix aller Punkte benoetigen.
+	 * 
+	 * @return applicable
+	 */
+	private boolean isSubNetworkAdjustmentApplicable() {
+		return this.separateSubNetworks && 
+				!this.freeNetwork && (!this.referencePoints.isEmpty() || !this.stochasticPoints.isEmpty()) &&
+				this.coVarExportPathAndFileName == null && 
+				this.numberOfPrincipalComponents <= 0;
+	}
+	
+	/**
+	 * Bestimmt die Zusammenhangskomponenten des Graphen der Punkt-Beobachtungs-Verknuepfungen. Zwei Punkte sind 
+	 * verknuepft, wenn sie gemeinsam in einer Beobachtung auftreten, ueber einen Zusatzparameter (bspw. Orientierung 
+	 * oder Massstab) einer Beobachtungsgruppe verbunden sind oder derselben Gruppe der Deformationsanalyse angehoeren. 
+	 * Die Komponenten werden nach absteigender Anzahl an Punkten geliefert.
+	 * 
+	 * @return subNetworkPoints
+	 */
+	private List<List<Point>> getSubNetworkPoints() {
+		List<Point> points = new ArrayList<Point>(this.allPoints.values());
+		Map<Point, Integer> index = new LinkedHashMap<Point, Integer>(points.size());
+		for (int i=0; i<points.size(); i++)
+			index.put(points.get(i), i);
+		
+		int parent[] = new int[points.size()];
+		for (int i=0; i<parent.length; i++)
+			parent[i] = i;
+		
+		// Punkte einer Beobachtung
+		for (Point point : points) {
+			for (int i=0; i<point.getObservations().size(); i++) {
+				Observation observation = point.getObservations().get(i);
+				union(parent, index.get(observation.getStartPoint()), index.get(observation.getEndPoint()));
+			}
 		}
-		if (this.estimationType == EstimationType.SIMULATION) {
-			estimateCompleteModel = isEstimated = true;
+		
+		// Punkte, deren Beobachtungen gemeinsame Zusatzparameter besitzen
+		for (int i=0; i<this.unknownParameters.size(); i++) {
+			UnknownParameter unknownParameter = this.unknownParameters.get(i);
+			if (!(unknownParameter instanceof AdditionalUnknownParameter) || unknownParameter.getObservations().size() == 0)
+				continue;
+			Integer first = index.get(unknownParameter.getObservations().get(0).getStartPoint());
+			for (int j=1; j<unknownParameter.getObservations().size(); j++)
+				union(parent, first, index.get(unknownParameter.getObservations().get(j).getStartPoint()));
 		}
 		
-		// Fuege Lotabweichungen als Unbekannte zum Modell hinzu
-		this.addVerticalDeflectionToModel();
-		//Fuehre stochastische Anschlusspunkte und stochastische Lotparameter ins Modell ein
-		this.addStochasticPointsAndStochasticDeflectionToModel();
-
-		// ermittle Rank-Defekt anhand der Beobachtungen
-		this.freeNetwork = this.freeNetwork || (this.referencePoints == null || this.referencePoints.isEmpty()) && (this.stochasticPoints == null || this.stochasticPoints.isEmpty());
-
-		if (this.freeNetwork) {
-			if (this.datumPoints == null || this.datumPoints.isEmpty()) {
-				this.currentEstimationStatus = EstimationStateType.SINGULAR_MATRIX;
-				this.change.firePropertyChange(this.currentEstimationStatus.name(), false, true);
-				return this.currentEstimationStatus;
+		// Punkte einer Gruppe der Deformationsanalyse
+		for (CongruenceAnalysisGroup tieGroup : this.congruenceAnalysisGroup) {
+			Integer first = null;
+			for (boolean analysablePointPair : new boolean[] {true, false}) {
+				for (int i=0; i<tieGroup.size(analysablePointPair); i++) {
+					CongruenceAnalysisPointPair pointPair = tieGroup.get(i, analysablePointPair);
+					Integer start = index.get(pointPair.getStartPoint());
+					first = first == null ? start : first;
+					union(parent, first, start);
+					union(parent, first, index.get(pointPair.getEndPoint()));
+				}
 			}
-			this.detectRankDefect();
 		}
+		
+		Map<Integer, List<Point>> subNetworkPoints = new LinkedHashMap<Integer, List<Point>>();
+		for (int i=0; i<points.size(); i++) {
+			int root = i;
+			while (parent[root] != root)
+				root = parent[root];
+			subNetworkPoints.computeIfAbsent(root, r -> new ArrayList<Point>()).add(points.get(i));
+		}
+		
+		List<List<Point>> sortedSubNetworkPoints = new ArrayList<List<Point>>(subNetworkPoints.values());
+		sortedSubNetworkPoints.sort((points1, points2) -> Integer.compare(points2.size(), points1.size()));
+		return sortedSubNetworkPoints;
+	}
 	
-		// Fuehre die Strain-Parameter als mgl. Zusatzparameter mit ins Modell ein
-		if (this.freeNetwork && this.congruenceAnalysis)
-			this.addStrainParametersToModel();
-
-		// Setze VC auf 1 fuer alle Typen
-		this.resetVarianceComponents();
+	/**
+	 * Vereinigt die Mengen der Knoten i und j (Union-Find); nicht im Modell enthaltene Punkte (<code>null</code>) werden ignoriert
+	 * @param parent
+	 * @param i
+	 * @param j
+	 */
+	private static void union(int parent[], Integer i, Integer j) {
+		if (i == null || j == null)
+			return;
+		int rootI = i, rootJ = j;
+		while (parent[rootI] != rootI)
+			rootI = parent[rootI] = parent[parent[rootI]];
+		while (parent[rootJ] != rootJ)
+			rootJ = parent[rootJ] = parent[parent[rootJ]];
+		if (rootI != rootJ)
+			parent[Math.max(rootI, rootJ)] = Math.min(rootI, rootJ);
+	}
+	
+	/**
+	 * Erzeugt fuer die Punkte eines Teilnetzes eine eigenstaendige Ausgleichung mit den Einstellungen dieser Ausgleichung. 
+	 * Die Zeilen der Beobachtungen werden hierzu zurueckgesetzt und durch das Teilnetz neu vergeben.
+	 * 
+	 * @param points Punkte des Teilnetzes
+	 * @param numberOfThreads Anzahl der Threads je Teilnetz
+	 * @return subNetwork
+	 */
+	private NetworkAdjustment createSubNetwork(List<Point> points, int numberOfThreads) {
+		NetworkAdjustment subNetwork = new NetworkAdjustment();
+		subNetwork.setEstimationType(this.estimationType);
+		subNetwork.setMaximalNumberOfIterations(this.maximalNumberOfIterations);
+		subNetwork.setRobustEstimationLimit(this.robustEstimationLimit);
+		subNetwork.setCongruenceAnalysis(this.congruenceAnalysis);
+		subNetwork.setApplyAposterioriVarianceOfUnitWeight(this.applyAposterioriVarianceOfUnitWeight);
+		subNetwork.setUnscentedTransformationScaling(this.alphaUT);
+		subNetwork.setUnscentedTransformationDamping(this.betaUT);
+		subNetwork.setUnscentedTransformationWeightZero(this.weightZero);
+		subNetwork.setTestStatisticDefinition(this.testStatisticDefinition);
+		subNetwork.setSphericalDeflectionModel(this.sphericalDeflectionModel);
+		subNetwork.setNormalEquationSolverType(this.normalEquationSolverType);
+		subNetwork.setNumberOfHelmertBlocks(this.numberOfHelmertBlocks);
+		subNetwork.setScratchDirectory(this.scratchDirectory);
+		subNetwork.setEliminateAdditionalParameters(this.eliminateAdditionalParameters);
+		subNetwork.setRobustEstimationDowndate(this.robustEstimationDowndate);
+		subNetwork.setTraceEstimationAccuracy(this.traceEstimationAccuracy);
+		subNetwork.setNumberOfThreads(numberOfThreads);
 		
-		// Sortiere die unbekannten Parameter so, dass die Zusatzparameter am Ende stehen
-		this.unknownParameters.resortParameters();
-
-		try {
-			double lastStepSignum = 0.0;
-			int numObs = this.numberOfObservations + this.numberOfStochasticPointRows + this.numberOfStochasticDeflectionRows;
-			int numberOfEstimationSteps = this.estimationType == EstimationType.MODIFIED_UNSCENTED_TRANSFORMATION ? 2 * numObs + 1 : 
-				this.estimationType == EstimationType.SPHERICAL_SIMPLEX_UNSCENTED_TRANSFORMATION ? numObs + 2 : 1;
-
-			double alpha2  = this.alphaUT * this.alphaUT;
-			double weight0 = this.weightZero;
-			double weighti = (1.0 - weight0) / (double)(numberOfEstimationSteps - 1.0);
+		Set<Point> subNetworkPoints = new HashSet<Point>(points);
+		for (Point point : points) {
+			for (int i=0; i<point.getObservations().size(); i++)
+				point.getObservations().get(i).setRowInJacobiMatrix(-1);
+		}
+		
+		// Reihenfolge wie beim Aufbau des Gesamtnetzes: Neupunkte, Deformationsanalyse, Anschlusspunkte, Zusatzparameter
+		for (Point point : points) {
+			if (!this.referencePoints.contains(point) && !this.stochasticPoints.contains(point))
+				subNetwork.addNewPoint(point, this.getVerticalDeflectionType(point));
+		}
+		
+		for (CongruenceAnalysisGroup tieGroup : this.congruenceAnalysisGroup) {
+			CongruenceAnalysisPointPair pointPair = tieGroup.size(true) > 0 ? tieGroup.get(0, true) : tieGroup.get(0, false);
+			if (subNetworkPoints.contains(pointPair.getStartPoint()))
+				subNetwork.addCongruenceAnalysisGroup(tieGroup);
+		}
+		
+		for (Point point : this.referencePoints) {
+			if (subNetworkPoints.contains(point))
+				subNetwork.addReferencePoint(point, this.getVerticalDeflectionType(point));
+		}
+		
+		for (Point point : this.stochasticPoints) {
+			if (subNetworkPoints.contains(point))
+				subNetwork.addStochasticPoint(point, this.getVerticalDeflectionType(point));
+		}
+		
+		for (int i=0; i<this.unknownParameters.size(); i++) {
+			UnknownParameter unknownParameter = this.unknownParameters.get(i);
+			if (unknownParameter instanceof AdditionalUnknownParameter && unknownParameter.getObservations().size() > 0 && 
+					subNetworkPoints.contains(unknownParameter.getObservations().get(0).getStartPoint()))
+				subNetwork.addAdditionalUnknownParameter((AdditionalUnknownParameter)unknownParameter);
+		}
+		
+		return subNetwork;
+	}
 	
-			Vector SigmaUT = null, xUT = null, vUT = null;
-			Matrix solutionVectors = null;
-
-			if (applyUnscentedTransformation) {
-				xUT = new DenseVector(this.numberOfUnknownParameters);
-				vUT = new DenseVector(numObs);
-				solutionVectors = new DenseMatrix(this.numberOfUnknownParameters, numberOfEstimationSteps);
-				
-				if (this.estimationType == EstimationType.MODIFIED_UNSCENTED_TRANSFORMATION) {
-					SigmaUT = new DenseVector(1);
-					SigmaUT.set(0, Math.sqrt( 0.5 / weighti ));
+	/**
+	 * Liefert die Art der Lotabweichung des Punktes oder <code>null</code>, wenn keine Lotabweichung beruecksichtigt wird
+	 * @param point
+	 * @return verticalDeflectionType
+	 */
+	private VerticalDeflectionType getVerticalDeflectionType(Point point) {
+		if (this.pointsWithReferenceDeflection.contains(point))
+			return VerticalDeflectionType.REFERENCE_VERTICAL_DEFLECTION;
+		else if (this.pointsWithStochasticDeflection.contains(point))
+			return VerticalDeflectionType.STOCHASTIC_VERTICAL_DEFLECTION;
+		else if (this.pointsWithUnknownDeflection.contains(point))
+			return VerticalDeflectionType.UNKNOWN_VERTICAL_DEFLECTION;
+		return null;
+	}
+	
+	/**
+	 * Gleicht die unabhaengigen Teilnetze parallel im Thread-Pool der Ausgleichung aus. Die Ergebnisse der Punkte und 
+	 * Beobachtungen werden von den Teilnetzen direkt abgelegt; die netzbezogenen Groessen (Verbesserungsquadratsumme, 
+	 * Freiheitsgrad, Varianzkomponenten, Spur von Cxx) werden aufsummiert und die Teststatistik fuer den gemeinsamen 
+	 * Freiheitsgrad neu bestimmt. Ist eines der Teilnetze nicht fehlerfrei ausgleichbar, wird dessen Status geliefert.
+	 * 
+	 * @param subNetworkPoints Punkte je Teilnetz
+	 * @return state
+	 */
+	private EstimationStateType estimateSubNetworks(List<List<Point>> subNetworkPoints) {
+		final int numberOfSubNetworks = subNetworkPoints.size();
+		final int numberOfThreadsPerSubNetwork = Math.max(1, this.numberOfThreads / Math.min(this.numberOfThreads, numberOfSubNetworks));
+		final PropertyChangeListener listener = evt -> this.change.firePropertyChange(evt);
+		
+		this.currentEstimationStatus = EstimationStateType.BUSY;
+		this.change.firePropertyChange(this.currentEstimationStatus.name(), false, true);
+		
+		// Die Teilnetze vergeben Spalten und Zeilen lokal; die Nummerierung des Gesamtnetzes wird daher gesichert und 
+		// nach der Ausgleichung wiederhergestellt, sodass bspw. die gespeicherten Indizes der Kovarianzmatrix eindeutig bleiben
+		Map<UnknownParameter, int[]> parameterIndices = this.getParameterIndices();
+		int observationRows[] = new int[this.projectObservations.size()];
+		for (int i=0; i<observationRows.length; i++)
+			observationRows[i] = this.projectObservations.get(i).getRowInJacobiMatrix();
+		
+		List<NetworkAdjustment> subNetworks = new ArrayList<NetworkAdjustment>(numberOfSubNetworks);
+		for (List<Point> points : subNetworkPoints) {
+			NetworkAdjustment subNetwork = this.createSubNetwork(points, numberOfThreadsPerSubNetwork);
+			subNetwork.addPropertyChangeListener(listener);
+			subNetworks.add(subNetwork);
+		}
+		this.subNetworks = subNetworks;
+		
+		EstimationStateType states[] = new EstimationStateType[numberOfSubNetworks];
+		try {
+			this.parallelFor(numberOfSubNetworks, i -> {
+				try {
+					states[i] = subNetworks.get(i).estimateModel();
 				}
-				else if (this.estimationType == EstimationType.SPHERICAL_SIMPLEX_UNSCENTED_TRANSFORMATION) {
-					SigmaUT = new DenseVector(numObs);
-					if (weight0 < 0 || weight0 >= 1)
-						throw new IllegalArgumentException("Error, zero-weight is out of range. If SUT is applied, valid values are 0 <= w0 < 1! " + weight0);
+				catch (OutOfMemoryError e) {
+					e.printStackTrace();
+					states[i] = EstimationStateType.OUT_OF_MEMORY;
 				}
-
-				weight0 = weight0 / alpha2 + (1.0 - 1.0 / alpha2);
-				weighti = weighti / alpha2;
+			});
+		}
+		finally {
+			for (NetworkAdjustment subNetwork : subNetworks) {
+				subNetwork.removePropertyChangeListener(listener);
+				subNetwork.clearMatrices();
 			}
+			this.subNetworks = new ArrayList<NetworkAdjustment>(0);
 			
-			for (int estimationStep = 0; estimationStep < numberOfEstimationSteps; estimationStep++) {
-				// Reset aller Iterationseinstellungen
-				this.maxDx = Double.MIN_VALUE;
-				this.currentMaxAbsDx = this.maxDx;
-				runs = this.maximalNumberOfIterations - 1;
-				isEstimated = false;
-				estimateCompleteModel = false;
-				isConverge = true;
-				
-				if (applyUnscentedTransformation) {
-					this.currentEstimationStatus = EstimationStateType.UNSCENTED_TRANSFORMATION_STEP;
-					this.change.firePropertyChange(this.currentEstimationStatus.name(), numberOfEstimationSteps, estimationStep+1);
-					
-					// Reset der unbekannten Datumsparameter
-					if (numberOfEstimationSteps > 1 && estimationStep != (numberOfEstimationSteps - 1))
-						this.resetDatumPoints();
-					
-					if (this.estimationType == EstimationType.MODIFIED_UNSCENTED_TRANSFORMATION) {
-						double signum = estimationStep == (numberOfEstimationSteps - 1) ? 0.0 : estimationStep < numObs ? +1.0 : -1.0;
-						int currentObsIdx = estimationStep % numObs;
-
-						// Entferne letzte UT-Modifizierung
-						if (estimationStep > 0) {
-							int lastObsIdx = currentObsIdx - 1;
-							lastObsIdx = lastObsIdx < 0 ? numObs - 1 : lastObsIdx;
+			this.setParameterIndices(parameterIndices);
+			for (int i=0; i<observationRows.length; i++)
+				this.projectObservations.get(i).setRowInJacobiMatrix(observationRows[i]);
+		}
+		
+		// Zusammenfuehren der netzbezogenen Groessen
+		Map<VarianceComponentType, VarianceComponent> varianceComponents = new LinkedHashMap<VarianceComponentType, VarianceComponent>();
+		this.omega = 0.0;
+		this.degreeOfFreedom = 0.0;
+		this.traceCxxPoints = 0.0;
+		this.numberOfHypotesis = 0;
+		this.numberOfNonZerosInFactor = 0;
+		this.numberOfConjugateGradientIterations = 0;
+		this.numberOfTraceEstimationProbes = 0;
+		this.numberOfJunctionParameters = 0;
+		this.maxDx = Double.MIN_VALUE;
+		this.calculateStochasticParameters = false;
+		this.currentEstimationStatus = EstimationStateType.ERROR_FREE_ESTIMATION;
+		
+		for (int i=0; i<numberOfSubNetworks; i++) {
+			NetworkAdjustment subNetwork = subNetworks.get(i);
+			if (states[i] == null)
+				states[i] = EstimationStateType.INTERRUPT;
+			if (this.currentEstimationStatus == EstimationStateType.ERROR_FREE_ESTIMATION && states[i] != EstimationStateType.ERROR_FREE_ESTIMATION)
+				this.currentEstimationStatus = states[i];
+			
+			this.omega           += subNetwork.omega;
+			this.degreeOfFreedom += subNetwork.degreeOfFreedom;
+			this.traceCxxPoints  += subNetwork.traceCxxPoints;
+			this.numberOfHypotesis        += subNetwork.numberOfHypotesis;
+			this.numberOfNonZerosInFactor += subNetwork.numberOfNonZerosInFactor;
+			this.numberOfJunctionParameters += subNetwork.numberOfJunctionParameters;
+			this.numberOfConjugateGradientIterations = Math.max(this.numberOfConjugateGradientIterations, subNetwork.numberOfConjugateGradientIterations);
+			this.numberOfTraceEstimationProbes = Math.max(this.numberOfTraceEstimationProbes, subNetwork.numberOfTraceEstimationProbes);
+			this.maxDx = Math.max(this.maxDx, subNetwork.maxDx);
+			this.calculateStochasticParameters = this.calculateStochasticParameters || subNetwork.calculateStochasticParameters;
+			
+			for (VarianceComponent subNetworkVarianceComponent : subNetwork.varianceComponents.values()) {
+				VarianceComponentType vcType = subNetworkVarianceComponent.getVarianceComponentType();
+				VarianceComponent varianceComponent = varianceComponents.computeIfAbsent(vcType, type -> new VarianceComponent(type));
+				varianceComponent.setOmega(varianceComponent.getOmega() + subNetworkVarianceComponent.getOmega());
+				varianceComponent.setRedundancy(varianceComponent.getRedundancy() + subNetworkVarianceComponent.getRedundancy());
+				varianceComponent.setNumberOfObservations(varianceComponent.getNumberOfObservations() + subNetworkVarianceComponent.getNumberOfObservations());
+				varianceComponent.setNumberOfEffectiveObservations(varianceComponent.getNumberOfEffectiveObservations() + subNetworkVarianceComponent.getNumberOfEffectiveObservations());
+				varianceComponent.setNumberOfNegativeResiduals(varianceComponent.getNumberOfNegativeResiduals() + subNetworkVarianceComponent.getNumberOfNegativeResiduals());
+			}
+		}
+		this.varianceComponents = varianceComponents;
+		this.currentMaxAbsDx = this.maxDx;
+		
+		// Teststatistik fuer den gemeinsamen Freiheitsgrad
+		this.significanceTestStatisticParameters = null;
+		this.binomialTestStatisticParameters = null;
+		this.significanceTestStatisticParameters = this.getSignificanceTestStatisticParameters();
+		
+		if (this.interrupt) {
+			this.currentEstimationStatus = EstimationStateType.INTERRUPT;
+			this.interrupt = false;
+		}
+		
+		if (this.currentEstimationStatus == EstimationStateType.ERROR_FREE_ESTIMATION || this.currentEstimationStatus == EstimationStateType.NO_CONVERGENCE)
+			this.change.firePropertyChange(this.currentEstimationStatus.name(), SQRT_EPS, this.maxDx);
+		else
+			this.change.firePropertyChange(this.currentEstimationStatus.name(), false, true);
+		
+		return this.currentEstimationStatus;
+	}
+	
+	/**
+	 * Liefert je Parameter (Punkte, Lotabweichungen und Zusatzparameter) die Spalte sowie ggf. die Zeile in der Jacobi-Matrix
+	 * @return parameterIndices
+	 */
+	private Map<UnknownParameter, int[]> getParameterIndices() {
+		Map<UnknownParameter, int[]> parameterIndices = new LinkedHashMap<UnknownParameter, int[]>();
+		for (Point point : this.allPoints.values()) {
+			parameterIndices.put(point, new int[] {point.getColInJacobiMatrix(), point.getRowInJacobiMatrix()});
+			if (point.getDimension() != 2) {
+				for (VerticalDeflection deflection : new VerticalDeflection[] {point.getVerticalDeflectionX(), point.getVerticalDeflectionY()})
+					parameterIndices.put(deflection, new int[] {deflection.getColInJacobiMatrix(), deflection.getRowInJacobiMatrix()});
+			}
+		}
+		for (int i=0; i<this.unknownParameters.size(); i++) {
+			UnknownParameter unknownParameter = this.unknownParameters.get(i);
+			parameterIndices.putIfAbsent(unknownParameter, new int[] {unknownParameter.getColInJacobiMatrix(), -1});
+		}
+		return parameterIndices;
+	}
+	
+	/**
+	 * Stellt die mittels getParameterIndices() gesicherten Spalten und Zeilen der Parameter wieder her
+	 * @param parameterIndices
+	 */
+	private void setParameterIndices(Map<UnknownParameter, int[]> parameterIndices) {
+		for (Map.Entry<UnknownParameter, int[]> entry : parameterIndices.entrySet()) {
+			UnknownParameter unknownParameter = entry.getKey();
+			int indices[] = entry.getValue();
+			unknownParameter.setColInJacobiMatrix(indices[0]);
+			if (unknownParameter instanceof Point)
+				((Point)unknownParameter).setRowInJacobiMatrix(indices[1]);
+			else if (unknownParameter instanceof VerticalDeflection)
+				((VerticalDeflection)unknownParameter).setRowInJacobiMatrix(indices[1]);
+		}
+	}
+	
+	/**
+	 * Prueft, ob die Normalgleichung kachelweise in eine Auslagerungsdatei geschrieben werden soll. Dies ist der Fall, 
+	 * wenn das Verfahren explizit gewaehlt wurde oder die gepackte Normalgleichung nicht in den verfuegbaren Speicher passt. 
+	 * Die kachelweise Cholesky-Zerlegung setzt eine positiv definite Normalgleichung voraus, sodass Datumsbedingungen 
+	 * nicht unterstuetzt werden. Fuer die Unscented Transformation wird Qxx im Speicher benoetigt. Die L1-Norm invertiert 
+	 * N in jeder Iteration, sodass je Iteration eine neue Auslagerungsdatei angelegt werden muesste.
+	 * 
+	 * @param size Dimension der Normalgleichung
+	 * @return applicable
+	 */
+	private boolean isOutOfCoreNormalEquationApplicable(int size) {
+		if (this.freeNetwork || this.rankDefect.getDefect() > 0 || this.estimationType == EstimationType.L1NORM ||
+				this.estimationType == EstimationType.MODIFIED_UNSCENTED_TRANSFORMATION || this.estimationType == EstimationType.SPHERICAL_SIMPLEX_UNSCENTED_TRANSFORMATION)
+			return false;
+		
+		if (this.normalEquationSolverType == NormalEquationSolverType.OUT_OF_CORE)
+			return true;
+		
+		if (this.normalEquationSolverType != NormalEquationSolverType.DENSE)
+			return false;
+		
+		Runtime runtime = Runtime.getRuntime();
+		long availableMemory = runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+		return (long)Double.BYTES * size * (size + 1L) / 2L > availableMemory;
+	}
+	
+	/**
+	 * Erzeugt eine kachelweise ausgelagerte Normalgleichung im Auslagerungsverzeichnis; der Fortschritt der 
+	 * Zerlegung wird an die registrierten Listener weitergereicht. Kann die Datei nicht angelegt werden, wird 
+	 * null zurueckgegeben.
+	 * 
+	 * @param size
+	 * @return N
+	 */
+	private TiledSymmMatrix createTiledMatrix(int size) {
+		try {
+			Path scratchDirectory = this.scratchDirectory != null ? this.scratchDirectory : Paths.get(System.getProperty("java.io.tmpdir"));
+			TiledSymmMatrix N = new TiledSymmMatrix(size, scratchDirectory);
+			N.setForkJoinPool(this.getForkJoinPool());
+			N.addPropertyChangeListener(evt -> this.change.firePropertyChange(evt.getPropertyName(), evt.getOldValue(), evt.getNewValue()));
+			return N;
+		}
+		catch (IOException e) {
+			e.printStackTrace();
+			return null;
+		}
+	}
+	
+	/**
+	 * Prueft, ob in der letzten Iteration anstelle der vollstaendigen Inversen nur die Teilinverse 
+	 * (Takahashi) bestimmt werden kann. Fuer den Export der Kovarianzmatrix sowie die Unscented Transformation 
+	 * wird die vollstaendige Inverse benoetigt. Die Hauptkomponentenanalyse nutzt lediglich Produkte mit Qxx, die 
+	 * durch Vorwaerts- und Rueckwaertseinsetzen mit der Zerlegung gebildet werden (vgl. CofactorBlockOperator). Lotabweichungen 
+	 * werden bei der Bestimmung von EP bzw. EF weder den Punkten noch den Zusatzparametern zugeordnet, 
+	 * sodass auch hier die vollstaendige Inverse zu nutzen ist.
+	 * 
+	 * @return applicable
+	 */
+	private boolean isSelectedInversionApplicable() {
+		return this.isSparseNormalEquationApplicable() &&
+				this.estimationType == EstimationType.L2NORM &&
+				this.coVarExportPathAndFileName == null && 
+				(this.pointsWithUnknownDeflection == null || this.pointsWithUnknownDeflection.isEmpty()) && 
+				(this.pointsWithStochasticDeflection == null || this.pointsWithStochasticDeflection.isEmpty());
+	}
+	
+	/**
+	 * Prueft, ob die Zusatzparameter der Beobachtungsgruppen (Orientierungen, Massstaebe, Additionskonstanten, 
+	 * Refraktionskoeffizienten usw.) vor der Zerlegung der gepackten Normalgleichung eliminiert werden sollen. 
+	 * Die Reduktion liefert nur den Zuschlagsvektor und wird daher nur in Iterationen angewandt, in denen 
+	 * keine Kofaktormatrix Qxx bestimmt wird. Lohnend ist die Reduktion nur fuer die voll besetzte Zerlegung, 
+	 * da diese unabhaengig von der Besetzung stets alle Elemente bearbeitet. Die gepackte Zerlegung ueberspringt 
+	 * Null-Elemente, sodass die am Ende angeordneten Zusatzparameter (vgl. UnknownParameters#resortParameters()) 
+	 * dort kaum Aufwand verursachen; mit F2J benoetigte die Loesung eines Netzes mit 1871 Unbekannten (625 Orientierungen) 
+	 * gepackt ca. 65 ms, mit vorheriger Elimination ca. 120 ms. Die Bedingung ist daher an die voll besetzte Zerlegung 
+	 * und nicht unmittelbar an die BLAS/LAPACK-Implementierung gebunden.
+	 * 
+	 * @param size Dimension der Normalgleichung
+	 * @return applicable
+	 */
+	private boolean isAdditionalParameterEliminationApplicable(int size) {
+		return this.eliminateAdditionalParameters && 
+				this.unknownParameters.columnsOfAddionalParameters() > 0 &&
+				this.jacobiRowCache != null && this.jacobiRowCache.numRows() == this.numberOfObservations &&
+				MathExtension.isFullStorageApplicable(size);
+	}
+	
+	/**
+	 * Liefert die Spalten der Zusatzparameter, die in der Normalgleichung gemeinsam einen Block bilden. Zwei 
+	 * Zusatzparameter gehoeren zum selben Block, wenn sie in einer gemeinsamen Zeile der Jacobi-Matrix auftreten; 
+	 * i.d.R. entspricht ein Block somit den Zusatzparametern einer Beobachtungsgruppe. Die Zusatzparameter 
+	 * verschiedener Bloecke sind nicht verknuepft, sodass N<sub>zz</sub> blockdiagonal ist.
+	 * 
+	 * @return blocks
+	 */
+	private int[][] getAdditionalParameterBlocks() {
+		int parent[] = new int[this.numberOfUnknownParameters];
+		Arrays.fill(parent, -1);
+		for (int i=0; i<this.unknownParameters.size(); i++) {
+			UnknownParameter unknownParameter = this.unknownParameters.get(i);
+			int col = unknownParameter.getColInJacobiMatrix();
+			if (unknownParameter instanceof AdditionalUnknownParameter && col >= 0)
+				parent[col] = col;
+		}
+		
+		// Zusammenfassen der Zusatzparameter, die gemeinsam in einer Beobachtung auftreten (Union-Find)
+		int columns[] = this.jacobiRowCache.getColumns();
+		for (int row=0; row<this.numberOfObservations; row++) {
+			int offset = this.jacobiRowCache.offset(row);
+			int nnz = this.jacobiRowCache.getNonZeros(row);
+			int root = -1;
+			for (int k=offset; k<offset + nnz; k++) {
+				int col = columns[k];
+				if (parent[col] < 0)
+					continue;
+				while (parent[col] != col)
+					col = parent[col] = parent[parent[col]];
+				if (root < 0)
+					root = col;
+				else if (col != root) {
+					parent[Math.max(col, root)] = Math.min(col, root);
+					root = Math.min(col, root);
+				}
+			}
+		}
+		
+		Map<Integer, List<Integer>> blocks = new LinkedHashMap<Integer, List<Integer>>();
+		for (int col=0; col<parent.length; col++) {
+			if (parent[col] < 0)
+				continue;
+			int root = col;
+			while (parent[root] != root)
+				root = parent[root];
+			blocks.computeIfAbsent(root, r -> new ArrayList<Integer>(4)).add(col);
+		}
+		
+		int additionalParameterBlocks[][] = new int[blocks.size()][];
+		int idx = 0;
+		for (List<Integer> block : blocks.values())
+			additionalParameterBlocks[idx++] = block.stream().mapToInt(Integer::intValue).toArray();
+		return additionalParameterBlocks;
+	}
+	
+	/**
+	 * Loest die gepackte Normalgleichung Nx = n, wobei die Zusatzparameter z zuvor blockweise mittels 
+	 * Schur-Komplement eliminiert werden, d.h. es wird das reduzierte System 
+	 * 
+	 * (N<sub>xx</sub> - N<sub>xz</sub>N<sub>zz</sub><sup>-1</sup>N<sub>zx</sub>) x = n<sub>x</sub> - N<sub>xz</sub>N<sub>zz</sub><sup>-1</sup>n<sub>z</sub>
+	 * 
+	 * geloest und z anschliessend durch Rueckwaertseinsetzen z = N<sub>zz</sub><sup>-1</sup>(n<sub>z</sub> - N<sub>zx</sub>x) bestimmt. 
+	 * Da N<sub>zz</sub> blockdiagonal ist, sind nur die kleinen Bloecke je Beobachtungsgruppe zu invertieren. Etwaige 
+	 * Datumsbedingungen bleiben Teil des reduzierten Systems. n wird durch die Loesung ueberschrieben.
+	 * 
+	 * @param N Normalgleichungsmatrix
+	 * @param n Absolutgliedvektor
+	 * @param blocks Spalten der Zusatzparameter je Block
+	 * @throws MatrixSingularException
+	 * @throws IllegalArgumentException
+	 */
+	private void solveEliminatingAdditionalParameters(UpperSymmPackMatrix N, DenseVector n, int blocks[][]) throws MatrixSingularException, IllegalArgumentException {
+		int size = N.numRows();
+		int reducedColumn[] = new int[size];
+		for (int block[] : blocks)
+			for (int col : block)
+				reducedColumn[col] = -1;
+		
+		int reducedSize = 0;
+		int fullColumn[] = new int[size];
+		for (int col=0; col<size; col++) {
+			if (reducedColumn[col] >= 0) {
+				fullColumn[reducedSize] = col;
+				reducedColumn[col] = reducedSize++;
+			}
+		}
+
+		// Reduziertes System Nxx, nx
+		double data[] = N.getData();
+		UpperSymmPackMatrix reducedN = new UpperSymmPackMatrix(reducedSize);
+		DenseVector reducedn = new DenseVector(reducedSize);
+		double reducedData[] = reducedN.getData();
+		this.parallelFor(reducedSize, r -> {
+			int col = fullColumn[r];
+			int offset = (int)(col * (col + 1L) / 2L);
+			int reducedOffset = (int)(r * (r + 1L) / 2L);
+			for (int i=0; i<=r; i++)
+				reducedData[i + reducedOffset] = data[fullColumn[i] + offset];
+		});
+		for (int r=0; r<reducedSize; r++)
+			reducedn.set(r, n.get(fullColumn[r]));
+		
+		// Zusatzparameter je Spalte, um die verknuepften Beobachtungen eines Blocks zu bestimmen
+		UnknownParameter additionalParameters[] = new UnknownParameter[size];
+		for (int i=0; i<this.unknownParameters.size(); i++) {
+			UnknownParameter unknownParameter = this.unknownParameters.get(i);
+			int col = unknownParameter.getColInJacobiMatrix();
+			if (unknownParameter instanceof AdditionalUnknownParameter && col >= 0)
+				additionalParameters[col] = unknownParameter;
+		}
+		
+		double Nzx[][][] = new double[blocks.length][][];
+		int coupledRows[][] = new int[blocks.length][];
+		UpperSymmPackMatrix Qzz[] = new UpperSymmPackMatrix[blocks.length];
+		int columns[] = this.jacobiRowCache.getColumns();
+		int rows[] = new int[reducedSize];
+		int visited[] = new int[reducedSize];
+		Arrays.fill(visited, -1);
+		
+		for (int b=0; b<blocks.length; b++) {
+			int block[] = blocks[b];
+			int k = block.length;
+			
+			// Inverse des Blocks Nzz
+			UpperSymmPackMatrix Q = new UpperSymmPackMatrix(k);
+			for (int j=0; j<k; j++)
+				for (int i=0; i<=j; i++)
+					Q.set(i, j, N.get(block[i], block[j]));
+			MathExtension.inv(Q);
+			
+			// Zeilen des reduzierten Systems, die mit dem Block verknuepft sind (aufsteigend); da N<sub>xz</sub> nur 
+			// durch die Beobachtungen der Zusatzparameter besetzt wird, folgen diese aus deren Zeilen der Jacobi-Matrix
+			int m = 0;
+			for (int j=0; j<k; j++) {
+				ObservationGroup observations = additionalParameters[block[j]].getObservations();
+				for (int o=0; o<observations.size(); o++) {
+					int row = observations.get(o).getRowInJacobiMatrix();
+					if (row < 0)
+						continue;
+					int offset = this.jacobiRowCache.offset(row);
+					int nnz = this.jacobiRowCache.getNonZeros(row);
+					for (int idx=offset; idx<offset + nnz; idx++) {
+						int r = reducedColumn[columns[idx]];
+						if (r >= 0 && visited[r] != b) {
+							visited[r] = b;
+							rows[m++] = r;
+						}
+					}
+				}
+			}
+			Arrays.sort(rows, 0, m);
+			int blockRows[] = Arrays.copyOf(rows, m);
+			
+			// Nzx und W = inv(Nzz)*Nzx
+			double A[][] = new double[k][m];
+			for (int j=0; j<k; j++)
+				for (int c=0; c<m; c++)
+					A[j][c] = N.get(block[j], fullColumn[blockRows[c]]);
+			
+			double W[][] = new double[k][m];
+			for (int i=0; i<k; i++)
+				for (int j=0; j<k; j++) {
+					double qij = Q.get(i, j);
+					for (int c=0; c<m; c++)
+						W[i][c] += qij * A[j][c];
+				}
+			
+			// Nxx - Nxz*W (obere Dreiecksmatrix)
+			final int numberOfRows = m;
+			this.parallelFor(numberOfRows, c2 -> {
+				int r2 = blockRows[c2];
+				int offset = (int)(r2 * (r2 + 1L) / 2L);
+				for (int c1=0; c1<=c2; c1++) {
+					double s = 0;
+					for (int j=0; j<k; j++)
+						s += A[j][c1] * W[j][c2];
+					reducedData[blockRows[c1] + offset] -= s;
+				}
+			});
+			
+			// nx - W'*nz
+			for (int c=0; c<m; c++) {
+				double s = 0;
+				for (int j=0; j<k; j++)
+					s += W[j][c] * n.get(block[j]);
+				reducedn.add(blockRows[c], -s);
+			}
+			
+			Nzx[b] = A;
+			coupledRows[b] = blockRows;
+			Qzz[b] = Q;
+		}
+		
+		// Loese das reduzierte System
+		MathExtension.solve(reducedN, reducedn, false);
+		reducedN = null;
+
+		// Rueckwaertseinsetzen z = inv(Nzz)*(nz - Nzx*x)
+		for (int b=0; b<blocks.length; b++) {
+			int block[] = blocks[b];
+			int k = block.length;
+			double t[] = new double[k];
+			for (int j=0; j<k; j++) {
+				t[j] = n.get(block[j]);
+				for (int c=0; c<coupledRows[b].length; c++)
+					t[j] -= Nzx[b][j][c] * reducedn.get(coupledRows[b][c]);
+			}
+			for (int i=0; i<k; i++) {
+				double z = 0;
+				for (int j=0; j<k; j++)
+					z += Qzz[b].get(i, j) * t[j];
+				n.set(block[i], z);
+			}
+		}
+		
+		for (int r=0; r<reducedSize; r++)
+			n.set(fullColumn[r], reducedn.get(r));
+	}
+	
+	/**
+	 * Bestimmt die Zeile der Jacobi-Matrix fuer die Beobachtung und legt die von Null verschiedenen Elemente 
+	 * sowie deren Spaltenindizes im Zwischenspeicher ab. Die Reihenfolge entspricht Startpunkt, Zielpunkt, 
+	 * Lotabweichungen und Zusatzparameter
+	 * 
+	 * @param jacobiRowCache
+	 * @param observation
+	 * @param row
+	 */
+	private void setJacobiRow(JacobiRowCache jacobiRowCache, Observation observation, int row) {
+		int columns[] = jacobiRowCache.getColumns();
+		double values[] = jacobiRowCache.getValues();
+		int offset = jacobiRowCache.offset(row);
+		int nnz = offset;
+		
+		int col = observation.getStartPoint().getColInJacobiMatrix();
+		int dim = observation.getStartPoint().getDimension();
+		
+		// Startpunkt
+		if (col >= 0) {
+			if (dim != 1) {
+				columns[nnz] = col++;
+				values[nnz++] = observation.diffXs();
+				columns[nnz] = col++;
+				values[nnz++] = observation.diffYs();
+			}
+			if (dim != 2) {
+				columns[nnz] = col;
+				values[nnz++] = observation.diffZs();
+			}
+		}
+		
+		col = observation.getEndPoint().getColInJacobiMatrix();
+		dim = observation.getEndPoint().getDimension();
+		
+		// Zielpunkt
+		if (col >= 0) {
+			if (dim != 1) {
+				columns[nnz] = col++;
+				values[nnz++] = observation.diffXe();
+				columns[nnz] = col++;
+				values[nnz++] = observation.diffYe();
+			}
+			if (dim != 2) {
+				columns[nnz] = col;
+				values[nnz++] = observation.diffZe();
+			}
+		}
+		
+		int pointNonZeros = nnz - offset;
+		
+		// X-Lotabweichung des Standpunktes
+		col = observation.getStartPoint().getVerticalDeflectionX().getColInJacobiMatrix();
+		if (col >= 0) {
+			columns[nnz] = col;
+			values[nnz++] = observation.diffVerticalDeflectionXs();
+		}
+		// Y-Lotabweichung des Standpunktes
+		col = observation.getStartPoint().getVerticalDeflectionY().getColInJacobiMatrix();
+		if (col >= 0) {
+			columns[nnz] = col;
+			values[nnz++] = observation.diffVerticalDeflectionYs();
+		}
+		// X-Lotabweichung des Zielpunktes
+		col = observation.getEndPoint().getVerticalDeflectionX().getColInJacobiMatrix();
+		if (col >= 0) {
+			columns[nnz] = col;
+			values[nnz++] = observation.diffVerticalDeflectionXe();
+		}
+		// Y-Lotabweichung des Zielpunktes
+		col = observation.getEndPoint().getVerticalDeflectionY().getColInJacobiMatrix();
+		if (col >= 0) {
+			columns[nnz] = col;
+			values[nnz++] = observation.diffVerticalDeflectionYe();
+		}
+		// Orientierung
+		col = observation.getColInJacobiMatrixFromOrientation();
+		if (col >= 0) {
+			columns[nnz] = col;
+			values[nnz++] = observation.diffOri();
+		}
+		// Massstab
+		col = observation.getColInJacobiMatrixFromScale();
+		if (col >= 0) {
+			columns[nnz] = col;
+			values[nnz++] = observation.diffScale();
+		}
+		// Additionskonstante
+		col = observation.getColInJacobiMatrixFromAdd();
+		if (col >= 0) {
+			columns[nnz] = col;
+			values[nnz++] = observation.diffAdd();
+		}
+		// Refraktion
+		col = observation.getColInJacobiMatrixFromRefCoeff();
+		if (col >= 0) {
+			columns[nnz] = col;
+			values[nnz++] = observation.diffRefCoeff();
+		}
+		// Rotation X
+		col = observation.getColInJacobiMatrixFromRotationX();
+		if (col >= 0) {
+			columns[nnz] = col;
+			values[nnz++] = observation.diffRotX();
+		}
+		// Rotation Y
+		col = observation.getColInJacobiMatrixFromRotationY();
+		if (col >= 0) {
+			columns[nnz] = col;
+			values[nnz++] = observation.diffRotY();
+		}
+		// Rotation Z
+		col = observation.getColInJacobiMatrixFromRotationZ();
+		if (col >= 0) {
+			columns[nnz] = col;
+			values[nnz++] = observation.diffRotZ();
+		}
+		
+		jacobiRowCache.setRow(row, nnz - offset, pointNonZeros);
+	}
+	
+	/**
+	 * Liefert den Zeilenindex der Beobachtung im Zwischenspeicher der Jacobi-Matrix. Ist die Zeile 
+	 * fuer den aktuellen Linearisierungspunkt noch nicht bestimmt, wird sie berechnet
+	 * 
+	 * @param observation
+	 * @return row
+	 */
+	private int getJacobiRow(Observation observation) {
+		if (this.jacobiRowCache == null || this.jacobiRowCache.numRows() != this.numberOfObservations)
+			this.jacobiRowCache = new JacobiRowCache(this.numberOfObservations);
+		
+		int row = observation.getRowInJacobiMatrix();
+		if (!this.jacobiRowCache.isValid(row))
+			this.setJacobiRow(this.jacobiRowCache, observation, row);
+		return row;
+	}
+	
+	/**
+	 * Bestimmt alle Zeilen der Jacobi-Matrix am aktuellen Linearisierungspunkt (parallel)
+	 */
+	private void updateJacobiRowCache() {
+		this.invalidateJacobiRowCache();
+		this.completeJacobiRowCache();
+	}
+	
+	/**
+	 * Bestimmt die noch fehlenden Zeilen der Jacobi-Matrix am aktuellen Linearisierungspunkt (parallel). 
+	 * Anschliessend ist ein lesender Zugriff auf den Zwischenspeicher aus mehreren Threads moeglich.
+	 */
+	private void completeJacobiRowCache() {
+		if (this.jacobiRowCache == null || this.jacobiRowCache.numRows() != this.numberOfObservations)
+			this.jacobiRowCache = new JacobiRowCache(this.numberOfObservations);
+		
+		this.parallelFor(this.numberOfObservations, i -> this.getJacobiRow(this.projectObservations.get(i)));
+	}
+	
+	/**
+	 * Verwirft die zwischengespeicherten Zeilen der Jacobi-Matrix, bspw. nach einer Aenderung des Linearisierungspunktes
+	 */
+	private void invalidateJacobiRowCache() {
+		if (this.jacobiRowCache != null)
+			this.jacobiRowCache.invalidate();
+	}
+	
+	/**
+	 * erzeugt die duenn besetzte Normalgleichungsmatrix N = A<sup>T</sup>PA beobachtungsweise, d.h. 
+	 * jede Beobachtung traegt nur zu den Elementen der Parameter bei, von denen sie abhaengt. 
+	 * Datumsbedingungen werden nicht beruecksichtigt, vgl. {@link #isSparseNormalEquationApplicable()}.
+	 * return NEQ
+	 */
+	private NormalEquationSystem createSparseNormalEquation() {
+		UpperSymmSparseMatrix N = new UpperSymmSparseMatrix(this.numberOfUnknownParameters);
+		DenseVector n = new DenseVector( N.numRows() );
+		
+		// Die Zeilen der Jacobi-Matrix werden parallel bestimmt und anschliessend in der 
+		// Reihenfolge der Beobachtungen aufsummiert, sodass das Ergebnis unabhaengig 
+		// von der Anzahl der Threads ist
+		this.updateJacobiRowCache();
+		
+		if (this.interrupt)
+			return null;
+		
+		int columns[] = this.jacobiRowCache.getColumns();
+		double values[] = this.jacobiRowCache.getValues();
+		
+		for (int i=0; i<this.numberOfObservations; i++) {
+			Observation observation = this.projectObservations.get(i);
+			int row = observation.getRowInJacobiMatrix();
+			int offset = this.jacobiRowCache.offset(row);
+			int nnz = this.jacobiRowCache.getNonZeros(row);
+			double p = 1.0 / (observation.getStdApriori() * observation.getStdApriori());
+			double w = observation.getCorrection();
+
+			for (int j=offset; j<offset + nnz; j++) {
+				// Zeile aT*p bestimmen
+				double atp = values[j] * p;
+				// Absolutgliedvektor bestimmen
+				n.add(columns[j], atp * w);
+				// Berechnung von N = ATP*A
+				for (int k=j; k<offset + nnz; k++)
+					N.add(columns[j], columns[k], atp * values[k]);
+			}
+		}
+		
+		// Fuege stochastische Lotabweichungen hinzu
+		if (this.pointsWithStochasticDeflection != null && !this.pointsWithStochasticDeflection.isEmpty()) {
+			for (Point point : this.pointsWithStochasticDeflection) {		
+				VerticalDeflection deflectionX = point.getVerticalDeflectionX();
+				int col = deflectionX.getColInJacobiMatrix();
+				double qll = deflectionX.getStdApriori() * deflectionX.getStdApriori();
+				n.add(col, (deflectionX.getValue0()-deflectionX.getValue())/qll);
+				N.add(col, col, 1.0/qll);
+				
+				VerticalDeflection deflectionY = point.getVerticalDeflectionY();
+				col = deflectionY.getColInJacobiMatrix();
+				qll = deflectionY.getStdApriori() * deflectionY.getStdApriori();
+				n.add(col, (deflectionY.getValue0()-deflectionY.getValue())/qll);
+				N.add(col, col, 1.0/qll);
+			}
+		}
+		
+		// Fuege stochastische Anschlusspunkte hinzu
+		if (this.stochasticPoints != null && !this.stochasticPoints.isEmpty()) {
+			for (Point point : this.stochasticPoints) {
+				int col = point.getColInJacobiMatrix();
+				if (point.getDimension() != 1) {
+					double qll = point.getStdXApriori()*point.getStdXApriori();
+					n.add(col, (point.getX0()-point.getX())/qll);
+					N.add(col, col++, 1.0/qll);
+
+					qll = point.getStdYApriori()*point.getStdYApriori();
+					n.add(col, (point.getY0()-point.getY())/qll);
+					N.add(col, col++, 1.0/qll);
+				}
+				if (point.getDimension() != 2) {
+					double qll = point.getStdZApriori()*point.getStdZApriori();
+					n.add(col, (point.getZ0()-point.getZ())/qll);
+					N.add(col, col, 1.0/qll);
+				}
+			}
+		}
+		
+		// Strukturelle Nullen fuer Punktpaare der Deformationsanalyse, damit die zugehoerigen 
+		// Kovarianzen Teil der Besetzungsstruktur des Faktors und somit der Teilinversen sind
+		for (CongruenceAnalysisGroup tieGroup : this.congruenceAnalysisGroup) {
+			for (boolean flag : new boolean[] {false, true}) {
+				for (int tieIdx=0; tieIdx<tieGroup.size(flag); tieIdx++) {
+					CongruenceAnalysisPointPair tie = tieGroup.get(tieIdx, flag);
+					Point p0 = tie.getStartPoint();
+					Point p1 = tie.getEndPoint();
+					int colP0 = p0.getColInJacobiMatrix();
+					int colP1 = p1.getColInJacobiMatrix();
+					if (colP0 < 0 || colP1 < 0)
+						continue;
+					for (int r=0; r<p0.getDimension(); r++)
+						for (int c=0; c<p1.getDimension(); c++)
+							N.add(colP0 + r, colP1 + c, 0.0);
+				}
+			}
+		}
+		
+		N.compress();
+		return new NormalEquationSystem(N, n);
+	}
+	
+	/**
+	 * Erzeugt die implizite Normalgleichung N = A<sup>T</sup>PA fuer die Loesung mittels konjugierter Gradienten. 
+	 * Es wird lediglich der Absolutgliedvektor n aufgestellt; die Matrix N wird ueber die zwischengespeicherten 
+	 * Zeilen der Jacobi-Matrix als Operator bereitgestellt. Als Vorkonditionierer dienen die Diagonalbloecke 
+	 * von N je Punkt bzw. Zusatzparameter (Block-Jacobi).
+	 * return NEQ
+	 */
+	private NormalEquationSystem createIterativeNormalEquation() {
+		DenseVector n = new DenseVector(this.numberOfUnknownParameters);
+		double diagonal[] = new double[this.numberOfUnknownParameters];
+		double weights[] = new double[this.numberOfObservations];
+		
+		// Bloecke des Vorkonditionierers in der Reihenfolge der Spalten
+		int blockStart[] = new int[this.unknownParameters.size() + 1];
+		for (int i=0; i<this.unknownParameters.size(); i++) {
+			UnknownParameter unknownParameter = this.unknownParameters.get(i);
+			int dim = unknownParameter instanceof Point ? ((Point)unknownParameter).getDimension() : 1;
+			blockStart[i + 1] = blockStart[i] + dim;
+		}
+		BlockJacobiPreconditioner M = new BlockJacobiPreconditioner(blockStart);
+		
+		this.updateJacobiRowCache();
+		
+		if (this.interrupt)
+			return null;
+		
+		int columns[] = this.jacobiRowCache.getColumns();
+		double values[] = this.jacobiRowCache.getValues();
+		
+		for (int i=0; i<this.numberOfObservations; i++) {
+			Observation observation = this.projectObservations.get(i);
+			int row = observation.getRowInJacobiMatrix();
+			int offset = this.jacobiRowCache.offset(row);
+			int nnz = this.jacobiRowCache.getNonZeros(row);
+			double p = 1.0 / (observation.getStdApriori() * observation.getStdApriori());
+			double w = observation.getCorrection();
+			weights[row] = p;
+
+			for (int j=offset; j<offset + nnz; j++) {
+				double atp = values[j] * p;
+				// Absolutgliedvektor bestimmen
+				n.add(columns[j], atp * w);
+				// Diagonalbloecke von N = ATP*A
+				for (int k=j; k<offset + nnz; k++)
+					M.add(columns[j], columns[k], atp * values[k]);
+			}
+		}
+		
+		// Fuege stochastische Lotabweichungen hinzu
+		if (this.pointsWithStochasticDeflection != null && !this.pointsWithStochasticDeflection.isEmpty()) {
+			for (Point point : this.pointsWithStochasticDeflection) {		
+				VerticalDeflection deflectionX = point.getVerticalDeflectionX();
+				int col = deflectionX.getColInJacobiMatrix();
+				double qll = deflectionX.getStdApriori() * deflectionX.getStdApriori();
+				n.add(col, (deflectionX.getValue0()-deflectionX.getValue())/qll);
+				diagonal[col] += 1.0/qll;
+				M.add(col, col, 1.0/qll);
+				
+				VerticalDeflection deflectionY = point.getVerticalDeflectionY();
+				col = deflectionY.getColInJacobiMatrix();
+				qll = deflectionY.getStdApriori() * deflectionY.getStdApriori();
+				n.add(col, (deflectionY.getValue0()-deflectionY.getValue())/qll);
+				diagonal[col] += 1.0/qll;
+				M.add(col, col, 1.0/qll);
+			}
+		}
+		
+		// Fuege stochastische Anschlusspunkte hinzu
+		if (this.stochasticPoints != null && !this.stochasticPoints.isEmpty()) {
+			for (Point point : this.stochasticPoints) {
+				int col = point.getColInJacobiMatrix();
+				if (point.getDimension() != 1) {
+					double qll = point.getStdXApriori()*point.getStdXApriori();
+					n.add(col, (point.getX0()-point.getX())/qll);
+					diagonal[col] += 1.0/qll;
+					M.add(col, col++, 1.0/qll);
+
+					qll = point.getStdYApriori()*point.getStdYApriori();
+					n.add(col, (point.getY0()-point.getY())/qll);
+					diagonal[col] += 1.0/qll;
+					M.add(col, col++, 1.0/qll);
+				}
+				if (point.getDimension() != 2) {
+					double qll = point.getStdZApriori()*point.getStdZApriori();
+					n.add(col, (point.getZ0()-point.getZ())/qll);
+					diagonal[col] += 1.0/qll;
+					M.add(col, col, 1.0/qll);
+				}
+			}
+		}
+		
+		return new NormalEquationSystem(new NormalEquationOperator(this.jacobiRowCache, weights, diagonal, this::parallelFor), M, n);
+	}
+	
+	/**
+	 * Erzeugt die in Bloecke nach Helmert unterteilte Normalgleichung N = A<sup>T</sup>PA. Die (bandbreitenreduzierend 
+	 * sortierten) Punkte werden in zusammenhaengende Spaltenbereiche zerlegt und jede Beobachtung dem Block ihres 
+	 * Standpunktes zugeordnet. Unbekannte, die nur in Beobachtungen eines Blocks auftreten, sind innere Unbekannte 
+	 * dieses Blocks (bspw. die Orientierung eines Standpunktes); alle uebrigen werden zu Verknuepfungsunbekannten.
+	 * Datumsbedingungen werden nicht beruecksichtigt, vgl. {@link #isHelmertBlockingApplicable()}.
+	 * return NEQ
+	 */
+	private NormalEquationSystem createBlockedNormalEquation() {
+		int numberOfPointColumns = Math.max(0, this.unknownParameters.columnsOfPoints());
+		int numberOfBlocks = this.numberOfHelmertBlocks > 0 ? this.numberOfHelmertBlocks : 
+			Math.max(Math.max(2, this.numberOfThreads), (numberOfPointColumns + HELMERT_BLOCK_SIZE - 1) / HELMERT_BLOCK_SIZE);
+		numberOfBlocks = Math.max(1, Math.min(numberOfBlocks, numberOfPointColumns));
+		
+		this.updateJacobiRowCache();
+		
+		if (this.interrupt)
+			return null;
+		
+		// Block eines Punktes anhand seiner ersten Spalte
+		int pointBlock[] = new int[this.numberOfUnknownParameters];
+		for (int col=0; col<this.numberOfUnknownParameters; col++)
+			pointBlock[col] = col < numberOfPointColumns ? (int)((long)col * numberOfBlocks / numberOfPointColumns) : 0;
+		
+		// Block je Beobachtung (Standpunkt bzw. Zielpunkt, sofern der Standpunkt ein Festpunkt ist)
+		int rowBlock[] = new int[this.numberOfObservations];
+		for (int i=0; i<this.numberOfObservations; i++) {
+			Observation observation = this.projectObservations.get(i);
+			int colStart = observation.getStartPoint().getColInJacobiMatrix();
+			int colEnd   = observation.getEndPoint().getColInJacobiMatrix();
+			int col = colStart >= 0 ? colStart : colEnd;
+			rowBlock[observation.getRowInJacobiMatrix()] = col >= 0 ? pointBlock[col] : 0;
+		}
+		
+		// Zuordnung der Spalten; -2 kennzeichnet Unbekannte ohne Beobachtungen
+		int columns[] = this.jacobiRowCache.getColumns();
+		double values[] = this.jacobiRowCache.getValues();
+		int columnBlock[] = new int[this.numberOfUnknownParameters];
+		Arrays.fill(columnBlock, -2);
+		for (int row=0; row<this.numberOfObservations; row++) {
+			int offset = this.jacobiRowCache.offset(row);
+			int nnz = this.jacobiRowCache.getNonZeros(row);
+			for (int k=offset; k<offset + nnz; k++) {
+				int col = columns[k];
+				if (columnBlock[col] == -2)
+					columnBlock[col] = rowBlock[row];
+				else if (columnBlock[col] != rowBlock[row])
+					columnBlock[col] = HelmertBlockedMatrix.JUNCTION;
+			}
+		}
+		for (int col=0; col<this.numberOfUnknownParameters; col++) {
+			if (columnBlock[col] == -2)
+				columnBlock[col] = pointBlock[col];
+		}
+		
+		// Verknuepfungsunbekannte je Block
+		int mark[] = new int[this.numberOfUnknownParameters];
+		Arrays.fill(mark, -1);
+		List<List<Integer>> junctions = new ArrayList<List<Integer>>(numberOfBlocks);
+		for (int b=0; b<numberOfBlocks; b++)
+			junctions.add(new ArrayList<Integer>());
+		for (int row=0; row<this.numberOfObservations; row++) {
+			int offset = this.jacobiRowCache.offset(row);
+			int nnz = this.jacobiRowCache.getNonZeros(row);
+			int block = rowBlock[row];
+			for (int k=offset; k<offset + nnz; k++) {
+				int col = columns[k];
+				if (columnBlock[col] == HelmertBlockedMatrix.JUNCTION && mark[col] != block) {
+					mark[col] = block;
+					junctions.get(block).add(col);
+				}
+			}
+		}
+		int blockJunctions[][] = new int[numberOfBlocks][];
+		for (int b=0; b<numberOfBlocks; b++)
+			blockJunctions[b] = junctions.get(b).stream().mapToInt(Integer::intValue).toArray();
+		junctions = null;
+		mark = null;
+
+		HelmertBlockedMatrix N = new HelmertBlockedMatrix(columnBlock, blockJunctions);
+		N.setForkJoinPool(this.getForkJoinPool());
+		DenseVector n = new DenseVector(this.numberOfUnknownParameters);
+
+		for (int i=0; i<this.numberOfObservations; i++) {
+			Observation observation = this.projectObservations.get(i);
+			int row = observation.getRowInJacobiMatrix();
+			int offset = this.jacobiRowCache.offset(row);
+			int nnz = this.jacobiRowCache.getNonZeros(row);
+			double p = 1.0 / (observation.getStdApriori() * observation.getStdApriori());
+			double w = observation.getCorrection();
+
+			for (int j=offset; j<offset + nnz; j++) {
+				double atp = values[j] * p;
+				// Absolutgliedvektor bestimmen
+				n.add(columns[j], atp * w);
+				// Normalgleichung N = ATP*A beobachtungsweise
+				for (int k=j; k<offset + nnz; k++)
+					N.add(columns[j], columns[k], atp * values[k]);
+			}
+		}
+		
+		// Fuege stochastische Lotabweichungen hinzu
+		if (this.pointsWithStochasticDeflection != null && !this.pointsWithStochasticDeflection.isEmpty()) {
+			for (Point point : this.pointsWithStochasticDeflection) {		
+				VerticalDeflection deflectionX = point.getVerticalDeflectionX();
+				int col = deflectionX.getColInJacobiMatrix();
+				double qll = deflectionX.getStdApriori() * deflectionX.getStdApriori();
+				n.add(col, (deflectionX.getValue0()-deflectionX.getValue())/qll);
+				N.add(col, col, 1.0/qll);
+				
+				VerticalDeflection deflectionY = point.getVerticalDeflectionY();
+				col = deflectionY.getColInJacobiMatrix();
+				qll = deflectionY.getStdApriori() * deflectionY.getStdApriori();
+				n.add(col, (deflectionY.getValue0()-deflectionY.getValue())/qll);
+				N.add(col, col, 1.0/qll);
+			}
+		}
+		
+		// Fuege stochastische Anschlusspunkte hinzu
+		if (this.stochasticPoints != null && !this.stochasticPoints.isEmpty()) {
+			for (Point point : this.stochasticPoints) {
+				int col = point.getColInJacobiMatrix();
+				if (point.getDimension() != 1) {
+					double qll = point.getStdXApriori()*point.getStdXApriori();
+					n.add(col, (point.getX0()-point.getX())/qll);
+					N.add(col, col++, 1.0/qll);
+
+					qll = point.getStdYApriori()*point.getStdYApriori();
+					n.add(col, (point.getY0()-point.getY())/qll);
+					N.add(col, col++, 1.0/qll);
+				}
+				if (point.getDimension() != 2) {
+					double qll = point.getStdZApriori()*point.getStdZApriori();
+					n.add(col, (point.getZ0()-point.getZ())/qll);
+					N.add(col, col, 1.0/qll);
+				}
+			}
+		}
+		
+		return new NormalEquationSystem(N, n);
+	}
+	
+	/**
+	 * Liefert den Thread-Pool der Ausgleichung oder <code>null</code>, wenn nur ein Thread zugelassen ist. 
+	 * Der Pool wird bei Bedarf (neu) angelegt und mit clearMatrices() beendet.
+	 * 
+	 * @return forkJoinPool
+	 */
+	private ForkJoinPool getForkJoinPool() {
+		if (this.numberOfThreads <= 1)
+			return null;
+		if (this.forkJoinPool == null || this.forkJoinPool.getParallelism() != this.numberOfThreads || this.forkJoinPool.isShutdown())
+			this.forkJoinPool = new ForkJoinPool(this.numberOfThreads);
+		return this.forkJoinPool;
+	}
+	
+	/**
+	 * Fuehrt task fuer alle Indizes 0 &lt;= i &lt; size aus. Wenn mehr als ein Thread zugelassen ist, 
+	 * erfolgt die Ausfuehrung parallel im Thread-Pool der Ausgleichung. Die Aufgaben muessen 
+	 * voneinander unabhaengig sein, d.h., unterschiedliche Indizes duerfen nicht in dieselben 
+	 * Elemente schreiben.
+	 * 
+	 * @param size
+	 * @param task
+	 */
+	private void parallelFor(int size, IntConsumer task) {
+		if (this.numberOfThreads <= 1 || size <= 1) {
+			for (int i=0; i<size; i++)
+				task.accept(i);
+			return;
+		}
+
+		try {
+			this.getForkJoinPool().submit(() -> IntStream.range(0, size).parallel().forEach(task)).get();
+		} 
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			this.interrupt = true;
+		}
+		catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException)cause;
+			if (cause instanceof Error)
+				throw (Error)cause;
+			throw new IllegalStateException(cause);
+		}
+	}
+	
+	/**
+	 * Bricht Iteration an der naechst moeglichen Stelle ab
+	 */
+	public void interrupt() {
+		this.interrupt = true;
+		for (NetworkAdjustment subNetwork : this.subNetworks)
+			subNetwork.interrupt();
+	}
+	
+	/**
+	 * Setz die Varianzkomponenten der einzelnen Gruppen auf <em>Null</em> zurueck
+	 */
+	private void resetVarianceComponents() {
+		Map<VarianceComponentType, VarianceComponent> varianceComponents = new LinkedHashMap<VarianceComponentType, VarianceComponent>();
+		for (VarianceComponent varianceEstimation : this.varianceComponents.values())
+			varianceComponents.put(varianceEstimation.getVarianceComponentType(), new VarianceComponent(varianceEstimation.getVarianceComponentType()));
+		this.varianceComponents = varianceComponents;
+	}
+	
+	/**
+	 * Berechnet das Ausgleichungsmodell iterativ 
+	 * und gibt im Erfolgsfall true zurueck
+	 * 
+	 * @return estimateStatus
+	 */
+	public EstimationStateType estimateModel() {
+		// Protokolliere die tatsaechlich genutzte BLAS/LAPACK-Implementierung, da diese die Wahl der Loesungsverfahren bestimmt
+		this.linearAlgebraBackend = LinearAlgebraBackend.getName();
+		
+		// Zerfaellt das Netz in unabhaengige Teilnetze, werden diese getrennt und parallel ausgeglichen
+		if (this.isSubNetworkAdjustmentApplicable()) {
+			List<List<Point>> subNetworkPoints = this.getSubNetworkPoints();
+			if (subNetworkPoints.size() > 1)
+				return this.estimateSubNetworks(subNetworkPoints);
+		}
+		
+		boolean applyUnscentedTransformation = this.estimationType == EstimationType.SPHERICAL_SIMPLEX_UNSCENTED_TRANSFORMATION || this.estimationType == EstimationType.MODIFIED_UNSCENTED_TRANSFORMATION;
+		this.numberOfTraceEstimationProbes = 0;
+		this.maxDx = Double.MIN_VALUE;
+		this.currentMaxAbsDx = this.maxDx;
+		this.numberOfHypotesis = 0;
+		this.calculateStochasticParameters = false;
+		this.robustEstimationWeights = null;
+		this.numberOfRobustDowndates = 0;
+		this.maxNormalizedDx = 0.0;
+		this.currentEstimationStatus = EstimationStateType.BUSY;
+    	this.change.firePropertyChange(this.currentEstimationStatus.name(), false, true);
+
+		int runs = this.maximalNumberOfIterations-1;
+		boolean isEstimated = false, estimateCompleteModel = false, isConverge = true;
+				
+		if (this.maximalNumberOfIterations == 0) {
+			estimateCompleteModel = isEstimated = true;
+		}
+		if (this.estimationType == EstimationType.SIMULATION) {
+			estimateCompleteModel = isEstimated = true;
+		}
+		
+		// Fuege Lotabweichungen als Unbekannte zum Modell hinzu
+		this.addVerticalDeflectionToModel();
+		//Fuehre stochastische Anschlusspunkte und stochastische Lotparameter ins Modell ein
+		this.addStochasticPointsAndStochasticDeflectionToModel();
+
+		// ermittle Rank-Defekt anhand der Beobachtungen
+		this.freeNetwork = this.freeNetwork || (this.referencePoints == null || this.referencePoints.isEmpty()) && (this.stochasticPoints == null || this.stochasticPoints.isEmpty());
+
+		if (this.freeNetwork) {
+			if (this.datumPoints == null || this.datumPoints.isEmpty()) {
+				this.currentEstimationStatus = EstimationStateType.SINGULAR_MATRIX;
+				this.change.firePropertyChange(this.currentEstimationStatus.name(), false, true);
+				return this.currentEstimationStatus;
+			}
+			this.detectRankDefect();
+		}
+	
+		// Fuehre die Strain-Parameter als mgl. Zusatzparameter mit ins Modell ein
+		if (this.freeNetwork && this.congruenceAnalysis)
+			this.addStrainParametersToModel();
+
+		// Setze VC auf 1 fuer alle Typen
+		this.resetVarianceComponents();
+		
+		// Sortiere die unbekannten Parameter so, dass die Zusatzparameter am Ende stehen; 
+		// fuer die duenn besetzte Loesung und die Helmert-Blockung werden die Punkte zusaetzlich 
+		// bandbreitenreduzierend angeordnet, sodass zusammenhaengende Spaltenbereiche raeumlich kompakte Bloecke bilden. 
+		// Die dichten Loeser behalten die Reihenfolge der Punkte bei, sodass die Anordnung von Qxx bzw. der 
+		// exportierten Kovarianzmatrix fuer bestehende Projekte unveraendert bleibt
+		this.unknownParameters.resortParameters(this.normalEquationSolverType == NormalEquationSolverType.SPARSE || this.normalEquationSolverType == NormalEquationSolverType.HELMERT_BLOCKING);
+
+		try {
+			double lastStepSignum = 0.0;
+			int numObs = this.numberOfObservations + this.numberOfStochasticPointRows + this.numberOfStochasticDeflectionRows;
+			int numberOfEstimationSteps = this.estimationType == EstimationType.MODIFIED_UNSCENTED_TRANSFORMATION ? 2 * numObs + 1 : 
+				this.estimationType == EstimationType.SPHERICAL_SIMPLEX_UNSCENTED_TRANSFORMATION ? numObs + 2 : 1;
+
+			double alpha2  = this.alphaUT * this.alphaUT;
+			double weight0 = this.weightZero;
+			double weighti = (1.0 - weight0) / (double)(numberOfEstimationSteps - 1.0);
+	
+			Vector SigmaUT = null, xUT = null, vUT = null;
+			Matrix solutionVectors = null;
+
+			if (applyUnscentedTransformation) {
+				xUT = new DenseVector(this.numberOfUnknownParameters);
+				vUT = new DenseVector(numObs);
+				solutionVectors = new DenseMatrix(this.numberOfUnknownParameters, numberOfEstimationSteps);
+				
+				if (this.estimationType == EstimationType.MODIFIED_UNSCENTED_TRANSFORMATION) {
+					SigmaUT = new DenseVector(1);
+					SigmaUT.set(0, Math.sqrt( 0.5 / weighti ));
+				}
+				else if (this.estimationType == EstimationType.SPHERICAL_SIMPLEX_UNSCENTED_TRANSFORMATION) {
+					SigmaUT = new DenseVector(numObs);
+					if (weight0 < 0 || weight0 >= 1)
+						throw new IllegalArgumentException("Error, zero-weight is out of range. If SUT is applied, valid values are 0 <= w0 < 1! " + weight0);
+				}
+
+				weight0 = weight0 / alpha2 + (1.0 - 1.0 / alpha2);
+				weighti = weighti / alpha2;
+			}
+			
+			// Die Sigma-Punkte der modifizierten UT werden unabhaengig voneinander bestimmt, wobei die Normalgleichungen parallel 
+			// geloest werden; der abschliessende Durchlauf mit den unveraenderten Beobachtungen erfolgt in der nachfolgenden Schleife 
+			// und beginnt bei der bereits iterierten Loesung mit unveraenderten Beobachtungen
+			int firstEstimationStep = 0;
+			boolean isCentralSolutionEstimated = false;
+			if (this.isParallelUnscentedTransformationApplicable(numberOfEstimationSteps)) {
+				EstimationStateType sigmaPointState = this.estimateModifiedUnscentedTransformationSigmaPoints(numObs, SigmaUT.get(0), weighti, xUT, solutionVectors);
+				if (sigmaPointState == EstimationStateType.INTERRUPT || sigmaPointState == EstimationStateType.SINGULAR_MATRIX) {
+					this.currentEstimationStatus = sigmaPointState;
+					this.change.firePropertyChange(this.currentEstimationStatus.name(), false, true);
+					this.interrupt = false;
+					return this.currentEstimationStatus;
+				}
+				else if (sigmaPointState == EstimationStateType.NO_CONVERGENCE) {
+					this.currentEstimationStatus = sigmaPointState;
+					this.change.firePropertyChange(this.currentEstimationStatus.name(), SQRT_EPS, this.maxDx);
+				}
+				firstEstimationStep = numberOfEstimationSteps - 1;
+				isCentralSolutionEstimated = sigmaPointState == EstimationStateType.CONVERGENCE;
+				// wie im sequentiellen Ablauf, in dem vUT nach dem ersten Iterationsschritt verworfen wird, nutzt der 
+				// abschliessende Durchlauf die Verbesserungen der Beobachtungen
+				vUT = null;
+			}
+			
+			for (int estimationStep = firstEstimationStep; estimationStep < numberOfEstimationSteps; estimationStep++) {
+				// Reset aller Iterationseinstellungen
+				this.maxDx = Double.MIN_VALUE;
+				this.currentMaxAbsDx = this.maxDx;
+				runs = this.maximalNumberOfIterations - 1;
+				isEstimated = isCentralSolutionEstimated && estimationStep == (numberOfEstimationSteps - 1);
+				estimateCompleteModel = false;
+				isConverge = true;
+				
+				if (applyUnscentedTransformation) {
+					this.currentEstimationStatus = EstimationStateType.UNSCENTED_TRANSFORMATION_STEP;
+					this.change.firePropertyChange(this.currentEstimationStatus.name(), numberOfEstimationSteps, estimationStep+1);
+					
+					// Reset der unbekannten Datumsparameter
+					if (numberOfEstimationSteps > 1 && estimationStep != (numberOfEstimationSteps - 1))
+						this.resetDatumPoints();
+					
+					if (this.estimationType == EstimationType.MODIFIED_UNSCENTED_TRANSFORMATION) {
+						double signum = estimationStep == (numberOfEstimationSteps - 1) ? 0.0 : estimationStep < numObs ? +1.0 : -1.0;
+						int currentObsIdx = estimationStep % numObs;
+
+						// Entferne letzte UT-Modifizierung
+						if (estimationStep > 0) {
+							int lastObsIdx = currentObsIdx - 1;
+							lastObsIdx = lastObsIdx < 0 ? numObs - 1 : lastObsIdx;
 							this.prepareModifiedUnscentedTransformationObservation(lastObsIdx, -lastStepSignum * SigmaUT.get(0));
 						}
 
@@ -2143,9 +3544,12 @@ public class NetworkAdjustment implements Runnable {
 
 					this.change.firePropertyChange(this.currentEstimationStatus.name(), this.maximalNumberOfIterations, this.iterationStep);
 
-					// erzeuge Normalgleichung
+					// erzeuge Normalgleichung; die duenn besetzte Form ist nur fuer Iterationen moeglich, 
+					// in denen keine Kofaktormatrix Qxx benoetigt wird
 					this.applySphericalVerticalDeflections();
-					NormalEquationSystem neq = this.createNormalEquation();
+					boolean applyTraceEstimation = isEstimated && estimationStep == (numberOfEstimationSteps - 1) && this.isTraceEstimationApplicable();
+					boolean applySparseNormalEquation = this.isSparseNormalEquationApplicable() && (!(isEstimated && estimationStep == (numberOfEstimationSteps - 1)) || this.isSelectedInversionApplicable() || applyTraceEstimation);
+					NormalEquationSystem neq = this.isIterativeNormalEquationApplicable() ? this.createIterativeNormalEquation() : this.isHelmertBlockingApplicable() ? this.createBlockedNormalEquation() : applySparseNormalEquation ? this.createSparseNormalEquation() : this.createNormalEquation();
 					this.resetVarianceComponents();
 
 					if (this.interrupt || neq == null) {
@@ -2157,10 +3561,46 @@ public class NetworkAdjustment implements Runnable {
 					DenseVector n = neq.getVector();
 					UpperSymmPackMatrix N = neq.getMatrix();
 					Vector dx = n;
+					double traceEstimatedRedundancies[] = null;
 
 					estimateCompleteModel = isEstimated;				
 					try {
-						if ( (estimateCompleteModel && estimationStep == (numberOfEstimationSteps - 1)) || this.estimationType == EstimationType.L1NORM) {
+						if (neq.isImplicit()) {
+							// Loese Nx=n mittels vorkonditionierter konjugierter Gradienten und ueberschreibe n durch die Loesung x; 
+							// die Kofaktormatrix Qxx und die davon abhaengigen Genauigkeitsmasse werden nicht bestimmt
+							this.numberOfConjugateGradientIterations = MathExtension.solve(neq.getImplicitMatrix(), neq.getImplicitMatrixPreconditioner(), n, CONJUGATE_GRADIENT_TOLERANCE, Math.max(1000, n.size()));
+							// Im abschliessenden Durchlauf werden die Redundanzanteile ggf. ueber die stochastische Spurschaetzung genaehert
+							if (estimateCompleteModel && this.traceEstimationAccuracy > 0) {
+								this.currentEstimationStatus = EstimationStateType.ESTIAMTE_STOCHASTIC_PARAMETERS;
+								this.change.firePropertyChange(this.currentEstimationStatus.name(), false, true);
+								Matrix implicitN = neq.getImplicitMatrix();
+								traceEstimatedRedundancies = this.estimateRedundanciesByTraceEstimation(y -> MathExtension.solve(implicitN.copy(), neq.getImplicitMatrixPreconditioner(), y, CONJUGATE_GRADIENT_TOLERANCE, Math.max(1000, y.size())));
+							}
+						}
+						else if (neq.isBlocked()) {
+							// Reduziere die Bloecke parallel auf die Verknuepfungsunbekannten, loese das reduzierte System und 
+							// ueberschreibe n durch die Loesung x; wie im iterativen Fall wird keine Kofaktormatrix Qxx bestimmt
+							this.numberOfJunctionParameters = neq.getBlockedMatrix().getNumberOfJunctions();
+							neq.getBlockedMatrix().solve(n);
+						}
+						else if (applyTraceEstimation && !neq.isOutOfCore()) {
+							// Loese Nx=n mittels Zerlegung von N und naehere die Redundanzanteile ueber die stochastische Spurschaetzung, 
+							// deren Zufallsvektoren mit dem vorliegenden Faktor geloest werden; wie im iterativen Fall wird keine Kofaktormatrix Qxx bestimmt
+							this.currentEstimationStatus = EstimationStateType.ESTIAMTE_STOCHASTIC_PARAMETERS;
+							this.change.firePropertyChange(this.currentEstimationStatus.name(), false, true);
+							if (neq.isSparse()) {
+								SparseLDLDecomposition ldl = MathExtension.solve(neq.getSparseMatrix(), n);
+								this.numberOfNonZerosInFactor = ldl.nonZeros();
+								traceEstimatedRedundancies = this.estimateRedundanciesByTraceEstimation(ldl::solve);
+							}
+							else {
+								UpperSymmPackMatrix R = N;
+								MathExtension.chol(R);
+								MathExtension.cholSolve(R, n);
+								traceEstimatedRedundancies = this.estimateRedundanciesByTraceEstimation(y -> MathExtension.cholSolve(R, y));
+							}
+						}
+						else if ( (estimateCompleteModel && estimationStep == (numberOfEstimationSteps - 1)) || this.estimationType == EstimationType.L1NORM) {
 							this.calculateStochasticParameters = (this.estimationType != EstimationType.L1NORM && estimateCompleteModel);
 							// Bestimme die Parameter der ausseren Genauigkeit und
 							// ueberschreibe die Normalgleichung und den Absolutgliedvektor
@@ -2170,13 +3610,36 @@ public class NetworkAdjustment implements Runnable {
 								this.currentEstimationStatus = EstimationStateType.INVERT_NORMAL_EQUATION_MATRIX;
 								this.change.firePropertyChange(this.currentEstimationStatus.name(), false, true);
 							}
-							this.estimateFactorsForOutherAccracy(N, n);
+							// Im abschliessenden Durchlauf wird Qxx stets vollstaendig bestimmt
+							if (estimateCompleteModel)
+								this.robustEstimationWeights = null;
+							if (neq.isSparse())
+								this.estimateFactorsForOutherAccracy(neq.getSparseMatrix(), n);
+							else if (neq.isOutOfCore())
+								this.estimateFactorsForOutherAccracy(neq.getTiledMatrix(), n);
+							else
+								this.estimateFactorsForOutherAccracy(N, n);
 
 							if (this.calculateStochasticParameters) {
 								this.currentEstimationStatus = EstimationStateType.ESTIAMTE_STOCHASTIC_PARAMETERS;
 								this.change.firePropertyChange(this.currentEstimationStatus.name(), false, true);
 							}
 						}
+						else if (neq.isSparse())
+							// Loese Nx=n mittels LDL-Zerlegung der duenn besetzten Matrix und ueberschreibe n durch die Loesung x
+							this.numberOfNonZerosInFactor = MathExtension.solve(neq.getSparseMatrix(), n).nonZeros();
+						else if (neq.isOutOfCore()) {
+							// Loese Nx=n mittels kachelweiser Cholesky-Zerlegung und verwerfe die Auslagerungsdatei
+							try {
+								neq.getTiledMatrix().solve(n, false);
+							}
+							finally {
+								neq.getTiledMatrix().close();
+							}
+						}
+						else if (this.isAdditionalParameterEliminationApplicable(N.numRows()))
+							// Eliminiere die Zusatzparameter blockweise, loese das reduzierte System und ueberschreibe n durch die Loesung x
+							this.solveEliminatingAdditionalParameters(N, n, this.getAdditionalParameterBlocks());
 						else
 							// Loese Nx=n und ueberschreibe n durch die Loesung x
 							MathExtension.solve(N, n, false);
@@ -2190,6 +3653,12 @@ public class NetworkAdjustment implements Runnable {
 						this.change.firePropertyChange(this.currentEstimationStatus.name(), false, true);
 						return this.currentEstimationStatus;
 					}
+					catch (NotConvergedException e) {
+						e.printStackTrace();
+						this.currentEstimationStatus = EstimationStateType.NO_CONVERGENCE;
+						this.change.firePropertyChange(this.currentEstimationStatus.name(), SQRT_EPS, this.maxDx);
+						return this.currentEstimationStatus;
+					}
 					catch (Exception e) {
 						e.printStackTrace();
 						this.currentEstimationStatus = EstimationStateType.INTERRUPT;
@@ -2210,7 +3679,9 @@ public class NetworkAdjustment implements Runnable {
 						}
 					}
 
-					this.updateModel(dx, vUT, estimateCompleteModel && estimationStep == (numberOfEstimationSteps - 1));
+					this.updateModel(dx, vUT, estimateCompleteModel && estimationStep == (numberOfEstimationSteps - 1) && !neq.isImplicit() && !neq.isBlocked() && !(applyTraceEstimation && !neq.isOutOfCore()));
+					if (traceEstimatedRedundancies != null)
+						this.addTraceEstimatedRedundancies(traceEstimatedRedundancies);
 					dx = null;
 					vUT = null;
 
@@ -2280,12 +3751,702 @@ public class NetworkAdjustment implements Runnable {
 			this.currentEstimationStatus = EstimationStateType.NO_CONVERGENCE;
 			this.change.firePropertyChange(this.currentEstimationStatus.name(), SQRT_EPS, this.maxDx);
 		}
-		else if (this.currentEstimationStatus.getId() == EstimationStateType.BUSY.getId() || this.calculateStochasticParameters) {
-			this.currentEstimationStatus = EstimationStateType.ERROR_FREE_ESTIMATION;
-			this.change.firePropertyChange(this.currentEstimationStatus.name(), SQRT_EPS, this.maxDx);
+		else if (this.currentEstimationStatus.getId() == EstimationStateType.BUSY.getId() || this.calculateStochasticParameters || this.isIterativeNormalEquationApplicable() || this.isHelmertBlockingApplicable()) {
+			this.currentEstimationStatus = EstimationStateType.ERROR_FREE_ESTIMATION;
+			this.change.firePropertyChange(this.currentEstimationStatus.name(), SQRT_EPS, this.maxDx);
+		}
+
+		return this.currentEstimationStatus;
+	}
+	
+	/**
+	 * Naehert die Redundanzanteile der Beobachtungen und Pseudo-Beobachtungen, ohne die Kofaktormatrix Qxx 
+	 * zu bestimmen. Mit der Hutchinson-Schaetzung wird die Diagonale der Hutmatrix H = P<sup>1/2</sup>AQ<sub>xx</sub>A'P<sup>1/2</sup> 
+	 * aus Zufallsvektoren z mit den Elementen +/-1 durch diag(H) = E(z&middot;Hz) bestimmt, wobei je Zufallsvektor 
+	 * ein Gleichungssystem Ny = A'P<sup>1/2</sup>z geloest wird, d.h. mit dem impliziten Operator der Normalgleichung 
+	 * oder durch Vorwaerts- und Rueckwaertseinsetzen in den bereits vorliegenden Faktor der LDL- bzw. Cholesky-Zerlegung. 
+	 * Die Zufallsvektoren sind voneinander unabhaengig und werden parallel ausgewertet. Die Schaetzung endet, sobald die 
+	 * Standardabweichung der Redundanz jeder Varianzkomponente kleiner als der vorgegebene Anteil der Redundanz 
+	 * (mindestens jedoch eins) ist. Die Anzahl der Zufallsvektoren des folgenden Durchlaufs wird aus der bisherigen 
+	 * Streuung vorhergesagt; sie ist auf die Anzahl der Unbekannten begrenzt, da mit ebenso vielen Loesungen Qxx 
+	 * vollstaendig bestimmt werden koennte. Die Summen ueber die Varianzkomponenten sind erwartungstreu, die Redundanzanteile 
+	 * einzelner Beobachtungen hingegen sind nur grobe Naeherungen und werden daher ausschliesslich fuer diese Summen genutzt.
+	 * 
+	 * Die gelieferten Redundanzanteile sind fuer die Beobachtungen nach Zeilen und fuer die Pseudo-Beobachtungen nach 
+	 * Spalten der Normalgleichung angeordnet, d.h., das Element numberOfObservations + col bezieht sich auf die Spalte col. 
+	 * Die Zeilen der Jacobi-Matrix muessen zum Linearisierungspunkt der Normalgleichung vorliegen.
+	 * 
+	 * @param solver Loesung der Normalgleichung des abschliessenden Iterationsschritts, die parallel aufgerufen werden kann
+	 * @return redundancies
+	 * @throws NotConvergedException
+	 */
+	private double[] estimateRedundanciesByTraceEstimation(TraceEstimationSolver solver) throws NotConvergedException {
+		JacobiRowCache jacobiRowCache = this.jacobiRowCache;
+		int columns[] = jacobiRowCache.getColumns();
+		double values[] = jacobiRowCache.getValues();
+		int numberOfRows = this.numberOfObservations + this.numberOfUnknownParameters;
+		int u = this.numberOfUnknownParameters;
+		int maxNumberOfProbes = Math.min(TRACE_ESTIMATION_MAX_PROBES, Math.max(2 * TRACE_ESTIMATION_PROBES_PER_BATCH, u));
+		
+		// Gewichte der Beobachtungen und der Pseudo-Beobachtungen (stochastische Anschlusspunkte und Lotabweichungen)
+		double weights[] = new double[this.numberOfObservations];
+		double diagonal[] = new double[u];
+		for (int i=0; i<this.numberOfObservations; i++) {
+			Observation observation = this.projectObservations.get(i);
+			weights[observation.getRowInJacobiMatrix()] = 1.0 / (observation.getStdApriori() * observation.getStdApriori());
+		}
+		for (Point point : this.pointsWithStochasticDeflection) {
+			VerticalDeflection deflectionX = point.getVerticalDeflectionX();
+			VerticalDeflection deflectionY = point.getVerticalDeflectionY();
+			diagonal[deflectionX.getColInJacobiMatrix()] += 1.0 / (deflectionX.getStdApriori() * deflectionX.getStdApriori());
+			diagonal[deflectionY.getColInJacobiMatrix()] += 1.0 / (deflectionY.getStdApriori() * deflectionY.getStdApriori());
+		}
+		for (Point point : this.stochasticPoints) {
+			int col = point.getColInJacobiMatrix();
+			if (point.getDimension() != 1) {
+				diagonal[col++] += 1.0 / (point.getStdXApriori() * point.getStdXApriori());
+				diagonal[col++] += 1.0 / (point.getStdYApriori() * point.getStdYApriori());
+			}
+			if (point.getDimension() != 2)
+				diagonal[col] += 1.0 / (point.getStdZApriori() * point.getStdZApriori());
+		}
+		
+		// Zuordnung der Zeilen zu den Varianzkomponenten
+		Map<VarianceComponentType, Integer> componentIndex = new LinkedHashMap<VarianceComponentType, Integer>();
+		int rowComponent[] = new int[numberOfRows];
+		Arrays.fill(rowComponent, -1);
+		for (int i=0; i<this.numberOfObservations; i++) {
+			Observation observation = this.projectObservations.get(i);
+			VarianceComponentType vcType = VarianceComponentType.getVarianceComponentTypeByObservationType(observation.getObservationType());
+			if (vcType != null)
+				rowComponent[observation.getRowInJacobiMatrix()] = componentIndex.computeIfAbsent(vcType, type -> componentIndex.size());
+		}
+		for (Point point : this.pointsWithStochasticDeflection) {
+			int index = componentIndex.computeIfAbsent(VarianceComponentType.STOCHASTIC_DEFLECTION_COMPONENT, type -> componentIndex.size());
+			rowComponent[this.numberOfObservations + point.getVerticalDeflectionX().getColInJacobiMatrix()] = index;
+			rowComponent[this.numberOfObservations + point.getVerticalDeflectionY().getColInJacobiMatrix()] = index;
+		}
+		for (Point point : this.stochasticPoints) {
+			VarianceComponentType vcType = VarianceComponentType.getComponentTypeByPointDimension(point.getDimension());
+			if (vcType == null)
+				continue;
+			int index = componentIndex.computeIfAbsent(vcType, type -> componentIndex.size());
+			for (int d=0; d<point.getDimension(); d++)
+				rowComponent[this.numberOfObservations + point.getColInJacobiMatrix() + d] = index;
+		}
+		int numberOfComponents = componentIndex.size();
+		double numberOfComponentRows[] = new double[numberOfComponents];
+		for (int row=0; row<numberOfRows; row++)
+			if (rowComponent[row] >= 0 && (row < this.numberOfObservations || diagonal[row - this.numberOfObservations] > 0))
+				numberOfComponentRows[rowComponent[row]]++;
+		
+		// Summe der Produkte z*Hz je Zeile sowie Spur je Varianzkomponente und Zufallsvektor
+		double hutchinson[] = new double[numberOfRows];
+		List<double[]> componentTraces = new ArrayList<double[]>();
+		
+		int numberOfProbes = 0, requiredNumberOfProbes = 2 * TRACE_ESTIMATION_PROBES_PER_BATCH;
+		boolean isConverged = false;
+		while (!isConverged && numberOfProbes < maxNumberOfProbes && !this.interrupt) {
+			int batchSize = Math.min(Math.max(TRACE_ESTIMATION_PROBES_PER_BATCH, requiredNumberOfProbes - numberOfProbes), maxNumberOfProbes - numberOfProbes);
+			double zHz[][] = new double[batchSize][];
+			NotConvergedException exceptions[] = new NotConvergedException[batchSize];
+			int firstProbe = numberOfProbes;
+			this.parallelFor(batchSize, probe -> {
+				if (this.interrupt)
+					return;
+				SplittableRandom random = new SplittableRandom(firstProbe + probe);
+				double z[] = new double[numberOfRows];
+				DenseVector y = new DenseVector(u);
+				double yd[] = y.getData();
+				
+				// y = A'P^(1/2)*z
+				for (int row=0; row<this.numberOfObservations; row++) {
+					z[row] = random.nextBoolean() ? 1.0 : -1.0;
+					double sz = Math.sqrt(weights[row]) * z[row];
+					int offset = jacobiRowCache.offset(row);
+					int nnz = jacobiRowCache.getNonZeros(row);
+					for (int k=offset; k<offset + nnz; k++)
+						yd[columns[k]] += values[k] * sz;
+				}
+				for (int col=0; col<u; col++) {
+					if (diagonal[col] <= 0)
+						continue;
+					z[this.numberOfObservations + col] = random.nextBoolean() ? 1.0 : -1.0;
+					yd[col] += Math.sqrt(diagonal[col]) * z[this.numberOfObservations + col];
+				}
+
+				// y = Qxx*A'P^(1/2)*z
+				try {
+					solver.solve(y);
+				}
+				catch (NotConvergedException e) {
+					exceptions[probe] = e;
+					return;
+				}
+
+				// z*Hz = z*P^(1/2)*A*y
+				for (int row=0; row<this.numberOfObservations; row++) {
+					int offset = jacobiRowCache.offset(row);
+					int nnz = jacobiRowCache.getNonZeros(row);
+					double ay = 0.0;
+					for (int k=offset; k<offset + nnz; k++)
+						ay += values[k] * yd[columns[k]];
+					z[row] *= Math.sqrt(weights[row]) * ay;
+				}
+				for (int col=0; col<u; col++)
+					z[this.numberOfObservations + col] *= Math.sqrt(diagonal[col]) * yd[col];
+				zHz[probe] = z;
+			});
+			
+			for (NotConvergedException e : exceptions)
+				if (e != null)
+					throw e;
+			if (this.interrupt)
+				break;
+			
+			for (int probe=0; probe<batchSize; probe++) {
+				double traces[] = new double[numberOfComponents];
+				for (int row=0; row<numberOfRows; row++) {
+					hutchinson[row] += zHz[probe][row];
+					if (rowComponent[row] >= 0)
+						traces[rowComponent[row]] += zHz[probe][row];
+				}
+				componentTraces.add(traces);
+			}
+			numberOfProbes += batchSize;
+			
+			// Pruefe die Standardabweichung der Redundanz je Varianzkomponente und bestimme die Anzahl der Zufallsvektoren, 
+			// mit der die angestrebte Standardabweichung bei gleichbleibender Streuung erreicht wird
+			if (numberOfProbes < 2 * TRACE_ESTIMATION_PROBES_PER_BATCH)
+				continue;
+			isConverged = true;
+			for (int c=0; c<numberOfComponents; c++) {
+				double mean = 0.0, var = 0.0;
+				for (double traces[] : componentTraces)
+					mean += traces[c];
+				mean /= numberOfProbes;
+				for (double traces[] : componentTraces)
+					var += (traces[c] - mean) * (traces[c] - mean);
+				var /= numberOfProbes - 1.0;
+				double sigma = this.traceEstimationAccuracy * Math.max(numberOfComponentRows[c] - mean, 1.0);
+				if (var > sigma * sigma * numberOfProbes) {
+					isConverged = false;
+					requiredNumberOfProbes = (int)Math.min(maxNumberOfProbes, Math.max(requiredNumberOfProbes, Math.ceil(var / sigma / sigma)));
+				}
+			}
+		}
+		this.numberOfTraceEstimationProbes = numberOfProbes;
+		
+		if (this.interrupt || numberOfProbes == 0)
+			return null;
+		
+		double redundancies[] = new double[numberOfRows];
+		for (int row=0; row<numberOfRows; row++)
+			redundancies[row] = 1.0 - hutchinson[row] / numberOfProbes;
+		return redundancies;
+	}
+	
+	/**
+	 * Uebernimmt die mittels stochastischer Spurschaetzung genaeherten Redundanzanteile nach dem abschliessenden 
+	 * Parameterupdate und bestimmt hieraus &Omega;, die Varianzkomponenten und den Freiheitsgrad fuer den Globaltest. 
+	 * Der Freiheitsgrad ist ohne Datumsdefekt exakt bekannt und wird nicht geschaetzt. Die genaeherten Redundanzanteile 
+	 * gehen nur unbegrenzt in die Summen je Varianzkomponente ein, damit diese erwartungstreu bleiben. Fuer einzelne 
+	 * Beobachtungen sind sie zu ungenau und werden weder uebernommen noch gespeichert, d.h., die Redundanzanteile der 
+	 * Beobachtungen und Pseudo-Beobachtungen bleiben Null. Als effektiv fuer den Binomialtest gelten die Beobachtungen, 
+	 * deren normierte Verbesserung |v|/&sigma; nicht verschwindet, da nicht kontrollierte Beobachtungen keine 
+	 * Verbesserung erhalten.
+	 * 
+	 * @param redundancies vgl. {@link #estimateRedundanciesByTraceEstimation(NormalEquationSystem)}
+	 */
+	private void addTraceEstimatedRedundancies(double redundancies[]) {
+		this.omega = 0.0;
+		this.degreeOfFreedom = this.numberOfObservations + this.numberOfStochasticPointRows + this.numberOfStochasticDeflectionRows - this.numberOfUnknownParameters;
+		this.numberOfHypotesis = 0;
+		int totalNumberOfNegativeResiduals     = 0;
+		int totalNumberOfEffectiveObservations = 0;
+		
+		for (int i=0; i<this.numberOfObservations; i++) {
+			Observation observation = this.projectObservations.get(i);
+			double qll = observation.getStdApriori()*observation.getStdApriori();
+			double r   = redundancies[observation.getRowInJacobiMatrix()];
+			double v   = observation.getCorrection();
+			double omegaObs = v*v/qll;
+			observation.setRedundancy(0.0);
+			observation.setOmega(omegaObs);
+			this.omega += omegaObs;
+			
+			VarianceComponentType vcType = VarianceComponentType.getVarianceComponentTypeByObservationType(observation.getObservationType());
+			if (vcType != null && this.varianceComponents.containsKey(vcType)) {
+				VarianceComponent vc = this.varianceComponents.get(vcType);
+				vc.setOmega(vc.getOmega() + omegaObs);
+				vc.setRedundancy(vc.getRedundancy() + r);
+				vc.setNumberOfObservations(vc.getNumberOfObservations() + 1);
+				if (Math.abs(v) > SQRT_EPS * observation.getStdApriori()) {
+					vc.setNumberOfNegativeResiduals(vc.getNumberOfNegativeResiduals() + (v < 0 ? 1 : 0));
+					vc.setNumberOfEffectiveObservations(vc.getNumberOfEffectiveObservations() + 1);
+					totalNumberOfNegativeResiduals += v < 0 ? 1 : 0;
+					totalNumberOfEffectiveObservations++;
+				}
+			}
+		}
+		
+		for (Point point : this.pointsWithStochasticDeflection) {
+			VerticalDeflection deflections[] = new VerticalDeflection[] {point.getVerticalDeflectionX(), point.getVerticalDeflectionY()};
+			for (VerticalDeflection deflection : deflections) {
+				double r = redundancies[this.numberOfObservations + deflection.getColInJacobiMatrix()];
+				double v = deflection.getValue() - deflection.getValue0();
+				double omegaDeflection = v*v/deflection.getStdApriori()/deflection.getStdApriori();
+				deflection.setRedundancy(0.0);
+				deflection.setOmega(omegaDeflection);
+				this.omega += omegaDeflection;
+				
+				VarianceComponent vc = this.varianceComponents.get(VarianceComponentType.STOCHASTIC_DEFLECTION_COMPONENT);
+				if (vc != null) {
+					vc.setOmega(vc.getOmega() + omegaDeflection);
+					vc.setRedundancy(vc.getRedundancy() + r);
+					vc.setNumberOfObservations(vc.getNumberOfObservations() + 1);
+				}
+			}
+		}
+		
+		for (Point point : this.stochasticPoints) {
+			int dim = point.getDimension();
+			int col = point.getColInJacobiMatrix();
+			double v[] = new double[dim], qll[] = new double[dim];
+			int diag = 0;
+			if (dim != 1) {
+				v[diag] = point.getX() - point.getX0();
+				qll[diag++] = point.getStdXApriori()*point.getStdXApriori();
+				v[diag] = point.getY() - point.getY0();
+				qll[diag++] = point.getStdYApriori()*point.getStdYApriori();
+			}
+			if (dim != 2) {
+				v[diag] = point.getZ() - point.getZ0();
+				qll[diag++] = point.getStdZApriori()*point.getStdZApriori();
+			}
+			double omegaPoint = 0.0, sumDiagR = 0.0;
+			for (int d=0; d<dim; d++) {
+				sumDiagR += redundancies[this.numberOfObservations + col + d];
+				omegaPoint += v[d]*v[d]/qll[d];
+			}
+			point.setRedundancy(new double[dim]);
+			point.setOmega(omegaPoint);
+			this.omega += omegaPoint;
+			
+			VarianceComponentType vcType = VarianceComponentType.getComponentTypeByPointDimension(dim);
+			if (vcType != null && this.varianceComponents.containsKey(vcType)) {
+				VarianceComponent vc = this.varianceComponents.get(vcType);
+				vc.setOmega(vc.getOmega() + omegaPoint);
+				vc.setRedundancy(vc.getRedundancy() + sumDiagR);
+				vc.setNumberOfObservations(vc.getNumberOfObservations() + dim);
+			}
+		}
+		
+		// Fuege globales Modell zu VCE hinzu
+		VarianceComponent vc = new VarianceComponent(VarianceComponentType.GLOBAL);
+		vc.setRedundancy(this.degreeOfFreedom);
+		vc.setNumberOfObservations(this.numberOfObservations + this.numberOfStochasticPointRows + this.numberOfStochasticDeflectionRows);
+		vc.setNumberOfNegativeResiduals(totalNumberOfNegativeResiduals);
+		vc.setNumberOfEffectiveObservations(totalNumberOfEffectiveObservations);
+		vc.setOmega(this.omega);
+		this.varianceComponents.put(vc.getVarianceComponentType(), vc);
+
+		// ermittle kritische Werte zur Bewertung der VCE
+		this.significanceTestStatisticParameters = this.getSignificanceTestStatisticParameters();
+		this.binomialTestStatisticParameters     = this.getBinomialTestStatisticParameters();
+		for (VarianceComponent varianceEstimation : this.varianceComponents.values()) {
+			if (varianceEstimation.getRedundancy() > 0) {
+				this.significanceTestStatisticParameters.getTestStatisticParameter(varianceEstimation.getRedundancy(), Double.POSITIVE_INFINITY, varianceEstimation.getVarianceComponentType() == VarianceComponentType.GLOBAL);
+				this.binomialTestStatisticParameters.getTestStatisticParameter(varianceEstimation.getNumberOfEffectiveObservations(), 0.5);
+			}
+		}
+	}
+	
+	/**
+	 * Prueft, ob Beobachtungen einer spaeteren Epoche sequentiell in die vorliegende Loesung eingefuehrt werden koennen. 
+	 * Hierzu muss eine fehlerfreie Ausgleichung (L2-Norm) vorliegen, deren vollstaendige Kofaktormatrix Qxx noch verfuegbar ist, 
+	 * d.h., weder die duenn besetzte, iterative oder blockweise noch die ausgelagerte Loesung wurde angewandt. Bei freien Netzen 
+	 * ist Qxx die Inverse der um die Datums- und ggf. Strain-Bedingungen geraenderten Normalgleichung.
+	 * 
+	 * @return applicable
+	 */
+	public boolean isSequentialAdjustmentApplicable() {
+		int numberOfConditions = this.Qxx == null ? -1 : this.Qxx.numRows() - this.numberOfUnknownParameters;
+		return this.currentEstimationStatus == EstimationStateType.ERROR_FREE_ESTIMATION &&
+				this.Qxx instanceof UpperSymmPackMatrix && 
+				(numberOfConditions == 0 && this.rankDefect.getDefect() == 0 || this.freeNetwork && numberOfConditions >= this.rankDefect.getDefect()) &&
+				this.estimationType == EstimationType.L2NORM;
+	}
+	
+	/**
+	 * Fuehrt die Beobachtungen einer spaeteren Epoche, die mittels {@link #addSequentialObservationGroup(ObservationGroup)} 
+	 * hinzugefuegt wurden, sequentiell in die vorliegende Loesung ein, ohne die Normalgleichung erneut zu invertieren. 
+	 * Die Kofaktormatrix der vorangegangenen Ausgleichung wird hierzu um die k neuen Beobachtungen mittels 
+	 * Sherman-Morrison-Woodbury-Formel fortgeschrieben (Kalman-Filter ohne Systemrauschen) und um die m neuen 
+	 * Zusatzparameter (bspw. Orientierungen neuer Richtungssaetze) mittels Schur-Komplement erweitert. Der Aufwand 
+	 * betraegt O((k+m) u<sup>2</sup>) anstelle von O(u<sup>3</sup>). Die Parameter werden anschliessend mit der fortgeschriebenen 
+	 * Kofaktormatrix bis zur Konvergenz iteriert (iteriertes Kalman-Filter), wobei je Iteration nur die Zeilen der neuen 
+	 * Beobachtungen ausgewertet werden; die bisherige Loesung geht ueber Q<sub>0</sub> als Vorinformation ein. Lediglich im 
+	 * abschliessenden Durchlauf wird die vollstaendige Normalgleichung aufgestellt, da die Parameter der aeusseren Genauigkeit 
+	 * N benoetigen. Verbesserungen, Redundanzanteile, Varianzkomponenten und die Statistik der Deformationsanalyse werden 
+	 * hierbei fuer das gesamte Modell neu bestimmt.
+	 * 
+	 * Bei freien Netzen wird die Inverse der geraenderten Normalgleichung fortgeschrieben; die neuen Beobachtungen sind von 
+	 * den Datums- und Strain-Bedingungen unabhaengig, sodass die Loesung der vollstaendigen Ausgleichung mit denselben 
+	 * Datumspunkten entspricht.
+	 * 
+	 * Ist die Fortschreibung nicht moeglich (bspw. singulaeres Schur-Komplement), bleiben Modell und Kofaktormatrix unveraendert. 
+	 * Liegt keine geeignete Loesung vor (vgl. {@link #isSequentialAdjustmentApplicable()}), wird 
+	 * {@link EstimationStateType#SEQUENTIAL_ADJUSTMENT_NOT_APPLICABLE} geliefert; die vorliegende Loesung bleibt erhalten und 
+	 * die zurueckgehaltenen Beobachtungen werden verworfen.
+	 * 
+	 * @return state
+	 */
+	public EstimationStateType estimateSequentialModel() {
+		if (this.sequentialObservations.isEmpty() && this.sequentialAdditionalUnknownParameters.isEmpty()) 
+			return this.currentEstimationStatus;
+		
+		if (!this.isSequentialAdjustmentApplicable()) {
+			this.sequentialObservations.clear();
+			this.sequentialAdditionalUnknownParameters.clear();
+			this.currentEstimationStatus = EstimationStateType.SEQUENTIAL_ADJUSTMENT_NOT_APPLICABLE;
+			this.change.firePropertyChange(this.currentEstimationStatus.name(), false, true);
+			return this.currentEstimationStatus;
+		}
+		
+		this.maxDx = Double.MIN_VALUE;
+		this.currentMaxAbsDx = this.maxDx;
+		this.numberOfHypotesis = 0;
+		this.calculateStochasticParameters = false;
+		this.currentEstimationStatus = EstimationStateType.BUSY;
+		this.change.firePropertyChange(this.currentEstimationStatus.name(), false, true);
+		
+		int firstSequentialRow = this.numberOfObservations;
+		UpperSymmPackMatrix Qxx = null;
+		try {
+			Qxx = this.addSequentialObservationsToModel();
+		}
+		catch (MatrixSingularException | IllegalArgumentException e) {
+			e.printStackTrace();
+			this.currentEstimationStatus = EstimationStateType.SINGULAR_MATRIX;
+			this.change.firePropertyChange(this.currentEstimationStatus.name(), false, true);
+			return this.currentEstimationStatus;
+		}
+		catch (OutOfMemoryError e) {
+			e.printStackTrace();
+			this.currentEstimationStatus = EstimationStateType.OUT_OF_MEMORY;
+			this.change.firePropertyChange(this.currentEstimationStatus.name(), false, true);
+			return this.currentEstimationStatus;
+		}
+		
+		// Die Teststatistik haengt vom Freiheitsgrad ab und ist neu zu bestimmen
+		this.significanceTestStatisticParameters = null;
+		this.binomialTestStatisticParameters = null;
+		
+		// Summe der Zuschlaege seit der vorangegangenen Loesung (inkl. der Lagrange-Multiplikatoren der Bedingungen)
+		DenseVector sumDx = new DenseVector(Qxx.numRows());
+		int runs = this.maximalNumberOfIterations - 1;
+		boolean isEstimated = this.maximalNumberOfIterations == 0, estimateCompleteModel = false, isConverge = true;
+		do {
+			this.maxDx = Double.MIN_VALUE;
+			this.numberOfHypotesis = 0;
+			this.iterationStep = this.maximalNumberOfIterations - runs;
+			this.currentEstimationStatus = EstimationStateType.ITERATE;
+			this.change.firePropertyChange(this.currentEstimationStatus.name(), this.maximalNumberOfIterations, this.iterationStep);
+			
+			this.applySphericalVerticalDeflections();
+			this.resetVarianceComponents();
+			estimateCompleteModel = isEstimated;
+			
+			DenseVector n = null;
+			if (estimateCompleteModel) {
+				NormalEquationSystem neq = this.createNormalEquation();
+				if (this.interrupt || neq == null) {
+					this.currentEstimationStatus = EstimationStateType.INTERRUPT;
+					this.change.firePropertyChange(this.currentEstimationStatus.name(), false, true);
+					this.interrupt = false;
+					return this.currentEstimationStatus;
+				}
+				
+				n = neq.getVector();
+				Matrix N = neq.isOutOfCore() ? neq.getTiledMatrix() : neq.getMatrix();
+				try {
+					// Bestimme die Parameter der ausseren Genauigkeit mit der fortgeschriebenen Kofaktormatrix
+					this.calculateStochasticParameters = true;
+					this.sequentialCofactorMatrix = Qxx;
+					this.estimateFactorsForOutherAccracy(N, n);
+					this.sequentialCofactorMatrix = null;
+					
+					this.currentEstimationStatus = EstimationStateType.ESTIAMTE_STOCHASTIC_PARAMETERS;
+					this.change.firePropertyChange(this.currentEstimationStatus.name(), false, true);
+				}
+				finally {
+					if (neq.isOutOfCore())
+						neq.getTiledMatrix().close();
+				}
+			}
+			else {
+				n = this.getSequentialCorrection(Qxx, firstSequentialRow, sumDx);
+				sumDx.add(n);
+			}
+			
+			this.updateModel(n, null, estimateCompleteModel);
+			
+			if (this.interrupt) {
+				this.currentEstimationStatus = EstimationStateType.INTERRUPT;
+				this.change.firePropertyChange(this.currentEstimationStatus.name(), false, true);
+				this.interrupt = false;
+				return this.currentEstimationStatus;
+			}
+			
+			if (Double.isInfinite(this.maxDx) || Double.isNaN(this.maxDx)) {
+				this.currentEstimationStatus = EstimationStateType.SINGULAR_MATRIX;
+				this.change.firePropertyChange(this.currentEstimationStatus.name(), false, true);
+				return this.currentEstimationStatus;
+			}
+			else if (this.maxDx <= SQRT_EPS && runs > 0) {
+				isEstimated = true;
+				this.currentEstimationStatus = EstimationStateType.CONVERGENCE;
+				this.change.firePropertyChange(this.currentEstimationStatus.name(), SQRT_EPS, this.maxDx);
+			}
+			else if (runs-- <= 1) {
+				if (estimateCompleteModel) {
+					this.currentEstimationStatus = EstimationStateType.NO_CONVERGENCE;
+					this.change.firePropertyChange(this.currentEstimationStatus.name(), SQRT_EPS, this.maxDx);
+					isConverge = false;
+				}
+				isEstimated = true;
+			}
+			else {
+				this.currentEstimationStatus = EstimationStateType.CONVERGENCE;
+				this.change.firePropertyChange(this.currentEstimationStatus.name(), SQRT_EPS, this.maxDx);
+			}
+			
+			if (this.maxDx > Double.MIN_VALUE)
+				this.currentMaxAbsDx = this.maxDx;
+			else
+				this.maxDx = this.currentMaxAbsDx;
+		}
+		while (!estimateCompleteModel);
+		
+		// Exportiere CoVar (sofern aktiviert)
+		if (!this.exportCovarianceMatrix()) 
+			System.err.println("Fehler, Varianz-Kovarianz-Matrix konnte nicht exportiert werden.");
+		
+		if (!isConverge) {
+			this.currentEstimationStatus = EstimationStateType.NO_CONVERGENCE;
+			this.change.firePropertyChange(this.currentEstimationStatus.name(), SQRT_EPS, this.maxDx);
+		}
+		else {
+			this.currentEstimationStatus = EstimationStateType.ERROR_FREE_ESTIMATION;
+			this.change.firePropertyChange(this.currentEstimationStatus.name(), SQRT_EPS, this.maxDx);
+		}
+		return this.currentEstimationStatus;
+	}
+	
+	/**
+	 * Bestimmt den Zuschlag einer Iteration der sequentiellen Ausgleichung (iteriertes Kalman-Filter). Mit der Summe der 
+	 * bisherigen Zuschlaege &Delta; = x<sub>i</sub> - x<sub>0</sub>, den am Linearisierungspunkt x<sub>i</sub> bestimmten Zeilen A 
+	 * und Widerspruechen w der neuen Beobachtungen ergibt sich
+	 * 
+	 * dx = Qxx A'P(w + A&Delta;) - &Delta;
+	 * 
+	 * Es werden ausschliesslich die Zeilen der neuen Beobachtungen ab firstRow ausgewertet. Bei freien Netzen sind die 
+	 * Bedingungszeilen von A'P(w + A&Delta;) null.
+	 * 
+	 * @param Qxx fortgeschriebene Kofaktormatrix
+	 * @param firstRow erste Zeile der neuen Beobachtungen
+	 * @param sumDx Summe der bisherigen Zuschlaege
+	 * @return dx
+	 */
+	private DenseVector getSequentialCorrection(UpperSymmPackMatrix Qxx, int firstRow, DenseVector sumDx) {
+		this.invalidateJacobiRowCache();
+		DenseVector aTPw = new DenseVector(Qxx.numRows());
+		for (int i=firstRow; i<this.numberOfObservations; i++) {
+			Observation observation = this.projectObservations.get(i);
+			int row = this.getJacobiRow(observation);
+			int offset = this.jacobiRowCache.offset(row);
+			int nnz = this.jacobiRowCache.getNonZeros(row);
+			int columns[] = this.jacobiRowCache.getColumns();
+			double values[] = this.jacobiRowCache.getValues();
+			
+			double w = observation.getCorrection();
+			for (int j=offset; j<offset + nnz; j++)
+				w += values[j] * sumDx.get(columns[j]);
+			double pw = w / observation.getStdApriori() / observation.getStdApriori();
+			for (int j=offset; j<offset + nnz; j++)
+				aTPw.add(columns[j], values[j] * pw);
+		}
+		
+		DenseVector dx = new DenseVector(Qxx.numRows());
+		Qxx.mult(aTPw, dx);
+		dx.add(-1.0, sumDx);
+		return dx;
+	}
+	
+	/**
+	 * Fuegt die Beobachtungen und Zusatzparameter der sequentiellen Ausgleichung dem Modell hinzu und liefert die 
+	 * fortgeschriebene Kofaktormatrix. Fuer die k neuen Beobachtungen mit den Zeilen B (bisherige Parameter) und 
+	 * C (neue Zusatzparameter) der Jacobi-Matrix ergibt sich
+	 * 
+	 * Q<sub>1</sub> = (N<sub>0</sub> + B'PB)<sup>-1</sup> = Q<sub>0</sub> - Q<sub>0</sub>B'(P<sup>-1</sup> + BQ<sub>0</sub>B')<sup>-1</sup>BQ<sub>0</sub>
+	 * 
+	 * und mit E = Q<sub>1</sub>B'PC sowie dem Schur-Komplement S = C'PC - C'PBE die erweiterte Kofaktormatrix
+	 * 
+	 * Qxx = Q<sub>1</sub> + ES<sup>-1</sup>E'   -ES<sup>-1</sup>
+	 *       -S<sup>-1</sup>E'            S<sup>-1</sup>
+	 * 
+	 * Bei freien Netzen ist Q<sub>0</sub> die Inverse der geraenderten Normalgleichung; B erhaelt in den Bedingungsspalten 
+	 * Nullen und die Spalten der neuen Zusatzparameter werden, wie in {@link #createNormalEquation()}, vor den Bedingungen 
+	 * angeordnet.
+	 * 
+	 * Die Fortschreibung erfolgt an einer Kopie von Q<sub>0</sub>; das Modell wird erst erweitert, wenn Qxx vorliegt. 
+	 * Schlaegt die Fortschreibung fehl, bleiben Modell und Kofaktormatrix der vorangegangenen Ausgleichung erhalten.
+	 * 
+	 * @return Qxx
+	 * @throws MatrixSingularException
+	 * @throws IllegalArgumentException
+	 */
+	private UpperSymmPackMatrix addSequentialObservationsToModel() throws MatrixSingularException, IllegalArgumentException {
+		UpperSymmPackMatrix Q0 = (UpperSymmPackMatrix)this.Qxx;
+		int u = this.numberOfUnknownParameters;
+		int m = this.sequentialAdditionalUnknownParameters.size();
+		// Anzahl der Zeilen von Q0 inkl. der Datums- und Strain-Bedingungen des freien Netzes
+		int r = Q0.numRows();
+		
+		// Alle noch nicht beruecksichtigten Beobachtungen der Parameter werden analog zu addObservations() uebernommen,
+		// damit die Beobachtungen der neuen Zusatzparameter nicht hinter den Pseudo-Beobachtungen eingefuegt werden
+		Set<Observation> sequentialObservations = new LinkedHashSet<Observation>(this.sequentialObservations);
+		List<UnknownParameter> parameters = new ArrayList<UnknownParameter>(this.sequentialAdditionalUnknownParameters);
+		for (int i=0; i<this.unknownParameters.size(); i++)
+			parameters.add(this.unknownParameters.get(i));
+		for (UnknownParameter parameter : parameters) {
+			for (int i=0; i<parameter.getObservations().size(); i++) {
+				Observation observation = parameter.getObservations().get(i);
+				if (observation.getRowInJacobiMatrix() < 0)
+					sequentialObservations.add(observation);
+			}
+		}
+		List<Observation> observations = new ArrayList<Observation>(sequentialObservations);
+		int k = observations.size();
+		
+		// Neue Zusatzparameter erhalten vorlaeufig die Spalten hinter den bisherigen Parametern; die Zeilen der Jacobi-Matrix 
+		// der neuen Beobachtungen werden am aktuellen Linearisierungspunkt in einem separaten Zwischenspeicher bestimmt
+		for (int l=0; l<m; l++)
+			this.sequentialAdditionalUnknownParameters.get(l).setColInJacobiMatrix(u + l);
+		
+		UpperSymmPackMatrix Qxx = null;
+		try {
+			JacobiRowCache jacobiRowCache = new JacobiRowCache(k);
+			for (int i=0; i<k; i++)
+				this.setJacobiRow(jacobiRowCache, observations.get(i), i);
+			
+			int columns[] = jacobiRowCache.getColumns();
+			double values[] = jacobiRowCache.getValues();
+			Matrix B = new DenseMatrix(k, r);
+			Matrix PC = new DenseMatrix(k, m);
+			Matrix C = new DenseMatrix(k, m);
+			double weights[] = new double[k];
+			for (int i=0; i<k; i++) {
+				Observation observation = observations.get(i);
+				int offset = jacobiRowCache.offset(i);
+				int nnz = jacobiRowCache.getNonZeros(i);
+				weights[i] = 1.0/observation.getStdApriori()/observation.getStdApriori();
+				for (int j=offset; j<offset + nnz; j++) {
+					if (columns[j] < u)
+						B.set(i, columns[j], values[j]);
+					else {
+						C.set(i, columns[j] - u, values[j]);
+						PC.set(i, columns[j] - u, weights[i] * values[j]);
+					}
+				}
+			}
+			
+			// Q1 = (N0 + B'PB)^-1
+			UpperSymmPackMatrix Q1 = new UpperSymmPackMatrix(Q0, true);
+			MathExtension.update(Q1, B, weights);
+			if (m == 0)
+				Qxx = Q1;
+			else {
+				// E = Q1 * B'PC
+				Matrix BtPC = new DenseMatrix(r, m);
+				B.transAmult(PC, BtPC);
+				Matrix E = new DenseMatrix(r, m);
+				Q1.mult(BtPC, E);
+				
+				// S = C'PC - C'PB * E
+				Matrix CtPC = new DenseMatrix(m, m);
+				C.transAmult(PC, CtPC);
+				Matrix CtPBE = new DenseMatrix(m, m);
+				BtPC.transAmult(E, CtPBE);
+				UpperSymmPackMatrix S = new UpperSymmPackMatrix(m);
+				for (int i=0; i<m; i++)
+					for (int j=i; j<m; j++)
+						S.set(i, j, CtPC.get(i, j) - CtPBE.get(i, j));
+				MathExtension.inv(S);
+				
+				// F = E * S^-1
+				Matrix F = new DenseMatrix(r, m);
+				E.mult(S, F);
+				
+				// Zeilen/Spalten von Q1 ab u (Bedingungen) werden um die m neuen Zusatzparameter verschoben
+				Qxx = new UpperSymmPackMatrix(r + m);
+				for (int j=0; j<r; j++) {
+					int col = j < u ? j : j + m;
+					for (int i=0; i<=j; i++) {
+						int row = i < u ? i : i + m;
+						double q = Q1.get(i, j);
+						for (int l=0; l<m; l++)
+							q += F.get(i, l) * E.get(j, l);
+						Qxx.set(row, col, q);
+					}
+				}
+				for (int l=0; l<m; l++) {
+					for (int i=0; i<r; i++) {
+						int row = i < u ? i : i + m;
+						Qxx.set(Math.min(row, u + l), Math.max(row, u + l), -F.get(i, l));
+					}
+					for (int j=l; j<m; j++)
+						Qxx.set(u + l, u + j, S.get(l, j));
+				}
+			}
+		}
+		finally {
+			if (Qxx == null) {
+				for (AdditionalUnknownParameter additionalUnknownParameter : this.sequentialAdditionalUnknownParameters)
+					additionalUnknownParameter.setColInJacobiMatrix(-1);
+			}
+		}
+		
+		// Neue Beobachtungen erhalten die Zeilen hinter den bisherigen Beobachtungen
+		for (Observation observation : observations) {
+			observation.setRowInJacobiMatrix(this.numberOfObservations++);
+			this.projectObservations.add(observation);
+			VarianceComponentType vcType = VarianceComponentType.getVarianceComponentTypeByObservationType(observation.getObservationType());
+			if (vcType != null && !this.varianceComponents.containsKey(vcType))
+				this.varianceComponents.put(vcType, new VarianceComponent(vcType));
+		}
+		this.sequentialObservations.clear();
+		
+		// Die Pseudo-Beobachtungen der stochastischen Lotabweichungen und Punkte folgen den Beobachtungen
+		int row = this.numberOfObservations;
+		for (Point point : this.pointsWithStochasticDeflection) {
+			point.getVerticalDeflectionX().setRowInJacobiMatrix(row++);
+			point.getVerticalDeflectionY().setRowInJacobiMatrix(row++);
 		}
-
-		return this.currentEstimationStatus;
+		for (Point point : this.stochasticPoints) {
+			point.setRowInJacobiMatrix(row);
+			row += point.getDimension();
+		}
+		
+		// Neue Zusatzparameter werden in der Reihenfolge der vorlaeufigen Spalten uebernommen
+		for (AdditionalUnknownParameter additionalUnknownParameter : this.sequentialAdditionalUnknownParameters)
+			this.addUnknownParameter(additionalUnknownParameter);
+		this.sequentialAdditionalUnknownParameters.clear();
+		this.invalidateJacobiRowCache();
+		
+		this.Qxx = Qxx;
+		return Qxx;
 	}
 	
 	/**
@@ -2453,18 +4614,37 @@ public class NetworkAdjustment implements Runnable {
 	 * Modifiziert die Beobachtung observation(index) fuer die
 	 * Unscented Transformation (bzw. macht die Modifikation rueckgaengig)
 	 * @param index
-	 * @param signum
 	 * @param scale
+	 * @return value unveraenderter A-priori-Wert der Beobachtung
+	 */
+	private double prepareModifiedUnscentedTransformationObservation(int index, double scale) {
+		return this.setUnscentedTransformationObservation(index, (value, std) -> value + scale * std);
+	}
+	
+	/**
+	 * Setzt die Beobachtung observation(index) auf den zuvor mittels 
+	 * {@link #prepareModifiedUnscentedTransformationObservation(int, double)} gesicherten A-priori-Wert zurueck
+	 * @param index
+	 * @param value
+	 */
+	private void restoreModifiedUnscentedTransformationObservation(int index, double value) {
+		this.setUnscentedTransformationObservation(index, (v, std) -> value);
+	}
+	
+	/**
+	 * Ueberschreibt den A-priori-Wert der Beobachtung observation(index) mit dem Ergebnis von 
+	 * modification(value, std) und liefert den bisherigen Wert
+	 * @param index
+	 * @param modification
+	 * @return value
 	 */
-	private void prepareModifiedUnscentedTransformationObservation(int index, double scale) {
+	private double setUnscentedTransformationObservation(int index, DoubleBinaryOperator modification) {
 		if (index < this.numberOfObservations) {
 			Observation observation = this.projectObservations.get(index);
 
-			double std   = observation.getStdApriori();
 			double value = observation.getValueApriori();
-
-			value = value + scale * std;
-			observation.setValueApriori(value);
+			observation.setValueApriori(modification.applyAsDouble(value, observation.getStdApriori()));
+			return value;
 		}
 		else if (index < this.numberOfObservations + this.numberOfStochasticDeflectionRows) {
 			int deflectionIdx  = index - this.numberOfObservations;
@@ -2476,20 +4656,16 @@ public class NetworkAdjustment implements Runnable {
 			if (deflectionType == 0) {
 				VerticalDeflection deflectionX = point.getVerticalDeflectionX();
 
-				double std   = deflectionX.getStdApriori();
 				double value = deflectionX.getValue0();
-
-				value = value + scale * std;
-				deflectionX.setValue0(value);
+				deflectionX.setValue0(modification.applyAsDouble(value, deflectionX.getStdApriori()));
+				return value;
 			}
 			else {
 				VerticalDeflection deflectionY = point.getVerticalDeflectionY();
 
-				double std   = deflectionY.getStdApriori();
 				double value = deflectionY.getValue0();
-
-				value = value + scale * std;
-				deflectionY.setValue0(value);
+				deflectionY.setValue0(modification.applyAsDouble(value, deflectionY.getStdApriori()));
+				return value;
 			}
 		}
 		else if (index < this.numberOfObservations + this.numberOfStochasticDeflectionRows + this.numberOfStochasticPointRows) {
@@ -2507,32 +4683,27 @@ public class NetworkAdjustment implements Runnable {
 					if (pointIdx == j + d) {
 						if (dim != 1) {
 							if (d == 0) {
-								double std   = point.getStdXApriori();
 								double value = point.getX0();
-
-								value = value + scale * std;
-								point.setX0(value);
+								point.setX0(modification.applyAsDouble(value, point.getStdXApriori()));
+								return value;
 							}
 							else if (d == 1) {
-								double std   = point.getStdYApriori();
 								double value = point.getY0();
-
-								value = value + scale * std;
-								point.setY0(value);
+								point.setY0(modification.applyAsDouble(value, point.getStdYApriori()));
+								return value;
 							}
 						}
 						if (dim != 2 && d == dim-1) {
-							double std   = point.getStdZApriori();
 							double value = point.getZ0();
-
-							value = value + scale * std;
-							point.setZ0(value);
+							point.setZ0(modification.applyAsDouble(value, point.getStdZApriori()));
+							return value;
 						}
 					}
 				}
 				break;
 			}
 		}
+		return Double.NaN;
 	}
 	
 	/**
@@ -2702,6 +4873,245 @@ public class NetworkAdjustment implements Runnable {
 			vUT.add(weight, this.getResiduals());
 	}
 	
+	/**
+	 * Prueft, ob die Sigma-Punkte der Unscented Transformation parallel bestimmt werden koennen.
+	 * Dies ist nur bei der modifizierten UT moeglich, da hier jeder Sigma-Punkt genau eine 
+	 * Beobachtung veraendert und die Loesungen somit unabhaengig voneinander sind.
+	 * 
+	 * @param numberOfEstimationSteps
+	 * @return applicable
+	 */
+	private boolean isParallelUnscentedTransformationApplicable(int numberOfEstimationSteps) {
+		return this.estimationType == EstimationType.MODIFIED_UNSCENTED_TRANSFORMATION && this.numberOfThreads > 1 && numberOfEstimationSteps > 2;
+	}
+	
+	/**
+	 * Liefert die Anzahl der Sigma-Punkte, die gleichzeitig bestimmt werden. Diese ist durch die Anzahl der Threads 
+	 * sowie durch den verfuegbaren Speicher begrenzt, da je Sigma-Punkt eine Normalgleichung vorgehalten wird.
+	 * 
+	 * @return size
+	 */
+	private int getNumberOfConcurrentSigmaPoints() {
+		long size  = this.numberOfUnknownParameters + this.rankDefect.getDefect();
+		long bytes = 8L * size * (size + 1L) / 2L;
+		Runtime runtime = Runtime.getRuntime();
+		long availableMemory = runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+		return (int)Math.max(1L, Math.min(this.numberOfThreads, availableMemory / Math.max(1L, 2L * bytes)));
+	}
+	
+	/**
+	 * Schreibt die aktuellen Werte der unbekannten Parameter in das Feld values. Die Position 
+	 * im Feld entspricht der Spalte des Parameters in der Jacobi-Matrix.
+	 * 
+	 * @param values
+	 */
+	private void getUnknownParameterValues(double values[]) {
+		for (int i=0; i<this.unknownParameters.size(); i++) {
+			UnknownParameter unknownParameter = this.unknownParameters.get(i);
+			int col = unknownParameter.getColInJacobiMatrix();
+			if (unknownParameter instanceof Point) {
+				Point point = (Point)unknownParameter;
+				int dim = point.getDimension();
+				if (dim != 1) {
+					values[col++] = point.getX();
+					values[col++] = point.getY();
+				}
+				if (dim != 2)
+					values[col] = point.getZ();
+			}
+			else if (unknownParameter instanceof VerticalDeflection)
+				values[col] = ((VerticalDeflection)unknownParameter).getValue();
+			else if (unknownParameter instanceof AdditionalUnknownParameter)
+				values[col] = ((AdditionalUnknownParameter)unknownParameter).getValue();
+			else if (unknownParameter instanceof StrainParameter)
+				values[col] = ((StrainParameter)unknownParameter).getValue();
+		}
+	}
+	
+	/**
+	 * Ueberschreibt die unbekannten Parameter mit den Werten aus values und aendert somit den 
+	 * Linearisierungspunkt (vgl. {@link #getUnknownParameterValues(double[])})
+	 * 
+	 * @param values
+	 */
+	private void setUnknownParameterValues(double values[]) {
+		this.invalidateJacobiRowCache();
+		for (int i=0; i<this.unknownParameters.size(); i++) {
+			UnknownParameter unknownParameter = this.unknownParameters.get(i);
+			int col = unknownParameter.getColInJacobiMatrix();
+			if (unknownParameter instanceof Point) {
+				Point point = (Point)unknownParameter;
+				int dim = point.getDimension();
+				if (dim != 1) {
+					point.setX(values[col++]);
+					point.setY(values[col++]);
+				}
+				if (dim != 2)
+					point.setZ(values[col]);
+			}
+			else if (unknownParameter instanceof VerticalDeflection)
+				((VerticalDeflection)unknownParameter).setValue(values[col]);
+			else if (unknownParameter instanceof AdditionalUnknownParameter)
+				((AdditionalUnknownParameter)unknownParameter).setValue(values[col]);
+			else if (unknownParameter instanceof StrainParameter)
+				((StrainParameter)unknownParameter).setValue(values[col]);
+		}
+	}
+	
+	/**
+	 * Bestimmt die Loesungen der 2n Sigma-Punkte der modifizierten Unscented Transformation. Die Parameter werden 
+	 * je Sigma-Punkt separat vorgehalten, sodass die Sigma-Punkte unabhaengig voneinander iteriert werden koennen. 
+	 * Als gemeinsame Naeherung dient die Loesung mit unveraenderten Beobachtungen. Die Loesungen werden in der 
+	 * Reihenfolge der Sigma-Punkte mittels {@link #addUnscentedTransformationSolution(Vector, Vector, Vector, Matrix, int, double)} 
+	 * akkumuliert. Abschliessend enthaelt das Modell die Parameter der Loesung mit unveraenderten Beobachtungen, sodass 
+	 * der abschliessende Durchlauf in {@link #estimateModel()} diese nicht erneut iterieren muss. Liefert die Methode 
+	 * {@link EstimationStateType#NO_CONVERGENCE}, ist mind. ein Sigma-Punkt oder die gemeinsame Naeherung nicht konvergiert.
+	 * 
+	 * @param numObs Anzahl der Beobachtungen (inkl. stochastischer Punkte und Lotabweichungen)
+	 * @param sigmaUT Skalierung der Sigma-Punkte
+	 * @param weight UT-Gewicht der Sigma-Punkte
+	 * @param xUT UT-Loesung
+	 * @param solutionVectors Matrix mit allen UT-Loesungen
+	 * @return estimateStatus
+	 */
+	private EstimationStateType estimateModifiedUnscentedTransformationSigmaPoints(int numObs, double sigmaUT, double weight, Vector xUT, Matrix solutionVectors) {
+		int numberOfSigmaPoints = 2 * numObs;
+		int numberOfConcurrentSigmaPoints = this.getNumberOfConcurrentSigmaPoints();
+		boolean isConverge = true;
+		
+		// Bestimme die Loesung mit unveraenderten Beobachtungen als gemeinsame Naeherung aller Sigma-Punkte
+		this.resetDatumPoints();
+		UnscentedTransformationSigmaPoint centralSigmaPoint = new UnscentedTransformationSigmaPoint(numberOfSigmaPoints, 0, 0.0, this.numberOfUnknownParameters, this.maximalNumberOfIterations - 1);
+		this.getUnknownParameterValues(centralSigmaPoint.getParameters());
+		EstimationStateType estimationStatus = this.estimateUnscentedTransformationSigmaPoints(List.of(centralSigmaPoint), numberOfSigmaPoints + 1);
+		if (estimationStatus == EstimationStateType.INTERRUPT || estimationStatus == EstimationStateType.SINGULAR_MATRIX)
+			return estimationStatus;
+		isConverge = estimationStatus != EstimationStateType.NO_CONVERGENCE;
+		
+		// Reset der unbekannten Datumsparameter
+		this.setUnknownParameterValues(centralSigmaPoint.getParameters());
+		this.resetDatumPoints();
+		double initialValues[] = new double[this.numberOfUnknownParameters];
+		this.getUnknownParameterValues(initialValues);
+		
+		for (int firstSigmaPoint = 0; firstSigmaPoint < numberOfSigmaPoints; firstSigmaPoint += numberOfConcurrentSigmaPoints) {
+			int lastSigmaPoint = Math.min(firstSigmaPoint + numberOfConcurrentSigmaPoints, numberOfSigmaPoints);
+			List<UnscentedTransformationSigmaPoint> sigmaPoints = new ArrayList<UnscentedTransformationSigmaPoint>(lastSigmaPoint - firstSigmaPoint);
+
+			for (int estimationStep = firstSigmaPoint; estimationStep < lastSigmaPoint; estimationStep++) {
+				double signum = estimationStep < numObs ? +1.0 : -1.0;
+				UnscentedTransformationSigmaPoint sigmaPoint = new UnscentedTransformationSigmaPoint(estimationStep, estimationStep % numObs, signum * sigmaUT, this.numberOfUnknownParameters, this.maximalNumberOfIterations - 1);
+				// stochastische Punkte und Lotabweichungen starten bei ihren modifizierten Beobachtungen, da setX0() bzw. setValue0() 
+				// auch den Parameter setzen; der gesicherte A-priori-Wert wird anschliessend exakt wiederhergestellt
+				this.setUnknownParameterValues(initialValues);
+				double value = this.prepareModifiedUnscentedTransformationObservation(sigmaPoint.getIndex(), sigmaPoint.getScale());
+				this.getUnknownParameterValues(sigmaPoint.getParameters());
+				this.restoreModifiedUnscentedTransformationObservation(sigmaPoint.getIndex(), value);
+				sigmaPoints.add(sigmaPoint);
+			}
+
+			estimationStatus = this.estimateUnscentedTransformationSigmaPoints(sigmaPoints, numberOfSigmaPoints + 1);
+			if (estimationStatus == EstimationStateType.INTERRUPT || estimationStatus == EstimationStateType.SINGULAR_MATRIX)
+				return estimationStatus;
+			isConverge = isConverge && estimationStatus != EstimationStateType.NO_CONVERGENCE;
+
+			// Akkumuliere die Loesungen in der Reihenfolge der Sigma-Punkte
+			for (UnscentedTransformationSigmaPoint sigmaPoint : sigmaPoints) {
+				this.setUnknownParameterValues(sigmaPoint.getSolutionParameters());
+				this.addUnscentedTransformationSolution(sigmaPoint.getSolution(), xUT, null, solutionVectors, sigmaPoint.getEstimationStep(), weight);
+			}
+		}
+		
+		this.setUnknownParameterValues(centralSigmaPoint.getParameters());
+		return isConverge ? EstimationStateType.CONVERGENCE : EstimationStateType.NO_CONVERGENCE;
+	}
+	
+	/**
+	 * Iteriert die Sigma-Punkte bis zur Konvergenz. Die Normalgleichungen werden nacheinander aufgestellt, da hierfuer 
+	 * das Modell auf den jeweiligen Linearisierungspunkt gesetzt wird, und anschliessend parallel geloest. Das 
+	 * Abbruchkriterium entspricht dem der regulaeren Iteration in {@link #estimateModel()}.
+	 * 
+	 * @param sigmaPoints
+	 * @param numberOfEstimationSteps
+	 * @return estimateStatus
+	 */
+	private EstimationStateType estimateUnscentedTransformationSigmaPoints(List<UnscentedTransformationSigmaPoint> sigmaPoints, int numberOfEstimationSteps) {
+		boolean isConverge = true;
+		List<UnscentedTransformationSigmaPoint> activeSigmaPoints = new ArrayList<UnscentedTransformationSigmaPoint>(sigmaPoints);
+		try {
+			while (!activeSigmaPoints.isEmpty()) {
+				// Aufstellen der Normalgleichungen am jeweiligen Linearisierungspunkt
+				for (UnscentedTransformationSigmaPoint sigmaPoint : activeSigmaPoints) {
+					double value = this.prepareModifiedUnscentedTransformationObservation(sigmaPoint.getIndex(), sigmaPoint.getScale());
+					this.setUnknownParameterValues(sigmaPoint.getParameters());
+					this.applySphericalVerticalDeflections();
+					NormalEquationSystem neq = this.isSparseNormalEquationApplicable() ? this.createSparseNormalEquation() : this.createNormalEquation();
+					this.restoreModifiedUnscentedTransformationObservation(sigmaPoint.getIndex(), value);
+
+					if (this.interrupt || neq == null)
+						return EstimationStateType.INTERRUPT;
+
+					sigmaPoint.setNormalEquationSystem(neq);
+				}
+
+				// Loese Nx=n je Sigma-Punkt und ueberschreibe n durch die Loesung x
+				this.parallelFor(activeSigmaPoints.size(), i -> {
+					NormalEquationSystem neq = activeSigmaPoints.get(i).getNormalEquationSystem();
+					if (neq.isSparse())
+						MathExtension.solve(neq.getSparseMatrix(), neq.getVector());
+					else
+						MathExtension.solve(neq.getMatrix(), neq.getVector(), false);
+				});
+
+				if (this.interrupt)
+					return EstimationStateType.INTERRUPT;
+
+				// Parameterupdate und Konvergenzpruefung je Sigma-Punkt
+				for (UnscentedTransformationSigmaPoint sigmaPoint : activeSigmaPoints) {
+					Vector dx = sigmaPoint.getNormalEquationSystem().getVector();
+					sigmaPoint.setNormalEquationSystem(null);
+					boolean estimateCompleteModel = sigmaPoint.isEstimated();
+					if (estimateCompleteModel)
+						sigmaPoint.setSolution(dx);
+
+					double value = this.prepareModifiedUnscentedTransformationObservation(sigmaPoint.getIndex(), sigmaPoint.getScale());
+					this.setUnknownParameterValues(sigmaPoint.getParameters());
+					this.maxDx = Double.MIN_VALUE;
+					this.updateModel(dx, null, false);
+					this.getUnknownParameterValues(sigmaPoint.getParameters());
+					this.restoreModifiedUnscentedTransformationObservation(sigmaPoint.getIndex(), value);
+
+					if (this.interrupt)
+						return EstimationStateType.INTERRUPT;
+
+					if (Double.isInfinite(this.maxDx) || Double.isNaN(this.maxDx))
+						return EstimationStateType.SINGULAR_MATRIX;
+					else if (this.maxDx <= SQRT_EPS && sigmaPoint.getRuns() > 0)
+						sigmaPoint.setEstimated(true);
+					else if (sigmaPoint.decrementRuns() <= 1) {
+						if (estimateCompleteModel)
+							isConverge = false;
+						sigmaPoint.setEstimated(true);
+					}
+
+					if (estimateCompleteModel) {
+						sigmaPoint.setFinished(true);
+						if (sigmaPoint.getEstimationStep() < numberOfEstimationSteps - 1) {
+							this.currentEstimationStatus = EstimationStateType.UNSCENTED_TRANSFORMATION_STEP;
+							this.change.firePropertyChange(this.currentEstimationStatus.name(), numberOfEstimationSteps, sigmaPoint.getEstimationStep()+1);
+						}
+					}
+				}
+				activeSigmaPoints.removeIf(sigmaPoint -> sigmaPoint.isFinished());
+			}
+		}
+		catch (MatrixSingularException | MatrixNotSPDException | IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+			e.printStackTrace();
+			return EstimationStateType.SINGULAR_MATRIX;
+		}
+		return isConverge ? EstimationStateType.CONVERGENCE : EstimationStateType.NO_CONVERGENCE;
+	}
+	
 	/**
 	 * Aktualisiert die unbekannten Groessen nach der Iteration
 	 * @param X Updatevektor
@@ -2729,6 +5139,9 @@ public class NetworkAdjustment implements Runnable {
 				vVec = this.getCorrectionVector(dX);
 			}
 		}
+		
+		// Der Linearisierungspunkt wird veraendert, sodass die zwischengespeicherte Jacobi-Matrix ungueltig wird
+		this.invalidateJacobiRowCache();
 	
 		for (int i=0; i<this.unknownParameters.size(); i++) {
 			if (this.interrupt)
@@ -3848,6 +6261,7 @@ public class NetworkAdjustment implements Runnable {
 	
 	private void addSubRedundanceAndCofactor2Observations() {
 		Set<Integer> gnssObsIds = new LinkedHashSet<Integer>();
+		List<Observation> observations = new ArrayList<Observation>(this.numberOfObservations);
 		for (int i=0; i<this.numberOfObservations; i++) {
 			Observation observation = this.projectObservations.get(i);
 			boolean isGNSS = observation.getObservationType() == ObservationType.GNSS1D || observation.getObservationType() == ObservationType.GNSS2D || observation.getObservationType() == ObservationType.GNSS3D;
@@ -3858,7 +6272,24 @@ public class NetworkAdjustment implements Runnable {
 			if (isGNSS)
 				gnssObsIds.add(observation.getId());
 
-			this.addSubRedundanceAndCofactor( observation );
+			observations.add(observation);
+		}
+		
+		// Die Redundanzanteile der Beobachtungen sind voneinander unabhaengig und werden parallel bestimmt;
+		// die Gesamtredundanz wird anschliessend in der Reihenfolge der Beobachtungen aufsummiert
+		this.completeJacobiRowCache();
+		double redundancies[] = new double[observations.size()];
+		this.parallelFor(observations.size(), i -> {
+			if (!this.interrupt)
+				redundancies[i] = this.estimateSubRedundanceAndCofactor(observations.get(i));
+		});
+		
+		for (int i=0; i<redundancies.length; i++) {
+			double rr = redundancies[i];
+			if (rr > SQRT_EPS)
+				this.numberOfHypotesis++;
+
+			this.degreeOfFreedom += rr;
 		}
 	}
 	
@@ -4327,6 +6758,55 @@ public class NetworkAdjustment implements Runnable {
 		return false;
 	}
 	
+	/**
+	 * Fuegt die Beobachtungen einer Gruppe (bspw. einer spaeteren Epoche) fuer die sequentielle Ausgleichung hinzu, 
+	 * vgl. {@link #estimateSequentialModel()}. Die Beobachtungen duerfen nur Punkte verknuepfen, die bereits Teil 
+	 * des Modells sind. Liegt keine sequentiell fortschreibbare Loesung vor (vgl. {@link #isSequentialAdjustmentApplicable()}) oder 
+	 * verletzt eine Beobachtung diese Bedingung, wird die Gruppe ignoriert und dies mittels 
+	 * {@link EstimationStateType#SEQUENTIAL_ADJUSTMENT_NOT_APPLICABLE} (neuer Wert: ID der Gruppe) gemeldet.
+	 * @param observationGroup
+	 * @return isAdded
+	 */
+	public boolean addSequentialObservationGroup(ObservationGroup observationGroup) {
+		boolean isApplicable = this.isSequentialAdjustmentApplicable();
+		for (int i=0; i<observationGroup.size() && isApplicable; i++) {
+			Observation observation = observationGroup.get(i);
+			isApplicable = observation.getRowInJacobiMatrix() < 0 &&
+					this.allPoints.get(observation.getStartPoint().getName()) == observation.getStartPoint() && 
+					this.allPoints.get(observation.getEndPoint().getName()) == observation.getEndPoint();
+		}
+		
+		if (!isApplicable) {
+			this.change.firePropertyChange(EstimationStateType.SEQUENTIAL_ADJUSTMENT_NOT_APPLICABLE.name(), null, observationGroup.getId());
+			return false;
+		}
+		
+		for (int i=0; i<observationGroup.size(); i++) {
+			Observation observation = observationGroup.get(i);
+			if (!this.sequentialObservations.contains(observation))
+				this.sequentialObservations.add(observation);
+		}
+		return true;
+	}
+	
+	/**
+	 * Fuegt einen Zusatzparameter (bspw. die Orientierung eines neuen Richtungssatzes) fuer die sequentielle 
+	 * Ausgleichung hinzu, vgl. {@link #estimateSequentialModel()}. Ein bereits vorhandener oder nicht mit Beobachtungen 
+	 * verknuepfter Parameter wird ignoriert; dies wird mittels {@link EstimationStateType#SEQUENTIAL_ADJUSTMENT_NOT_APPLICABLE} 
+	 * (neuer Wert: Parameter) gemeldet.
+	 * @param additionalUnknownParameter
+	 * @return isAdded
+	 */
+	public boolean addSequentialAdditionalUnknownParameter(AdditionalUnknownParameter additionalUnknownParameter) {
+		if (this.unknownParameters.contains(additionalUnknownParameter) || this.sequentialAdditionalUnknownParameters.contains(additionalUnknownParameter) ||
+				additionalUnknownParameter.getObservations().size() == 0) {
+			this.change.firePropertyChange(EstimationStateType.SEQUENTIAL_ADJUSTMENT_NOT_APPLICABLE.name(), null, additionalUnknownParameter);
+			return false;
+		}
+		this.sequentialAdditionalUnknownParameters.add(additionalUnknownParameter);
+		return true;
+	}
+	
 	/**
 	 * Liefert alle Unbekannten im Modell
 	 * @return unknow
@@ -4384,10 +6864,22 @@ public class NetworkAdjustment implements Runnable {
 					maxDefect = 7;
 				maxDefect = Math.min(maxDefect, this.numberOfUnknownParameters); 
 				// Der Index ist Eins-Index-basierend, d.h., der kleinste Eigenwert hat den Index Eins und der groesste ist am Index n!
-				NormalEquationSystem neq = this.createNormalEquation();
-				UpperSymmPackMatrix N = neq.getMatrix();
-
-				Matrix eig[] = MathExtension.eig(N, this.numberOfUnknownParameters, 1, maxDefect, false);
+				// Die kleinsten Eigenwerte werden mittels Lanczos-Verfahren aus der duenn besetzten Normalgleichung bestimmt;
+				// lediglich bei sehr kleinen Netzen, in denen der max. Defekt der Anzahl der Unbekannten entspricht, wird die 
+				// voll besetzte Normalgleichung zerlegt
+				Matrix eig[] = null;
+				if (maxDefect < this.numberOfUnknownParameters) {
+					NormalEquationSystem neq = this.createSparseNormalEquation();
+					if (neq == null)
+						return this.rankDefect;
+					eig = MathExtension.eig(neq.getSparseMatrix(), maxDefect, false);
+				}
+				else {
+					NormalEquationSystem neq = this.createNormalEquation();
+					if (neq == null)
+						return this.rankDefect;
+					eig = MathExtension.eig(neq.getMatrix(), this.numberOfUnknownParameters, 1, maxDefect, false);
+				}
 
 				double values[] = new double[maxDefect];
 				double threshold = 0;
@@ -4406,7 +6898,7 @@ public class NetworkAdjustment implements Runnable {
 				for (int i = 0; i < maxDefect; i++)
 					eigenValueDefectCounter += Math.abs(eig[0].get(i, i)) < threshold ? 1 : 0;
 			} 
-			catch (IllegalArgumentException | NotConvergedException e) {
+			catch (IllegalArgumentException | IllegalStateException | MatrixSingularException | NotConvergedException e) {
 				eigenValueDefectCounter = -1;
 				e.printStackTrace();
 			}
@@ -4955,6 +7447,182 @@ public class NetworkAdjustment implements Runnable {
 		this.estimationType = estimationType;
 	}
 	
+	/**
+	 * Liefert die (halbe) Bandbreite des Punktanteils der Normalgleichung 
+	 * fuer die gewaehlte Anordnung der Unbekannten
+	 * @return bandwidth
+	 */
+	public int getBandwidth() {
+		return this.unknownParameters.getBandwidth();
+	}
+	
+	/**
+	 * Liefert das Profil des Punktanteils der Normalgleichung 
+	 * fuer die gewaehlte Anordnung der Unbekannten
+	 * @return profile
+	 */
+	public long getProfile() {
+		return this.unknownParameters.getProfile();
+	}
+	
+	/**
+	 * Liefert die Anzahl der Nicht-Null-Elemente des Faktors L der letzten 
+	 * duenn besetzten LDL-Zerlegung (inkl. Fill-in) oder Null, wenn diese nicht angewandt wurde
+	 * @return nnz(L)
+	 */
+	public long getNumberOfNonZerosInFactor() {
+		return this.numberOfNonZerosInFactor;
+	}
+	
+	/**
+	 * Liefert die Namen der in der letzten Ausgleichung genutzten Implementierungen von BLAS, LAPACK und ARPACK 
+	 * oder null, wenn noch keine Ausgleichung erfolgte. Bei F2J wird stets die gepackte Zerlegung ohne 
+	 * Elimination der Zusatzparameter genutzt, vgl. MathExtension#isFullStorageApplicable(int).
+	 * @return backend
+	 */
+	public String getLinearAlgebraBackend() {
+		return this.linearAlgebraBackend;
+	}
+	
+	/**
+	 * Liefert die Anzahl der Iterationen der konjugierten Gradienten im letzten 
+	 * Iterationsschritt oder Null, wenn das iterative Verfahren nicht angewandt wurde
+	 * @return iterations
+	 */
+	public int getNumberOfConjugateGradientIterations() {
+		return this.numberOfConjugateGradientIterations;
+	}
+	
+	/**
+	 * Liefert die Anzahl der Zufallsvektoren der stochastischen Spurschaetzung im abschliessenden 
+	 * Iterationsschritt oder Null, wenn die Redundanzanteile nicht geschaetzt wurden
+	 * @return probes
+	 */
+	public int getNumberOfTraceEstimationProbes() {
+		return this.numberOfTraceEstimationProbes;
+	}
+	
+	/**
+	 * Legt die angestrebte relative Standardabweichung der Redundanz je Varianzkomponente fest, bis zu der die 
+	 * Redundanzanteile mittels stochastischer Spurschaetzung genaehert werden. Bei der iterativen Loesung werden bei Null 
+	 * (Voreinstellung), wie bisher, keine Redundanzanteile und Varianzkomponenten bestimmt. Bei der dichten und der duenn 
+	 * besetzten Loesung ersetzt die Spurschaetzung die Invertierung der Normalgleichung im abschliessenden Iterationsschritt, 
+	 * vgl. {@link #isTraceEstimationApplicable()}; die Kofaktormatrix Qxx und die davon abhaengigen Genauigkeitsmasse 
+	 * werden dann, wie bei der iterativen Loesung, nicht bestimmt.
+	 * @param traceEstimationAccuracy
+	 */
+	public void setTraceEstimationAccuracy(double traceEstimationAccuracy) {
+		this.traceEstimationAccuracy = Math.max(0.0, traceEstimationAccuracy);
+	}
+	
+	/**
+	 * Liefert die vorgegebene Anzahl der Bloecke der Helmert-Blockung; Null entspricht einer automatischen Festlegung
+	 * @return numberOfHelmertBlocks
+	 */
+	public int getNumberOfHelmertBlocks() {
+		return this.numberOfHelmertBlocks;
+	}
+	
+	/**
+	 * Legt die Anzahl der Bloecke der Helmert-Blockung fest. Werte kleiner Eins legen die Anzahl anhand der 
+	 * Netzgroesse und der Anzahl der Threads fest. Mehr Bloecke verringern den Speicherbedarf je Block, 
+	 * vergroessern aber das reduzierte System der Verknuepfungsunbekannten.
+	 * @param numberOfHelmertBlocks
+	 */
+	public void setNumberOfHelmertBlocks(int numberOfHelmertBlocks) {
+		this.numberOfHelmertBlocks = Math.max(0, numberOfHelmertBlocks);
+	}
+	
+	/**
+	 * Liefert die Anzahl der Verknuepfungsunbekannten der letzten Helmert-Blockung
+	 * @return numberOfJunctionParameters
+	 */
+	public int getNumberOfJunctionParameters() {
+		return this.numberOfJunctionParameters;
+	}
+	
+	/**
+	 * Liefert die Anzahl der Threads, die zum Aufstellen der Normalgleichung genutzt werden
+	 * @return numberOfThreads
+	 */
+	public int getNumberOfThreads() {
+		return this.numberOfThreads;
+	}
+	
+	/**
+	 * Legt die Anzahl der Threads fest, die zum Aufstellen der Normalgleichung genutzt werden. 
+	 * Werte kleiner Eins setzen die Anzahl auf die Zahl der verfuegbaren Prozessoren. Das Ergebnis 
+	 * ist unabhaengig von der Anzahl der Threads.
+	 * @param numberOfThreads
+	 */
+	public void setNumberOfThreads(int numberOfThreads) {
+		this.numberOfThreads = numberOfThreads < 1 ? DefaultValue.getNumberOfThreads() : numberOfThreads;
+	}
+	
+	/**
+	 * Liefert das Verzeichnis fuer die Auslagerungsdateien der Normalgleichung
+	 * @return scratchDirectory
+	 */
+	public Path getScratchDirectory() {
+		return this.scratchDirectory;
+	}
+	
+	/**
+	 * Legt das Verzeichnis fuer die Auslagerungsdateien der Normalgleichung fest, vgl. {@link NormalEquationSolverType#OUT_OF_CORE}. 
+	 * Ist kein Verzeichnis gesetzt, wird das temporaere Verzeichnis des Systems genutzt.
+	 * @param scratchDirectory
+	 */
+	public void setScratchDirectory(Path scratchDirectory) {
+		this.scratchDirectory = scratchDirectory;
+	}
+	
+	/**
+	 * Liefert das Verfahren zur Loesung der Normalgleichung
+	 * @return normalEquationSolverType
+	 */
+	public NormalEquationSolverType getNormalEquationSolverType() {
+		return this.normalEquationSolverType;
+	}
+	
+	/**
+	 * Legt das Verfahren zur Loesung der Normalgleichung fest. Bei SPARSE wird die Normalgleichung 
+	 * duenn besetzt aufgestellt und mittels LDL-Zerlegung geloest. In der letzten Iteration wird 
+	 * hierbei nur die Teilinverse von Qxx bestimmt, sofern die vollstaendige Inverse nicht benoetigt 
+	 * wird. Fuer freie Netze wird weiterhin die gepackte Form verwendet.
+	 * @param normalEquationSolverType
+	 */
+	public void setNormalEquationSolverType(NormalEquationSolverType normalEquationSolverType) {
+		this.normalEquationSolverType = normalEquationSolverType == null ? NormalEquationSolverType.DENSE : normalEquationSolverType;
+	}
+	
+	/**
+	 * Legt fest, ob die Zusatzparameter der Beobachtungsgruppen (bspw. Orientierungen) in den Iterationen 
+	 * vor der Zerlegung der Normalgleichung mittels Schur-Komplement eliminiert werden 
+	 * @param eliminateAdditionalParameters
+	 */
+	public void setEliminateAdditionalParameters(boolean eliminateAdditionalParameters) {
+		this.eliminateAdditionalParameters = eliminateAdditionalParameters;
+	}
+	
+	/**
+	 * Legt fest, ob unabhaengige Teilnetze, die weder ueber Beobachtungen noch ueber Zusatzparameter oder Gruppen der 
+	 * Deformationsanalyse verknuepft sind, getrennt und parallel ausgeglichen werden. Jedes Teilnetz besitzt hierbei 
+	 * einen eigenen Varianzfaktor a-posteriori.
+	 * @param separateSubNetworks
+	 */
+	public void setSeparateSubNetworks(boolean separateSubNetworks) {
+		this.separateSubNetworks = separateSubNetworks;
+	}
+	
+	/**
+	 * Legt fest, ob die Kofaktormatrix Qxx der robusten Schaetzung (L1-Norm) zwischen den Iterationen fuer die 
+	 * abgewichteten Beobachtungen fortgeschrieben wird, anstatt die Normalgleichung jeweils erneut zu invertieren
+	 * @param robustEstimationDowndate
+	 */
+	public void setRobustEstimationDowndate(boolean robustEstimationDowndate) {
+		this.robustEstimationDowndate = robustEstimationDowndate;
+	}
+	
 	/**
 	 * Beruecksichtigung des geschaetzten Varianzfaktors zur Skallierung der Kovarianzmatrix
 	 * @param applyAposterioriVarianceOfUnitWeight
@@ -5330,9 +7998,17 @@ public class NetworkAdjustment implements Runnable {
 			double sigma2apost = this.getVarianceFactorAposteriori();
 			int n = this.unknownParameters.columnsOfPoints();
 
-			if (this.Qxx != null && n > 0 && numberOfComponents > 0) {				
-				// Der Index ist Eins-Index-basierend, d.h., der kleinste Eigenwert hat den Index Eins und der groesste ist am Index n!
-				Matrix evalEvec[] = MathExtension.eig(this.Qxx, n, Math.max(n - numberOfComponents + 1, 1), n, true);
+			if (this.Qxx != null && n > 0 && numberOfComponents > 0) {
+				// Punktblock von Qxx als Operator; Qxx kann gepackt, als Teilinverse mit Zerlegung oder ausgelagert vorliegen
+				CofactorBlockOperator Qpp = new CofactorBlockOperator(this.Qxx, n);
+				Matrix evalEvec[] = null;
+				if (2 * numberOfComponents + 1 < n)
+					// Lanczos-Verfahren fuer die groessten Eigenwerte des Punktblocks, das lediglich Produkte mit Qxx bzw. 
+					// Loesungen mit der Zerlegung der Normalgleichung benoetigt; die Eigenwerte sind aufsteigend sortiert
+					evalEvec = MathExtension.eig(Qpp, numberOfComponents, true);
+				else
+					// Der Index ist Eins-Index-basierend, d.h., der kleinste Eigenwert hat den Index Eins und der groesste ist am Index n!
+					evalEvec = MathExtension.eig(this.Qxx instanceof UpperSymmPackMatrix ? (UpperSymmPackMatrix)this.Qxx : Qpp.toUpperSymmPackMatrix(), n, Math.max(n - numberOfComponents + 1, 1), n, true);
 				Matrix eval = (UpperSymmBandMatrix)evalEvec[0];
 				Matrix evec = (DenseMatrix)evalEvec[1];
 				// Anzahl der tatsaechlich bestimmten Komponenten
@@ -5371,6 +8047,8 @@ public class NetworkAdjustment implements Runnable {
 		} catch (Exception e) {
 			e.printStackTrace();
 		} finally {
+			if (this.Qxx instanceof TiledSymmMatrix)
+				((TiledSymmMatrix)this.Qxx).close();
 			this.Qxx = null;
 		}
 	}
@@ -5387,6 +8065,15 @@ public class NetworkAdjustment implements Runnable {
 		this.sphericalDeflectionModel = sphericalDeflectionModel;
 	}
 	
+	/**
+	 * Legt das Format der exportierten Kovarianzmatrix fest. Bei AUTO wird die Matrix ab 
+	 * BINARY_COVARIANCE_EXPORT_LIMIT Unbekannten binaer (*.cxb), anderenfalls als Text (*.cxx) exportiert.
+	 * @param covarianceExportFormatType
+	 */
+	public void setCovarianceExportFormatType(CovarianceExportFormatType covarianceExportFormatType) {
+		this.covarianceExportFormatType = covarianceExportFormatType == null ? CovarianceExportFormatType.AUTO : covarianceExportFormatType;
+	}
+	
 	public boolean hasCovarianceExportPathAndBaseName() {
 		return this.coVarExportPathAndFileName != null && !this.coVarExportPathAndFileName.isEmpty();
 	}
@@ -5400,12 +8087,43 @@ public class NetworkAdjustment implements Runnable {
 			return true;
 		
 		
-		File coVarMatrixFile = new File(this.coVarExportPathAndFileName + ".cxx");
 		File coVarInfoFile   = new File(this.coVarExportPathAndFileName + ".info");
 		
+		// Bei grossen Netzen wird die Kovarianzmatrix standardmaessig binaer exportiert
+		boolean binary = this.covarianceExportFormatType == CovarianceExportFormatType.BINARY || 
+				this.covarianceExportFormatType == CovarianceExportFormatType.AUTO && this.numberOfUnknownParameters > BINARY_COVARIANCE_EXPORT_LIMIT;
+		if (binary) {
+			File coVarMatrixFile = new File(this.coVarExportPathAndFileName + ".cxb");
+			return this.exportCovarianceMatrixInfoToFile(coVarInfoFile) && this.exportCovarianceMatrixToBinaryFile(coVarMatrixFile);
+		}
+		
+		File coVarMatrixFile = new File(this.coVarExportPathAndFileName + ".cxx");
 		return this.exportCovarianceMatrixInfoToFile(coVarInfoFile) && this.exportCovarianceMatrixToFile(coVarMatrixFile);
 	}
 	
+	/**
+	 * Schreibt die CoVar binaer als gepacktes oberes Dreieck raus, vgl. {@link MappedCovarianceMatrix}
+	 * @param f
+	 * @return isWritten
+	 */
+	private boolean exportCovarianceMatrixToBinaryFile(File f) {
+		// noch keine Loesung vorhanden
+		if (f == null || this.Qxx == null || this.Qxx.numRows() < this.numberOfUnknownParameters)
+			return false;
+		
+		this.currentEstimationStatus = EstimationStateType.EXPORT_COVARIANCE_MATRIX;
+		this.change.firePropertyChange(this.currentEstimationStatus.name(), null, f.toString());
+		
+		try {
+			MappedCovarianceMatrix.write(f.toPath(), this.Qxx, this.numberOfUnknownParameters, this.getVarianceFactorAposteriori());
+			return true;
+		}
+		catch (IOException e) {
+			e.printStackTrace();
+			return false;
+		}
+	}
+	
 	/**
 	 * Schreibt punktbezogene Informationen zur CoVar raus
 	 * @param f
@@ -5548,8 +8266,15 @@ public class NetworkAdjustment implements Runnable {
 	}
 	
 	public void clearMatrices() {
+		if (this.Qxx instanceof TiledSymmMatrix)
+			((TiledSymmMatrix)this.Qxx).close();
 		this.Qxx = null;
 		this.ATQxxBP_GNSS_EP = null;
 		this.PAzTQzzAzP_GNSS_EF = null;
+		this.jacobiRowCache = null;
+		if (this.forkJoinPool != null) {
+			this.forkJoinPool.shutdown();
+			this.forkJoinPool = null;
+		}
 	}
 }
@@ -0,0 +1,120 @@
+/***********************************************************************
+ * Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+ *                                                                      *
+ * This program is free software; you can redistribute it and/or modify *
+ * it under the terms of the GNU General Public License as published by *
+ * the Free Software Foundation; either version 3 of the License, or    *
+ * at your option any later version.                                    *
+ *                                                                      *
+ * This program is distributed in the hope that it will be useful,      *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+ * GNU General Public License for more details.                         *
+ *                                                                      *
+ * You should have received a copy of the GNU General Public License    *
+ * along with this program; if not, see <http://www.gnu.org/licenses/>  *
+ * or write to the                                                      *
+ * Free Software Foundation, Inc.,                                      *
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+ *                                                                      *
+ ***********************************************************************/
+
+
+
+package org.applied_geodesy.adjustment.network;
+
+import java.util.function.BiConsumer;
+import java.util.function.IntConsumer;
+
+import no.uib.cipr.matrix.AbstractMatrix;
+import no.uib.cipr.matrix.DenseVector;
+import no.uib.cipr.matrix.Vector;
+
+/**
+ * Implizite Normalgleichungsmatrix N = A'*P*A + D fuer iterative Loeser. Die Matrix wird nicht aufgestellt, 
+ * sondern das Produkt N*x beobachtungsweise aus den zwischengespeicherten Zeilen der Jacobi-Matrix gebildet. 
+ * Die Diagonalmatrix D enthaelt die Gewichte der stochastischen Anschlusspunkte und Lotabweichungen.
+ * 
+ * Der Operator ist nur so lange gueltig, wie der Zwischenspeicher der Jacobi-Matrix nicht veraendert wird.
+ *
+ */
+class NormalEquationOperator extends AbstractMatrix {
+	private final JacobiRowCache jacobiRowCache;
+	private final double weights[], diagonal[], tmp[];
+	private final BiConsumer<Integer, IntConsumer> parallelFor;
+	
+	/**
+	 * @param jacobiRowCache Zeilen der Jacobi-Matrix A
+	 * @param weights Gewichte der Beobachtungen je Zeile von A
+	 * @param diagonal Diagonalmatrix D
+	 * @param parallelFor Schleife zur parallelen Auswertung der Zeilen
+	 */
+	NormalEquationOperator(JacobiRowCache jacobiRowCache, double weights[], double diagonal[], BiConsumer<Integer, IntConsumer> parallelFor) {
+		super(diagonal.length, diagonal.length);
+		this.jacobiRowCache = jacobiRowCache;
+		this.weights        = weights;
+		this.diagonal       = diagonal;
+		this.parallelFor    = parallelFor;
+		this.tmp            = new double[jacobiRowCache.numRows()];
+	}
+	
+	/**
+	 * Liefert eine Kopie des Operators mit eigenem Zwischenspeicher, deren Zeilen sequentiell ausgewertet werden. 
+	 * Die Kopie kann somit parallel zu weiteren Kopien, bspw. fuer mehrere rechte Seiten, genutzt werden.
+	 * 
+	 * @return operator
+	 */
+	@Override
+	public NormalEquationOperator copy() {
+		return new NormalEquationOperator(this.jacobiRowCache, this.weights, this.diagonal, (size, task) -> {
+			for (int i=0; i<size; i++)
+				task.accept(i);
+		});
+	}
+	
+	/**
+	 * Berechnet y = alpha*N*x + y
+	 */
+	@Override
+	public Vector multAdd(double alpha, Vector x, Vector y) {
+		this.checkMultAdd(x, y);
+		if (!(x instanceof DenseVector) || !(y instanceof DenseVector))
+			throw new IllegalArgumentException("Error, normal equation operator requires dense vectors!");
+		
+		double xd[] = ((DenseVector)x).getData();
+		double yd[] = ((DenseVector)y).getData();
+		int columns[] = this.jacobiRowCache.getColumns();
+		double values[] = this.jacobiRowCache.getValues();
+		
+		// t = P*A*x zeilenweise (unabhaengig je Beobachtung)
+		this.parallelFor.accept(this.tmp.length, row -> {
+			int offset = this.jacobiRowCache.offset(row);
+			int nnz = this.jacobiRowCache.getNonZeros(row);
+			double ax = 0.0;
+			for (int k=offset; k<offset + nnz; k++)
+				ax += values[k] * xd[columns[k]];
+			this.tmp[row] = this.weights[row] * ax;
+		});
+		
+		// y = y + alpha*(A'*t + D*x)
+		for (int row=0; row<this.tmp.length; row++) {
+			int offset = this.jacobiRowCache.offset(row);
+			int nnz = this.jacobiRowCache.getNonZeros(row);
+			double t = alpha * this.tmp[row];
+			for (int k=offset; k<offset + nnz; k++)
+				yd[columns[k]] += values[k] * t;
+		}
+		for (int i=0; i<this.diagonal.length; i++)
+			yd[i] += alpha * this.diagonal[i] * xd[i];
+		
+		return y;
+	}
+	
+	/**
+	 * Berechnet y = alpha*N'*x + y; N ist symmetrisch
+	 */
+	@Override
+	public Vector transMultAdd(double alpha, Vector x, Vector y) {
+		return this.multAdd(alpha, x, y);
+	}
+}
@@ -0,0 +1,147 @@
+/***********************************************************************
+ * Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+ *                                                                      *
+ * This program is free software; you can redistribute it and/or modify *
+ * it under the terms of the GNU General Public License as published by *
+ * the Free Software Foundation; either version 3 of the License, or    *
+ * at your option any later version.                                    *
+ *                                                                      *
+ * This program is distributed in the hope that it will be useful,      *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+ * GNU General Public License for more details.                         *
+ *                                                                      *
+ * You should have received a copy of the GNU General Public License    *
+ * along with this program; if not, see <http://www.gnu.org/licenses/>  *
+ * or write to the                                                      *
+ * Free Software Foundation, Inc.,                                      *
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+ *                                                                      *
+ ***********************************************************************/
+
+
+
+package org.applied_geodesy.adjustment.network;
+
+import org.applied_geodesy.adjustment.NormalEquationSystem;
+
+import no.uib.cipr.matrix.Vector;
+
+/**
+ * Zustand eines Sigma-Punktes der modifizierten Unscented Transformation. Jeder Sigma-Punkt haelt 
+ * eine eigene Kopie der unbekannten Parameter, sodass die Iterationen der einzelnen Sigma-Punkte 
+ * unabhaengig voneinander erfolgen und die Normalgleichungen parallel geloest werden koennen.
+ *
+ */
+class UnscentedTransformationSigmaPoint {
+	private final int estimationStep, index;
+	private final double scale;
+	private final double parameters[];
+	private double solutionParameters[] = null;
+	private Vector solution = null;
+	private NormalEquationSystem normalEquationSystem = null;
+	private int runs;
+	private boolean estimated = false, finished = false;
+	
+	UnscentedTransformationSigmaPoint(int estimationStep, int index, double scale, int numberOfUnknownParameters, int runs) {
+		this.estimationStep = estimationStep;
+		this.index          = index;
+		this.scale          = scale;
+		this.parameters     = new double[numberOfUnknownParameters];
+		this.runs           = runs;
+	}
+	
+	/**
+	 * Liefert den Schritt der UT, zu dem der Sigma-Punkt gehoert
+	 * @return estimationStep
+	 */
+	int getEstimationStep() {
+		return this.estimationStep;
+	}
+	
+	/**
+	 * Liefert den Index der modifizierten Beobachtung
+	 * @return index
+	 */
+	int getIndex() {
+		return this.index;
+	}
+	
+	/**
+	 * Liefert den Skalierungsfaktor der Modifikation (inkl. Vorzeichen)
+	 * @return scale
+	 */
+	double getScale() {
+		return this.scale;
+	}
+	
+	/**
+	 * Liefert die aktuellen Werte der unbekannten Parameter, sortiert nach der Spalte in der Jacobi-Matrix
+	 * @return parameters
+	 */
+	double[] getParameters() {
+		return this.parameters;
+	}
+	
+	/**
+	 * Speichert die Loesung des Sigma-Punktes, bestehend aus den Parametern des Linearisierungspunktes 
+	 * und dem Zuschlag der letzten Iteration
+	 * @param dx
+	 */
+	void setSolution(Vector dx) {
+		this.solutionParameters = this.parameters.clone();
+		this.solution = dx;
+	}
+	
+	/**
+	 * Liefert die Parameter des Linearisierungspunktes der Loesung
+	 * @return solutionParameters
+	 */
+	double[] getSolutionParameters() {
+		return this.solutionParameters;
+	}
+	
+	/**
+	 * Liefert den Zuschlag der letzten Iteration
+	 * @return solution
+	 */
+	Vector getSolution() {
+		return this.solution;
+	}
+	
+	NormalEquationSystem getNormalEquationSystem() {
+		return this.normalEquationSystem;
+	}
+	
+	void setNormalEquationSystem(NormalEquationSystem normalEquationSystem) {
+		this.normalEquationSystem = normalEquationSystem;
+	}
+	
+	/**
+	 * Liefert die Anzahl der verbleibenden Iterationen und verringert diese um Eins (vgl. <code>runs--</code>)
+	 * @return runs
+	 */
+	int decrementRuns() {
+		return this.runs--;
+	}
+	
+	int getRuns() {
+		return this.runs;
+	}
+	
+	boolean isEstimated() {
+		return this.estimated;
+	}
+	
+	void setEstimated(boolean estimated) {
+		this.estimated = estimated;
+	}
+	
+	boolean isFinished() {
+		return this.finished;
+	}
+	
+	void setFinished(boolean finished) {
+		this.finished = finished;
+	}
+}
@@ -22,23 +22,46 @@
 package org.applied_geodesy.adjustment.network.parameter;
 
 import java.util.List;
+import java.util.Map;
 
 import org.applied_geodesy.adjustment.network.ParameterType;
+import org.applied_geodesy.adjustment.network.observation.Observation;
+import org.applied_geodesy.adjustment.network.point.Point;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Set;
 
 public class UnknownParameters {
 	private int col = 0;
 	private int lastPointColumn = -1, lastParamColumn = -1, leastParamColumn = -1;
+	private int bandwidth = 0;
+	private long profile = 0;
 	private List<UnknownParameter> parameters = new ArrayList<UnknownParameter>();
+	// Menge der Parameter fuer eine Pruefung auf Enthaltensein in konstanter Zeit
+	private Set<UnknownParameter> parameterSet = new HashSet<UnknownParameter>();
 	
 	/**
 	 * Sortiert die Parameter in der Liste nach {Punkte, Zusamtzparameter} ohne 
 	 * die innere Reihenfolge der Punkte bzw. Parameter zu aendern 
 	 */
 	public void resortParameters() {
-		if (this.leastParamColumn < this.lastPointColumn && this.leastParamColumn >= 0) {
-			List<UnknownParameter> sortedParameters = new ArrayList<UnknownParameter>(this.parameters.size());
+		this.resortParameters(false);
+	}
+	
+	/**
+	 * Sortiert die Parameter in der Liste nach {Punkte, Zusamtzparameter}. Wenn <code>reduceBandwidth = true</code>, 
+	 * werden die Punkte mittels Reverse-Cuthill-McKee-Algorithmus ueber den Graphen der Punkt-Beobachtungs-Verknuepfungen 
+	 * umsortiert, sodass Bandbreite und Profil (und damit der Fill-in der Zerlegung) der Normalgleichung reduziert werden. 
+	 * Andernfalls bleibt die innere Reihenfolge der Punkte bzw. Parameter erhalten. 
+	 * 
+	 * @param reduceBandwidth
+	 */
+	public void resortParameters(boolean reduceBandwidth) {
+		if (reduceBandwidth || this.leastParamColumn < this.lastPointColumn && this.leastParamColumn >= 0) {
+			List<UnknownParameter> pointParameters = new ArrayList<UnknownParameter>(this.parameters.size());
 			List<UnknownParameter> nonPointParameters = new ArrayList<UnknownParameter>();
 			this.col = 0;
 			this.leastParamColumn = -1;
@@ -50,15 +73,23 @@ public class UnknownParameters {
 				case POINT1D:
 				case POINT2D:
 				case POINT3D:
-					parameter.setColInJacobiMatrix(this.col);
-					this.increaseColumnCount(parameter.getParameterType());
-					sortedParameters.add(parameter);
+					pointParameters.add(parameter);
 					break;
 				default:
 					nonPointParameters.add(parameter);
 					break;
 				}
 			}
+			
+			if (reduceBandwidth)
+				pointParameters = this.getReverseCuthillMcKeeOrder(pointParameters);
+			
+			List<UnknownParameter> sortedParameters = new ArrayList<UnknownParameter>(this.parameters.size());
+			for (UnknownParameter parameter : pointParameters) {
+				parameter.setColInJacobiMatrix(this.col);
+				this.increaseColumnCount(parameter.getParameterType());
+				sortedParameters.add(parameter);
+			}
 
 			for (UnknownParameter parameter : nonPointParameters) {
 				parameter.setColInJacobiMatrix(this.col);
@@ -67,10 +98,187 @@ public class UnknownParameters {
 			}
 			this.parameters = sortedParameters;
 		}
+		this.estimateBandwidthAndProfile();
+	}
+	
+	/**
+	 * Liefert die Nachbarpunkte je Punkt, d.h. die Punkte, die ueber mind. eine Beobachtung verknuepft sind
+	 * @param points
+	 * @return adjacency
+	 */
+	private static int[][] getAdjacency(List<UnknownParameter> points) {
+		Map<UnknownParameter, Integer> index = new LinkedHashMap<UnknownParameter, Integer>(points.size());
+		for (int i=0; i<points.size(); i++)
+			index.put(points.get(i), i);
+		
+		int adjacency[][] = new int[points.size()][];
+		int neighbours[] = new int[16];
+		int mark[] = new int[points.size()];
+		Arrays.fill(mark, -1);
+
+		for (int i=0; i<points.size(); i++) {
+			UnknownParameter point = points.get(i);
+			int length = 0;
+			mark[i] = i;
+			for (int j=0; j<point.getObservations().size(); j++) {
+				Observation observation = point.getObservations().get(j);
+				Point other = observation.getStartPoint() == point ? observation.getEndPoint() : observation.getStartPoint();
+				Integer k = index.get(other);
+				if (k == null || mark[k] == i)
+					continue;
+				mark[k] = i;
+				if (length == neighbours.length)
+					neighbours = Arrays.copyOf(neighbours, 2 * length);
+				neighbours[length++] = k;
+			}
+			adjacency[i] = Arrays.copyOf(neighbours, length);
+		}
+		return adjacency;
+	}
+	
+	/**
+	 * Bestimmt die Reihenfolge der Punkte nach dem Reverse-Cuthill-McKee-Algorithmus. Je Zusammenhangskomponente wird 
+	 * ein pseudo-peripherer Startknoten gesucht und eine Breitensuche mit aufsteigendem Knotengrad durchgefuehrt.
+	 * 
+	 * vgl. George, A., Liu, J.W.H. (1981): Computer Solution of Large Sparse Positive Definite Systems. Prentice-Hall
+	 * 
+	 * @param points
+	 * @return sortedPoints
+	 */
+	private List<UnknownParameter> getReverseCuthillMcKeeOrder(final List<UnknownParameter> points) {
+		final int n = points.size();
+		final int adjacency[][] = getAdjacency(points);
+		int order[] = new int[n];
+		int level[] = new int[n];
+		boolean visited[] = new boolean[n];
+		int count = 0;
+		
+		for (int root=0; root<n; root++) {
+			if (visited[root])
+				continue;
+			
+			// Pseudo-peripherer Knoten: wiederholte Breitensuche vom Knoten mit minimalem Grad der letzten Ebene
+			int start = root, eccentricity = -1;
+			while (true) {
+				int last = this.breadthFirstSearch(start, adjacency, visited, level, order, count, false);
+				int depth = level[order[last - 1]];
+				if (depth <= eccentricity)
+					break;
+				eccentricity = depth;
+				int candidate = -1;
+				for (int i=count; i<last; i++) {
+					int node = order[i];
+					if (level[node] == depth && (candidate < 0 || adjacency[node].length < adjacency[candidate].length))
+						candidate = node;
+				}
+				start = candidate;
+			}
+			
+			// Cuthill-McKee-Nummerierung der Komponente
+			count = this.breadthFirstSearch(start, adjacency, visited, level, order, count, true);
+		}
+		
+		// Umkehren der Reihenfolge
+		List<UnknownParameter> sortedPoints = new ArrayList<UnknownParameter>(n);
+		for (int i=n-1; i>=0; i--)
+			sortedPoints.add(points.get(order[i]));
+		return sortedPoints;
+	}
+	
+	/**
+	 * Breitensuche ab dem Knoten start; die Nachbarn werden nach aufsteigendem Grad (bzw. Index) besucht. Die Knoten werden ab 
+	 * der Position offset in order abgelegt. Ist markVisited = false, werden die Markierungen nach der Suche zurueckgesetzt. 
+	 * @return Position hinter dem letzten besuchten Knoten
+	 */
+	private int breadthFirstSearch(int start, int adjacency[][], boolean visited[], int level[], int order[], int offset, boolean markVisited) {
+		int head = offset, tail = offset;
+		order[tail++] = start;
+		visited[start] = true;
+		level[start] = 0;
+		
+		while (head < tail) {
+			int node = order[head++];
+			int first = tail;
+			for (int neighbour : adjacency[node]) {
+				if (visited[neighbour])
+					continue;
+				visited[neighbour] = true;
+				level[neighbour] = level[node] + 1;
+				// Insertion-Sort nach Knotengrad, bei gleichem Grad nach Index 
+				int j = tail - 1;
+				while (j >= first && (adjacency[order[j]].length > adjacency[neighbour].length || adjacency[order[j]].length == adjacency[neighbour].length && order[j] > neighbour)) {
+					order[j + 1] = order[j];
+					j--;
+				}
+				order[j + 1] = neighbour;
+				tail++;
+			}
+		}
+		
+		if (!markVisited) {
+			for (int i=offset; i<tail; i++)
+				visited[order[i]] = false;
+		}
+		return tail;
+	}
+	
+	/**
+	 * Bestimmt die Bandbreite und das Profil (Huelle) des Punktanteils der Normalgleichung fuer die aktuelle Spaltenzuordnung.
+	 * Das Profil entspricht der Anzahl der Elemente oberhalb der Hauptdiagonalen, die bei einer Profil-Zerlegung 
+	 * gespeichert werden muessen und ist damit eine obere Schranke fuer den Fill-in.
+	 */
+	private void estimateBandwidthAndProfile() {
+		int numberOfPointColumns = Math.max(0, this.lastPointColumn);
+		int firstRow[] = new int[numberOfPointColumns];
+		for (int i=0; i<numberOfPointColumns; i++)
+			firstRow[i] = i;
+		
+		for (UnknownParameter parameter : this.parameters) {
+			if (!(parameter instanceof Point) || parameter.getColInJacobiMatrix() < 0)
+				continue;
+
+			Point point = (Point)parameter;
+			int col = point.getColInJacobiMatrix();
+			int dim = point.getDimension();
+			for (int j=0; j<point.getObservations().size(); j++) {
+				Observation observation = point.getObservations().get(j);
+				Point other = observation.getStartPoint() == point ? observation.getEndPoint() : observation.getStartPoint();
+				int row = other.getColInJacobiMatrix();
+				if (row < 0 || row >= numberOfPointColumns)
+					row = col;
+				row = Math.min(row, col);
+				for (int d=0; d<dim; d++)
+					firstRow[col + d] = Math.min(firstRow[col + d], row);
+			}
+		}
+
+		this.bandwidth = 0;
+		this.profile = 0;
+		for (int i=0; i<numberOfPointColumns; i++) {
+			this.bandwidth = Math.max(this.bandwidth, i - firstRow[i]);
+			this.profile += i - firstRow[i];
+		}
+	}
+	
+	/**
+	 * Liefert die (halbe) Bandbreite des Punktanteils der Normalgleichung
+	 * @return bandwidth
+	 */
+	public int getBandwidth() {
+		return this.bandwidth;
+	}
+	
+	/**
+	 * Liefert das Profil des Punktanteils der Normalgleichung, d.h. die Anzahl der Elemente 
+	 * zwischen dem ersten Nicht-Null-Element einer Spalte und der Hauptdiagonalen
+	 * @return profile
+	 */
+	public long getProfile() {
+		return this.profile;
 	}
 
 	public boolean add(UnknownParameter parameter) {
-		if (!this.parameters.contains(parameter)) {
+		if (this.parameterSet.add(parameter)) {
 			parameter.setColInJacobiMatrix(this.col);
 			this.increaseColumnCount(parameter.getParameterType());
 			return this.parameters.add( parameter );
@@ -91,7 +299,7 @@ public class UnknownParameters {
 	}
 
 	public boolean contains(Object obj) {
-		return this.parameters.contains(obj);
+		return this.parameterSet.contains(obj);
 	}
 	
 	private void increaseColumnCount(ParameterType type) {
@@ -0,0 +1,542 @@
+/***********************************************************************
+ * Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+ *                                                                      *
+ * This program is free software; you can redistribute it and/or modify *
+ * it under the terms of the GNU General Public License as published by *
+ * the Free Software Foundation; either version 3 of the License, or    *
+ * at your option any later version.                                    *
+ *                                                                      *
+ * This program is distributed in the hope that it will be useful,      *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+ * GNU General Public License for more details.                         *
+ *                                                                      *
+ * You should have received a copy of the GNU General Public License    *
+ * along with this program; if not, see <http://www.gnu.org/licenses/>  *
+ * or write to the                                                      *
+ * Free Software Foundation, Inc.,                                      *
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+ *                                                                      *
+ ***********************************************************************/
+
+package org.applied_geodesy.adjustment.network.sql;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.applied_geodesy.util.CellValueType;
+import org.applied_geodesy.util.FormatterOptions;
+import org.applied_geodesy.util.sql.DataBase;
+
+/**
+ * Schreibt Ergebniszeilen als Massendaten in die Datenbank. Die Zeilen werden von mehreren 
+ * Erzeugern parallel aus dem Modell extrahiert und ueber eine beschraenkte Warteschlange an 
+ * den schreibenden Thread uebergeben, der sie in Stapeln fester Groesse an die Datenbank sendet. 
+ * Die Extraktion der Ergebnisse und das Schreiben ueberlappen sich somit.
+ * 
+ * Beim inkrementellen Schreiben werden die gespeicherten Ergebnisse zunaechst vollstaendig gelesen und 
+ * im Arbeitsspeicher vorgehalten; es werden nur Zeilen aktualisiert, deren Werte sich um mehr als die 
+ * Toleranz geaendert haben. Die Toleranz ist ein Anteil der Ausgabeaufloesung der jeweiligen Spalte, 
+ * vgl. FormatterOptions.getModelResolution(CellValueType). Neue Zeilen werden eingefuegt und nicht mehr erzeugte Zeilen geloescht. 
+ * Aktualisiert und geloescht wird ueber die gespeicherte ID, d.h. ohne Unterabfrage auf die A-priori-Tabelle.
+ */
+class BulkResultWriter {
+	/** Anzahl der Zeilen je JDBC-Stapel */
+	final static int BATCH_SIZE = 10000;
+	/** Voreingestellte Toleranz als Anteil der Ausgabeaufloesung, ab der ein Wert als geaendert gilt */
+	final static double DEFAULT_TOLERANCE = 0.1;
+	private final static int QUEUE_CAPACITY = 2 * BATCH_SIZE;
+	private final static Row END_OF_STREAM = new Row(null);
+	
+	private final DataBase dataBase;
+	private final BlockingQueue<Row> queue = new ArrayBlockingQueue<Row>(QUEUE_CAPACITY);
+	private final AtomicReference<Exception> producerException = new AtomicReference<Exception>();
+	private volatile boolean aborted = false;
+	private boolean incremental = false;
+	private double tolerance = DEFAULT_TOLERANCE;
+	private long numberOfRows = 0, numberOfUnchangedRows = 0, duration = 0;
+
+	/**
+	 * Erzeuger von Ergebniszeilen, der aus einem eigenen Thread aufgerufen wird
+	 */
+	interface RowProducer {
+		void produce(BulkResultWriter writer) throws InterruptedException;
+	}
+	
+	/**
+	 * Beschreibung einer Ergebnistabelle. Die erste Spalte ist der Schluessel (ID); ist eine A-priori-Tabelle 
+	 * angegeben, wird die ID ueber den Punktnamen in dieser Tabelle bestimmt. Die Typen der Spalten bestimmen 
+	 * die Ausgabeaufloesung beim inkrementellen Schreiben; ist kein Typ angegeben, bspw. bei Spalten mit Laengen 
+	 * und Winkeln, wird die feinste Ausgabeaufloesung verwendet.
+	 */
+	final static class ResultTable {
+		private final String name, aprioriTableName;
+		private final String columns[];
+		private final CellValueType types[];
+		
+		ResultTable(String name, String aprioriTableName, String... columns) {
+			this(name, aprioriTableName, columns, new CellValueType[columns.length]);
+		}
+		
+		ResultTable(String name, String aprioriTableName, String columns[], CellValueType types[]) {
+			if (columns.length != types.length)
+				throw new IllegalArgumentException(this.getClass().getSimpleName() + " : Error, number of columns and types must be equal! " + columns.length + " != " + types.length);
+			this.name = name;
+			this.aprioriTableName = aprioriTableName;
+			this.columns = columns;
+			this.types = types;
+		}
+		
+		private String getKeyExpression() {
+			return this.aprioriTableName == null ? "?" : "(SELECT \"id\" FROM \"" + this.aprioriTableName + "\" WHERE \"name\" = ?)";
+		}
+		
+		String getName() {
+			return this.name;
+		}
+		
+		private String getInsertStatement() {
+			StringBuilder columns = new StringBuilder();
+			StringBuilder values  = new StringBuilder(this.getKeyExpression());
+			for (int i = 0; i < this.columns.length; i++) {
+				columns.append(i == 0 ? "" : ", ").append('"').append(this.columns[i]).append('"');
+				if (i > 0)
+					values.append(", ?");
+			}
+			return "INSERT INTO \"" + this.name + "\" (" + columns + ") VALUES (" + values + ")";
+		}
+		
+		private String getUpdateStatement() {
+			StringBuilder columns = new StringBuilder();
+			for (int i = 1; i < this.columns.length; i++)
+				columns.append(i == 1 ? "" : ", ").append('"').append(this.columns[i]).append("\" = ?");
+			return "UPDATE \"" + this.name + "\" SET " + columns + " WHERE \"" + this.columns[0] + "\" = ?";
+		}
+		
+		private String getDeleteStatement() {
+			return "DELETE FROM \"" + this.name + "\" WHERE \"" + this.columns[0] + "\" = ?";
+		}
+		
+		/**
+		 * Liefert die Abfrage der gespeicherten Zeilen; die ersten beiden Spalten sind der Schluessel der Zeile 
+		 * (Punktname bzw. ID) und die gespeicherte ID, die folgenden die Werte
+		 */
+		private String getSelectStatement() {
+			StringBuilder columns = new StringBuilder();
+			columns.append(this.aprioriTableName == null ? "\"" + this.name + "\".\"" + this.columns[0] + "\"" : "\"" + this.aprioriTableName + "\".\"name\"");
+			columns.append(", \"").append(this.name).append("\".\"").append(this.columns[0]).append('"');
+			for (int i = 1; i < this.columns.length; i++)
+				columns.append(", \"").append(this.name).append("\".\"").append(this.columns[i]).append('"');
+			String sql = "SELECT " + columns + " FROM \"" + this.name + "\"";
+			if (this.aprioriTableName != null)
+				sql += " JOIN \"" + this.aprioriTableName + "\" ON \"" + this.name + "\".\"" + this.columns[0] + "\" = \"" + this.aprioriTableName + "\".\"id\"";
+			return sql;
+		}
+	}
+	
+	/**
+	 * Ergebniszeile einer Tabelle, deren Werte analog zu PreparedStatement ab 1 indiziert werden
+	 */
+	final static class Row {
+		private final ResultTable table;
+		private final Object[] values;
+		
+		private Row(ResultTable table) {
+			this.table = table;
+			this.values = new Object[table == null ? 0 : table.columns.length];
+		}
+		
+		void setInt(int idx, int value) {
+			this.values[idx - 1] = value;
+		}
+		
+		void setDouble(int idx, double value) {
+			this.values[idx - 1] = value;
+		}
+		
+		void setBoolean(int idx, boolean value) {
+			this.values[idx - 1] = value;
+		}
+		
+		void setString(int idx, String value) {
+			this.values[idx - 1] = value;
+		}
+		
+		private Object getKey() {
+			return this.values[0];
+		}
+		
+		/**
+		 * Bindet die Werte an die Anweisung (INSERT)
+		 */
+		private void bind(PreparedStatement stmt) throws SQLException {
+			for (int i = 0; i < this.values.length; i++)
+				bind(stmt, i + 1, this.values[i]);
+		}
+		
+		/**
+		 * Bindet die Werte (ohne Schluessel) sowie die gespeicherte ID als letzten Parameter an die Anweisung (UPDATE)
+		 */
+		private void bind(PreparedStatement stmt, Object storedId) throws SQLException {
+			int length = this.values.length;
+			for (int i = 1; i < length; i++)
+				bind(stmt, i, this.values[i]);
+			bind(stmt, length, storedId);
+		}
+		
+		private static void bind(PreparedStatement stmt, int idx, Object value) throws SQLException {
+			if (value instanceof Double)
+				stmt.setDouble(idx, (Double)value);
+			else if (value instanceof Integer)
+				stmt.setInt(idx, (Integer)value);
+			else if (value instanceof Boolean)
+				stmt.setBoolean(idx, (Boolean)value);
+			else
+				stmt.setString(idx, (String)value);
+		}
+		
+		/**
+		 * Prueft, ob die Werte (ohne Schluessel) den gespeicherten Werten entsprechen. Zahlen und Wahrheitswerte 
+		 * werden innerhalb der absoluten Toleranz der Spalte verglichen, alle uebrigen Werte mittels equals()
+		 */
+		private boolean equals(StoredRow storedRow, double tolerances[]) {
+			for (int i = 1; i < this.values.length; i++) {
+				Object value = this.values[i];
+				if (!isNumeric(value) || !storedRow.isNumber(i - 1)) {
+					if (!Objects.equals(value, storedRow.getValue(i - 1)))
+						return false;
+					continue;
+				}
+				double number = toDouble(value);
+				double storedNumber = storedRow.numbers[i - 1];
+				if (Double.compare(number, storedNumber) != 0 && !(Math.abs(number - storedNumber) <= tolerances[i - 1]))
+					return false;
+			}
+			return true;
+		}
+	}
+	
+	/**
+	 * Gespeicherte Zeile einer Tabelle, d.h. die ID sowie die Werte ohne Schluessel. Zahlen und Wahrheitswerte 
+	 * werden als double vorgehalten, alle uebrigen Werte nur bei Bedarf als Objekt.
+	 */
+	private final static class StoredRow {
+		private final Object id;
+		private final double numbers[];
+		private Object objects[] = null;
+		
+		private StoredRow(Object id, int length) {
+			this.id = id;
+			this.numbers = new double[length];
+		}
+		
+		private void setValue(int idx, Object value) {
+			if (isNumeric(value))
+				this.numbers[idx] = toDouble(value);
+			else {
+				if (this.objects == null)
+					this.objects = new Object[this.numbers.length];
+				this.objects[idx] = value;
+				this.numbers[idx] = Double.NaN;
+			}
+		}
+		
+		private boolean isNumber(int idx) {
+			return this.objects == null || this.objects[idx] == null && !Double.isNaN(this.numbers[idx]);
+		}
+		
+		private Object getValue(int idx) {
+			return this.objects == null ? null : this.objects[idx];
+		}
+	}
+	
+	/**
+	 * Zustand einer Tabelle waehrend des Schreibens, d.h., die gespeicherten Werte (nur inkrementell) 
+	 * sowie die Anweisungen und Stapelgroessen
+	 */
+	private class TableWriter {
+		private final ResultTable table;
+		private final String insertStatement, updateStatement, deleteStatement;
+		private final Map<Object, StoredRow> storedRows = new HashMap<Object, StoredRow>();
+		private final double tolerances[];
+		private final Map<String, PreparedStatement> statements = new LinkedHashMap<String, PreparedStatement>(3);
+		private final Map<String, Integer> batchSizes = new LinkedHashMap<String, Integer>(3);
+		
+		private TableWriter(ResultTable table) throws SQLException {
+			this.table = table;
+			this.insertStatement = table.getInsertStatement();
+			this.updateStatement = table.getUpdateStatement();
+			this.deleteStatement = table.getDeleteStatement();
+			this.tolerances = new double[table.columns.length - 1];
+			if (incremental) {
+				FormatterOptions options = FormatterOptions.getInstance();
+				double resolution = options.getModelResolution();
+				for (int i = 1; i < table.columns.length; i++)
+					this.tolerances[i - 1] = tolerance * (table.types[i] == null ? resolution : options.getModelResolution(table.types[i]));
+				this.loadStoredRows();
+			}
+		}
+		
+		private void loadStoredRows() throws SQLException {
+			int length = this.table.columns.length;
+			try (PreparedStatement stmt = dataBase.getPreparedStatement(this.table.getSelectStatement()); ResultSet rs = stmt.executeQuery()) {
+				while (rs.next()) {
+					StoredRow storedRow = new StoredRow(rs.getObject(2), length - 1);
+					for (int i = 1; i < length; i++)
+						storedRow.setValue(i - 1, rs.getObject(i + 2));
+					this.storedRows.put(rs.getObject(1), storedRow);
+				}
+			}
+		}
+		
+		private void write(Row row) throws SQLException {
+			StoredRow storedRow = this.storedRows.isEmpty() ? null : this.storedRows.remove(row.getKey());
+			if (storedRow == null) {
+				row.bind(this.getPreparedStatement(this.insertStatement));
+				this.addBatch(this.insertStatement);
+			}
+			else if (row.equals(storedRow, this.tolerances))
+				numberOfUnchangedRows++;
+			else {
+				row.bind(this.getPreparedStatement(this.updateStatement), storedRow.id);
+				this.addBatch(this.updateStatement);
+			}
+		}
+		
+		private PreparedStatement getPreparedStatement(String sql) throws SQLException {
+			PreparedStatement stmt = this.statements.get(sql);
+			if (stmt == null) {
+				stmt = dataBase.getPreparedStatement(sql);
+				this.statements.put(sql, stmt);
+			}
+			return stmt;
+		}
+		
+		private void addBatch(String sql) throws SQLException {
+			PreparedStatement stmt = this.statements.get(sql);
+			stmt.addBatch();
+			numberOfRows++;
+			
+			int batchSize = this.batchSizes.merge(sql, 1, Integer::sum);
+			if (batchSize == BATCH_SIZE) {
+				stmt.executeLargeBatch();
+				this.batchSizes.put(sql, 0);
+			}
+		}
+		
+		/**
+		 * Loescht die nicht mehr erzeugten Zeilen und sendet die verbleibenden Stapel
+		 */
+		private void flush() throws SQLException {
+			for (StoredRow storedRow : this.storedRows.values()) {
+				Row.bind(this.getPreparedStatement(this.deleteStatement), 1, storedRow.id);
+				this.addBatch(this.deleteStatement);
+			}
+			this.storedRows.clear();
+			
+			for (Map.Entry<String, PreparedStatement> statement : this.statements.entrySet()) {
+				if (this.batchSizes.getOrDefault(statement.getKey(), 0) > 0)
+					statement.getValue().executeLargeBatch();
+			}
+		}
+		
+		/**
+		 * Gibt die vorbereiteten Anweisungen an die Datenbank zurueck
+		 */
+		private void close() {
+			for (PreparedStatement stmt : this.statements.values()) {
+				try {
+					stmt.close();
+				} 
+				catch (SQLException e) {
+					e.printStackTrace();
+				}
+			}
+			this.statements.clear();
+		}
+	}
+	
+	BulkResultWriter(DataBase dataBase) {
+		this.dataBase = dataBase;
+	}
+	
+	/**
+	 * Legt fest, ob nur geaenderte Zeilen geschrieben werden
+	 * @param incremental
+	 */
+	void setIncremental(boolean incremental) {
+		this.incremental = incremental;
+	}
+	
+	/**
+	 * Legt die Toleranz als Anteil der Ausgabeaufloesung fest, ab der ein Wert beim inkrementellen Schreiben als geaendert gilt
+	 * @param tolerance
+	 */
+	void setTolerance(double tolerance) {
+		this.tolerance = Math.max(0, tolerance);
+	}
+	
+	/**
+	 * Liefert eine neue, leere Zeile der Ergebnistabelle
+	 * @param table
+	 * @return row
+	 */
+	Row createRow(ResultTable table) {
+		return new Row(table);
+	}
+	
+	/**
+	 * Uebergibt eine Zeile an den schreibenden Thread. Ist die Warteschlange gefuellt, 
+	 * wird gewartet; wurde das Schreiben abgebrochen, wird eine InterruptedException geworfen
+	 * @param row
+	 * @throws InterruptedException
+	 */
+	void add(Row row) throws InterruptedException {
+		while (!this.queue.offer(row, 100, TimeUnit.MILLISECONDS)) {
+			if (this.aborted)
+				throw new InterruptedException("Error, bulk write was aborted!");
+		}
+	}
+	
+	/**
+	 * Fuehrt die Erzeuger parallel aus und schreibt die erzeugten Zeilen der Tabellen im aufrufenden Thread 
+	 * in Stapeln der Groesse BATCH_SIZE innerhalb einer Transaktion in die Datenbank
+	 * @param tables
+	 * @param producers
+	 * @param numberOfThreads
+	 * @throws SQLException
+	 */
+	void write(List<ResultTable> tables, List<RowProducer> producers, int numberOfThreads) throws SQLException {
+		if (producers.isEmpty())
+			return;
+		
+		long start = System.nanoTime();
+		this.aborted = false;
+		this.producerException.set(null);
+		this.queue.clear();
+
+		ExecutorService executor = null;
+		boolean autoCommit = this.dataBase.isAutoCommit();
+		boolean committed = false;
+		Map<ResultTable, TableWriter> tableWriters = new LinkedHashMap<ResultTable, TableWriter>();
+		try {
+			this.dataBase.setAutoCommit(false);
+			
+			// gespeicherte Ergebnisse lesen, bevor die Erzeuger starten
+			for (ResultTable table : tables)
+				tableWriters.put(table, new TableWriter(table));
+			
+			executor = Executors.newFixedThreadPool(Math.max(1, Math.min(numberOfThreads, producers.size())), runnable -> {
+				Thread thread = new Thread(runnable, BulkResultWriter.class.getSimpleName());
+				thread.setDaemon(true);
+				return thread;
+			});
+
+			for (RowProducer producer : producers) {
+				executor.execute(() -> {
+					try {
+						producer.produce(this);
+					}
+					catch (Exception e) {
+						this.producerException.compareAndSet(null, e);
+					}
+					finally {
+						try {
+							if (!this.aborted)
+								this.add(END_OF_STREAM);
+						} 
+						catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+					}
+				});
+			}
+
+			int finishedProducers = 0;
+			while (finishedProducers < producers.size()) {
+				Row row = this.queue.take();
+				if (row == END_OF_STREAM) {
+					finishedProducers++;
+					if (this.producerException.get() != null)
+						throw new SQLException(this.getClass().getSimpleName() + " : Error, could not extract results!", this.producerException.get());
+					continue;
+				}
+
+				TableWriter tableWriter = tableWriters.get(row.table);
+				if (tableWriter == null)
+					throw new SQLException(this.getClass().getSimpleName() + " : Error, unknown result table " + row.table.getName() + "!");
+				tableWriter.write(row);
+			}
+
+			for (TableWriter tableWriter : tableWriters.values())
+				tableWriter.flush();
+			
+			this.dataBase.commit();
+			committed = true;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new SQLException(this.getClass().getSimpleName() + " : Error, bulk write was interrupted!", e);
+		}
+		finally {
+			this.aborted = true;
+			if (executor != null)
+				executor.shutdown();
+			this.queue.clear();
+			for (TableWriter tableWriter : tableWriters.values())
+				tableWriter.close();
+			if (!committed)
+				this.dataBase.rollback();
+			this.dataBase.setAutoCommit(autoCommit);
+			this.duration += System.nanoTime() - start;
+		}
+	}
+	
+	private static boolean isNumeric(Object value) {
+		return value instanceof Number || value instanceof Boolean;
+	}
+	
+	private static double toDouble(Object value) {
+		if (value instanceof Number)
+			return ((Number)value).doubleValue();
+		if (value instanceof Boolean)
+			return ((Boolean)value) ? 1.0 : 0.0;
+		return Double.NaN;
+	}
+	
+	/**
+	 * Liefert die Anzahl der geschriebenen (eingefuegten, aktualisierten bzw. geloeschten) Zeilen
+	 * @return rows
+	 */
+	long getNumberOfRows() {
+		return this.numberOfRows;
+	}
+	
+	/**
+	 * Liefert die Anzahl der beim inkrementellen Schreiben unveraenderten und daher nicht geschriebenen Zeilen
+	 * @return rows
+	 */
+	long getNumberOfUnchangedRows() {
+		return this.numberOfUnchangedRows;
+	}
+	
+	/**
+	 * Liefert die Anzahl der geschriebenen Zeilen je Sekunde
+	 * @return rows/s
+	 */
+	double getRowsPerSecond() {
+		return this.duration > 0 ? 1.0E9 * this.numberOfRows / this.duration : 0.0;
+	}
+}
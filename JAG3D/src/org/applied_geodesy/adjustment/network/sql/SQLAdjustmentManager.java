@@ -98,6 +98,7 @@ import org.applied_geodesy.adjustment.statistic.TestStatisticParameters;
 import org.applied_geodesy.adjustment.statistic.TestStatisticType;
 import org.applied_geodesy.transformation.datum.Ellipsoid;
 import org.applied_geodesy.transformation.datum.SphericalDeflectionModel;
+import org.applied_geodesy.util.CellValueType;
 import org.applied_geodesy.util.sql.DataBase;
 import org.applied_geodesy.util.sql.HSQLDB;
 import org.applied_geodesy.version.jag3d.DatabaseVersionMismatchException;
@@ -107,6 +108,121 @@ import org.applied_geodesy.version.VersionType;
 public class SQLAdjustmentManager {
 	private final DataBase dataBase;
 
+	// Ergebnistabellen, die als Massendaten bzw. inkrementell geschrieben werden
+	private final static BulkResultWriter.ResultTable POINT_RESULT_TABLE = new BulkResultWriter.ResultTable("PointAposteriori", "PointApriori",
+			new String[] {
+					"id", "y", "x", "z",
+					"sigma_y0", "sigma_x0", "sigma_z0",
+					"sigma_y", "sigma_x", "sigma_z",
+					"confidence_major_axis", "confidence_middle_axis", "confidence_minor_axis",
+					"confidence_alpha", "confidence_beta", "confidence_gamma",
+					"helmert_major_axis", "helmert_minor_axis", "helmert_alpha",
+					"residual_y", "residual_x", "residual_z",
+					"redundancy_y", "redundancy_x", "redundancy_z",
+					"gross_error_y", "gross_error_x", "gross_error_z",
+					"minimal_detectable_bias_y", "minimal_detectable_bias_x", "minimal_detectable_bias_z",
+					"maximum_tolerable_bias_y", "maximum_tolerable_bias_x", "maximum_tolerable_bias_z",
+					"influence_on_position_y", "influence_on_position_x", "influence_on_position_z",
+					"influence_on_network_distortion",
+					"first_principal_component_y", "first_principal_component_x", "first_principal_component_z",
+					"omega", "p_prio", "p_post", "t_prio", "t_post", "significant", "covar_index", "number_of_observations"
+			},
+			new CellValueType[] {
+					CellValueType.STRING, CellValueType.LENGTH, CellValueType.LENGTH, CellValueType.LENGTH,
+					CellValueType.LENGTH_UNCERTAINTY, CellValueType.LENGTH_UNCERTAINTY, CellValueType.LENGTH_UNCERTAINTY,
+					CellValueType.LENGTH_UNCERTAINTY, CellValueType.LENGTH_UNCERTAINTY, CellValueType.LENGTH_UNCERTAINTY,
+					CellValueType.LENGTH_UNCERTAINTY, CellValueType.LENGTH_UNCERTAINTY, CellValueType.LENGTH_UNCERTAINTY,
+					CellValueType.ANGLE, CellValueType.ANGLE, CellValueType.ANGLE,
+					CellValueType.LENGTH_UNCERTAINTY, CellValueType.LENGTH_UNCERTAINTY, CellValueType.ANGLE,
+					CellValueType.LENGTH_RESIDUAL, CellValueType.LENGTH_RESIDUAL, CellValueType.LENGTH_RESIDUAL,
+					CellValueType.PERCENTAGE, CellValueType.PERCENTAGE, CellValueType.PERCENTAGE,
+					CellValueType.LENGTH_RESIDUAL, CellValueType.LENGTH_RESIDUAL, CellValueType.LENGTH_RESIDUAL,
+					CellValueType.LENGTH_RESIDUAL, CellValueType.LENGTH_RESIDUAL, CellValueType.LENGTH_RESIDUAL,
+					CellValueType.LENGTH_RESIDUAL, CellValueType.LENGTH_RESIDUAL, CellValueType.LENGTH_RESIDUAL,
+					CellValueType.LENGTH_RESIDUAL, CellValueType.LENGTH_RESIDUAL, CellValueType.LENGTH_RESIDUAL,
+					CellValueType.LENGTH_RESIDUAL,
+					CellValueType.LENGTH_UNCERTAINTY, CellValueType.LENGTH_UNCERTAINTY, CellValueType.LENGTH_UNCERTAINTY,
+					CellValueType.STATISTIC, CellValueType.STATISTIC, CellValueType.STATISTIC, CellValueType.STATISTIC, CellValueType.STATISTIC, CellValueType.BOOLEAN, CellValueType.INTEGER, CellValueType.INTEGER
+			});
+
+	private final static BulkResultWriter.ResultTable VERTICAL_DEFLECTION_RESULT_TABLE = new BulkResultWriter.ResultTable("VerticalDeflectionAposteriori", "VerticalDeflectionApriori",
+			new String[] {
+					"id", "y", "x",
+					"sigma_y0", "sigma_x0",
+					"sigma_y", "sigma_x",
+					"confidence_major_axis", "confidence_minor_axis",
+					"residual_y", "residual_x",
+					"redundancy_y", "redundancy_x",
+					"gross_error_y", "gross_error_x",
+					"minimal_detectable_bias_y", "minimal_detectable_bias_x",
+					"maximum_tolerable_bias_y", "maximum_tolerable_bias_x",
+					"omega", "p_prio", "p_post", "t_prio", "t_post", "significant", "covar_index"
+			},
+			new CellValueType[] {
+					CellValueType.STRING, CellValueType.ANGLE, CellValueType.ANGLE,
+					CellValueType.ANGLE_UNCERTAINTY, CellValueType.ANGLE_UNCERTAINTY,
+					CellValueType.ANGLE_UNCERTAINTY, CellValueType.ANGLE_UNCERTAINTY,
+					CellValueType.ANGLE_UNCERTAINTY, CellValueType.ANGLE_UNCERTAINTY,
+					CellValueType.ANGLE_RESIDUAL, CellValueType.ANGLE_RESIDUAL,
+					CellValueType.PERCENTAGE, CellValueType.PERCENTAGE,
+					CellValueType.ANGLE_RESIDUAL, CellValueType.ANGLE_RESIDUAL,
+					CellValueType.ANGLE_RESIDUAL, CellValueType.ANGLE_RESIDUAL,
+					CellValueType.ANGLE_RESIDUAL, CellValueType.ANGLE_RESIDUAL,
+					CellValueType.STATISTIC, CellValueType.STATISTIC, CellValueType.STATISTIC, CellValueType.STATISTIC, CellValueType.STATISTIC, CellValueType.BOOLEAN, CellValueType.INTEGER
+			});
+
+	// Beobachtungen und Zusatzparameter enthalten Laengen, Winkel und Massstaebe; ihre Spalten werden mit der feinsten Ausgabeaufloesung verglichen
+	private final static BulkResultWriter.ResultTable OBSERVATION_RESULT_TABLE = new BulkResultWriter.ResultTable("ObservationAposteriori", null,
+			"id", "value",
+			"sigma_0", "sigma",
+			"residual",
+			"redundancy",
+			"gross_error", "minimal_detectable_bias", "maximum_tolerable_bias",
+			"influence_on_position", "influence_on_network_distortion",
+			"omega",
+			"p_prio", "p_post",
+			"t_prio", "t_post",
+			"significant");
+
+	private final static BulkResultWriter.ResultTable GNSS_OBSERVATION_RESULT_TABLE = new BulkResultWriter.ResultTable("GNSSObservationAposteriori", null,
+			new String[] {
+					"id", "y", "x", "z",
+					"sigma_y0", "sigma_x0", "sigma_z0",
+					"sigma_y", "sigma_x", "sigma_z",
+					"residual_y", "residual_x", "residual_z",
+					"redundancy_y", "redundancy_x", "redundancy_z",
+					"gross_error_y", "gross_error_x", "gross_error_z",
+					"minimal_detectable_bias_y", "minimal_detectable_bias_x", "minimal_detectable_bias_z",
+					"maximum_tolerable_bias_y", "maximum_tolerable_bias_x", "maximum_tolerable_bias_z",
+					"influence_on_position_y", "influence_on_position_x", "influence_on_position_z",
+					"influence_on_network_distortion",
+					"omega", "p_prio", "p_post", "t_prio", "t_post", "significant"
+			},
+			new CellValueType[] {
+					CellValueType.INTEGER, CellValueType.VECTOR, CellValueType.VECTOR, CellValueType.VECTOR,
+					CellValueType.VECTOR_UNCERTAINTY, CellValueType.VECTOR_UNCERTAINTY, CellValueType.VECTOR_UNCERTAINTY,
+					CellValueType.VECTOR_UNCERTAINTY, CellValueType.VECTOR_UNCERTAINTY, CellValueType.VECTOR_UNCERTAINTY,
+					CellValueType.VECTOR_RESIDUAL, CellValueType.VECTOR_RESIDUAL, CellValueType.VECTOR_RESIDUAL,
+					CellValueType.PERCENTAGE, CellValueType.PERCENTAGE, CellValueType.PERCENTAGE,
+					CellValueType.VECTOR_RESIDUAL, CellValueType.VECTOR_RESIDUAL, CellValueType.VECTOR_RESIDUAL,
+					CellValueType.VECTOR_RESIDUAL, CellValueType.VECTOR_RESIDUAL, CellValueType.VECTOR_RESIDUAL,
+					CellValueType.VECTOR_RESIDUAL, CellValueType.VECTOR_RESIDUAL, CellValueType.VECTOR_RESIDUAL,
+					CellValueType.LENGTH_RESIDUAL, CellValueType.LENGTH_RESIDUAL, CellValueType.LENGTH_RESIDUAL,
+					CellValueType.LENGTH_RESIDUAL,
+					CellValueType.STATISTIC, CellValueType.STATISTIC, CellValueType.STATISTIC, CellValueType.STATISTIC, CellValueType.STATISTIC, CellValueType.BOOLEAN
+			});
+
+	private final static BulkResultWriter.ResultTable ADDITIONAL_PARAMETER_RESULT_TABLE = new BulkResultWriter.ResultTable("AdditionalParameterAposteriori", null,
+			"id", "value", "sigma", "confidence", "gross_error", "minimal_detectable_bias", "p_prio", "p_post", "t_prio", "t_post", "significant");
+
+	private final static List<BulkResultWriter.ResultTable> BULK_RESULT_TABLES = List.of(
+			POINT_RESULT_TABLE,
+			VERTICAL_DEFLECTION_RESULT_TABLE,
+			OBSERVATION_RESULT_TABLE,
+			GNSS_OBSERVATION_RESULT_TABLE,
+			ADDITIONAL_PARAMETER_RESULT_TABLE
+	);
+
 	private Map<String, Point> completePoints    = new LinkedHashMap<String, Point>();
 	private Map<String, Point> completeNewPoints = new LinkedHashMap<String, Point>();
 	
@@ -118,6 +234,7 @@ public class SQLAdjustmentManager {
 
 	private List<CongruenceAnalysisGroup> congruenceAnalysisGroups = new ArrayList<CongruenceAnalysisGroup>();
 	private List<ObservationGroup> completeObservationGroups = new ArrayList<ObservationGroup>();
+	private Set<Integer> sequentialObservationGroupIds = new LinkedHashSet<Integer>();
 
 	private Reduction reductions = new Reduction();
 
@@ -125,6 +242,11 @@ public class SQLAdjustmentManager {
 
 	private EstimationType estimationType = null;
 	
+	private long numberOfSavedRows = 0, numberOfUnchangedRows = 0;
+	private double savedRowsPerSecond = 0;
+	private boolean incrementalSaving = false;
+	private double incrementalSavingTolerance = BulkResultWriter.DEFAULT_TOLERANCE;
+	
 	private boolean freeNetwork = false,
 			congruenceAnalysis = false,
 			pure1DNetwork = true,
@@ -210,8 +332,8 @@ public class SQLAdjustmentManager {
 			this.networkAdjustment.setSphericalDeflectionModel(sphericalDeflectionModel);
 		}
 
-		// Fuege Beobachtungen zu den Punkten hinzu
-		this.completeObservationGroups.addAll(this.getObservationGroups());
+		// Fuege Beobachtungen zu den Punkten hinzu; Gruppen der sequentiellen Ausgleichung werden zurueckgehalten
+		this.completeObservationGroups.addAll(this.getObservationGroups(false));
 		// wenn 2D Projektionen nicht moeglich sind, werden keine Reduktionen durchgefuehrt
 		if (this.containsSpatialObservations && (this.reductions.getProjectionType() == ProjectionType.GAUSS_KRUEGER || this.reductions.getProjectionType() == ProjectionType.UTM) && (this.reductions.applyReductionTask(ReductionTaskType.DIRECTION) || this.reductions.applyReductionTask(ReductionTaskType.DISTANCE) || this.reductions.applyReductionTask(ReductionTaskType.HEIGHT) || this.reductions.applyReductionTask(ReductionTaskType.EARTH_CURVATURE)))
 			throw new IllegalProjectionPropertyException("Projection defined for horizontal networks cannot be applied to spatial observations such as slope distances or zenith angles! " + this.reductions.getProjectionType());
@@ -508,16 +630,16 @@ public class SQLAdjustmentManager {
 
 		ResultSet rs = stmt.executeQuery();
 		while (rs.next()) {
-			String name = rs.getString("name");
-			int dimension = rs.getInt("dimension");
+			String name = rs.getString(1);
+			int dimension = rs.getInt(5);
 
-			double y0 = rs.getDouble("y0");
-			double x0 = rs.getDouble("x0");
-			double z0 = rs.getDouble("z0");
+			double y0 = rs.getDouble(2);
+			double x0 = rs.getDouble(3);
+			double z0 = rs.getDouble(4);
 
-			double sigmaY0 = rs.getDouble("sigma_y0");	
-			double sigmaX0 = rs.getDouble("sigma_x0");		
-			double sigmaZ0 = rs.getDouble("sigma_z0");
+			double sigmaY0 = rs.getDouble(6);	
+			double sigmaX0 = rs.getDouble(7);		
+			double sigmaZ0 = rs.getDouble(8);
 
 			Point point = null;
 
@@ -577,21 +699,21 @@ public class SQLAdjustmentManager {
 
 		ResultSet rs = stmt.executeQuery();
 		while (rs.next()) {
-			VerticalDeflectionType type = VerticalDeflectionType.getEnumByValue(rs.getInt("vertical_deflection_type"));
+			VerticalDeflectionType type = VerticalDeflectionType.getEnumByValue(rs.getInt(4));
 			if (type == null)
 				continue;
 			
-			String name = rs.getString("name");
+			String name = rs.getString(1);
 
 			Point point = this.completePoints.get(name);
 			if (point == null || point.getDimension() == 2) // point.getDimension() != 3
 				continue;
 
-			double y0 = rs.getDouble("y0");
-			double x0 = rs.getDouble("x0");
+			double y0 = rs.getDouble(2);
+			double x0 = rs.getDouble(3);
 
-			double sigmaY0 = rs.getDouble("sigma_y0");	
-			double sigmaX0 = rs.getDouble("sigma_x0");
+			double sigmaY0 = rs.getDouble(5);	
+			double sigmaX0 = rs.getDouble(6);
 
 			point.getVerticalDeflectionY().setValue0(y0);
 			point.getVerticalDeflectionX().setValue0(x0);
@@ -614,8 +736,60 @@ public class SQLAdjustmentManager {
 	}
 
 
-	private List<ObservationGroup> getObservationGroups() throws SQLException {
-		List<ObservationGroup> observationGroups = new ArrayList<ObservationGroup>();
+	/**
+	 * Fuegt die mittels {@link #setSequentialObservationGroupIds(Set)} zurueckgehaltenen Beobachtungsgruppen (bspw. einer 
+	 * spaeteren Epoche) sowie deren Zusatzparameter der bereits ausgeglichenen Netzausgleichung fuer die sequentielle 
+	 * Ausgleichung hinzu, vgl. {@link NetworkAdjustment#estimateSequentialModel()}. Die Beobachtungen muessen Punkte 
+	 * verknuepfen, die bereits Teil des Modells sind.
+	 * 
+	 * @return isAdded
+	 * @throws SQLException
+	 */
+	public boolean addSequentialObservationGroups() throws SQLException {
+		if (this.networkAdjustment == null || this.sequentialObservationGroupIds.isEmpty())
+			return false;
+		
+		Set<Integer> additionalParameterIds = new HashSet<Integer>(this.additionalParametersToBeEstimated.keySet());
+		List<ObservationGroup> observationGroups = this.getObservationGroups(true);
+		
+		boolean isAdded = false;
+		for (ObservationGroup observationGroup : observationGroups) {
+			if (this.networkAdjustment.addSequentialObservationGroup(observationGroup)) {
+				this.completeObservationGroups.add(observationGroup);
+				isAdded = true;
+			}
+		}
+		
+		for (Map.Entry<Integer, AdditionalUnknownParameter> parameterItem : this.additionalParametersToBeEstimated.entrySet()) {
+			if (!additionalParameterIds.contains(parameterItem.getKey()))
+				this.networkAdjustment.addSequentialAdditionalUnknownParameter(parameterItem.getValue());
+		}
+		this.sequentialObservationGroupIds.clear();
+		return isAdded;
+	}
+	
+	/**
+	 * Legt die IDs der Beobachtungsgruppen fest, die beim Aufbau der Netzausgleichung zurueckgehalten und erst 
+	 * mittels {@link #addSequentialObservationGroups()} sequentiell hinzugefuegt werden
+	 * @param sequentialObservationGroupIds
+	 */
+	public void setSequentialObservationGroupIds(Set<Integer> sequentialObservationGroupIds) {
+		this.sequentialObservationGroupIds.clear();
+		if (sequentialObservationGroupIds != null)
+			this.sequentialObservationGroupIds.addAll(sequentialObservationGroupIds);
+	}
+
+	/**
+	 * Liefert alle aktiven, nicht-leeren Beobachtungsgruppen. Die Gruppen werden zunaechst angelegt; anschliessend 
+	 * werden die Zusatzparameter, die terrestrischen und die GNSS-Beobachtungen aller Gruppen mit jeweils einer 
+	 * einzigen Abfrage geladen und den Gruppen zugeordnet.
+	 * 
+	 * @param sequential <code>true</code>, wenn nur die Gruppen der sequentiellen Ausgleichung geliefert werden sollen, andernfalls werden diese uebergangen
+	 * @return observationGroups
+	 * @throws SQLException
+	 */
+	private List<ObservationGroup> getObservationGroups(boolean sequential) throws SQLException {
+		Map<Integer, ObservationGroup> observationGroups = new LinkedHashMap<Integer, ObservationGroup>();
 
 		String sql = "SELECT \"id\", \"type\", \"reference_epoch\", "
 				+ "\"UncertaintyZP\".\"value\"   AS \"sigma_0_zero_point\", "
@@ -637,14 +811,13 @@ public class SQLAdjustmentManager {
 		ResultSet rs = stmt.executeQuery();
 
 		while (rs.next()) {
-			ObservationType type = ObservationType.getEnumByValue(rs.getInt("type"));
+			ObservationType type = ObservationType.getEnumByValue(rs.getInt(2));
 			
 			if (type == null)
 				continue;
 
-			boolean containsSpatialObservations = false;
-			int groupId = rs.getInt("id");
-			Epoch epoch = rs.getBoolean("reference_epoch") ? Epoch.REFERENCE : Epoch.CONTROL;
+			int groupId = rs.getInt(1);
+			Epoch epoch = rs.getBoolean(3) ? Epoch.REFERENCE : Epoch.CONTROL;
 
 			double sigmaZeroPointOffset = -1;
 			double sigmaSquareRootDistance = -1;
@@ -653,86 +826,73 @@ public class SQLAdjustmentManager {
 			ObservationGroup group = null;
 			switch(type) {
 			case LEVELING:
-				sigmaZeroPointOffset = rs.getDouble("sigma_0_zero_point");
+				sigmaZeroPointOffset = rs.getDouble(4);
 				if (rs.wasNull() || sigmaZeroPointOffset <= 0)
 					sigmaZeroPointOffset = DefaultUncertainty.getUncertaintyLevelingZeroPointOffset();
 
-				sigmaSquareRootDistance = rs.getDouble("sigma_0_square_root_distance");
+				sigmaSquareRootDistance = rs.getDouble(5);
 				if (rs.wasNull() || sigmaSquareRootDistance < 0)
 					sigmaSquareRootDistance = DefaultUncertainty.getUncertaintyLevelingSquareRootDistanceDependent();
 
-				sigmaDistance = rs.getDouble("sigma_0_distance");
+				sigmaDistance = rs.getDouble(6);
 				if (rs.wasNull() || sigmaDistance < 0)
 					sigmaDistance = DefaultUncertainty.getUncertaintyLevelingDistanceDependent();
 
 				group = new DeltaZGroup(groupId, sigmaZeroPointOffset, sigmaSquareRootDistance, sigmaDistance, epoch);
-
-				this.addAdditionalGroupParameters(group);
-				this.addTerrestrialObservations(group);
 				break;
 
 			case DIRECTION:
 			case ZENITH_ANGLE:
-				sigmaZeroPointOffset = rs.getDouble("sigma_0_zero_point");
+				sigmaZeroPointOffset = rs.getDouble(4);
 				if (rs.wasNull() || sigmaZeroPointOffset <= 0)
 					sigmaZeroPointOffset = DefaultUncertainty.getUncertaintyAngleZeroPointOffset();
 
-				sigmaSquareRootDistance = rs.getDouble("sigma_0_square_root_distance");
+				sigmaSquareRootDistance = rs.getDouble(5);
 				if (rs.wasNull() || sigmaSquareRootDistance < 0)
 					sigmaSquareRootDistance = DefaultUncertainty.getUncertaintyAngleSquareRootDistanceDependent();
 
-				sigmaDistance = rs.getDouble("sigma_0_distance");
+				sigmaDistance = rs.getDouble(6);
 				if (rs.wasNull() || sigmaDistance < 0)
 					sigmaDistance = DefaultUncertainty.getUncertaintyAngleDistanceDependent();
 
 				if (type == ObservationType.DIRECTION)
 					group = new DirectionGroup(groupId, sigmaZeroPointOffset, sigmaSquareRootDistance, sigmaDistance, epoch); 
-				else {
+				else
 					group = new ZenithAngleGroup(groupId, sigmaZeroPointOffset, sigmaSquareRootDistance, sigmaDistance, epoch);
-					containsSpatialObservations = true;
-				}
-
-				this.addAdditionalGroupParameters(group);
-				this.addTerrestrialObservations(group);
 				break;
 
 			case HORIZONTAL_DISTANCE:
 			case SLOPE_DISTANCE:
-				sigmaZeroPointOffset = rs.getDouble("sigma_0_zero_point");
+				sigmaZeroPointOffset = rs.getDouble(4);
 				if (rs.wasNull() || sigmaZeroPointOffset <= 0)
 					sigmaZeroPointOffset = DefaultUncertainty.getUncertaintyDistanceZeroPointOffset();
 
-				sigmaSquareRootDistance = rs.getDouble("sigma_0_square_root_distance");
+				sigmaSquareRootDistance = rs.getDouble(5);
 				if (rs.wasNull() || sigmaSquareRootDistance < 0)
 					sigmaSquareRootDistance = DefaultUncertainty.getUncertaintyDistanceSquareRootDistanceDependent();
 
-				sigmaDistance = rs.getDouble("sigma_0_distance");
+				sigmaDistance = rs.getDouble(6);
 				if (rs.wasNull() || sigmaDistance < 0)
 					sigmaDistance = DefaultUncertainty.getUncertaintyDistanceDistanceDependent();
 
 				if (type == ObservationType.HORIZONTAL_DISTANCE)
 					group = new HorizontalDistanceGroup(groupId, sigmaZeroPointOffset, sigmaSquareRootDistance, sigmaDistance, epoch); 
-				else {
+				else
 					group = new SlopeDistanceGroup(groupId, sigmaZeroPointOffset, sigmaSquareRootDistance, sigmaDistance, epoch);
-					containsSpatialObservations = true;
-				}
-
-				this.addAdditionalGroupParameters(group);
-				this.addTerrestrialObservations(group);		
 				break;
 
 			case GNSS1D:
 			case GNSS2D:
 			case GNSS3D:
-				sigmaZeroPointOffset = rs.getDouble("sigma_0_zero_point");
+				sigmaZeroPointOffset = rs.getDouble(4);
 				if (rs.wasNull() || sigmaZeroPointOffset <= 0)
 					sigmaZeroPointOffset = DefaultUncertainty.getUncertaintyGNSSZeroPointOffset();
 
-				sigmaSquareRootDistance = rs.getDouble("sigma_0_square_root_distance");
+				sigmaSquareRootDistance = rs.getDouble(5);
 				if (rs.wasNull() || sigmaSquareRootDistance < 0)
 					sigmaSquareRootDistance = DefaultUncertainty.getUncertaintyGNSSSquareRootDistanceDependent();
 
-				sigmaDistance = rs.getDouble("sigma_0_distance");
+				sigmaDistance = rs.getDouble(6);
 				if (rs.wasNull() || sigmaDistance < 0)
 					sigmaDistance = DefaultUncertainty.getUncertaintyGNSSDistanceDependent();
 
@@ -742,54 +902,71 @@ public class SQLAdjustmentManager {
 					group = new GNSSBaseline2DGroup(groupId, sigmaZeroPointOffset, sigmaSquareRootDistance, sigmaDistance, epoch);
 				else
 					group = new GNSSBaseline3DGroup(groupId, sigmaZeroPointOffset, sigmaSquareRootDistance, sigmaDistance, epoch);
-
-				this.addAdditionalGroupParameters(group);
-				this.addGNSSObservations(group);
 				break;
 			}
 
-			if (group != null && !group.isEmpty()) {
-				observationGroups.add(group);
-				if (containsSpatialObservations)
+			if (group != null && this.sequentialObservationGroupIds.contains(groupId) == sequential)
+				observationGroups.put(groupId, group);
+		}
+		
+		this.addAdditionalGroupParameters(observationGroups);
+		this.addTerrestrialObservations(observationGroups);
+		this.addGNSSObservations(observationGroups);
+
+		List<ObservationGroup> nonEmptyObservationGroups = new ArrayList<ObservationGroup>(observationGroups.size());
+		for (ObservationGroup group : observationGroups.values()) {
+			if (!group.isEmpty()) {
+				nonEmptyObservationGroups.add(group);
+				if (group instanceof ZenithAngleGroup || group instanceof SlopeDistanceGroup)
 					this.containsSpatialObservations = true;
 			}
 		}
 
-		return observationGroups;
+		return nonEmptyObservationGroups;
 	}
 
-	private void addTerrestrialObservations(ObservationGroup observationGroup) throws SQLException {
-		String sql = "SELECT \"id\", \"start_point_name\", \"end_point_name\", \"instrument_height\", \"reflector_height\", \"value_0\", \"sigma_0\", \"distance_0\" "
+	/**
+	 * Fuegt die aktiven terrestrischen Beobachtungen aller Gruppen in einem Durchlauf hinzu. Die Abfrage ist 
+	 * wie die Gruppen sortiert, sodass die Reihenfolge der Beobachtungen je Gruppe und je Punkt erhalten bleibt. Die Punktnamen werden 
+	 * unmittelbar durch die bestehenden Punkte ersetzt und nicht je Beobachtung vorgehalten.
+	 * 
+	 * @param observationGroups Beobachtungsgruppen mit ihrer ID als Schluessel
+	 * @throws SQLException
+	 */
+	private void addTerrestrialObservations(Map<Integer, ObservationGroup> observationGroups) throws SQLException {
+		String sql = "SELECT \"ObservationApriori\".\"id\", \"group_id\", \"start_point_name\", \"end_point_name\", \"instrument_height\", \"reflector_height\", \"value_0\", \"sigma_0\", \"distance_0\" "
 				+ "FROM \"ObservationApriori\" "
-				+ "WHERE \"group_id\" = ? AND \"enable\" = TRUE "
-				+ "ORDER BY \"id\" ASC";
+				+ "JOIN \"ObservationGroup\" ON \"ObservationApriori\".\"group_id\" = \"ObservationGroup\".\"id\" "
+				+ "WHERE \"ObservationGroup\".\"enable\" = TRUE AND \"ObservationApriori\".\"enable\" = TRUE "
+				+ "ORDER BY \"ObservationGroup\".\"type\" ASC, \"ObservationGroup\".\"id\" ASC, \"ObservationApriori\".\"id\" ASC";
 
-		int idx = 1;
 		PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
-		stmt.setInt(idx++, observationGroup.getId());
-
 		ResultSet rs = stmt.executeQuery();
 
+		ObservationGroup observationGroup = null;
 		while (rs.next()) {
+			int groupId = rs.getInt(2);
+			if (observationGroup == null || observationGroup.getId() != groupId)
+				observationGroup = observationGroups.get(groupId);
+			
+			if (observationGroup == null)
+				continue;
 
-			int id = rs.getInt("id");
-
-			String startPointName = rs.getString("start_point_name");
-			String endPointName   = rs.getString("end_point_name");
-
-			double startPointHeight = rs.getDouble("instrument_height");
-			double endPointHeight   = rs.getDouble("reflector_height");
+			Point startPoint = this.completePoints.get(rs.getString(3));
+			Point endPoint   = this.completePoints.get(rs.getString(4));
 
-			double observation0 = rs.getDouble("value_0");
-			double sigma0       = rs.getDouble("sigma_0");
+			if (startPoint == null || endPoint == null)
+				continue;
+			
+			int id = rs.getInt(1);
 
-			double distanceForUncertaintyModel = rs.getDouble("distance_0");
+			double startPointHeight = rs.getDouble(5);
+			double endPointHeight   = rs.getDouble(6);
 
-			Point startPoint = this.completePoints.get(startPointName);
-			Point endPoint   = this.completePoints.get(endPointName);
+			double observation0 = rs.getDouble(7);
+			double sigma0       = rs.getDouble(8);
 
-			if (startPoint == null || endPoint == null)
-				continue;
+			double distanceForUncertaintyModel = rs.getDouble(9);
 
 			Observation observation = null;
 
@@ -808,48 +985,55 @@ public class SQLAdjustmentManager {
 			else if (observationGroup instanceof ZenithAngleGroup && startPoint.getDimension() == 3 && endPoint.getDimension() == 3) 
 				observation = new ZenithAngle(id, startPoint, endPoint, startPointHeight, endPointHeight, observation0, sigma0, distanceForUncertaintyModel);
 
-			if (this.estimationType == EstimationType.SIMULATION)
-				observation.setValueApriori(observation.getValueAposteriori());
-			
 			if (observation != null) {
+				if (this.estimationType == EstimationType.SIMULATION)
+					observation.setValueApriori(observation.getValueAposteriori());
 				observation.setReduction(this.reductions);
 				observationGroup.add(observation);
 			}
 		}
 	}
 
-	private void addGNSSObservations(ObservationGroup observationGroup) throws SQLException {
-		String sql = "SELECT \"id\", \"start_point_name\", \"end_point_name\", \"y0\", \"x0\", \"z0\", \"sigma_y0\", \"sigma_x0\", \"sigma_z0\" "
+	/**
+	 * Fuegt die aktiven GNSS-Basislinien aller Gruppen in einem Durchlauf hinzu (vgl. addTerrestrialObservations)
+	 * 
+	 * @param observationGroups Beobachtungsgruppen mit ihrer ID als Schluessel
+	 * @throws SQLException
+	 */
+	private void addGNSSObservations(Map<Integer, ObservationGroup> observationGroups) throws SQLException {
+		String sql = "SELECT \"GNSSObservationApriori\".\"id\", \"group_id\", \"start_point_name\", \"end_point_name\", \"y0\", \"x0\", \"z0\", \"sigma_y0\", \"sigma_x0\", \"sigma_z0\" "
 				+ "FROM \"GNSSObservationApriori\" "
-				+ "WHERE \"group_id\" = ? AND \"enable\" = TRUE "
-				+ "ORDER BY \"id\" ASC";
+				+ "JOIN \"ObservationGroup\" ON \"GNSSObservationApriori\".\"group_id\" = \"ObservationGroup\".\"id\" "
+				+ "WHERE \"ObservationGroup\".\"enable\" = TRUE AND \"GNSSObservationApriori\".\"enable\" = TRUE "
+				+ "ORDER BY \"ObservationGroup\".\"type\" ASC, \"ObservationGroup\".\"id\" ASC, \"GNSSObservationApriori\".\"id\" ASC";
 
-		int idx = 1;
 		PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
-		stmt.setInt(idx++, observationGroup.getId());
-
 		ResultSet rs = stmt.executeQuery();
 
+		ObservationGroup observationGroup = null;
 		while (rs.next()) {
+			int groupId = rs.getInt(2);
+			if (observationGroup == null || observationGroup.getId() != groupId)
+				observationGroup = observationGroups.get(groupId);
+			
+			if (observationGroup == null)
+				continue;
 
-			int id = rs.getInt("id");
-
-			String startPointName = rs.getString("start_point_name");
-			String endPointName   = rs.getString("end_point_name");
-
-			double y0 = rs.getDouble("y0");
-			double x0 = rs.getDouble("x0");
-			double z0 = rs.getDouble("z0");
-
-			double sigmaY0 = rs.getDouble("sigma_y0");
-			double sigmaX0 = rs.getDouble("sigma_x0");
-			double sigmaZ0 = rs.getDouble("sigma_z0");
-
-			Point startPoint = this.completePoints.get(startPointName);
-			Point endPoint   = this.completePoints.get(endPointName);
+			Point startPoint = this.completePoints.get(rs.getString(3));
+			Point endPoint   = this.completePoints.get(rs.getString(4));
 
 			if (startPoint == null || endPoint == null)
 				continue;
+			
+			int id = rs.getInt(1);
+
+			double y0 = rs.getDouble(5);
+			double x0 = rs.getDouble(6);
+			double z0 = rs.getDouble(7);
+
+			double sigmaY0 = rs.getDouble(8);
+			double sigmaX0 = rs.getDouble(9);
+			double sigmaZ0 = rs.getDouble(10);
 
 
 			if (observationGroup instanceof GNSSBaseline1DGroup && startPoint.getDimension() != 2 && endPoint.getDimension() != 2) {
@@ -894,23 +1078,32 @@ public class SQLAdjustmentManager {
 		}
 	}
 
-	private void addAdditionalGroupParameters(ObservationGroup observationGroup) throws SQLException {
-		String sql = "SELECT \"id\", \"type\", \"value_0\", \"enable\" "
-				+ "FROM \"AdditionalParameterApriori\" WHERE \"group_id\" = ? "
-				+ "ORDER BY \"id\" ASC";
+	/**
+	 * Fuegt die Zusatzparameter aller Gruppen mit einer Abfrage hinzu. Die Sortierung entspricht der Reihenfolge 
+	 * der Gruppen (Typ, ID), sodass die Reihenfolge der Zusatzparameter in der Ausgleichung erhalten bleibt.
+	 * 
+	 * @param observationGroups Beobachtungsgruppen mit ihrer ID als Schluessel
+	 * @throws SQLException
+	 */
+	private void addAdditionalGroupParameters(Map<Integer, ObservationGroup> observationGroups) throws SQLException {
+		String sql = "SELECT \"AdditionalParameterApriori\".\"id\", \"group_id\", \"AdditionalParameterApriori\".\"type\", \"value_0\", \"AdditionalParameterApriori\".\"enable\" "
+				+ "FROM \"AdditionalParameterApriori\" "
+				+ "JOIN \"ObservationGroup\" ON \"AdditionalParameterApriori\".\"group_id\" = \"ObservationGroup\".\"id\" "
+				+ "WHERE \"ObservationGroup\".\"enable\" = TRUE "
+				+ "ORDER BY \"ObservationGroup\".\"type\" ASC, \"ObservationGroup\".\"id\" ASC, \"AdditionalParameterApriori\".\"id\" ASC";
 
 		PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
-		stmt.setInt(1, observationGroup.getId());
 		// additionalParametersToBeEstimated
 		ResultSet rs = stmt.executeQuery();
 		while (rs.next()) {
-			ParameterType type = ParameterType.getEnumByValue(rs.getInt("type"));
+			ObservationGroup observationGroup = observationGroups.get(rs.getInt(2));
+			ParameterType type = ParameterType.getEnumByValue(rs.getInt(3));
 
-			int id         = rs.getInt("id");
-			double value0  = rs.getDouble("value_0");
-			boolean enable = rs.getBoolean("enable");
+			int id         = rs.getInt(1);
+			double value0  = rs.getDouble(4);
+			boolean enable = rs.getBoolean(5);
 
-			if (type == null || this.additionalParametersToBeEstimated.containsKey(id))
+			if (observationGroup == null || type == null || this.additionalParametersToBeEstimated.containsKey(id))
 				continue;
 
 			AdditionalUnknownParameter parameter = null;
@@ -1101,14 +1294,10 @@ public class SQLAdjustmentManager {
 	public void saveResults() throws SQLException {
 		try {
 			if (this.networkAdjustment != null) {
-				// Tabelle fuer Daten nach der AGL leeren
-				this.clearAposterioriTables();
-
-				this.savePoints();
-				this.saveVerticalDeflections();
+				// Tabelle fuer Daten nach der AGL leeren; beim inkrementellen Speichern verbleiben die Massendaten
+				this.clearAposterioriTables(!this.incrementalSaving);
 
-				this.saveObservations();
-				this.saveAdditionalParameters();
+				this.saveBulkResults();
 
 				this.saveCongruenceAnalysisPointPair();
 				this.saveStrainParameters();
@@ -1127,6 +1316,105 @@ public class SQLAdjustmentManager {
 		}
 	}
 	
+	/**
+	 * Speichert die Ergebnisse der Punkte, Lotabweichungen, Beobachtungen und Zusatzparameter. Die Extraktion 
+	 * der Ergebnisse erfolgt parallel zum Schreiben; die Datenbank erhaelt die Zeilen in Stapeln fester Groesse.
+	 * 
+	 * Beim inkrementellen Speichern werden nur Zeilen geschrieben, die sich gegenueber den gespeicherten Ergebnissen 
+	 * geaendert haben. Schlaegt dies fehl, werden die Tabellen geleert und vollstaendig neu geschrieben.
+	 * 
+	 * @throws SQLException
+	 */
+	private void saveBulkResults() throws SQLException {
+		List<BulkResultWriter.RowProducer> producers = List.of(
+				this::savePoints,
+				this::saveVerticalDeflections,
+				this::saveObservations,
+				this::saveAdditionalParameters
+		);
+
+		if (this.incrementalSaving) {
+			try {
+				this.saveBulkResults(producers, true);
+				return;
+			}
+			catch (SQLException e) {
+				e.printStackTrace();
+				this.clearBulkResultTables();
+			}
+		}
+		this.saveBulkResults(producers, false);
+	}
+	
+	private void saveBulkResults(List<BulkResultWriter.RowProducer> producers, boolean incremental) throws SQLException {
+		BulkResultWriter writer = new BulkResultWriter(this.dataBase);
+		writer.setIncremental(incremental);
+		writer.setTolerance(this.incrementalSavingTolerance);
+		try {
+			writer.write(BULK_RESULT_TABLES, producers, this.networkAdjustment.getNumberOfThreads());
+		}
+		finally {
+			this.numberOfSavedRows = writer.getNumberOfRows();
+			this.numberOfUnchangedRows = writer.getNumberOfUnchangedRows();
+			this.savedRowsPerSecond = writer.getRowsPerSecond();
+		}
+	}
+	
+	/**
+	 * Legt fest, ob die Ergebnisse der Punkte, Lotabweichungen, Beobachtungen und Zusatzparameter inkrementell 
+	 * gespeichert werden, d.h., ob nur gegenueber der letzten Ausgleichung geaenderte Zeilen geschrieben werden. 
+	 * Hierzu werden die gespeicherten Ergebnisse zuvor vollstaendig gelesen; lohnend ist dies nur, wenn sich 
+	 * der ueberwiegende Teil der Ergebnisse nicht aendert, bspw. bei einer erneuten Ausgleichung nach kleinen 
+	 * Aenderungen in einem Teil des Netzes. Voreingestellt werden die Ergebnisse vollstaendig neu geschrieben.
+	 * @param incrementalSaving
+	 */
+	public void setIncrementalSaving(boolean incrementalSaving) {
+		this.incrementalSaving = incrementalSaving;
+	}
+	
+	/**
+	 * Liefert true, wenn die Ergebnisse inkrementell gespeichert werden
+	 * @return incrementalSaving
+	 */
+	public boolean isIncrementalSaving() {
+		return this.incrementalSaving;
+	}
+	
+	/**
+	 * Legt die Toleranz als Anteil der Ausgabeaufloesung fest, ab der ein Ergebnis beim inkrementellen Speichern 
+	 * als geaendert gilt, vgl. FormatterOptions.getModelResolution(CellValueType). Bei der voreingestellten 
+	 * Toleranz von einem Zehntel weichen gespeicherte Werte in der Ausgabe hoechstens um eine Einheit der 
+	 * letzten angezeigten Nachkommastelle ab.
+	 * @param tolerance
+	 */
+	public void setIncrementalSavingTolerance(double tolerance) {
+		this.incrementalSavingTolerance = tolerance;
+	}
+	
+	/**
+	 * Liefert die Anzahl der beim letzten inkrementellen Speichern unveraenderten Ergebniszeilen
+	 * @return rows
+	 */
+	public long getNumberOfUnchangedRows() {
+		return this.numberOfUnchangedRows;
+	}
+	
+	/**
+	 * Liefert die Anzahl der zuletzt gespeicherten Ergebniszeilen der Punkte, Lotabweichungen, Beobachtungen und Zusatzparameter
+	 * @return rows
+	 */
+	public long getNumberOfSavedRows() {
+		return this.numberOfSavedRows;
+	}
+	
+	/**
+	 * Liefert die Anzahl der zuletzt je Sekunde gespeicherten Ergebniszeilen
+	 * @return rows/s
+	 */
+	public double getSavedRowsPerSecond() {
+		return this.savedRowsPerSecond;
+	}
+
 	private void saveVersion() throws SQLException {
 		String sql = "UPDATE \"Version\" SET \"version\" = ? WHERE \"type\" = ?";
 		PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
@@ -1136,12 +1424,9 @@ public class SQLAdjustmentManager {
 		stmt.execute();
 	}
 
-	private void clearAposterioriTables() throws SQLException {
-		this.dataBase.getPreparedStatement("TRUNCATE TABLE \"PointAposteriori\"").execute();
-		this.dataBase.getPreparedStatement("TRUNCATE TABLE \"VerticalDeflectionAposteriori\"").execute();
-		this.dataBase.getPreparedStatement("TRUNCATE TABLE \"ObservationAposteriori\"").execute();
-		this.dataBase.getPreparedStatement("TRUNCATE TABLE \"GNSSObservationAposteriori\"").execute();
-		this.dataBase.getPreparedStatement("TRUNCATE TABLE \"AdditionalParameterAposteriori\"").execute();
+	private void clearAposterioriTables(boolean clearBulkResultTables) throws SQLException {
+		if (clearBulkResultTables)
+			this.clearBulkResultTables();
 		this.dataBase.getPreparedStatement("TRUNCATE TABLE \"CongruenceAnalysisPointPairAposteriori\"").execute();
 		this.dataBase.getPreparedStatement("TRUNCATE TABLE \"CongruenceAnalysisStrainParameterAposteriori\"").execute();
 
@@ -1150,423 +1435,317 @@ public class SQLAdjustmentManager {
 		this.dataBase.getPreparedStatement("TRUNCATE TABLE \"BinomialTestStatistic\"").execute();
 		this.dataBase.getPreparedStatement("TRUNCATE TABLE \"PrincipalComponent\"").execute();
 	}
+	
+	private void clearBulkResultTables() throws SQLException {
+		for (BulkResultWriter.ResultTable resultTable : BULK_RESULT_TABLES)
+			this.dataBase.getPreparedStatement("TRUNCATE TABLE \"" + resultTable.getName() + "\"").execute();
+	}
 
-	private void savePoints() throws SQLException {
-		boolean hasBatch = false;
-
-		String sql = "INSERT INTO \"PointAposteriori\" (" 
-				+ "\"id\",\"y\",\"x\",\"z\"," 
-				+ "\"sigma_y0\",\"sigma_x0\",\"sigma_z0\"," 
-				+ "\"sigma_y\",\"sigma_x\",\"sigma_z\"," 
-				+ "\"confidence_major_axis\",\"confidence_middle_axis\",\"confidence_minor_axis\"," 
-				+ "\"confidence_alpha\",\"confidence_beta\",\"confidence_gamma\"," 
-				+ "\"helmert_major_axis\",\"helmert_minor_axis\",\"helmert_alpha\"," 
-				+ "\"residual_y\",\"residual_x\",\"residual_z\"," 
-				+ "\"redundancy_y\",\"redundancy_x\",\"redundancy_z\"," 
-				+ "\"gross_error_y\",\"gross_error_x\",\"gross_error_z\"," 
-				+ "\"minimal_detectable_bias_y\",\"minimal_detectable_bias_x\",\"minimal_detectable_bias_z\"," 
-				+ "\"maximum_tolerable_bias_y\",\"maximum_tolerable_bias_x\",\"maximum_tolerable_bias_z\", "
-				+ "\"influence_on_position_y\",\"influence_on_position_x\",\"influence_on_position_z\"," 
-				+ "\"influence_on_network_distortion\", " 
-				+ "\"first_principal_component_y\",\"first_principal_component_x\",\"first_principal_component_z\","
-				+ "\"omega\",\"p_prio\",\"p_post\",\"t_prio\",\"t_post\",\"significant\",\"covar_index\",\"number_of_observations\") VALUES (" 
-				+ "(SELECT \"id\" FROM \"PointApriori\" WHERE \"name\" = ?), "
-				+ "?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-
-		try {
-			this.dataBase.setAutoCommit(false);
-			PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
-			for (Point point : this.completePoints.values() ) {
-				int idx = 1;
-				int dimension = point.getDimension();
+	private void savePoints(BulkResultWriter writer) throws InterruptedException {
+		for (Point point : this.completePoints.values() ) {
+			BulkResultWriter.Row row = writer.createRow(POINT_RESULT_TABLE);
+			int idx = 1;
+			int dimension = point.getDimension();
 
-				stmt.setString(idx++, point.getName());
+			row.setString(idx++, point.getName());
 
-				stmt.setDouble(idx++, point.getY());
-				stmt.setDouble(idx++, point.getX());
-				stmt.setDouble(idx++, dimension != 2 ? point.getZ() : 0.0);
+			row.setDouble(idx++, point.getY());
+			row.setDouble(idx++, point.getX());
+			row.setDouble(idx++, dimension != 2 ? point.getZ() : 0.0);
 
-				stmt.setDouble(idx++, dimension != 1 && point.getStdYApriori() > 0 ? point.getStdYApriori() : 0.0);
-				stmt.setDouble(idx++, dimension != 1 && point.getStdXApriori() > 0 ? point.getStdXApriori() : 0.0);
-				stmt.setDouble(idx++, dimension != 2 && point.getStdZApriori() > 0 ? point.getStdZApriori() : 0.0);
+			row.setDouble(idx++, dimension != 1 && point.getStdYApriori() > 0 ? point.getStdYApriori() : 0.0);
+			row.setDouble(idx++, dimension != 1 && point.getStdXApriori() > 0 ? point.getStdXApriori() : 0.0);
+			row.setDouble(idx++, dimension != 2 && point.getStdZApriori() > 0 ? point.getStdZApriori() : 0.0);
 
-				stmt.setDouble(idx++, dimension != 1 && point.getStdY() > 0 ? point.getStdY() : 0.0);
-				stmt.setDouble(idx++, dimension != 1 && point.getStdX() > 0 ? point.getStdX() : 0.0);
-				stmt.setDouble(idx++, dimension != 2 && point.getStdZ() > 0 ? point.getStdZ() : 0.0);
+			row.setDouble(idx++, dimension != 1 && point.getStdY() > 0 ? point.getStdY() : 0.0);
+			row.setDouble(idx++, dimension != 1 && point.getStdX() > 0 ? point.getStdX() : 0.0);
+			row.setDouble(idx++, dimension != 2 && point.getStdZ() > 0 ? point.getStdZ() : 0.0);
 
-				stmt.setDouble(idx++, point.getConfidenceAxis(0));
-				stmt.setDouble(idx++, dimension == 3 ? point.getConfidenceAxis(1) : 0.0);
-				stmt.setDouble(idx++, dimension != 1 ? point.getConfidenceAxis(dimension-1) : 0.0);		
+			row.setDouble(idx++, point.getConfidenceAxis(0));
+			row.setDouble(idx++, dimension == 3 ? point.getConfidenceAxis(1) : 0.0);
+			row.setDouble(idx++, dimension != 1 ? point.getConfidenceAxis(dimension-1) : 0.0);		
 
-				stmt.setDouble(idx++, dimension > 2 ? point.getConfidenceAngle(0) : 0.0);
-				stmt.setDouble(idx++, dimension > 2 ? point.getConfidenceAngle(1) : 0.0);
-				stmt.setDouble(idx++, dimension > 1 ? point.getConfidenceAngle(2) : 0.0);	
+			row.setDouble(idx++, dimension > 2 ? point.getConfidenceAngle(0) : 0.0);
+			row.setDouble(idx++, dimension > 2 ? point.getConfidenceAngle(1) : 0.0);
+			row.setDouble(idx++, dimension > 1 ? point.getConfidenceAngle(2) : 0.0);	
 
-				stmt.setDouble(idx++, point.getConfidenceAxis2D(0));
-				stmt.setDouble(idx++, dimension != 1 ? point.getConfidenceAxis2D(1) : 0.0);
-				stmt.setDouble(idx++, dimension != 1 ? point.getConfidenceAngle2D() : 0.0);
-				
-				stmt.setDouble(idx++, dimension != 1 ? point.getY0() - point.getY() : 0.0);
-				stmt.setDouble(idx++, dimension != 1 ? point.getX0() - point.getX() : 0.0);
-				stmt.setDouble(idx++, dimension != 2 ? point.getZ0() - point.getZ() : 0.0);
+			row.setDouble(idx++, point.getConfidenceAxis2D(0));
+			row.setDouble(idx++, dimension != 1 ? point.getConfidenceAxis2D(1) : 0.0);
+			row.setDouble(idx++, dimension != 1 ? point.getConfidenceAngle2D() : 0.0);
+			
+			row.setDouble(idx++, dimension != 1 ? point.getY0() - point.getY() : 0.0);
+			row.setDouble(idx++, dimension != 1 ? point.getX0() - point.getX() : 0.0);
+			row.setDouble(idx++, dimension != 2 ? point.getZ0() - point.getZ() : 0.0);
 
-				stmt.setDouble(idx++, dimension != 1 ? point.getRedundancyY() : 0.0);
-				stmt.setDouble(idx++, dimension != 1 ? point.getRedundancyX() : 0.0);
-				stmt.setDouble(idx++, dimension != 2 ? point.getRedundancyZ() : 0.0);
+			row.setDouble(idx++, dimension != 1 ? point.getRedundancyY() : 0.0);
+			row.setDouble(idx++, dimension != 1 ? point.getRedundancyX() : 0.0);
+			row.setDouble(idx++, dimension != 2 ? point.getRedundancyZ() : 0.0);
 
-				stmt.setDouble(idx++, dimension != 1 ? point.getGrossErrorY() : 0.0);
-				stmt.setDouble(idx++, dimension != 1 ? point.getGrossErrorX() : 0.0);
-				stmt.setDouble(idx++, dimension != 2 ? point.getGrossErrorZ() : 0.0);
+			row.setDouble(idx++, dimension != 1 ? point.getGrossErrorY() : 0.0);
+			row.setDouble(idx++, dimension != 1 ? point.getGrossErrorX() : 0.0);
+			row.setDouble(idx++, dimension != 2 ? point.getGrossErrorZ() : 0.0);
 
-				stmt.setDouble(idx++, dimension != 1 ? point.getMinimalDetectableBiasY() : 0.0);
-				stmt.setDouble(idx++, dimension != 1 ? point.getMinimalDetectableBiasX() : 0.0);
-				stmt.setDouble(idx++, dimension != 2 ? point.getMinimalDetectableBiasZ() : 0.0);
-				
-				stmt.setDouble(idx++, dimension != 1 ? point.getMaximumTolerableBiasY() : 0.0);
-				stmt.setDouble(idx++, dimension != 1 ? point.getMaximumTolerableBiasX() : 0.0);
-				stmt.setDouble(idx++, dimension != 2 ? point.getMaximumTolerableBiasZ() : 0.0);
+			row.setDouble(idx++, dimension != 1 ? point.getMinimalDetectableBiasY() : 0.0);
+			row.setDouble(idx++, dimension != 1 ? point.getMinimalDetectableBiasX() : 0.0);
+			row.setDouble(idx++, dimension != 2 ? point.getMinimalDetectableBiasZ() : 0.0);
+			
+			row.setDouble(idx++, dimension != 1 ? point.getMaximumTolerableBiasY() : 0.0);
+			row.setDouble(idx++, dimension != 1 ? point.getMaximumTolerableBiasX() : 0.0);
+			row.setDouble(idx++, dimension != 2 ? point.getMaximumTolerableBiasZ() : 0.0);
 
-				stmt.setDouble(idx++, dimension != 1 ? point.getInfluenceOnPointPositionY() : 0.0);
-				stmt.setDouble(idx++, dimension != 1 ? point.getInfluenceOnPointPositionX() : 0.0);
-				stmt.setDouble(idx++, dimension != 2 ? point.getInfluenceOnPointPositionZ() : 0.0);
+			row.setDouble(idx++, dimension != 1 ? point.getInfluenceOnPointPositionY() : 0.0);
+			row.setDouble(idx++, dimension != 1 ? point.getInfluenceOnPointPositionX() : 0.0);
+			row.setDouble(idx++, dimension != 2 ? point.getInfluenceOnPointPositionZ() : 0.0);
 
-				stmt.setDouble(idx++, point.getInfluenceOnNetworkDistortion());
+			row.setDouble(idx++, point.getInfluenceOnNetworkDistortion());
 
-				stmt.setDouble(idx++, dimension != 1 ? point.getFirstPrincipalComponentY() : 0.0);
-				stmt.setDouble(idx++, dimension != 1 ? point.getFirstPrincipalComponentX() : 0.0);
-				stmt.setDouble(idx++, dimension != 2 ? point.getFirstPrincipalComponentZ() : 0.0);
+			row.setDouble(idx++, dimension != 1 ? point.getFirstPrincipalComponentY() : 0.0);
+			row.setDouble(idx++, dimension != 1 ? point.getFirstPrincipalComponentX() : 0.0);
+			row.setDouble(idx++, dimension != 2 ? point.getFirstPrincipalComponentZ() : 0.0);
 
-				stmt.setDouble(idx++, point.getOmega());
+			row.setDouble(idx++, point.getOmega());
 
-				stmt.setDouble(idx++, point.getPprio());
-				stmt.setDouble(idx++, point.getPpost());
+			row.setDouble(idx++, point.getPprio());
+			row.setDouble(idx++, point.getPpost());
 
-				stmt.setDouble(idx++, point.getTprio());
-				stmt.setDouble(idx++, point.getTpost());
+			row.setDouble(idx++, point.getTprio());
+			row.setDouble(idx++, point.getTpost());
 
-				stmt.setBoolean(idx++, point.isSignificant());
+			row.setBoolean(idx++, point.isSignificant());
 
-				stmt.setInt(idx++, point.getColInJacobiMatrix());
-				stmt.setInt(idx++, point.numberOfObservations());
+			row.setInt(idx++, point.getColInJacobiMatrix());
+			row.setInt(idx++, point.numberOfObservations());
 
-				stmt.addBatch();
-				hasBatch = true;
-			}
-			if (hasBatch)
-				stmt.executeLargeBatch();
-		}
-		finally {
-			this.dataBase.setAutoCommit(true);
+			writer.add(row);
 		}
 	}
 
-	private void saveVerticalDeflections() throws SQLException {
-		boolean hasBatch = false;
-		String sql = "INSERT INTO \"VerticalDeflectionAposteriori\" ("
-				+ "\"id\",\"y\",\"x\"," 
-				+ "\"sigma_y0\",\"sigma_x0\"," 
-				+ "\"sigma_y\",\"sigma_x\"," 
-				+ "\"confidence_major_axis\",\"confidence_minor_axis\"," 
-				+ "\"residual_y\",\"residual_x\"," 
-				+ "\"redundancy_y\",\"redundancy_x\"," 
-				+ "\"gross_error_y\",\"gross_error_x\"," 
-				+ "\"minimal_detectable_bias_y\",\"minimal_detectable_bias_x\"," 
-				+ "\"maximum_tolerable_bias_y\",\"maximum_tolerable_bias_x\"," 
-				+ "\"omega\",\"p_prio\",\"p_post\",\"t_prio\",\"t_post\",\"significant\",\"covar_index\") VALUES (" 
-				+ "(SELECT \"id\" FROM \"VerticalDeflectionApriori\" WHERE \"name\" = ?), " 
-				+ "?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?)";
+	private void saveVerticalDeflections(BulkResultWriter writer) throws InterruptedException {
+		Map<String,Point> completePointsWithDeflections = new HashMap<String,Point>();
+		completePointsWithDeflections.putAll(this.completePointsWithReferenceDeflections);
+		completePointsWithDeflections.putAll(this.completePointsWithStochasticDeflections);
+		completePointsWithDeflections.putAll(this.completePointsWithUnknownDeflections);
+		
+		for (Point point : completePointsWithDeflections.values() ) {
+			BulkResultWriter.Row row = writer.createRow(VERTICAL_DEFLECTION_RESULT_TABLE);
+			int idx = 1;
+			int dimension = point.getDimension();
 
-		try {
-			this.dataBase.setAutoCommit(false);
-			PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
-			Map<String,Point> completePointsWithDeflections = new HashMap<String,Point>();
-			completePointsWithDeflections.putAll(this.completePointsWithReferenceDeflections);
-			completePointsWithDeflections.putAll(this.completePointsWithStochasticDeflections);
-			completePointsWithDeflections.putAll(this.completePointsWithUnknownDeflections);
+			if (dimension == 2) // if (dimension != 3)
+				continue;
 			
-			for (Point point : completePointsWithDeflections.values() ) {
-				int idx = 1;
-				int dimension = point.getDimension();
-
-				if (dimension == 2) // if (dimension != 3)
-					continue;
-				
-				stmt.setString(idx++, point.getName());
+			row.setString(idx++, point.getName());
 
-				stmt.setDouble(idx++, point.getVerticalDeflectionY().getValue());
-				stmt.setDouble(idx++, point.getVerticalDeflectionX().getValue());
+			row.setDouble(idx++, point.getVerticalDeflectionY().getValue());
+			row.setDouble(idx++, point.getVerticalDeflectionX().getValue());
 
-				stmt.setDouble(idx++, (point.getVerticalDeflectionY().getStdApriori() > 0 ? point.getVerticalDeflectionY().getStdApriori() : 0.0));
-				stmt.setDouble(idx++, (point.getVerticalDeflectionX().getStdApriori() > 0 ? point.getVerticalDeflectionX().getStdApriori() : 0.0));
+			row.setDouble(idx++, (point.getVerticalDeflectionY().getStdApriori() > 0 ? point.getVerticalDeflectionY().getStdApriori() : 0.0));
+			row.setDouble(idx++, (point.getVerticalDeflectionX().getStdApriori() > 0 ? point.getVerticalDeflectionX().getStdApriori() : 0.0));
 
-				stmt.setDouble(idx++, point.getVerticalDeflectionY().getStd() > 0 ? point.getVerticalDeflectionY().getStd() : 0.0);
-				stmt.setDouble(idx++, point.getVerticalDeflectionX().getStd() > 0 ? point.getVerticalDeflectionX().getStd() : 0.0);
+			row.setDouble(idx++, point.getVerticalDeflectionY().getStd() > 0 ? point.getVerticalDeflectionY().getStd() : 0.0);
+			row.setDouble(idx++, point.getVerticalDeflectionX().getStd() > 0 ? point.getVerticalDeflectionX().getStd() : 0.0);
 
-				stmt.setDouble(idx++, Math.max(point.getVerticalDeflectionX().getConfidence(), point.getVerticalDeflectionY().getConfidence()));
-				stmt.setDouble(idx++, Math.min(point.getVerticalDeflectionX().getConfidence(), point.getVerticalDeflectionY().getConfidence()));
+			row.setDouble(idx++, Math.max(point.getVerticalDeflectionX().getConfidence(), point.getVerticalDeflectionY().getConfidence()));
+			row.setDouble(idx++, Math.min(point.getVerticalDeflectionX().getConfidence(), point.getVerticalDeflectionY().getConfidence()));
 
-				stmt.setDouble(idx++, point.getVerticalDeflectionY().getValue0() - point.getVerticalDeflectionY().getValue());
-				stmt.setDouble(idx++, point.getVerticalDeflectionX().getValue0() - point.getVerticalDeflectionX().getValue());
+			row.setDouble(idx++, point.getVerticalDeflectionY().getValue0() - point.getVerticalDeflectionY().getValue());
+			row.setDouble(idx++, point.getVerticalDeflectionX().getValue0() - point.getVerticalDeflectionX().getValue());
 
-				stmt.setDouble(idx++, point.getVerticalDeflectionY().getRedundancy());
-				stmt.setDouble(idx++, point.getVerticalDeflectionX().getRedundancy());
+			row.setDouble(idx++, point.getVerticalDeflectionY().getRedundancy());
+			row.setDouble(idx++, point.getVerticalDeflectionX().getRedundancy());
 
-				stmt.setDouble(idx++, point.getVerticalDeflectionY().getGrossError());
-				stmt.setDouble(idx++, point.getVerticalDeflectionX().getGrossError());
+			row.setDouble(idx++, point.getVerticalDeflectionY().getGrossError());
+			row.setDouble(idx++, point.getVerticalDeflectionX().getGrossError());
 
-				stmt.setDouble(idx++, point.getVerticalDeflectionY().getMinimalDetectableBias());
-				stmt.setDouble(idx++, point.getVerticalDeflectionX().getMinimalDetectableBias());
-				
-				stmt.setDouble(idx++, point.getVerticalDeflectionY().getMaximumTolerableBias());
-				stmt.setDouble(idx++, point.getVerticalDeflectionX().getMaximumTolerableBias());
-
-				stmt.setDouble(idx++, point.getVerticalDeflectionX().getOmega() + point.getVerticalDeflectionY().getOmega());
+			row.setDouble(idx++, point.getVerticalDeflectionY().getMinimalDetectableBias());
+			row.setDouble(idx++, point.getVerticalDeflectionX().getMinimalDetectableBias());
+			
+			row.setDouble(idx++, point.getVerticalDeflectionY().getMaximumTolerableBias());
+			row.setDouble(idx++, point.getVerticalDeflectionX().getMaximumTolerableBias());
 
-				// Statistische Groessen in X abgelegt
-				stmt.setDouble(idx++, point.getVerticalDeflectionX().getPprio());
-				stmt.setDouble(idx++, point.getVerticalDeflectionX().getPpost());
+			row.setDouble(idx++, point.getVerticalDeflectionX().getOmega() + point.getVerticalDeflectionY().getOmega());
 
-				stmt.setDouble(idx++, point.getVerticalDeflectionX().getTprio()); 
-				stmt.setDouble(idx++, point.getVerticalDeflectionX().getTpost());
+			// Statistische Groessen in X abgelegt
+			row.setDouble(idx++, point.getVerticalDeflectionX().getPprio());
+			row.setDouble(idx++, point.getVerticalDeflectionX().getPpost());
 
-				stmt.setBoolean(idx++, point.getVerticalDeflectionX().isSignificant());
+			row.setDouble(idx++, point.getVerticalDeflectionX().getTprio()); 
+			row.setDouble(idx++, point.getVerticalDeflectionX().getTpost());
 
-				stmt.setInt(idx++, Math.min(point.getVerticalDeflectionX().getColInJacobiMatrix(), point.getVerticalDeflectionY().getColInJacobiMatrix()));
+			row.setBoolean(idx++, point.getVerticalDeflectionX().isSignificant());
 
-				stmt.addBatch();
+			row.setInt(idx++, Math.min(point.getVerticalDeflectionX().getColInJacobiMatrix(), point.getVerticalDeflectionY().getColInJacobiMatrix()));
 
-				hasBatch = true;
-				
-			}
-			if (hasBatch)
-				stmt.executeLargeBatch();
-		}
-		finally {
-			this.dataBase.setAutoCommit(true);
+			writer.add(row);
 		}
 	}
 
 
-	private void saveObservations() throws SQLException {
-		boolean hasBatch = false;
-		String sqlTerObs = "INSERT INTO \"ObservationAposteriori\" ("
-				+ "\"id\", \"value\", "
-				+ "\"sigma_0\", \"sigma\", "
-				+ "\"residual\", "
-				+ "\"redundancy\", "
-				+ "\"gross_error\", \"minimal_detectable_bias\", \"maximum_tolerable_bias\", "
-				+ "\"influence_on_position\", \"influence_on_network_distortion\", "
-				+ "\"omega\", "
-				+ "\"p_prio\", \"p_post\", "
-				+ "\"t_prio\", \"t_post\", "
-				+ "\"significant\") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
-
-		String sqlGNSSObs = "INSERT INTO \"GNSSObservationAposteriori\" ("
-				+ "\"id\", \"y\", \"x\", \"z\", "
-				+ "\"sigma_y0\", \"sigma_x0\", \"sigma_z0\", "
-				+ "\"sigma_y\", \"sigma_x\", \"sigma_z\", "
-				+ "\"residual_y\", \"residual_x\", \"residual_z\", "
-				+ "\"redundancy_y\", \"redundancy_x\", \"redundancy_z\", "
-				+ "\"gross_error_y\", \"gross_error_x\", \"gross_error_z\", "
-				+ "\"minimal_detectable_bias_y\",\"minimal_detectable_bias_x\",\"minimal_detectable_bias_z\", "
-				+ "\"maximum_tolerable_bias_y\",\"maximum_tolerable_bias_x\",\"maximum_tolerable_bias_z\", "
-				+ "\"influence_on_position_y\", \"influence_on_position_x\", \"influence_on_position_z\", "
-				+ "\"influence_on_network_distortion\", "
-				+ "\"omega\", \"p_prio\", \"p_post\", \"t_prio\", \"t_post\", \"significant\") "
-				+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ? ,? ,?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"; 
-
-		try {
-			this.dataBase.setAutoCommit(false);
-			Set<Integer> gnssObservationIds = new LinkedHashSet<Integer>();
-			for (ObservationGroup observationGroup : this.completeObservationGroups ) {
-				gnssObservationIds.clear();
-				boolean isGNSS = (observationGroup instanceof GNSSBaseline1DGroup || observationGroup instanceof GNSSBaseline2DGroup || observationGroup instanceof GNSSBaseline3DGroup);
-				PreparedStatement stmt;
-				if (isGNSS)
-					stmt = this.dataBase.getPreparedStatement(sqlGNSSObs);
-				else
-					stmt = this.dataBase.getPreparedStatement(sqlTerObs);
+	private void saveObservations(BulkResultWriter writer) throws InterruptedException {
+		Set<Integer> gnssObservationIds = new LinkedHashSet<Integer>();
+		for (ObservationGroup observationGroup : this.completeObservationGroups ) {
+			gnssObservationIds.clear();
+			boolean isGNSS = (observationGroup instanceof GNSSBaseline1DGroup || observationGroup instanceof GNSSBaseline2DGroup || observationGroup instanceof GNSSBaseline3DGroup);
+			BulkResultWriter.ResultTable resultTable = isGNSS ? GNSS_OBSERVATION_RESULT_TABLE : OBSERVATION_RESULT_TABLE;
 
-				int len = observationGroup.size();
+			int len = observationGroup.size();
 
-				for (int i=0; i < len; i++ ) {
-					Observation observation = observationGroup.get(i);
-					int idx = 1;
-					if (isGNSS) {
-						if (gnssObservationIds.contains(observation.getId()))
-							continue;
-						gnssObservationIds.add(observation.getId());
+			for (int i=0; i < len; i++ ) {
+				Observation observation = observationGroup.get(i);
+				BulkResultWriter.Row row = writer.createRow(resultTable);
+				int idx = 1;
+				if (isGNSS) {
+					if (gnssObservationIds.contains(observation.getId()))
+						continue;
+					gnssObservationIds.add(observation.getId());
 
-						GNSSBaseline gnssBaseline = (GNSSBaseline)observation;
+					GNSSBaseline gnssBaseline = (GNSSBaseline)observation;
 
-						GNSSBaseline gnssY = gnssBaseline.getBaselineComponent(ComponentType.Y);
-						GNSSBaseline gnssX = gnssBaseline.getBaselineComponent(ComponentType.X);
-						GNSSBaseline gnssZ = gnssBaseline.getBaselineComponent(ComponentType.Z);
+					GNSSBaseline gnssY = gnssBaseline.getBaselineComponent(ComponentType.Y);
+					GNSSBaseline gnssX = gnssBaseline.getBaselineComponent(ComponentType.X);
+					GNSSBaseline gnssZ = gnssBaseline.getBaselineComponent(ComponentType.Z);
 
-						double omega = 0;
-						omega += gnssY == null ? 0.0 : gnssY.getOmega();
-						omega += gnssX == null ? 0.0 : gnssX.getOmega();
-						omega += gnssZ == null ? 0.0 : gnssZ.getOmega();
+					double omega = 0;
+					omega += gnssY == null ? 0.0 : gnssY.getOmega();
+					omega += gnssX == null ? 0.0 : gnssX.getOmega();
+					omega += gnssZ == null ? 0.0 : gnssZ.getOmega();
 
-						stmt.setInt(idx++,    gnssBaseline.getId());
+					row.setInt(idx++,    gnssBaseline.getId());
 
-						stmt.setDouble(idx++, gnssY == null ? 0.0 : gnssY.getValueAposteriori());
-						stmt.setDouble(idx++, gnssX == null ? 0.0 : gnssX.getValueAposteriori());
-						stmt.setDouble(idx++, gnssZ == null ? 0.0 : gnssZ.getValueAposteriori());
+					row.setDouble(idx++, gnssY == null ? 0.0 : gnssY.getValueAposteriori());
+					row.setDouble(idx++, gnssX == null ? 0.0 : gnssX.getValueAposteriori());
+					row.setDouble(idx++, gnssZ == null ? 0.0 : gnssZ.getValueAposteriori());
 
-						stmt.setDouble(idx++, gnssY == null || gnssY.getStdApriori() < 0 ? 0.0 : gnssY.getStdApriori());
-						stmt.setDouble(idx++, gnssX == null || gnssX.getStdApriori() < 0 ? 0.0 : gnssX.getStdApriori());
-						stmt.setDouble(idx++, gnssZ == null || gnssZ.getStdApriori() < 0 ? 0.0 : gnssZ.getStdApriori());
+					row.setDouble(idx++, gnssY == null || gnssY.getStdApriori() < 0 ? 0.0 : gnssY.getStdApriori());
+					row.setDouble(idx++, gnssX == null || gnssX.getStdApriori() < 0 ? 0.0 : gnssX.getStdApriori());
+					row.setDouble(idx++, gnssZ == null || gnssZ.getStdApriori() < 0 ? 0.0 : gnssZ.getStdApriori());
 
-						stmt.setDouble(idx++, gnssY == null || gnssY.getStd() < 0 ? 0.0 : gnssY.getStd());
-						stmt.setDouble(idx++, gnssX == null || gnssX.getStd() < 0 ? 0.0 : gnssX.getStd());
-						stmt.setDouble(idx++, gnssZ == null || gnssZ.getStd() < 0 ? 0.0 : gnssZ.getStd());
-						
-						stmt.setDouble(idx++, gnssY == null ? 0.0 : gnssY.getCorrection());
-						stmt.setDouble(idx++, gnssX == null ? 0.0 : gnssX.getCorrection());
-						stmt.setDouble(idx++, gnssZ == null ? 0.0 : gnssZ.getCorrection());
+					row.setDouble(idx++, gnssY == null || gnssY.getStd() < 0 ? 0.0 : gnssY.getStd());
+					row.setDouble(idx++, gnssX == null || gnssX.getStd() < 0 ? 0.0 : gnssX.getStd());
+					row.setDouble(idx++, gnssZ == null || gnssZ.getStd() < 0 ? 0.0 : gnssZ.getStd());
+					
+					row.setDouble(idx++, gnssY == null ? 0.0 : gnssY.getCorrection());
+					row.setDouble(idx++, gnssX == null ? 0.0 : gnssX.getCorrection());
+					row.setDouble(idx++, gnssZ == null ? 0.0 : gnssZ.getCorrection());
 
-						stmt.setDouble(idx++, gnssY == null ? 0.0 : gnssY.getRedundancy());
-						stmt.setDouble(idx++, gnssX == null ? 0.0 : gnssX.getRedundancy());
-						stmt.setDouble(idx++, gnssZ == null ? 0.0 : gnssZ.getRedundancy());
+					row.setDouble(idx++, gnssY == null ? 0.0 : gnssY.getRedundancy());
+					row.setDouble(idx++, gnssX == null ? 0.0 : gnssX.getRedundancy());
+					row.setDouble(idx++, gnssZ == null ? 0.0 : gnssZ.getRedundancy());
 
-						stmt.setDouble(idx++, gnssY == null ? 0.0 : gnssY.getGrossError());
-						stmt.setDouble(idx++, gnssX == null ? 0.0 : gnssX.getGrossError());
-						stmt.setDouble(idx++, gnssZ == null ? 0.0 : gnssZ.getGrossError());
+					row.setDouble(idx++, gnssY == null ? 0.0 : gnssY.getGrossError());
+					row.setDouble(idx++, gnssX == null ? 0.0 : gnssX.getGrossError());
+					row.setDouble(idx++, gnssZ == null ? 0.0 : gnssZ.getGrossError());
 
-						stmt.setDouble(idx++, gnssY == null ? 0.0 : gnssY.getMinimalDetectableBias());
-						stmt.setDouble(idx++, gnssX == null ? 0.0 : gnssX.getMinimalDetectableBias());
-						stmt.setDouble(idx++, gnssZ == null ? 0.0 : gnssZ.getMinimalDetectableBias());
-						
-						stmt.setDouble(idx++, gnssY == null ? 0.0 : gnssY.getMaximumTolerableBias());
-						stmt.setDouble(idx++, gnssX == null ? 0.0 : gnssX.getMaximumTolerableBias());
-						stmt.setDouble(idx++, gnssZ == null ? 0.0 : gnssZ.getMaximumTolerableBias());
+					row.setDouble(idx++, gnssY == null ? 0.0 : gnssY.getMinimalDetectableBias());
+					row.setDouble(idx++, gnssX == null ? 0.0 : gnssX.getMinimalDetectableBias());
+					row.setDouble(idx++, gnssZ == null ? 0.0 : gnssZ.getMinimalDetectableBias());
+					
+					row.setDouble(idx++, gnssY == null ? 0.0 : gnssY.getMaximumTolerableBias());
+					row.setDouble(idx++, gnssX == null ? 0.0 : gnssX.getMaximumTolerableBias());
+					row.setDouble(idx++, gnssZ == null ? 0.0 : gnssZ.getMaximumTolerableBias());
 
-						stmt.setDouble(idx++, gnssY == null ? 0.0 : gnssY.getInfluenceOnPointPosition());
-						stmt.setDouble(idx++, gnssX == null ? 0.0 : gnssX.getInfluenceOnPointPosition());
-						stmt.setDouble(idx++, gnssZ == null ? 0.0 : gnssZ.getInfluenceOnPointPosition());
+					row.setDouble(idx++, gnssY == null ? 0.0 : gnssY.getInfluenceOnPointPosition());
+					row.setDouble(idx++, gnssX == null ? 0.0 : gnssX.getInfluenceOnPointPosition());
+					row.setDouble(idx++, gnssZ == null ? 0.0 : gnssZ.getInfluenceOnPointPosition());
 
-						stmt.setDouble(idx++, gnssBaseline.getInfluenceOnNetworkDistortion());
+					row.setDouble(idx++, gnssBaseline.getInfluenceOnNetworkDistortion());
 
-						stmt.setDouble(idx++, omega);
+					row.setDouble(idx++, omega);
 
-						stmt.setDouble(idx++,  gnssBaseline.getPprio());
-						stmt.setDouble(idx++,  gnssBaseline.getPpost());
+					row.setDouble(idx++,  gnssBaseline.getPprio());
+					row.setDouble(idx++,  gnssBaseline.getPpost());
 
-						stmt.setDouble(idx++,  gnssBaseline.getTprio());
-						stmt.setDouble(idx++,  gnssBaseline.getTpost());
+					row.setDouble(idx++,  gnssBaseline.getTprio());
+					row.setDouble(idx++,  gnssBaseline.getTpost());
 
-						stmt.setBoolean(idx++, gnssBaseline.isSignificant());
-					}
-					else {
-						double value = observation.getValueAposteriori();
+					row.setBoolean(idx++, gnssBaseline.isSignificant());
+				}
+				else {
+					double value = observation.getValueAposteriori();
 
-						if (observation.getObservationType() == ObservationType.DIRECTION || observation.getObservationType() == ObservationType.ZENITH_ANGLE) {
-							if (observation instanceof Direction) {
-								double face = ((Direction)observation).getFace() == FaceType.ONE ? 0.0 : 1.0;
-								value = MathExtension.MOD(value - face * Math.PI, 2.0 * Math.PI); 
-							}
-							else if (observation instanceof ZenithAngle) {
-								double face = ((ZenithAngle)observation).getFace() == FaceType.ONE ? 0.0 : 1.0;
-								value = Math.abs(face * 2.0 * Math.PI - value); 
-							}
+					if (observation.getObservationType() == ObservationType.DIRECTION || observation.getObservationType() == ObservationType.ZENITH_ANGLE) {
+						if (observation instanceof Direction) {
+							double face = ((Direction)observation).getFace() == FaceType.ONE ? 0.0 : 1.0;
+							value = MathExtension.MOD(value - face * Math.PI, 2.0 * Math.PI); 
+						}
+						else if (observation instanceof ZenithAngle) {
+							double face = ((ZenithAngle)observation).getFace() == FaceType.ONE ? 0.0 : 1.0;
+							value = Math.abs(face * 2.0 * Math.PI - value); 
 						}
+					}
 
-						stmt.setInt(idx++, observation.getId());
+					row.setInt(idx++, observation.getId());
 
-						stmt.setDouble(idx++, value);
-						stmt.setDouble(idx++, observation.getStdApriori() > 0 ? observation.getStdApriori() : 0.0);
-						stmt.setDouble(idx++, observation.getStd() > 0 ? observation.getStd() : 0.0);
+					row.setDouble(idx++, value);
+					row.setDouble(idx++, observation.getStdApriori() > 0 ? observation.getStdApriori() : 0.0);
+					row.setDouble(idx++, observation.getStd() > 0 ? observation.getStd() : 0.0);
 
-						stmt.setDouble(idx++, observation.getCorrection());
-						stmt.setDouble(idx++, observation.getRedundancy());
+					row.setDouble(idx++, observation.getCorrection());
+					row.setDouble(idx++, observation.getRedundancy());
 
-						stmt.setDouble(idx++, observation.getGrossError());
-						stmt.setDouble(idx++, observation.getMinimalDetectableBias());
-						stmt.setDouble(idx++, observation.getMaximumTolerableBias());
+					row.setDouble(idx++, observation.getGrossError());
+					row.setDouble(idx++, observation.getMinimalDetectableBias());
+					row.setDouble(idx++, observation.getMaximumTolerableBias());
 
-						stmt.setDouble(idx++, observation.getInfluenceOnPointPosition());
-						stmt.setDouble(idx++, observation.getInfluenceOnNetworkDistortion());
+					row.setDouble(idx++, observation.getInfluenceOnPointPosition());
+					row.setDouble(idx++, observation.getInfluenceOnNetworkDistortion());
 
-						stmt.setDouble(idx++, observation.getOmega());
+					row.setDouble(idx++, observation.getOmega());
 
-						stmt.setDouble(idx++, observation.getPprio());
-						stmt.setDouble(idx++, observation.getPpost());
+					row.setDouble(idx++, observation.getPprio());
+					row.setDouble(idx++, observation.getPpost());
 
-						stmt.setDouble(idx++, observation.getTprio());
-						stmt.setDouble(idx++, observation.getTpost());
+					row.setDouble(idx++, observation.getTprio());
+					row.setDouble(idx++, observation.getTpost());
 
-						stmt.setBoolean(idx++, observation.isSignificant());
-					}
-					stmt.addBatch();
-					hasBatch = true;
+					row.setBoolean(idx++, observation.isSignificant());
 				}
-				if (hasBatch)
-					stmt.executeLargeBatch();
+				writer.add(row);
 			}
 		}
-		finally {
-			this.dataBase.setAutoCommit(true);
-		}
 	}
 
-	private void saveAdditionalParameters() throws SQLException {
-		boolean hasBatch = false;
-		String sql = "INSERT INTO \"AdditionalParameterAposteriori\" ("
-				+ "\"id\",\"value\",\"sigma\",\"confidence\",\"gross_error\",\"minimal_detectable_bias\",\"p_prio\",\"p_post\",\"t_prio\",\"t_post\",\"significant\""
-				+ ") VALUES (?,?,?,?,?,?,?,?,?,?,?)";
-
-		try {
-			this.dataBase.setAutoCommit(false);
-
-			PreparedStatement stmt = this.dataBase.getPreparedStatement(sql);
-
-			for ( Map.Entry<Integer, AdditionalUnknownParameter> parameterItem : this.additionalParametersToBeEstimated.entrySet() ) {
-				int paramId = parameterItem.getKey();
-				AdditionalUnknownParameter parameter = parameterItem.getValue();
-				
-				if (parameter.getColInJacobiMatrix() <= 0)
-					continue;
-				
-				double value = parameter.getValue();
-				switch(parameter.getParameterType()) {
-				case ORIENTATION:
-				case ROTATION_X:
-				case ROTATION_Y:
-				case ROTATION_Z:
-					value = MathExtension.MOD(value, 2.0*Math.PI);
-					break;
-				default:
-					break;
-				}
-				
-				int idx = 1;
+	private void saveAdditionalParameters(BulkResultWriter writer) throws InterruptedException {
+		for ( Map.Entry<Integer, AdditionalUnknownParameter> parameterItem : this.additionalParametersToBeEstimated.entrySet() ) {
+			int paramId = parameterItem.getKey();
+			AdditionalUnknownParameter parameter = parameterItem.getValue();
+			
+			if (parameter.getColInJacobiMatrix() <= 0)
+				continue;
+			
+			double value = parameter.getValue();
+			switch(parameter.getParameterType()) {
+			case ORIENTATION:
+			case ROTATION_X:
+			case ROTATION_Y:
+			case ROTATION_Z:
+				value = MathExtension.MOD(value, 2.0*Math.PI);
+				break;
+			default:
+				break;
+			}
+			
+			BulkResultWriter.Row row = writer.createRow(ADDITIONAL_PARAMETER_RESULT_TABLE);
+			int idx = 1;
 
-				stmt.setInt(idx++,    paramId);
+			row.setInt(idx++,    paramId);
 
-				stmt.setDouble(idx++, value); // parameter.getValue()
-				stmt.setDouble(idx++, parameter.getStd() > 0 ? parameter.getStd() : 0.0);
-				stmt.setDouble(idx++, parameter.getConfidence());
+			row.setDouble(idx++, value); // parameter.getValue()
+			row.setDouble(idx++, parameter.getStd() > 0 ? parameter.getStd() : 0.0);
+			row.setDouble(idx++, parameter.getConfidence());
 
-				stmt.setDouble(idx++, parameter.getGrossError());
-				stmt.setDouble(idx++, parameter.getMinimalDetectableBias());
+			row.setDouble(idx++, parameter.getGrossError());
+			row.setDouble(idx++, parameter.getMinimalDetectableBias());
 
-				stmt.setDouble(idx++, parameter.getPprio());
-				stmt.setDouble(idx++, parameter.getPpost());
+			row.setDouble(idx++, parameter.getPprio());
+			row.setDouble(idx++, parameter.getPpost());
 
-				stmt.setDouble(idx++, parameter.getTprio());
-				stmt.setDouble(idx++, parameter.getTpost());
+			row.setDouble(idx++, parameter.getTprio());
+			row.setDouble(idx++, parameter.getTpost());
 
-				stmt.setBoolean(idx++, parameter.isSignificant());
+			row.setBoolean(idx++, parameter.isSignificant());
 
-				stmt.addBatch();
-				hasBatch = true;
-			}
-			if (hasBatch)
-				stmt.executeLargeBatch();
-		}
-		finally {
-			this.dataBase.setAutoCommit(true);
+			writer.add(row);
 		}
 	}
 
@@ -1971,9 +2150,6 @@ public class SQLAdjustmentManager {
 			// Speichere GNSS-IDs
 			Set<Integer> gnssIDs = new HashSet<Integer>();
 
-			// Speichere Ergebnis
-			PreparedStatement statement = null;
-
 			// SQL-Statements
 			String sqlFormatDelObs = "DELETE FROM \"ObservationApriori\" " +
 					"WHERE \"group_id\" = ? AND \"enable\" = TRUE " +
@@ -1998,64 +2174,59 @@ public class SQLAdjustmentManager {
 				// Loesche alle Beobachtungen der Gruppe, die aktiv waren/sind
 				int groupId = observationGroup.getId();
 				boolean isGNSS = observationGroup instanceof GNSSBaseline1DGroup ||observationGroup instanceof GNSSBaseline2DGroup || observationGroup instanceof GNSSBaseline3DGroup;
-				if (!isGNSS)
-					statement = this.dataBase.getPreparedStatement(sqlFormatDelObs);
-				else
-					statement = this.dataBase.getPreparedStatement(sqlFormatDelGNSSObs);
-
-				statement.setInt(1, groupId);
-				statement.execute();
+				try (PreparedStatement statement = this.dataBase.getPreparedStatement(isGNSS ? sqlFormatDelGNSSObs : sqlFormatDelObs)) {
+					statement.setInt(1, groupId);
+					statement.execute();
+				}
 
 				// Speichere die gemittelten Daten
-				for (int i=0; i<observationGroup.size(); i++) {
-					int idx = 1;
-					Observation observation = observationGroup.get(i);
-					if (!isGNSS) {
-						statement = this.dataBase.getPreparedStatement(sqlFormatInsObs);
-
-						statement.setInt(idx++, groupId);
-						statement.setString(idx++, observation.getStartPoint().getName());
-						statement.setString(idx++, observation.getEndPoint().getName());
+				try (PreparedStatement statement = this.dataBase.getPreparedStatement(isGNSS ? sqlFormatInsGNSSObs : sqlFormatInsObs)) {
+					for (int i=0; i<observationGroup.size(); i++) {
+						int idx = 1;
+						Observation observation = observationGroup.get(i);
+						if (!isGNSS) {
+							statement.setInt(idx++, groupId);
+							statement.setString(idx++, observation.getStartPoint().getName());
+							statement.setString(idx++, observation.getEndPoint().getName());
 
-						statement.setDouble(idx++, observation.getStartPointHeight());
-						statement.setDouble(idx++, observation.getEndPointHeight());
+							statement.setDouble(idx++, observation.getStartPointHeight());
+							statement.setDouble(idx++, observation.getEndPointHeight());
 
-						statement.setDouble(idx++, observation.getValueApriori());
-						statement.setDouble(idx++, 0.0);
-						statement.setDouble(idx++, observation.getDistanceForUncertaintyModel());
+							statement.setDouble(idx++, observation.getValueApriori());
+							statement.setDouble(idx++, 0.0);
+							statement.setDouble(idx++, observation.getDistanceForUncertaintyModel());
 
-						statement.setBoolean(idx++, true);
+							statement.setBoolean(idx++, true);
 
-						statement.execute();
-					}
-					else {
-						GNSSBaseline gnssBaseline = (GNSSBaseline)observation;
-						if (gnssIDs.contains(gnssBaseline.getId()))
-							continue;
-
-						gnssIDs.add(gnssBaseline.getId());
+							statement.execute();
+						}
+						else {
+							GNSSBaseline gnssBaseline = (GNSSBaseline)observation;
+							if (gnssIDs.contains(gnssBaseline.getId()))
+								continue;
 
-						GNSSBaseline gnssY = gnssBaseline.getBaselineComponent(ComponentType.Y);
-						GNSSBaseline gnssX = gnssBaseline.getBaselineComponent(ComponentType.X);
-						GNSSBaseline gnssZ = gnssBaseline.getBaselineComponent(ComponentType.Z);
+							gnssIDs.add(gnssBaseline.getId());
 
-						statement = this.dataBase.getPreparedStatement(sqlFormatInsGNSSObs);
+							GNSSBaseline gnssY = gnssBaseline.getBaselineComponent(ComponentType.Y);
+							GNSSBaseline gnssX = gnssBaseline.getBaselineComponent(ComponentType.X);
+							GNSSBaseline gnssZ = gnssBaseline.getBaselineComponent(ComponentType.Z);
 
-						statement.setInt(idx++, groupId);
-						statement.setString(idx++, gnssBaseline.getStartPoint().getName());
-						statement.setString(idx++, gnssBaseline.getEndPoint().getName());
+							statement.setInt(idx++, groupId);
+							statement.setString(idx++, gnssBaseline.getStartPoint().getName());
+							statement.setString(idx++, gnssBaseline.getEndPoint().getName());
 
-						statement.setDouble(idx++, gnssY == null ? 0.0 : gnssY.getValueApriori());
-						statement.setDouble(idx++, gnssX == null ? 0.0 : gnssX.getValueApriori());
-						statement.setDouble(idx++, gnssZ == null ? 0.0 : gnssZ.getValueApriori());
+							statement.setDouble(idx++, gnssY == null ? 0.0 : gnssY.getValueApriori());
+							statement.setDouble(idx++, gnssX == null ? 0.0 : gnssX.getValueApriori());
+							statement.setDouble(idx++, gnssZ == null ? 0.0 : gnssZ.getValueApriori());
 
-						statement.setDouble(idx++, 0.0);
-						statement.setDouble(idx++, 0.0);
-						statement.setDouble(idx++, 0.0);
+							statement.setDouble(idx++, 0.0);
+							statement.setDouble(idx++, 0.0);
+							statement.setDouble(idx++, 0.0);
 
-						statement.setBoolean(idx++, true);
+							statement.setBoolean(idx++, true);
 
-						statement.execute();
+							statement.execute();
+						}
 					}
 				}
 			}
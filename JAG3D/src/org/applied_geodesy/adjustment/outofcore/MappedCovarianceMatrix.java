@@ -0,0 +1,212 @@
+/***********************************************************************
+ * Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+ *                                                                      *
+ * This program is free software; you can redistribute it and/or modify *
+ * it under the terms of the GNU General Public License as published by *
+ * the Free Software Foundation; either version 3 of the License, or    *
+ * at your option any later version.                                    *
+ *                                                                      *
+ * This program is distributed in the hope that it will be useful,      *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+ * GNU General Public License for more details.                         *
+ *                                                                      *
+ * You should have received a copy of the GNU General Public License    *
+ * along with this program; if not, see <http://www.gnu.org/licenses/>  *
+ * or write to the                                                      *
+ * Free Software Foundation, Inc.,                                      *
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+ *                                                                      *
+ ***********************************************************************/
+
+package org.applied_geodesy.adjustment.outofcore;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import no.uib.cipr.matrix.AbstractMatrix;
+import no.uib.cipr.matrix.Matrix;
+import no.uib.cipr.matrix.UpperSymmPackMatrix;
+
+/**
+ * Binaer gespeicherte symmetrische (Kovarianz-)Matrix, die mittels FileChannel#map eingeblendet und 
+ * elementweise gelesen wird, ohne die Matrix in den Heap zu laden. 
+ * 
+ * Die Datei beginnt mit einem Kopf aus der Kennung <code>JAG3DCXX</code> (8 Byte), der Version und der 
+ * Dimension n der Matrix (je 4 Byte). Anschliessend folgt das obere Dreieck spaltenweise gepackt, d.h., 
+ * das Element (i, j) mit i &lt;= j steht am Index i + j(j+1)/2. Dies entspricht der Speicherung einer 
+ * UpperSymmPackMatrix. Alle Werte werden in der Byte-Reihenfolge little-endian abgelegt.
+ * 
+ * Da ein MappedByteBuffer hoechstens 2 GB umfasst, wird die Datei in Segmenten eingeblendet.
+ *
+ */
+public class MappedCovarianceMatrix extends AbstractMatrix implements Closeable {
+	private final static byte MAGIC[] = "JAG3DCXX".getBytes(StandardCharsets.US_ASCII);
+	private final static int VERSION = 1;
+	/** Laenge des Dateikopfs in Byte */
+	public final static int HEADER_SIZE = MAGIC.length + 2 * Integer.BYTES;
+	/** Anzahl der Elemente je eingeblendetem Segment (2<sup>27</sup> Elemente, d.h. 1 GB) */
+	private final static int SEGMENT_SHIFT = 27;
+	private final static int SEGMENT_LENGTH = 1 << SEGMENT_SHIFT;
+	/** Anzahl der Elemente, die beim Schreiben gemeinsam uebertragen werden */
+	private final static int CHUNK_LENGTH = 1 << 16;
+	
+	private final FileChannel channel;
+	private final DoubleBuffer segments[];
+	
+	/**
+	 * Oeffnet eine mittels {@link #write(Path, Matrix, int, double)} geschriebene Matrix zum Lesen
+	 * 
+	 * @param file
+	 * @throws IOException
+	 */
+	public MappedCovarianceMatrix(Path file) throws IOException {
+		this(FileChannel.open(file, StandardOpenOption.READ));
+	}
+	
+	private MappedCovarianceMatrix(FileChannel channel) throws IOException {
+		this(channel, readSize(channel));
+	}
+	
+	private MappedCovarianceMatrix(FileChannel channel, int size) throws IOException {
+		super(size, size);
+		this.channel = channel;
+		
+		long length = length(this.numRows);
+		if (channel.size() < HEADER_SIZE + length * Double.BYTES) {
+			channel.close();
+			throw new IOException("Error, file is truncated! Expected " + (HEADER_SIZE + length * Double.BYTES) + " bytes, but found " + channel.size() + " bytes.");
+		}
+		
+		this.segments = new DoubleBuffer[(int)((length + SEGMENT_LENGTH - 1) >>> SEGMENT_SHIFT)];
+		try {
+			for (int s=0; s<this.segments.length; s++) {
+				long offset = (long)s << SEGMENT_SHIFT;
+				long elements = Math.min(SEGMENT_LENGTH, length - offset);
+				this.segments[s] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + offset * Double.BYTES, elements * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+			}
+		}
+		catch (IOException e) {
+			this.close();
+			throw e;
+		}
+	}
+	
+	/**
+	 * Liest die Dimension der Matrix aus dem Dateikopf und prueft die Kennung und Version
+	 * @param channel
+	 * @return size
+	 * @throws IOException
+	 */
+	private static int readSize(FileChannel channel) throws IOException {
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		while (header.hasRemaining() && channel.read(header, header.position()) > 0);
+		
+		byte magic[] = new byte[MAGIC.length];
+		header.flip();
+		if (header.remaining() < HEADER_SIZE) {
+			channel.close();
+			throw new IOException("Error, file is too short to contain a covariance matrix header!");
+		}
+		header.get(magic);
+		int version = header.getInt();
+		int size    = header.getInt();
+		if (!Arrays.equals(magic, MAGIC) || version != VERSION || size < 0) {
+			channel.close();
+			throw new IOException("Error, unknown file format or version! " + new String(magic, StandardCharsets.US_ASCII) + " v" + version);
+		}
+		return size;
+	}
+	
+	/**
+	 * Liefert die Anzahl der Elemente des gepackten oberen Dreiecks einer n x n Matrix
+	 * @param size
+	 * @return length
+	 */
+	private static long length(int size) {
+		return (long)size * (size + 1) / 2;
+	}
+	
+	@Override
+	public double get(int row, int column) {
+		if (row > column) {
+			int tmp = row;
+			row = column;
+			column = tmp;
+		}
+		long index = row + (long)column * (column + 1) / 2;
+		return this.segments[(int)(index >>> SEGMENT_SHIFT)].get((int)(index & (SEGMENT_LENGTH - 1)));
+	}
+	
+	/**
+	 * Schreibt den fuehrenden size x size Block der symmetrischen Matrix M, skaliert mit scale, binaer in die Datei file. 
+	 * Liegt M gepackt vor, wird das obere Dreieck blockweise uebernommen, anderenfalls elementweise ueber M.get(i, j) gelesen.
+	 * 
+	 * @param file
+	 * @param M
+	 * @param size
+	 * @param scale
+	 * @throws IOException
+	 */
+	public static void write(Path file, Matrix M, int size, double scale) throws IOException {
+		if (size > M.numRows() || size > M.numColumns())
+			throw new IllegalArgumentException("Error, dimension mismatch! " + size + " > " + M.numRows() + " x " + M.numColumns());
+		
+		long length = length(size);
+		double packed[] = M instanceof UpperSymmPackMatrix ? ((UpperSymmPackMatrix)M).getData() : null;
+		
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			header.put(MAGIC).putInt(VERSION).putInt(size).flip();
+			while (header.hasRemaining())
+				channel.write(header, header.position());
+			
+			double chunk[] = new double[CHUNK_LENGTH];
+			int row = 0, column = 0;
+			for (long offset=0; offset<length; offset+=SEGMENT_LENGTH) {
+				long elements = Math.min(SEGMENT_LENGTH, length - offset);
+				DoubleBuffer segment = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + offset * Double.BYTES, elements * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+				
+				for (int k=0; k<elements; k+=CHUNK_LENGTH) {
+					int len = (int)Math.min(CHUNK_LENGTH, elements - k);
+					if (packed != null) {
+						int start = (int)(offset + k);
+						for (int i=0; i<len; i++)
+							chunk[i] = scale * packed[start + i];
+					}
+					else {
+						for (int i=0; i<len; i++) {
+							chunk[i] = scale * M.get(row, column);
+							if (++row > column) {
+								row = 0;
+								column++;
+							}
+						}
+					}
+					segment.put(chunk, 0, len);
+				}
+			}
+		}
+	}
+	
+	/**
+	 * Schliesst die Datei
+	 */
+	@Override
+	public void close() {
+		try {
+			this.channel.close();
+		} 
+		catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+}
@@ -0,0 +1,593 @@
+/***********************************************************************
+ * Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+ *                                                                      *
+ * This program is free software; you can redistribute it and/or modify *
+ * it under the terms of the GNU General Public License as published by *
+ * the Free Software Foundation; either version 3 of the License, or    *
+ * at your option any later version.                                    *
+ *                                                                      *
+ * This program is distributed in the hope that it will be useful,      *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+ * GNU General Public License for more details.                         *
+ *                                                                      *
+ * You should have received a copy of the GNU General Public License    *
+ * along with this program; if not, see <http://www.gnu.org/licenses/>  *
+ * or write to the                                                      *
+ * Free Software Foundation, Inc.,                                      *
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+ *                                                                      *
+ ***********************************************************************/
+
+
+package org.applied_geodesy.adjustment.outofcore;
+
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import org.applied_geodesy.adjustment.EstimationStateType;
+
+import no.uib.cipr.matrix.AbstractMatrix;
+import no.uib.cipr.matrix.DenseVector;
+import no.uib.cipr.matrix.MatrixNotSPDException;
+import no.uib.cipr.matrix.Vector;
+
+/**
+ * Symmetrische Matrix, deren oberes Dreieck in quadratischen Kacheln (Tiles) in einer Auslagerungsdatei 
+ * gespeichert und mittels FileChannel#map eingeblendet wird. Im Arbeitsspeicher werden waehrend der 
+ * Zerlegung nur einzelne Kacheln gehalten, sodass auch Normalgleichungen bearbeitet werden koennen, deren 
+ * gepackte Form nicht in den Heap passt.
+ * 
+ * Die Kacheln einer Kachelspalte liegen zusammenhaengend in der Datei, innerhalb einer Kachel werden die 
+ * Elemente spaltenweise abgelegt. Die letzte Kachelzeile/-spalte wird mit einer Einheitsmatrix aufgefuellt.
+ * 
+ * Die Zerlegung N = R<sup>T</sup>R (Cholesky) sowie die Inversion N<sup>-1</sup> = R<sup>-1</sup>R<sup>-T</sup> 
+ * erfolgen kachelweise; die Kachelspalten eines Schritts werden im Thread-Pool der Ausgleichung parallel bearbeitet.
+ *
+ */
+public class TiledSymmMatrix extends AbstractMatrix implements Closeable {
+	public final static int DEFAULT_TILE_SIZE = 256;
+	
+	private final int tileSize, tileLength, numberOfTiles;
+	private final Path file;
+	private final FileChannel channel;
+	private final DoubleBuffer tileColumns[];
+	private final PropertyChangeSupport change = new PropertyChangeSupport(this);
+	private ForkJoinPool forkJoinPool = null;
+	private boolean factorized = false;
+	
+	/**
+	 * Erzeugt eine symmetrische Matrix der Dimension size x size in einer temporaeren Datei im Verzeichnis scratchDirectory
+	 * 
+	 * @param size
+	 * @param scratchDirectory
+	 * @throws IOException
+	 */
+	public TiledSymmMatrix(int size, Path scratchDirectory) throws IOException {
+		this(size, scratchDirectory, DEFAULT_TILE_SIZE);
+	}
+	
+	/**
+	 * Erzeugt eine symmetrische Matrix der Dimension size x size in einer temporaeren Datei im Verzeichnis scratchDirectory
+	 * 
+	 * @param size
+	 * @param scratchDirectory
+	 * @param tileSize Kantenlaenge einer Kachel
+	 * @throws IOException
+	 */
+	public TiledSymmMatrix(int size, Path scratchDirectory, int tileSize) throws IOException {
+		super(size, size);
+		if (tileSize < 1)
+			throw new IllegalArgumentException("Error, tile size must be positive! " + tileSize);
+		
+		this.tileSize      = tileSize;
+		this.tileLength    = tileSize * tileSize;
+		this.numberOfTiles = (size + tileSize - 1) / tileSize;
+		this.tileColumns   = new DoubleBuffer[this.numberOfTiles];
+		
+		// Groesste Einblendung ist die letzte Kachelspalte mit numberOfTiles Kacheln; FileChannel#map ist auf Integer.MAX_VALUE Bytes begrenzt
+		if ((long)this.numberOfTiles * this.tileLength * Double.BYTES > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("Error, matrix is too large for the given tile size! " + size + " / " + tileSize);
+		
+		this.file = Files.createTempFile(scratchDirectory, "normal-equation-", ".tiles");
+		this.file.toFile().deleteOnExit();
+		this.channel = FileChannel.open(this.file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		
+		try {
+			long offset = 0;
+			for (int j=0; j<this.numberOfTiles; j++) {
+				long bytes = (long)(j + 1) * this.tileLength * Double.BYTES;
+				this.tileColumns[j] = this.channel.map(FileChannel.MapMode.READ_WRITE, offset, bytes).order(ByteOrder.nativeOrder()).asDoubleBuffer();
+				offset += bytes;
+			}
+		}
+		catch (IOException e) {
+			this.close();
+			throw e;
+		}
+		
+		// Auffuellen der letzten Kachel mit einer Einheitsmatrix
+		for (int i=size; i<this.numberOfTiles * this.tileSize; i++)
+			this.tileColumns[this.numberOfTiles - 1].put(this.index(i, i), 1.0);
+	}
+	
+	private int index(int row, int column) {
+		return (row / this.tileSize) * this.tileLength + (column % this.tileSize) * this.tileSize + (row % this.tileSize);
+	}
+	
+	@Override
+	public double get(int row, int column) {
+		if (row > column)
+			return this.tileColumns[row / this.tileSize].get(this.index(column, row));
+		return this.tileColumns[column / this.tileSize].get(this.index(row, column));
+	}
+	
+	@Override
+	public void set(int row, int column, double value) {
+		if (row > column)
+			this.tileColumns[row / this.tileSize].put(this.index(column, row), value);
+		else
+			this.tileColumns[column / this.tileSize].put(this.index(row, column), value);
+	}
+	
+	@Override
+	public void add(int row, int column, double value) {
+		if (row > column) {
+			int tmp = row;
+			row = column;
+			column = tmp;
+		}
+		DoubleBuffer buffer = this.tileColumns[column / this.tileSize];
+		int idx = this.index(row, column);
+		buffer.put(idx, buffer.get(idx) + value);
+	}
+	
+	/**
+	 * Berechnet y = alpha*A*x + y kachelweise, wobei nur das gespeicherte obere Dreieck gelesen und 
+	 * gespiegelt wird; je Kachel wird die Auslagerungsdatei genau einmal gelesen
+	 */
+	@Override
+	public Vector multAdd(double alpha, Vector x, Vector y) {
+		this.checkMultAdd(x, y);
+		int n = this.numRows, b = this.tileSize;
+		double xd[] = new double[n];
+		double yd[] = new double[n];
+		for (int i=0; i<n; i++)
+			xd[i] = x.get(i);
+		
+		for (int j=0; j<this.numberOfTiles; j++) {
+			for (int i=0; i<=j; i++) {
+				double T[] = this.getTile(i, j);
+				for (int c=0; c<b && j * b + c < n; c++) {
+					int col = j * b + c;
+					for (int r=0; r<b && i * b + r < n; r++) {
+						int row = i * b + r;
+						if (row > col)
+							break;
+						double t = T[c * b + r];
+						yd[row] += t * xd[col];
+						if (row != col)
+							yd[col] += t * xd[row];
+					}
+				}
+			}
+		}
+		
+		for (int i=0; i<n; i++)
+			y.add(i, alpha * yd[i]);
+		return y;
+	}
+	
+	/**
+	 * Berechnet y = alpha*A'*x + y; A ist symmetrisch
+	 */
+	@Override
+	public Vector transMultAdd(double alpha, Vector x, Vector y) {
+		return this.multAdd(alpha, x, y);
+	}
+	
+	/**
+	 * Legt den Thread-Pool fest, in dem die Kachelspalten bei der Zerlegung und Inversion bearbeitet werden; 
+	 * ist kein Pool gesetzt, werden die Kachelspalten nacheinander bearbeitet
+	 * @param forkJoinPool
+	 */
+	public void setForkJoinPool(ForkJoinPool forkJoinPool) {
+		this.forkJoinPool = forkJoinPool;
+	}
+	
+	/**
+	 * Liefert die Anzahl der Kacheln einer Zeile bzw. Spalte
+	 * @return numberOfTiles
+	 */
+	public int getNumberOfTiles() {
+		return this.numberOfTiles;
+	}
+	
+	/**
+	 * Liefert die Kantenlaenge einer Kachel
+	 * @return tileSize
+	 */
+	public int getTileSize() {
+		return this.tileSize;
+	}
+	
+	/**
+	 * Loest das Gleichungssystem <code>N * x = n</code> mittels kachelweiser Cholesky-Zerlegung. Der Vektor n wird 
+	 * hierbei mit dem Loesungsvektor <code>x</code> ueberschrieben. Wenn <code>invert = true</code>, dann wird 
+	 * <code>N</code> mit dessen Inverse ueberschrieben, andernfalls enthaelt <code>N</code> die Zerlegung.
+	 * 
+	 * @param n
+	 * @param invert
+	 * @throws MatrixNotSPDException
+	 */
+	public void solve(DenseVector n, boolean invert) throws MatrixNotSPDException {
+		int steps = invert ? 3 * this.numberOfTiles : this.numberOfTiles;
+		
+		this.factorize(steps);
+		this.solve(n.getData());
+		if (invert)
+			this.invert(steps);
+	}
+	
+	/**
+	 * Kachelweise Cholesky-Zerlegung N = R<sup>T</sup>R (rechtsorientiert), R ueberschreibt das obere Dreieck von N. 
+	 * Da der Fill-in innerhalb der Huelle (Profil) von N bleibt, sind Nullkacheln ausserhalb der Huelle auch in R 
+	 * Null und werden uebersprungen; eine profilreduzierende Anordnung der Unbekannten verringert so den Aufwand. 
+	 * @param steps Gesamtzahl der Schritte fuer die Fortschrittsanzeige
+	 * @throws MatrixNotSPDException
+	 */
+	private void factorize(int steps) throws MatrixNotSPDException {
+		if (this.factorized)
+			throw new IllegalStateException("Error, matrix is already factorized!");
+		
+		for (int k=0; k<this.numberOfTiles; k++) {
+			final int kk = k;
+			double Rkk[] = this.getTile(k, k);
+			potrf(Rkk, this.tileSize);
+			this.setTile(k, k, Rkk);
+			
+			// Zeile k: R_kj = R_kk^-T * A_kj
+			boolean zeroTiles[] = new boolean[this.numberOfTiles];
+			this.parallelFor(k + 1, this.numberOfTiles, j -> {
+				double Akj[] = this.getTile(kk, j);
+				zeroTiles[j] = isZero(Akj);
+				if (zeroTiles[j])
+					return;
+				trsmLowerTrans(Rkk, Akj, this.tileSize);
+				this.setTile(kk, j, Akj);
+			});
+			
+			// Aktualisierung des Restblocks: A_ij -= R_ki^T * R_kj
+			this.parallelFor(k + 1, this.numberOfTiles, j -> {
+				if (zeroTiles[j])
+					return;
+				double Rkj[] = this.getTile(kk, j);
+				for (int i=kk+1; i<=j; i++) {
+					if (zeroTiles[i])
+						continue;
+					double Rki[] = i == j ? Rkj : this.getTile(kk, i);
+					double Aij[] = this.getTile(i, j);
+					gemmTransSub(Rki, Rkj, Aij, this.tileSize);
+					this.setTile(i, j, Aij);
+				}
+			});
+			
+			this.change.firePropertyChange(EstimationStateType.OUT_OF_CORE_FACTORISATION.name(), steps, k + 1);
+		}
+		this.factorized = true;
+	}
+	
+	/**
+	 * Loest R<sup>T</sup>R x = n durch Vorwaerts- und Rueckwaertseinsetzen; n wird ueberschrieben
+	 * @param n
+	 */
+	private void solve(double n[]) {
+		int b = this.tileSize;
+		int size = this.numRows();
+		double x[] = new double[this.numberOfTiles * b];
+		System.arraycopy(n, 0, x, 0, size);
+		
+		// R^T y = n
+		for (int i=0; i<this.numberOfTiles; i++) {
+			for (int k=0; k<i; k++) {
+				double Rki[] = this.getTile(k, i);
+				for (int c=0; c<b; c++) {
+					double sum = 0;
+					for (int r=0; r<b; r++)
+						sum += Rki[c * b + r] * x[k * b + r];
+					x[i * b + c] -= sum;
+				}
+			}
+			double Rii[] = this.getTile(i, i);
+			for (int c=0; c<b; c++) {
+				double sum = x[i * b + c];
+				for (int r=0; r<c; r++)
+					sum -= Rii[c * b + r] * x[i * b + r];
+				x[i * b + c] = sum / Rii[c * b + c];
+			}
+		}
+		
+		// R x = y
+		for (int i=this.numberOfTiles-1; i>=0; i--) {
+			for (int k=i+1; k<this.numberOfTiles; k++) {
+				double Rik[] = this.getTile(i, k);
+				for (int c=0; c<b; c++) {
+					double xc = x[k * b + c];
+					for (int r=0; r<b; r++)
+						x[i * b + r] -= Rik[c * b + r] * xc;
+				}
+			}
+			double Rii[] = this.getTile(i, i);
+			for (int c=b-1; c>=0; c--) {
+				double xc = x[i * b + c] / Rii[c * b + c];
+				x[i * b + c] = xc;
+				for (int r=0; r<c; r++)
+					x[i * b + r] -= Rii[c * b + r] * xc;
+			}
+		}
+		System.arraycopy(x, 0, n, 0, size);
+	}
+	
+	/**
+	 * Ueberschreibt die Zerlegung R durch N<sup>-1</sup> = R<sup>-1</sup>R<sup>-T</sup>. Hierzu wird 
+	 * zunaechst U = R<sup>-1</sup> spaltenweise und anschliessend das Produkt UU<sup>T</sup> bestimmt.
+	 * @param steps Gesamtzahl der Schritte fuer die Fortschrittsanzeige
+	 */
+	private void invert(int steps) {
+		int b = this.tileSize;
+		// U = R^-1; U_ij = -(sum_k=i^j-1 U_ik R_kj) U_jj mit aufsteigendem i, da R_kj (k >= i) noch benoetigt wird
+		for (int j=0; j<this.numberOfTiles; j++) {
+			final int jj = j;
+			double Ujj[] = this.getTile(j, j);
+			trtri(Ujj, b);
+			
+			// Die Zeilen i einer Kachelspalte sind voneinander unabhaengig, sofern R_kj vorab gelesen wird
+			double Rcol[][] = new double[j][];
+			for (int k=0; k<j; k++)
+				Rcol[k] = this.getTile(k, j);
+			
+			this.parallelFor(0, j, i -> {
+				double S[] = new double[this.tileLength];
+				for (int k=i; k<jj; k++)
+					gemmAdd(this.getTile(i, k), Rcol[k], S, b);
+				double Uij[] = new double[this.tileLength];
+				gemmSub(S, Ujj, Uij, b);
+				this.setTile(i, jj, Uij);
+			});
+			this.setTile(j, j, Ujj);
+			
+			this.change.firePropertyChange(EstimationStateType.OUT_OF_CORE_FACTORISATION.name(), steps, this.numberOfTiles + j + 1);
+		}
+
+		// Q = U U^T; Q_ij = sum_k=j^T-1 U_ik U_jk^T, die Kachel (j,j) wird zuletzt ueberschrieben
+		for (int j=0; j<this.numberOfTiles; j++) {
+			final int jj = j;
+			double Ujk[][] = new double[this.numberOfTiles - j][];
+			for (int k=j; k<this.numberOfTiles; k++)
+				Ujk[k - j] = this.getTile(j, k);
+			
+			// Ujk wird von allen Zeilen gelesen und darf daher nicht ueberschrieben werden
+			double Qjj[][] = new double[1][];
+			this.parallelFor(0, j + 1, i -> {
+				double Q[] = new double[this.tileLength];
+				for (int k=jj; k<this.numberOfTiles; k++) {
+					double Uik[] = i == jj ? Ujk[k - jj] : this.getTile(i, k);
+					gemmTransBAdd(Uik, Ujk[k - jj], Q, b);
+				}
+				if (i < jj)
+					this.setTile(i, jj, Q);
+				else
+					Qjj[0] = Q;
+			});
+			this.setTile(j, j, Qjj[0]);
+			
+			this.change.firePropertyChange(EstimationStateType.OUT_OF_CORE_FACTORISATION.name(), steps, 2 * this.numberOfTiles + j + 1);
+		}
+	}
+	
+	private void parallelFor(int start, int end, java.util.function.IntConsumer task) {
+		ForkJoinPool pool = this.forkJoinPool;
+		if (pool == null || pool.getParallelism() <= 1 || end - start <= 1) {
+			for (int i=start; i<end; i++)
+				task.accept(i);
+			return;
+		}
+		try {
+			pool.submit(() -> IntStream.range(start, end).parallel().forEach(task)).get();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+		catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException)cause;
+			if (cause instanceof Error)
+				throw (Error)cause;
+			throw new IllegalStateException(cause);
+		}
+	}
+	
+	/**
+	 * Liefert eine Kopie der Kachel (i,j), i &lt;= j, spaltenweise
+	 * @param i
+	 * @param j
+	 * @return tile
+	 */
+	private double[] getTile(int i, int j) {
+		double tile[] = new double[this.tileLength];
+		this.tileColumns[j].get(i * this.tileLength, tile);
+		return tile;
+	}
+	
+	private void setTile(int i, int j, double tile[]) {
+		this.tileColumns[j].put(i * this.tileLength, tile);
+	}
+	
+	/**
+	 * Cholesky-Zerlegung A = R<sup>T</sup>R einer Kachel, das untere Dreieck wird zu Null gesetzt
+	 */
+	private static void potrf(double A[], int b) throws MatrixNotSPDException {
+		for (int j=0; j<b; j++) {
+			double s = A[j * b + j];
+			for (int k=0; k<j; k++)
+				s -= A[j * b + k] * A[j * b + k];
+			if (s <= 0 || Double.isNaN(s))
+				throw new MatrixNotSPDException();
+			double rjj = Math.sqrt(s);
+			A[j * b + j] = rjj;
+			for (int i=j+1; i<b; i++) {
+				double t = A[i * b + j];
+				for (int k=0; k<j; k++)
+					t -= A[j * b + k] * A[i * b + k];
+				A[i * b + j] = t / rjj;
+				A[j * b + i] = 0.0;
+			}
+		}
+	}
+	
+	/**
+	 * B = R<sup>-T</sup>B fuer eine obere Dreieckskachel R (Vorwaertseinsetzen je Spalte von B)
+	 */
+	private static void trsmLowerTrans(double R[], double B[], int b) {
+		for (int c=0; c<b; c++) {
+			for (int r=0; r<b; r++) {
+				double s = B[c * b + r];
+				for (int k=0; k<r; k++)
+					s -= R[r * b + k] * B[c * b + k];
+				B[c * b + r] = s / R[r * b + r];
+			}
+		}
+	}
+	
+	/**
+	 * Prueft, ob alle Elemente der Kachel Null sind
+	 */
+	private static boolean isZero(double A[]) {
+		for (int i=0; i<A.length; i++)
+			if (A[i] != 0)
+				return false;
+		return true;
+	}
+	
+	/**
+	 * C -= A<sup>T</sup>B
+	 */
+	private static void gemmTransSub(double A[], double B[], double C[], int b) {
+		for (int c=0; c<b; c++) {
+			for (int r=0; r<b; r++) {
+				double s = 0;
+				for (int k=0; k<b; k++)
+					s += A[r * b + k] * B[c * b + k];
+				C[c * b + r] -= s;
+			}
+		}
+	}
+	
+	/**
+	 * C += AB
+	 */
+	private static void gemmAdd(double A[], double B[], double C[], int b) {
+		for (int c=0; c<b; c++) {
+			for (int k=0; k<b; k++) {
+				double bkc = B[c * b + k];
+				if (bkc == 0)
+					continue;
+				for (int r=0; r<b; r++)
+					C[c * b + r] += A[k * b + r] * bkc;
+			}
+		}
+	}
+	
+	/**
+	 * C -= AB
+	 */
+	private static void gemmSub(double A[], double B[], double C[], int b) {
+		for (int c=0; c<b; c++) {
+			for (int k=0; k<b; k++) {
+				double bkc = B[c * b + k];
+				if (bkc == 0)
+					continue;
+				for (int r=0; r<b; r++)
+					C[c * b + r] -= A[k * b + r] * bkc;
+			}
+		}
+	}
+	
+	/**
+	 * C += AB<sup>T</sup>
+	 */
+	private static void gemmTransBAdd(double A[], double B[], double C[], int b) {
+		for (int k=0; k<b; k++) {
+			for (int c=0; c<b; c++) {
+				double bck = B[k * b + c];
+				if (bck == 0)
+					continue;
+				for (int r=0; r<b; r++)
+					C[c * b + r] += A[k * b + r] * bck;
+			}
+		}
+	}
+	
+	/**
+	 * Inverse einer oberen Dreieckskachel (in-situ)
+	 */
+	private static void trtri(double R[], int b) {
+		for (int j=0; j<b; j++) {
+			R[j * b + j] = 1.0 / R[j * b + j];
+			double ujj = -R[j * b + j];
+			// U(0:j-1,j) = -U(0:j-1,0:j-1) * R(0:j-1,j) * U(j,j)
+			for (int i=0; i<j; i++) {
+				double s = 0;
+				for (int k=i; k<j; k++)
+					s += R[k * b + i] * R[j * b + k];
+				R[j * b + i] = s;
+			}
+			for (int i=0; i<j; i++)
+				R[j * b + i] *= ujj;
+		}
+	}
+	
+	public void addPropertyChangeListener(PropertyChangeListener listener) {
+		this.change.addPropertyChangeListener(listener);
+	}
+
+	public void removePropertyChangeListener(PropertyChangeListener listener) {
+		this.change.removePropertyChangeListener(listener);
+	}
+	
+	/**
+	 * Schliesst und loescht die Auslagerungsdatei. Eingeblendete Bereiche werden erst freigegeben, wenn der 
+	 * GC die Puffer einsammelt; unter Windows kann die Datei solange nicht geloescht werden. In diesem Fall 
+	 * verbleibt das Loeschen bei <code>deleteOnExit</code>.
+	 */
+	@Override
+	public void close() {
+		Arrays.fill(this.tileColumns, null);
+		try {
+			this.channel.close();
+		} 
+		catch (IOException e) {
+			e.printStackTrace();
+		}
+		try {
+			Files.deleteIfExists(this.file);
+		}
+		catch (IOException e) {
+			// Datei noch eingeblendet (Windows), Loeschen erfolgt ueber deleteOnExit
+		}
+	}
+}
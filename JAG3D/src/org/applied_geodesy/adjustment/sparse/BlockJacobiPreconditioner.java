@@ -0,0 +1,186 @@
+/***********************************************************************
+ * Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+ *                                                                      *
+ * This program is free software; you can redistribute it and/or modify *
+ * it under the terms of the GNU General Public License as published by *
+ * the Free Software Foundation; either version 3 of the License, or    *
+ * at your option any later version.                                    *
+ *                                                                      *
+ * This program is distributed in the hope that it will be useful,      *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+ * GNU General Public License for more details.                         *
+ *                                                                      *
+ * You should have received a copy of the GNU General Public License    *
+ * along with this program; if not, see <http://www.gnu.org/licenses/>  *
+ * or write to the                                                      *
+ * Free Software Foundation, Inc.,                                      *
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+ *                                                                      *
+ ***********************************************************************/
+
+
+package org.applied_geodesy.adjustment.sparse;
+
+import no.uib.cipr.matrix.DenseVector;
+import no.uib.cipr.matrix.Matrix;
+import no.uib.cipr.matrix.MatrixSingularException;
+import no.uib.cipr.matrix.Vector;
+import no.uib.cipr.matrix.sparse.Preconditioner;
+
+/**
+ * Block-Jacobi-Vorkonditionierer fuer iterative Loeser. Die Matrix wird in disjunkte, aufeinanderfolgende 
+ * Diagonalbloecke (bspw. die Koordinaten eines Punktes) unterteilt, die mittels Cholesky-Zerlegung 
+ * faktorisiert werden. Die Anwendung entspricht dem Loesen des blockdiagonalen Systems.
+ * 
+ * Die Elemente der Bloecke koennen entweder mittels {@link #add(int, int, double)} aufsummiert oder 
+ * mittels {@link #setMatrix(Matrix)} einer explizit vorliegenden Matrix entnommen werden. Aufsummierte 
+ * Bloecke werden spaetestens bei der ersten Anwendung zerlegt.
+ *
+ */
+public class BlockJacobiPreconditioner implements Preconditioner {
+	private final int size;
+	private final int blockStart[], blockOffset[], blockIndex[];
+	private final double data[];
+	private boolean factorized = false;
+	
+	/**
+	 * Erzeugt den Vorkonditionierer fuer die Bloecke <code>[blockStart[i], blockStart[i+1])</code>. 
+	 * Der letzte Eintrag von <code>blockStart</code> entspricht der Dimension der Matrix.
+	 * 
+	 * @param blockStart
+	 */
+	public BlockJacobiPreconditioner(int blockStart[]) {
+		if (blockStart.length < 1 || blockStart[0] != 0)
+			throw new IllegalArgumentException("Error, first block must start at index 0!");
+		
+		int numberOfBlocks = blockStart.length - 1;
+		this.size = blockStart[numberOfBlocks];
+		this.blockStart  = blockStart;
+		this.blockOffset = new int[numberOfBlocks + 1];
+		this.blockIndex  = new int[this.size];
+		for (int b=0; b<numberOfBlocks; b++) {
+			int dim = blockStart[b + 1] - blockStart[b];
+			if (dim <= 0)
+				throw new IllegalArgumentException("Error, block " + b + " is empty or not in ascending order!");
+			this.blockOffset[b + 1] = this.blockOffset[b] + dim * dim;
+			for (int i=blockStart[b]; i<blockStart[b + 1]; i++)
+				this.blockIndex[i] = b;
+		}
+		this.data = new double[this.blockOffset[numberOfBlocks]];
+	}
+	
+	/**
+	 * Addiert den Wert value zum Element (row, column), sofern dieses innerhalb eines Diagonalblocks liegt. 
+	 * Elemente ausserhalb der Bloecke werden ignoriert. Da die Bloecke symmetrisch sind, wird das 
+	 * Element auch an der gespiegelten Position addiert, sofern es nicht auf der Hauptdiagonalen liegt.
+	 * @param row
+	 * @param column
+	 * @param value
+	 */
+	public void add(int row, int column, double value) {
+		int block = this.blockIndex[row];
+		int start = this.blockStart[block];
+		if (column < start || column >= this.blockStart[block + 1])
+			return;
+		
+		int dim = this.blockStart[block + 1] - start;
+		int r = row - start, c = column - start;
+		this.data[this.blockOffset[block] + r * dim + c] += value;
+		if (r != c)
+			this.data[this.blockOffset[block] + c * dim + r] += value;
+		this.factorized = false;
+	}
+	
+	/**
+	 * Zerlegt die Diagonalbloecke mittels Cholesky-Zerlegung in-situ
+	 * @throws MatrixSingularException
+	 */
+	public void factorize() throws MatrixSingularException {
+		for (int b=0; b<this.blockStart.length - 1; b++) {
+			int dim = this.blockStart[b + 1] - this.blockStart[b];
+			int offset = this.blockOffset[b];
+			for (int j=0; j<dim; j++) {
+				double d = this.data[offset + j * dim + j];
+				for (int k=0; k<j; k++)
+					d -= this.data[offset + j * dim + k] * this.data[offset + j * dim + k];
+				if (d <= 0)
+					throw new MatrixSingularException();
+				d = Math.sqrt(d);
+				this.data[offset + j * dim + j] = d;
+				for (int i=j+1; i<dim; i++) {
+					double s = this.data[offset + i * dim + j];
+					for (int k=0; k<j; k++)
+						s -= this.data[offset + i * dim + k] * this.data[offset + j * dim + k];
+					this.data[offset + i * dim + j] = s / d;
+				}
+			}
+		}
+		this.factorized = true;
+	}
+	
+	@Override
+	public Vector apply(Vector b, Vector x) {
+		if (!this.factorized)
+			this.factorize();
+		if (!(b instanceof DenseVector) || !(x instanceof DenseVector))
+			throw new IllegalArgumentException("Error, preconditioner requires dense vectors!");
+		
+		double bd[] = ((DenseVector)b).getData();
+		double xd[] = ((DenseVector)x).getData();
+		for (int blk=0; blk<this.blockStart.length - 1; blk++) {
+			int start = this.blockStart[blk];
+			int dim = this.blockStart[blk + 1] - start;
+			int offset = this.blockOffset[blk];
+			// Vorwaertseinsetzen L*y = b
+			for (int i=0; i<dim; i++) {
+				double s = bd[start + i];
+				for (int k=0; k<i; k++)
+					s -= this.data[offset + i * dim + k] * xd[start + k];
+				xd[start + i] = s / this.data[offset + i * dim + i];
+			}
+			// Rueckwaertseinsetzen L'*x = y
+			for (int i=dim-1; i>=0; i--) {
+				double s = xd[start + i];
+				for (int k=i+1; k<dim; k++)
+					s -= this.data[offset + k * dim + i] * xd[start + k];
+				xd[start + i] = s / this.data[offset + i * dim + i];
+			}
+		}
+		return x;
+	}
+
+	@Override
+	public Vector transApply(Vector b, Vector x) {
+		// Bloecke sind symmetrisch
+		return this.apply(b, x);
+	}
+
+	/**
+	 * Uebernimmt die Diagonalbloecke der Matrix A und zerlegt diese
+	 * @param A
+	 */
+	@Override
+	public void setMatrix(Matrix A) {
+		if (A.numRows() != this.size || A.numColumns() != this.size)
+			throw new IllegalArgumentException("Error, dimension of matrix does not match the blocks of the preconditioner! " + A.numRows() + " x " + A.numColumns() + " vs. " + this.size);
+		
+		for (int b=0; b<this.blockStart.length - 1; b++) {
+			int start = this.blockStart[b];
+			int dim = this.blockStart[b + 1] - start;
+			int offset = this.blockOffset[b];
+			for (int r=0; r<dim; r++)
+				for (int c=0; c<dim; c++)
+					this.data[offset + r * dim + c] = A.get(start + r, start + c);
+		}
+		this.factorize();
+	}
+	
+	/**
+	 * Liefert die Dimension der Matrix
+	 * @return size
+	 */
+	public int size() {
+		return this.size;
+	}
+}
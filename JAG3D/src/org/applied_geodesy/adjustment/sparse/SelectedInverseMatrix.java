@@ -0,0 +1,190 @@
+/***********************************************************************
+ * Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+ *                                                                      *
+ * This program is free software; you can redistribute it and/or modify *
+ * it under the terms of the GNU General Public License as published by *
+ * the Free Software Foundation; either version 3 of the License, or    *
+ * at your option any later version.                                    *
+ *                                                                      *
+ * This program is distributed in the hope that it will be useful,      *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+ * GNU General Public License for more details.                         *
+ *                                                                      *
+ * You should have received a copy of the GNU General Public License    *
+ * along with this program; if not, see <http://www.gnu.org/licenses/>  *
+ * or write to the                                                      *
+ * Free Software Foundation, Inc.,                                      *
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+ *                                                                      *
+ ***********************************************************************/
+
+
+package org.applied_geodesy.adjustment.sparse;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import no.uib.cipr.matrix.AbstractMatrix;
+import no.uib.cipr.matrix.DenseVector;
+import no.uib.cipr.matrix.Vector;
+
+/**
+ * Teilinverse Z = A<sup>-1</sup> einer duenn besetzten symmetrischen Matrix A = L*D*L<sup>T</sup>. 
+ * Bestimmt werden nur die Elemente von Z, die in der Besetzungsstruktur von L (inkl. Hauptdiagonale) 
+ * liegen. Hierzu werden die Rekursionsformeln nach Takahashi genutzt
+ * 
+ * Z<sub>jj</sub> = 1/d<sub>j</sub> - &sum;<sub>k&gt;j</sub> l<sub>kj</sub> Z<sub>kj</sub>
+ * Z<sub>ij</sub> = - &sum;<sub>k&gt;j</sub> l<sub>kj</sub> Z<sub>ik</sub> fuer i &gt; j
+ * 
+ * Da die Struktur von L die Struktur von A einschliesst, sind alle Elemente verfuegbar, die zu Parametern 
+ * gehoeren, die ueber eine gemeinsame Beobachtung verknuepft sind. Alle uebrigen Elemente werden bei Bedarf 
+ * spaltenweise durch Vorwaerts- und Rueckwaertseinsetzen bestimmt und zwischengespeichert.
+ * 
+ * Der Zugriff auf ein Element ausserhalb der Besetzungsstruktur ist teuer: Ist weder dessen Zeile noch dessen Spalte 
+ * zwischengespeichert, erfordert er ein Vorwaerts- und Rueckwaertseinsetzen mit dem Aufwand O(nnz(L)); vorgehalten 
+ * werden lediglich die zuletzt genutzten 32 Spalten. Das vollstaendige Auslesen der Matrix ist somit mindestens so 
+ * aufwendig wie die vollstaendige Inversion und nur fuer wenige Elemente vorgesehen, bspw. die Punktpaare der 
+ * Kongruenzanalyse oder die Verzerrungsparameter. Anwendungen, die die vollstaendige Matrix benoetigen (Export der 
+ * Kovarianzmatrix, Unscented Transformation), sind daher von der Teilinversion ausgeschlossen 
+ * (vgl. NetworkAdjustment#isSelectedInversionApplicable()); Produkte mit Z sind mittels 
+ * {@link #multAdd(double, Vector, Vector)} zu bilden. Mit {@link #isSelected(int, int)} kann vorab geprueft werden, 
+ * ob ein Element ohne weiteren Aufwand verfuegbar ist.
+ * 
+ * vgl. Takahashi, K., Fagan, J., Chin, M.-S. (1973): Formation of a sparse bus impedance matrix 
+ * and its application to short circuit study. 8th PICA Conference Proceedings, S. 63-69
+ *
+ */
+public class SelectedInverseMatrix extends AbstractMatrix {
+	private final static int CACHED_COLUMNS = 32;
+	private final SparseLDLDecomposition ldl;
+	private final int colPointer[], rowIndex[];
+	private final double diagonal[], data[];
+	private final Map<Integer, double[]> columnCache = new LinkedHashMap<Integer, double[]>(CACHED_COLUMNS, 0.75f, true) {
+		private static final long serialVersionUID = 2894564237845310412L;
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Integer, double[]> eldest) {
+			return this.size() > CACHED_COLUMNS;
+		}
+	};
+	
+	public SelectedInverseMatrix(SparseLDLDecomposition ldl) {
+		super(ldl.size(), ldl.size());
+		this.ldl        = ldl;
+		this.colPointer = ldl.getColumnPointers();
+		this.rowIndex   = ldl.getRowIndices();
+		this.diagonal   = new double[ldl.size()];
+		this.data       = new double[ldl.nonZeros()];
+		this.takahashi();
+	}
+	
+	private void takahashi() {
+		int n = this.numRows;
+		double L[] = this.ldl.getData();
+		double D[] = this.ldl.getD();
+		
+		for (int j=n-1; j>=0; j--) {
+			int start = this.colPointer[j], end = this.colPointer[j + 1];
+			
+			// Nebendiagonalelemente der Spalte j
+			for (int p=start; p<end; p++) {
+				int i = this.rowIndex[p];
+				double z = 0.0;
+				for (int q=start; q<end; q++) {
+					int k = this.rowIndex[q];
+					z -= L[q] * (i == k ? this.diagonal[i] : this.data[this.getIndex(i, k)]);
+				}
+				this.data[p] = z;
+			}
+			
+			// Hauptdiagonalelement
+			double z = 1.0 / D[j];
+			for (int p=start; p<end; p++) 
+				z -= L[p] * this.data[p];
+			this.diagonal[j] = z;
+		}
+	}
+	
+	private int getIndex(int row, int column) {
+		if (row < column) {
+			int tmp = row;
+			row = column;
+			column = tmp;
+		}
+		return Arrays.binarySearch(this.rowIndex, this.colPointer[column], this.colPointer[column + 1], row);
+	}
+	
+	/**
+	 * Prueft, ob das Element (row, column) Teil der Besetzungsstruktur ist
+	 * @param row
+	 * @param column
+	 * @return isSelected
+	 */
+	public boolean isSelected(int row, int column) {
+		return row == column || this.getIndex(row, column) >= 0;
+	}
+
+	/**
+	 * Liefert das Element (row, column). Liegt dieses ausserhalb der Besetzungsstruktur, wird die Spalte ggf. 
+	 * durch Vorwaerts- und Rueckwaertseinsetzen bestimmt, vgl. {@link #isSelected(int, int)}
+	 */
+	@Override
+	public double get(int row, int column) {
+		if (row == column)
+			return this.diagonal[row];
+		
+		int idx = this.getIndex(row, column);
+		if (idx >= 0)
+			return this.data[idx];
+		
+		return this.getUnselected(row, column);
+	}
+	
+	private synchronized double getUnselected(int row, int column) {
+		double z[] = this.columnCache.get(column);
+		if (z != null)
+			return z[row];
+		
+		// Z ist symmetrisch, sodass auch eine zwischengespeicherte Zeile genutzt werden kann
+		z = this.columnCache.get(row);
+		if (z != null)
+			return z[column];
+
+		z = new double[this.numRows];
+		z[column] = 1.0;
+		this.ldl.solve(z);
+		this.columnCache.put(column, z);
+		return z[row];
+	}
+	
+	/**
+	 * Berechnet y = alpha*Z*x + y durch Vorwaerts- und Rueckwaertseinsetzen mit der Zerlegung, d.h., 
+	 * ohne die nicht bestimmten Elemente von Z zu bilden
+	 */
+	@Override
+	public Vector multAdd(double alpha, Vector x, Vector y) {
+		this.checkMultAdd(x, y);
+		double z[] = new double[this.numRows];
+		for (int i=0; i<this.numRows; i++)
+			z[i] = x.get(i);
+		this.ldl.solve(z);
+		return y.add(alpha, new DenseVector(z, false));
+	}
+	
+	/**
+	 * Berechnet y = alpha*Z'*x + y; Z ist symmetrisch
+	 */
+	@Override
+	public Vector transMultAdd(double alpha, Vector x, Vector y) {
+		return this.multAdd(alpha, x, y);
+	}
+	
+	/**
+	 * Liefert die Anzahl der explizit bestimmten Elemente der unteren Dreiecksmatrix (inkl. Hauptdiagonale)
+	 * @return nnz
+	 */
+	public int nonZeros() {
+		return this.data.length + this.diagonal.length;
+	}
+}
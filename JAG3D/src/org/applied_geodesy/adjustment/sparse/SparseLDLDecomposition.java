@@ -0,0 +1,253 @@
+/***********************************************************************
+ * Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+ *                                                                      *
+ * This program is free software; you can redistribute it and/or modify *
+ * it under the terms of the GNU General Public License as published by *
+ * the Free Software Foundation; either version 3 of the License, or    *
+ * at your option any later version.                                    *
+ *                                                                      *
+ * This program is distributed in the hope that it will be useful,      *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+ * GNU General Public License for more details.                         *
+ *                                                                      *
+ * You should have received a copy of the GNU General Public License    *
+ * along with this program; if not, see <http://www.gnu.org/licenses/>  *
+ * or write to the                                                      *
+ * Free Software Foundation, Inc.,                                      *
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+ *                                                                      *
+ ***********************************************************************/
+
+
+package org.applied_geodesy.adjustment.sparse;
+
+import java.util.Arrays;
+
+import org.applied_geodesy.adjustment.Constant;
+
+import no.uib.cipr.matrix.DenseVector;
+import no.uib.cipr.matrix.MatrixSingularException;
+
+/**
+ * Zerlegung einer duenn besetzten symmetrischen Matrix A = L*D*L<sup>T</sup> 
+ * ohne Pivotisierung (left-looking bzw. up-looking Algorithmus). Die Besetzungsstruktur 
+ * des Faktors L wird vorab symbolisch ueber den Eliminationsbaum bestimmt, sodass 
+ * nur die Elemente gespeichert werden, die tatsaechlich besetzt sind (inkl. Fill-in).
+ * 
+ * Da keine Pivotisierung erfolgt, ist das Verfahren fuer positiv definite Normalgleichungen 
+ * gedacht. Geraenderte Systeme (Datumsbedingungen einer freien Netzausgleichung) sind indefinit 
+ * und sollten mit {@link org.applied_geodesy.adjustment.MathExtension#solve(no.uib.cipr.matrix.UpperSymmPackMatrix, DenseVector, boolean)} 
+ * geloest werden.
+ * 
+ * vgl. Davis, T.A. (2005): Algorithm 849: A concise sparse Cholesky factorization package. 
+ * ACM Transactions on Mathematical Software 31(4), S. 587-591
+ *
+ */
+public class SparseLDLDecomposition {
+	private final int size;
+	private final int parent[];
+	private final int lColPointer[];
+	private int lRowIndex[];
+	private double lData[];
+	private double D[];
+
+	private SparseLDLDecomposition(int size) {
+		this.size = size;
+		this.parent = new int[size];
+		this.lColPointer = new int[size + 1];
+	}
+	
+	/**
+	 * Zerlegt die Matrix A = L*D*L<sup>T</sup>
+	 * @param A
+	 * @return LDL
+	 * @throws MatrixSingularException
+	 */
+	public static SparseLDLDecomposition factorize(UpperSymmSparseMatrix A) throws MatrixSingularException {
+		SparseLDLDecomposition ldl = new SparseLDLDecomposition(A.numRows());
+		ldl.symbolic(A);
+		ldl.numeric(A);
+		return ldl;
+	}
+	
+	/**
+	 * Bestimmt den Eliminationsbaum sowie die Anzahl der Elemente je Spalte in L
+	 * @param A
+	 */
+	private void symbolic(UpperSymmSparseMatrix A) {
+		int n = this.size;
+		int Ap[] = A.getColumnPointers();
+		int Ai[] = A.getRowIndices();
+		int flag[] = new int[n];
+		int lnz[]  = new int[n];
+		
+		for (int k=0; k<n; k++) {
+			this.parent[k] = -1;
+			flag[k] = k;
+			for (int p=Ap[k]; p<Ap[k + 1]; p++) {
+				int i = Ai[p];
+				if (i < k) {
+					// Folge dem Pfad im Eliminationsbaum bis zu einem bereits markierten Knoten
+					for (; flag[i] != k; i = this.parent[i]) {
+						if (this.parent[i] == -1) 
+							this.parent[i] = k;
+						lnz[i]++;
+						flag[i] = k;
+					}
+				}
+			}
+		}
+		
+		this.lColPointer[0] = 0;
+		for (int k=0; k<n; k++) {
+			this.lColPointer[k + 1] = this.lColPointer[k] + lnz[k];
+			if (this.lColPointer[k + 1] < 0)
+				throw new OutOfMemoryError("Error, number of non-zeros in factor exceeds maximum array size!");
+		}
+
+		this.lRowIndex = new int[this.lColPointer[n]];
+		this.lData     = new double[this.lColPointer[n]];
+		this.D         = new double[n];
+	}
+	
+	/**
+	 * Numerische Zerlegung; die k-te Zeile von L ergibt sich aus der Loesung eines 
+	 * duenn besetzten Dreieckssystems, dessen Struktur durch den Eliminationsbaum gegeben ist
+	 * @param A
+	 * @throws MatrixSingularException
+	 */
+	private void numeric(UpperSymmSparseMatrix A) throws MatrixSingularException {
+		int n = this.size;
+		int Ap[] = A.getColumnPointers();
+		int Ai[] = A.getRowIndices();
+		double Ax[] = A.getData();
+
+		double y[] = new double[n];
+		int pattern[] = new int[n];
+		int flag[] = new int[n];
+		int lnz[]  = new int[n];
+		
+		for (int k=0; k<n; k++) {
+			y[k] = 0.0;
+			int top = n;
+			flag[k] = k;
+			lnz[k] = 0;
+			double diagonal = 0.0;
+			
+			for (int p=Ap[k]; p<Ap[k + 1]; p++) {
+				int i = Ai[p];
+				y[i] += Ax[p];
+				if (i == k)
+					diagonal = Ax[p];
+				int len = 0;
+				for (; flag[i] != k; i = this.parent[i]) {
+					pattern[len++] = i;
+					flag[i] = k;
+				}
+				while (len > 0)
+					pattern[--top] = pattern[--len];
+			}
+			
+			this.D[k] = y[k];
+			y[k] = 0.0;
+			
+			for (; top < n; top++) {
+				int i = pattern[top];
+				double yi = y[i];
+				y[i] = 0.0;
+				int p2 = this.lColPointer[i] + lnz[i];
+				int p = this.lColPointer[i];
+				for (; p < p2; p++)
+					y[this.lRowIndex[p]] -= this.lData[p] * yi;
+				
+				double lki = yi / this.D[i];
+				this.D[k] -= lki * yi;
+				this.lRowIndex[p] = k;
+				this.lData[p] = lki;
+				lnz[i]++;
+			}
+			
+			if (Double.isNaN(this.D[k]) || Math.abs(this.D[k]) <= Constant.EPS * Math.abs(diagonal))
+				throw new MatrixSingularException();
+		}
+	}
+	
+	/**
+	 * Loest das Gleichungssystem A*x = b und ueberschreibt b durch die Loesung x
+	 * @param b
+	 */
+	public void solve(double b[]) {
+		int n = this.size;
+		// L*y = b
+		for (int j=0; j<n; j++) {
+			double bj = b[j];
+			if (bj == 0)
+				continue;
+			for (int p=this.lColPointer[j]; p<this.lColPointer[j + 1]; p++)
+				b[this.lRowIndex[p]] -= this.lData[p] * bj;
+		}
+		// D*z = y
+		for (int j=0; j<n; j++)
+			b[j] /= this.D[j];
+		// L'*x = z
+		for (int j=n-1; j>=0; j--) {
+			double bj = b[j];
+			for (int p=this.lColPointer[j]; p<this.lColPointer[j + 1]; p++)
+				bj -= this.lData[p] * b[this.lRowIndex[p]];
+			b[j] = bj;
+		}
+	}
+	
+	/**
+	 * Loest das Gleichungssystem A*x = b und ueberschreibt b durch die Loesung x
+	 * @param b
+	 */
+	public void solve(DenseVector b) {
+		this.solve(b.getData());
+	}
+	
+	/**
+	 * Liefert die Anzahl der Nicht-Null-Elemente im Faktor L (ohne Hauptdiagonale)
+	 * @return nnz(L)
+	 */
+	public int nonZeros() {
+		return this.lColPointer[this.size];
+	}
+	
+	/**
+	 * Liefert die Dimension der zerlegten Matrix
+	 * @return size
+	 */
+	public int size() {
+		return this.size;
+	}
+	
+	/**
+	 * Liefert den Eliminationsbaum; parent[k] ist der Elternknoten von k oder -1 fuer eine Wurzel
+	 * @return parent
+	 */
+	public int[] getEliminationTree() {
+		return Arrays.copyOf(this.parent, this.size);
+	}
+	
+	/**
+	 * Liefert die Diagonalmatrix D
+	 * @return D
+	 */
+	public double[] getD() {
+		return this.D;
+	}
+	
+	int[] getColumnPointers() {
+		return this.lColPointer;
+	}
+	
+	int[] getRowIndices() {
+		return this.lRowIndex;
+	}
+	
+	double[] getData() {
+		return this.lData;
+	}
+}
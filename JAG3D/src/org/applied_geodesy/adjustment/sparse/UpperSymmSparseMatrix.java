@@ -0,0 +1,283 @@
+/***********************************************************************
+ * Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+ *                                                                      *
+ * This program is free software; you can redistribute it and/or modify *
+ * it under the terms of the GNU General Public License as published by *
+ * the Free Software Foundation; either version 3 of the License, or    *
+ * at your option any later version.                                    *
+ *                                                                      *
+ * This program is distributed in the hope that it will be useful,      *
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+ * GNU General Public License for more details.                         *
+ *                                                                      *
+ * You should have received a copy of the GNU General Public License    *
+ * along with this program; if not, see <http://www.gnu.org/licenses/>  *
+ * or write to the                                                      *
+ * Free Software Foundation, Inc.,                                      *
+ * 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+ *                                                                      *
+ ***********************************************************************/
+
+
+package org.applied_geodesy.adjustment.sparse;
+
+import java.util.Arrays;
+
+/**
+ * Symmetrische duenn besetzte Matrix, von der nur die obere Dreiecksmatrix 
+ * spaltenweise gespeichert wird (compressed sparse column, CSC). Die Spalte k 
+ * enthaelt somit nur die Elemente (i,k) mit i &lt;= k.
+ * 
+ * Waehrend des Aufstellens der Normalgleichung werden die Elemente je Spalte 
+ * nach aufsteigendem Zeilenindex sortiert gesammelt, sodass ein Element mittels 
+ * binaerer Suche gefunden wird. Mit {@link #compress()} wird die Struktur in die kompakte 
+ * CSC-Form ueberfuehrt, die von {@link SparseLDLDecomposition} erwartet wird.
+ *
+ */
+public class UpperSymmSparseMatrix {
+	private final int size;
+	
+	// Struktur waehrend des Aufstellens
+	private int rowIndices[][];
+	private double values[][];
+	private int columnSize[];
+	
+	// kompakte CSC-Struktur
+	private int colPointer[] = null, rowIndex[] = null;
+	private double data[] = null;
+	
+	public UpperSymmSparseMatrix(int size) {
+		this(size, 8);
+	}
+	
+	public UpperSymmSparseMatrix(int size, int estimatedNonZerosPerColumn) {
+		if (size < 0)
+			throw new IllegalArgumentException("Error, matrix size must be non-negative! " + size);
+		
+		this.size = size;
+		this.rowIndices = new int[size][];
+		this.values     = new double[size][];
+		this.columnSize = new int[size];
+		
+		estimatedNonZerosPerColumn = Math.max(1, estimatedNonZerosPerColumn);
+		for (int k=0; k<size; k++) {
+			this.rowIndices[k] = new int[estimatedNonZerosPerColumn];
+			this.values[k]     = new double[estimatedNonZerosPerColumn];
+		}
+	}
+	
+	/**
+	 * Addiert den Wert value zum Element (row, column). Da nur die obere 
+	 * Dreiecksmatrix gespeichert wird, werden Zeile und Spalte ggf. getauscht.
+	 * @param row
+	 * @param column
+	 * @param value
+	 */
+	public void add(int row, int column, double value) {
+		if (row > column) {
+			int tmp = row;
+			row = column;
+			column = tmp;
+		}
+		int idx = this.getIndex(row, column, true);
+		this.values[column][idx] += value;
+	}
+	
+	/**
+	 * Setzt den Wert value am Element (row, column).
+	 * @param row
+	 * @param column
+	 * @param value
+	 */
+	public void set(int row, int column, double value) {
+		if (row > column) {
+			int tmp = row;
+			row = column;
+			column = tmp;
+		}
+		int idx = this.getIndex(row, column, true);
+		this.values[column][idx] = value;
+	}
+	
+	/**
+	 * Liefert das Element (row, column); nicht besetzte Elemente sind Null
+	 * @param row
+	 * @param column
+	 * @return value
+	 */
+	public double get(int row, int column) {
+		if (row > column) {
+			int tmp = row;
+			row = column;
+			column = tmp;
+		}
+		if (this.isCompressed()) {
+			int idx = Arrays.binarySearch(this.rowIndex, this.colPointer[column], this.colPointer[column + 1], row);
+			return idx < 0 ? 0.0 : this.data[idx];
+		}
+		int idx = this.getIndex(row, column, false);
+		return idx < 0 ? 0.0 : this.values[column][idx];
+	}
+	
+	private int getIndex(int row, int column, boolean create) {
+		if (this.isCompressed())
+			throw new IllegalStateException("Error, structure of compressed matrix cannot be modified!");
+		
+		if (row < 0 || column >= this.size)
+			throw new ArrayIndexOutOfBoundsException("Error, index (" + row + ", " + column + ") out of range " + this.size + "!");
+		
+		int rows[] = this.rowIndices[column];
+		double vals[] = this.values[column];
+		int length = this.columnSize[column];
+		int idx = Arrays.binarySearch(rows, 0, length, row);
+		if (idx >= 0 || !create)
+			return idx < 0 ? -1 : idx;
+
+		if (length == rows.length) {
+			int capacity = Math.max(4, 2 * length);
+			this.rowIndices[column] = rows = Arrays.copyOf(rows, capacity);
+			this.values[column] = vals = Arrays.copyOf(vals, capacity);
+		}
+		
+		// Einfuegen an der Einfuegeposition, um die aufsteigende Sortierung zu erhalten
+		idx = -(idx + 1);
+		System.arraycopy(rows, idx, rows, idx + 1, length - idx);
+		System.arraycopy(vals, idx, vals, idx + 1, length - idx);
+		rows[idx] = row;
+		vals[idx] = 0.0;
+		this.columnSize[column]++;
+		return idx;
+	}
+	
+	/**
+	 * Ueberfuehrt die Matrix in die kompakte CSC-Form mit aufsteigend sortierten Zeilenindizes.
+	 * Die Besetzungsstruktur ist danach nicht mehr veraenderbar.
+	 */
+	public void compress() {
+		if (this.isCompressed())
+			return;
+		
+		int nnz = 0;
+		for (int k=0; k<this.size; k++)
+			nnz += this.columnSize[k];
+		
+		this.colPointer = new int[this.size + 1];
+		this.rowIndex   = new int[nnz];
+		this.data       = new double[nnz];
+		
+		int p = 0;
+		for (int k=0; k<this.size; k++) {
+			this.colPointer[k] = p;
+			int length = this.columnSize[k];
+			// Zeilenindizes sind bereits aufsteigend sortiert
+			System.arraycopy(this.rowIndices[k], 0, this.rowIndex, p, length);
+			System.arraycopy(this.values[k],     0, this.data,     p, length);
+			p += length;
+			
+			this.rowIndices[k] = null;
+			this.values[k]     = null;
+		}
+		this.colPointer[this.size] = p;
+		
+		this.rowIndices = null;
+		this.values     = null;
+		this.columnSize = null;
+	}
+	
+	/**
+	 * Addiert den Wert value zu allen Diagonalelementen. Ist die Matrix bereits kompakt 
+	 * gespeichert, muessen die Diagonalelemente Teil der Besetzungsstruktur sein.
+	 * @param value
+	 */
+	public void addDiagonal(double value) {
+		if (!this.isCompressed()) {
+			for (int k=0; k<this.size; k++)
+				this.add(k, k, value);
+			return;
+		}
+		
+		for (int k=0; k<this.size; k++) {
+			// Zeilenindizes sind aufsteigend sortiert, sodass das Diagonalelement am Ende der Spalte steht
+			int idx = this.colPointer[k + 1] - 1;
+			if (idx < this.colPointer[k] || this.rowIndex[idx] != k)
+				throw new IllegalStateException("Error, diagonal element (" + k + ", " + k + ") is not part of the structure of the compressed matrix!");
+			this.data[idx] += value;
+		}
+	}
+	
+	/**
+	 * Berechnet y = A*x unter Beruecksichtigung der Symmetrie
+	 * @param x
+	 * @param y
+	 */
+	public void mult(double x[], double y[]) {
+		this.compress();
+		Arrays.fill(y, 0, this.size, 0.0);
+		for (int k=0; k<this.size; k++) {
+			double xk = x[k];
+			double yk = 0.0;
+			for (int p=this.colPointer[k]; p<this.colPointer[k + 1]; p++) {
+				int i = this.rowIndex[p];
+				double a = this.data[p];
+				yk += a * x[i];
+				if (i != k)
+					y[i] += a * xk;
+			}
+			y[k] += yk;
+		}
+	}
+	
+	public boolean isCompressed() {
+		return this.colPointer != null;
+	}
+
+	public int numRows() {
+		return this.size;
+	}
+	
+	public int numColumns() {
+		return this.size;
+	}
+	
+	/**
+	 * Liefert die Anzahl der gespeicherten Elemente der oberen Dreiecksmatrix
+	 * @return nnz
+	 */
+	public int nonZeros() {
+		if (this.isCompressed())
+			return this.colPointer[this.size];
+		
+		int nnz = 0;
+		for (int k=0; k<this.size; k++)
+			nnz += this.columnSize[k];
+		return nnz;
+	}
+	
+	/**
+	 * Liefert die Spaltenzeiger der CSC-Struktur
+	 * @return colPointer
+	 */
+	public int[] getColumnPointers() {
+		this.compress();
+		return this.colPointer;
+	}
+	
+	/**
+	 * Liefert die Zeilenindizes der CSC-Struktur
+	 * @return rowIndex
+	 */
+	public int[] getRowIndices() {
+		this.compress();
+		return this.rowIndex;
+	}
+	
+	/**
+	 * Liefert die Elemente der CSC-Struktur
+	 * @return data
+	 */
+	public double[] getData() {
+		this.compress();
+		return this.data;
+	}
+}
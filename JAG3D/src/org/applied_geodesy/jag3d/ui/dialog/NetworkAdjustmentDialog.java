@@ -63,6 +63,7 @@ public class NetworkAdjustmentDialog {
 		private final String iterationTextTemplate;
 		private final String convergenceTextTemplate;
 		private final String unscentedTransformationTextTemplate;
+		private final String outOfCoreFactorisationTextTemplate;
 		private NetworkAdjustment adjustment;
 		private double processState = 0.0;
 		private double finalStepProcesses = 0.0;
@@ -74,6 +75,7 @@ public class NetworkAdjustmentDialog {
 			this.unscentedTransformationTextTemplate = i18n.getString("NetworkAdjustmentDialog.unscentedtransformation.label",   "%d. unscented transformation step of %d \u2026");
 			this.iterationTextTemplate   = i18n.getString("NetworkAdjustmentDialog.iteration.label",   "%d. iteration step of maximal %d \u2026");
 			this.convergenceTextTemplate = i18n.getString("NetworkAdjustmentDialog.convergence.label", "Convergence max|dx| = %.2e");
+			this.outOfCoreFactorisationTextTemplate = i18n.getString("NetworkAdjustmentDialog.out_of_core_factorisation.label", "%d. out-of-core factorisation step of %d \u2026");
 		}
 
 		@Override
@@ -264,6 +266,14 @@ public class NetworkAdjustmentDialog {
 					this.updateProgress(this.processState, 1.0);
 				}
 				break;
+				
+			case OUT_OF_CORE_FACTORISATION:
+				if (oldValue != null && newValue != null && oldValue instanceof Integer && newValue instanceof Integer) {
+					int current = (Integer)newValue;
+					int maximal = (Integer)oldValue;
+					this.updateIterationProgressMessage(String.format(Locale.ENGLISH, this.outOfCoreFactorisationTextTemplate, current, maximal));
+				}
+				break;
 
 			case INVERT_NORMAL_EQUATION_MATRIX:
 				this.processState += this.finalStepProcesses;
@@ -307,6 +317,7 @@ public class NetworkAdjustmentDialog {
 
 				// Adjustment faild (wo exception) 
 			case NOT_INITIALISED:
+			case SEQUENTIAL_ADJUSTMENT_NOT_APPLICABLE:
 			case NO_CONVERGENCE:
 			case OUT_OF_MEMORY:
 			case ROBUST_ESTIMATION_FAILED:
@@ -243,6 +243,45 @@ public class FormatterOptions {
 		return options;
 	}
 	
+	/**
+	 * Liefert die Aufloesung der formatierten Werte des Typs in Modelleinheiten (Meter, Radiant bzw. einheitenlos), 
+	 * d.h. den Wert einer Einheit der letzten angezeigten Nachkommastelle. Fuer Typen ohne Formatierung, bspw. 
+	 * ganze Zahlen oder Wahrheitswerte, ist die Aufloesung null.
+	 * @param type
+	 * @return resolution
+	 */
+	public double getModelResolution(CellValueType type) {
+		FormatterOption option = this.formatterOptions.get(type);
+		if (option == null)
+			return 0.0;
+		
+		double d = Math.pow(10.0, -option.getFractionDigits());
+		Unit unit = option.getUnit();
+		if (unit instanceof LengthUnit)
+			return Math.abs(((LengthUnit)unit).toMeter(d) - ((LengthUnit)unit).toMeter(0.0));
+		else if (unit instanceof AngleUnit)
+			return Math.abs(((AngleUnit)unit).toRadian(d) - ((AngleUnit)unit).toRadian(0.0));
+		else if (unit instanceof ScaleUnit)
+			return Math.abs(((ScaleUnit)unit).toUnitless(d) - ((ScaleUnit)unit).toUnitless(0.0));
+		else if (unit instanceof PercentUnit)
+			return Math.abs(((PercentUnit)unit).toUnitless(d) - ((PercentUnit)unit).toUnitless(0.0));
+		return d;
+	}
+	
+	/**
+	 * Liefert die feinste Aufloesung der formatierten Ergebnisse in Modelleinheiten, vgl. getModelResolution(CellValueType). 
+	 * Temperatur und Luftdruck bleiben unberuecksichtigt.
+	 * @return resolution
+	 */
+	public double getModelResolution() {
+		double resolution = Double.POSITIVE_INFINITY;
+		for (CellValueType type : this.formatterOptions.keySet()) {
+			if (type != CellValueType.TEMPERATURE && type != CellValueType.PRESSURE)
+				resolution = Math.min(resolution, this.getModelResolution(type));
+		}
+		return resolution;
+	}
+	
 	
 	public double convertTemperatureToView(double d) {
 		return ((TemperatureUnit)this.formatterOptions.get(CellValueType.TEMPERATURE).getUnit()).fromDegreeCelsius(d);
@@ -23,12 +23,18 @@ package org.applied_geodesy.util.sql;
 
 import java.io.File;
 import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -36,9 +42,24 @@ import org.hsqldb.cmdline.SqlFile;
 import org.hsqldb.cmdline.SqlToolError;
 
 public abstract class DataBase {
+	/** Maximale Anzahl vorbereiteter Anweisungen, die je Verbindung vorgehalten werden */
+	public final static int STATEMENT_CACHE_SIZE = 128;
 	private final String dbDriver, username, password;
 	private Connection conn = null;
 	private boolean isOpen = false;
+	private long cachedStatementHits = 0, cachedStatementMisses = 0;
+	// Zurueckgegebene, nicht ausgegebene Anweisungen (LRU), verdraengte Anweisungen werden geschlossen
+	private final Map<String, PreparedStatement> statementCache = new LinkedHashMap<String, PreparedStatement>(16, 0.75f, true) {
+		private static final long serialVersionUID = -6317484829137766352L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+			if (this.size() <= STATEMENT_CACHE_SIZE)
+				return false;
+			closeStatement(eldest.getValue());
+			return true;
+		}
+	};
 
 	public DataBase(String dbDriver, String username, String password) {
 		this.dbDriver = dbDriver;
@@ -70,6 +91,7 @@ public abstract class DataBase {
 	}
 
 	public void close() {
+		this.clearStatementCache();
 		if (this.conn == null)
 			return;
 		try {
@@ -88,13 +110,143 @@ public abstract class DataBase {
 	
 	public abstract int getLastInsertId() throws SQLException;
 
-	public PreparedStatement getPreparedStatement(String sql) throws SQLException {
+	/**
+	 * Liefert eine vorbereitete Anweisung zur SQL-Abfrage. Die Anweisung gehoert bis zum Aufruf von 
+	 * close() allein dem Aufrufer. Mit close() wird sie zurueckgegeben, d.h., ihre Ergebnismenge 
+	 * geschlossen, Parameter und Stapel zurueckgesetzt und die Anweisung je Verbindung zur 
+	 * Wiederverwendung vorgehalten. Vorgehalten werden ausschliesslich zurueckgegebene Anweisungen; 
+	 * geschachtelte Abfragen mit identischer SQL-Anweisung oder nebenlaeufige Aufrufer erhalten 
+	 * somit stets eigene Anweisungen. Nicht geschlossene Anweisungen werden nicht wiederverwendet.
+	 * 
+	 * @param sql
+	 * @return stmt
+	 * @throws SQLException
+	 */
+	public synchronized PreparedStatement getPreparedStatement(String sql) throws SQLException {
 		if (this.isOpen()) {
-			return this.conn.prepareStatement(sql);
+			PreparedStatement stmt = this.statementCache.remove(sql);
+			if (stmt != null && !stmt.isClosed()) 
+				this.cachedStatementHits++;
+			else {
+				this.cachedStatementMisses++;
+				stmt = this.conn.prepareStatement(sql);
+			}
+			return (PreparedStatement)Proxy.newProxyInstance(
+					PreparedStatement.class.getClassLoader(), 
+					new Class<?>[] { PreparedStatement.class }, 
+					new CheckedOutStatement(sql, stmt)
+			);
 		}
 		return null;
 	}
 	
+	/**
+	 * Nimmt eine mit close() zurueckgegebene Anweisung wieder auf. Anweisungen einer anderen 
+	 * (bspw. zwischenzeitlich neu geoeffneten) Verbindung oder solche, deren SQL-Anweisung bereits 
+	 * vorgehalten wird, werden geschlossen.
+	 * @param sql
+	 * @param stmt
+	 */
+	private synchronized void checkIn(String sql, PreparedStatement stmt) {
+		try {
+			if (stmt.isClosed())
+				return;
+			
+			if (!this.isOpen() || stmt.getConnection() != this.conn || this.statementCache.containsKey(sql)) {
+				closeStatement(stmt);
+				return;
+			}
+			
+			ResultSet rs = stmt.getResultSet();
+			if (rs != null)
+				rs.close();
+			stmt.clearParameters();
+			stmt.clearBatch();
+			this.statementCache.put(sql, stmt);
+		}
+		catch (SQLException e) {
+			closeStatement(stmt);
+		}
+	}
+	
+	/**
+	 * Liefert die Anzahl der wiederverwendeten, vorbereiteten Anweisungen
+	 * @return hits
+	 */
+	public synchronized long getNumberOfCachedStatementHits() {
+		return this.cachedStatementHits;
+	}
+	
+	/**
+	 * Liefert die Anzahl der neu vorzubereitenden Anweisungen
+	 * @return misses
+	 */
+	public synchronized long getNumberOfCachedStatementMisses() {
+		return this.cachedStatementMisses;
+	}
+	
+	/**
+	 * Schliesst alle vorgehaltenen, vorbereiteten Anweisungen
+	 */
+	public synchronized void clearStatementCache() {
+		for (PreparedStatement stmt : this.statementCache.values())
+			closeStatement(stmt);
+		this.statementCache.clear();
+	}
+	
+	private static void closeStatement(PreparedStatement stmt) {
+		try {
+			if (!stmt.isClosed())
+				stmt.close();
+		}
+		catch (SQLException e) {
+			// Verbindung ist bereits geschlossen, bspw. nach SHUTDOWN
+		}
+	}
+	
+	/**
+	 * Ausgegebene Anweisung, die bis zum Aufruf von close() exklusiv dem Aufrufer gehoert; 
+	 * close() gibt die zugrundeliegende Anweisung mittels checkIn() zurueck.
+	 */
+	private final class CheckedOutStatement implements InvocationHandler {
+		private final String sql;
+		private final PreparedStatement stmt;
+		private boolean closed = false;
+		
+		private CheckedOutStatement(String sql, PreparedStatement stmt) {
+			this.sql  = sql;
+			this.stmt = stmt;
+		}
+		
+		@Override
+		public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+			switch (method.getName()) {
+			case "close":
+				if (!this.closed) {
+					this.closed = true;
+					checkIn(this.sql, this.stmt);
+				}
+				return null;
+			case "isClosed":
+				return this.closed || this.stmt.isClosed();
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			}
+			
+			if (this.closed)
+				throw new SQLException("Error, prepared statement is already closed! " + this.sql);
+			
+			try {
+				return method.invoke(this.stmt, args);
+			}
+			catch (InvocationTargetException e) {
+				throw e.getCause();
+			}
+		}
+	}
+	
 	public Statement getStatement() throws SQLException {
 		if (this.isOpen()) {
 			return this.conn.createStatement();
@@ -156,6 +308,8 @@ public abstract class DataBase {
 	            sqlFile.addUserVars(sqlVarMap);
 	            sqlFile.execute();
 	            
+	            if (this.conn != sqlFile.getConnection())
+	            	this.clearStatementCache();
 	            this.conn = sqlFile.getConnection();
 	            sqlVarMap = sqlFile.getUserVars();
 			}
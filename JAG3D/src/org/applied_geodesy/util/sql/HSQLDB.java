@@ -21,14 +21,27 @@
 
 package org.applied_geodesy.util.sql;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 public class HSQLDB extends DataBase{
 	private final static String SQL_LAST_ID = "CALL IDENTITY()";
 	public static final String JDBCDriver = "org.hsqldb.jdbcDriver";
+	/** Groesse der Datenbankdateien in Byte, bis zu der bei StorageProfileType.AUTO Tabellen im Arbeitsspeicher gehalten werden */
+	public final static long MEMORY_PROFILE_LIMIT = 32L * 1024L * 1024L;
+	/** Voreingestellter Anteil ungenutzten Speichers in der Datendatei (in Prozent), ab dem defragmentiert wird */
+	public final static int DEFAULT_DEFRAG_LIMIT = 20;
+	private final static String SCHEMA = "OpenAdjustment";
 	private final String dbFileName;
+	private StorageProfileType storageProfileType = null;
+	private int defragLimit = DEFAULT_DEFRAG_LIMIT;
 	
 	public HSQLDB(String dbFileName) {
 		this(dbFileName, "sa", "");
@@ -44,19 +57,24 @@ public class HSQLDB extends DataBase{
 		return "jdbc:hsqldb:file:" + this.dbFileName + ";shutdown=true";
 	}
 	
+	/**
+	 * Schliesst die Datenbank. Die Datendatei wird nur dann defragmentiert, wenn der Anteil 
+	 * ungenutzten Speichers die Grenze getDefragLimit() ueberschreitet; andernfalls wird lediglich 
+	 * ein Checkpoint geschrieben, ohne die gesamte Datendatei neu anzulegen.
+	 */
 	@Override
 	public void close() {
 		if (this.isOpen()) {
 			try {
-				this.getPreparedStatement("CHECKPOINT DEFRAG").execute();
+				if (100.0 * this.getFragmentation() > this.defragLimit)
+					this.getPreparedStatement("CHECKPOINT DEFRAG").execute();
 			} 
 			catch (SQLException e) {
 				e.printStackTrace();
 			}
 			finally {
 				try {
-					this.getPreparedStatement("SHUTDOWN COMPACT").execute();
-//					this.getPreparedStatement("SHUTDOWN").execute();
+					this.getPreparedStatement("SHUTDOWN").execute();
 				} catch (Exception e) {
 					e.printStackTrace();
 				}	
@@ -65,16 +83,127 @@ public class HSQLDB extends DataBase{
 		super.close();
 	}
 	
+	/**
+	 * Liefert den Anteil ungenutzten Speichers in der Datendatei der dateibasierten Tabellen
+	 * @return fragmentation
+	 * @throws SQLException
+	 */
+	public double getFragmentation() throws SQLException {
+		String sql = "SELECT \"FILE_LOST_BYTES\", \"FILE_FREE_POS\" FROM \"INFORMATION_SCHEMA\".\"SYSTEM_CACHEINFO\"";
+		double fragmentation = 0;
+		try (PreparedStatement stmt = this.getPreparedStatement(sql); ResultSet rs = stmt.executeQuery()) {
+			if (rs.next()) {
+				long lostBytes = rs.getLong(1);
+				long fileSize  = rs.getLong(2);
+				if (fileSize > 0)
+					fragmentation = (double)lostBytes / (double)fileSize;
+			}
+		}
+		return fragmentation;
+	}
+	
+	/**
+	 * Legt den Anteil ungenutzten Speichers in der Datendatei (in Prozent) fest, ab dem beim Schliessen 
+	 * bzw. bei einem Checkpoint defragmentiert wird
+	 * @param defragLimit
+	 */
+	public void setDefragLimit(int defragLimit) {
+		if (defragLimit < 0 || defragLimit > 100)
+			throw new IllegalArgumentException(this.getClass().getSimpleName() + " : Error, defragmentation limit must be between 0 and 100 percent! " + defragLimit);
+		this.defragLimit = defragLimit;
+	}
+	
+	public int getDefragLimit() {
+		return this.defragLimit;
+	}
+	
+	/**
+	 * Legt das Speicherprofil fest, welches mit applyStorageProfile() angewandt wird
+	 * @param storageProfileType
+	 */
+	public void setStorageProfileType(StorageProfileType storageProfileType) {
+		this.storageProfileType = storageProfileType;
+	}
+	
+	public StorageProfileType getStorageProfileType() {
+		return this.storageProfileType;
+	}
+	
+	/**
+	 * Wendet das Speicherprofil auf die geoeffnete Datenbank an. Bei MEMORY werden alle Tabellen des Projekts 
+	 * im Arbeitsspeicher gehalten, bei CACHED dateibasiert mit einem an den verfuegbaren Arbeitsspeicher 
+	 * angepassten Zwischenspeicher. Bei AUTO wird das Profil anhand der Groesse der Datenbankdateien 
+	 * gewaehlt (vgl. MEMORY_PROFILE_LIMIT). Tabellen werden nur umgewandelt, wenn ihr Typ abweicht. 
+	 * Ist kein Profil festgelegt, bleibt die Datenbank unveraendert; die Defragmentierungsgrenze wird stets gesetzt.
+	 * 
+	 * @throws SQLException
+	 */
+	public void applyStorageProfile() throws SQLException {
+		if (!this.isOpen())
+			return;
+		
+		this.getPreparedStatement("SET FILES DEFRAG " + this.defragLimit).execute();
+		
+		StorageProfileType storageProfileType = this.storageProfileType;
+		if (storageProfileType == null)
+			return;
+		
+		if (storageProfileType == StorageProfileType.AUTO)
+			storageProfileType = this.getDataBaseFileSize() <= MEMORY_PROFILE_LIMIT ? StorageProfileType.MEMORY : StorageProfileType.CACHED;
+
+		if (storageProfileType == StorageProfileType.CACHED) {
+			long cacheSize = Math.max(10000L, Math.min(Runtime.getRuntime().maxMemory() / 4L / 1024L, Integer.MAX_VALUE));
+			this.getPreparedStatement("SET FILES CACHE SIZE " + cacheSize).execute();
+			this.getPreparedStatement("SET FILES CACHE ROWS " + Math.min(Math.max(50000L, 2L * cacheSize), Integer.MAX_VALUE)).execute();
+			this.getPreparedStatement("SET FILES NIO SIZE 8192").execute();
+		}
+		
+		String tableType = storageProfileType == StorageProfileType.MEMORY ? "MEMORY" : "CACHED";
+		String sql = "SELECT \"TABLE_NAME\" FROM \"INFORMATION_SCHEMA\".\"SYSTEM_TABLES\" "
+				+ "WHERE \"TABLE_SCHEM\" = ? AND \"TABLE_TYPE\" = 'TABLE' AND \"HSQLDB_TYPE\" <> ?";
+		PreparedStatement stmt = this.getPreparedStatement(sql);
+		stmt.setString(1, SCHEMA);
+		stmt.setString(2, tableType);
+
+		List<String> tableNames = new ArrayList<String>();
+		try (ResultSet rs = stmt.executeQuery()) {
+			while (rs.next())
+				tableNames.add(rs.getString(1));
+		}
+		
+		for (String tableName : tableNames)
+			this.getPreparedStatement("SET TABLE \"" + SCHEMA + "\".\"" + tableName + "\" TYPE " + tableType).execute();
+	}
+	
+	/**
+	 * Liefert die Groesse der Daten- und Skriptdatei in Byte
+	 * @return size
+	 */
+	private long getDataBaseFileSize() {
+		long size = 0;
+		for (String extension : new String[] {".data", ".script"}) {
+			Path path = Paths.get(this.dbFileName + extension);
+			try {
+				if (Files.isRegularFile(path))
+					size += Files.size(path);
+			} 
+			catch (IOException e) {
+				e.printStackTrace();
+			}
+		}
+		return size;
+	}
+	
 	public String getDataBaseFileName() {
 		return this.dbFileName;
 	}
 	
 	@Override
 	public int getLastInsertId() throws SQLException {
-		PreparedStatement statementId = this.getPreparedStatement(HSQLDB.SQL_LAST_ID);
-		ResultSet lastId = statementId.executeQuery();
-		if (lastId.next() && !lastId.wasNull())
-			return lastId.getInt(1);
+		try (PreparedStatement statementId = this.getPreparedStatement(HSQLDB.SQL_LAST_ID); ResultSet lastId = statementId.executeQuery()) {
+			if (lastId.next() && !lastId.wasNull())
+				return lastId.getInt(1);
+		}
 		return -1;
 	}
 }
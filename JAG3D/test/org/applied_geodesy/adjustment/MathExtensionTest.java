@@ -0,0 +1,100 @@
+/***********************************************************************
+* Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+*                                                                      *
+* This program is free software; you can redistribute it and/or modify *
+* it under the terms of the GNU General Public License as published by *
+* the Free Software Foundation; either version 3 of the License, or    *
+* at your option any later version.                                    *
+*                                                                      *
+* This program is distributed in the hope that it will be useful,      *
+* but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+* GNU General Public License for more details.                         *
+*                                                                      *
+* You should have received a copy of the GNU General Public License    *
+* along with this program; if not, see <http://www.gnu.org/licenses/>  *
+* or write to the                                                      *
+* Free Software Foundation, Inc.,                                      *
+* 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+*                                                                      *
+***********************************************************************/
+
+package org.applied_geodesy.adjustment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.applied_geodesy.adjustment.sparse.BlockJacobiPreconditioner;
+import org.junit.jupiter.api.Test;
+
+import no.uib.cipr.matrix.DenseVector;
+import no.uib.cipr.matrix.NotConvergedException;
+import no.uib.cipr.matrix.UpperSymmPackMatrix;
+
+class MathExtensionTest {
+	// Bloecke je Punkt (2D bzw. 3D) wie beim Vorkonditionierer der iterativen Loesung
+	private final static int BLOCK_START[] = { 0, 2, 5, 7, 10, 12, 15, 17, 20 };
+	private final static int SIZE = BLOCK_START[BLOCK_START.length - 1];
+	private final static double TOLERANCE = 1E-8;
+
+	private static UpperSymmPackMatrix createMatrix() {
+		Random random = new Random(1L);
+		UpperSymmPackMatrix N = new UpperSymmPackMatrix(SIZE);
+		for (int j = 0; j < SIZE; j++) {
+			for (int i = 0; i < j; i++)
+				N.set(i, j, 2.0 * random.nextDouble() - 1.0);
+			N.set(j, j, SIZE + 10.0 * random.nextDouble());
+		}
+		return N;
+	}
+
+	private static DenseVector createVector() {
+		Random random = new Random(2L);
+		DenseVector n = new DenseVector(SIZE);
+		for (int i = 0; i < SIZE; i++)
+			n.set(i, random.nextGaussian());
+		return n;
+	}
+
+	@Test
+	void preconditionedConjugateGradientsMatchDenseSolution() throws Exception {
+		UpperSymmPackMatrix N = createMatrix();
+		BlockJacobiPreconditioner M = new BlockJacobiPreconditioner(BLOCK_START);
+		for (int i = 0; i < SIZE; i++)
+			for (int j = i; j < SIZE; j++)
+				M.add(i, j, N.get(i, j));
+
+		DenseVector x = createVector();
+		DenseVector iterativeX = x.copy();
+		MathExtension.solve(N.copy(), x, false);
+		int iterations = MathExtension.solve(N, M, iterativeX, 1E-12, 1000);
+
+		assertTrue(iterations > 0 && iterations <= SIZE, "iterations " + iterations);
+		for (int i = 0; i < SIZE; i++)
+			assertEquals(x.get(i), iterativeX.get(i), TOLERANCE, "x(" + i + ")");
+	}
+
+	@Test
+	void conjugateGradientsReportMissingConvergence() {
+		UpperSymmPackMatrix N = createMatrix();
+		DenseVector n = createVector();
+		assertThrows(NotConvergedException.class, () -> MathExtension.solve(N, null, n, 1E-12, 2));
+	}
+
+	@Test
+	void choleskySolveMatchesDenseSolution() throws Exception {
+		UpperSymmPackMatrix N = createMatrix();
+		UpperSymmPackMatrix R = N.copy();
+		DenseVector x = createVector();
+		DenseVector choleskyX = x.copy();
+
+		MathExtension.solve(N, x, false);
+		MathExtension.chol(R);
+		MathExtension.cholSolve(R, choleskyX);
+		for (int i = 0; i < SIZE; i++)
+			assertEquals(x.get(i), choleskyX.get(i), TOLERANCE, "x(" + i + ")");
+	}
+}
@@ -0,0 +1,122 @@
+/***********************************************************************
+* Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+*                                                                      *
+* This program is free software; you can redistribute it and/or modify *
+* it under the terms of the GNU General Public License as published by *
+* the Free Software Foundation; either version 3 of the License, or    *
+* at your option any later version.                                    *
+*                                                                      *
+* This program is distributed in the hope that it will be useful,      *
+* but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+* GNU General Public License for more details.                         *
+*                                                                      *
+* You should have received a copy of the GNU General Public License    *
+* along with this program; if not, see <http://www.gnu.org/licenses/>  *
+* or write to the                                                      *
+* Free Software Foundation, Inc.,                                      *
+* 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+*                                                                      *
+***********************************************************************/
+
+package org.applied_geodesy.adjustment.blocking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.applied_geodesy.adjustment.MathExtension;
+import org.junit.jupiter.api.Test;
+
+import no.uib.cipr.matrix.DenseVector;
+import no.uib.cipr.matrix.UpperSymmPackMatrix;
+
+class HelmertBlockedMatrixTest {
+	private final static int J = HelmertBlockedMatrix.JUNCTION;
+	// Innere Unbekannte dreier Bloecke und drei Verknuepfungsunbekannte in gemischter Reihenfolge
+	private final static int COLUMN_BLOCK[] = { 0, J, 1, 0, 2, J, 1, 0, 2, J, 1, 0, 2, 1 };
+	private final static int BLOCK_JUNCTIONS[][] = { { 1, 5 }, { 9, 5 }, { 1, 9 } };
+	private final static double TOLERANCE = 1E-12;
+
+	private static boolean isLinked(int row, int column) {
+		int rowBlock = COLUMN_BLOCK[row], colBlock = COLUMN_BLOCK[column];
+		if (rowBlock == J && colBlock == J)
+			return true;
+		if (rowBlock != J && colBlock != J)
+			return rowBlock == colBlock;
+		int block = rowBlock == J ? colBlock : rowBlock;
+		int junction = rowBlock == J ? row : column;
+		for (int col : BLOCK_JUNCTIONS[block])
+			if (col == junction)
+				return true;
+		return false;
+	}
+
+	private static HelmertBlockedMatrix createMatrix(UpperSymmPackMatrix dense) {
+		HelmertBlockedMatrix blocked = new HelmertBlockedMatrix(COLUMN_BLOCK, BLOCK_JUNCTIONS);
+		Random random = new Random(1L);
+		for (int j = 0; j < COLUMN_BLOCK.length; j++) {
+			for (int i = 0; i <= j; i++) {
+				if (!isLinked(i, j))
+					continue;
+				double value = i == j ? COLUMN_BLOCK.length + random.nextDouble() : 2.0 * random.nextDouble() - 1.0;
+				blocked.add(i, j, value);
+				dense.set(i, j, value);
+			}
+		}
+		return blocked;
+	}
+
+	private static DenseVector createVector(int size) {
+		Random random = new Random(2L);
+		DenseVector n = new DenseVector(size);
+		for (int i = 0; i < size; i++)
+			n.set(i, random.nextGaussian());
+		return n;
+	}
+
+	@Test
+	void solutionMatchesDenseSolution() throws Exception {
+		UpperSymmPackMatrix N = new UpperSymmPackMatrix(COLUMN_BLOCK.length);
+		HelmertBlockedMatrix blockedN = createMatrix(N);
+		assertEquals(3, blockedN.getNumberOfBlocks());
+		assertEquals(3, blockedN.getNumberOfJunctions());
+
+		DenseVector x = createVector(COLUMN_BLOCK.length);
+		DenseVector blockedX = x.copy();
+		MathExtension.solve(N, x, false);
+		blockedN.solve(blockedX);
+		for (int i = 0; i < x.size(); i++)
+			assertEquals(x.get(i), blockedX.get(i), TOLERANCE, "x(" + i + ")");
+	}
+
+	@Test
+	void solutionIsIndependentOfThreadPool() throws Exception {
+		DenseVector x = createVector(COLUMN_BLOCK.length);
+		createMatrix(new UpperSymmPackMatrix(COLUMN_BLOCK.length)).solve(x);
+
+		ForkJoinPool pool = new ForkJoinPool(3);
+		try {
+			HelmertBlockedMatrix blockedN = createMatrix(new UpperSymmPackMatrix(COLUMN_BLOCK.length));
+			blockedN.setForkJoinPool(pool);
+			DenseVector parallelX = createVector(COLUMN_BLOCK.length);
+			blockedN.solve(parallelX);
+			for (int i = 0; i < x.size(); i++)
+				assertEquals(x.get(i), parallelX.get(i), 0.0, "x(" + i + ")");
+		}
+		finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	void couplingBetweenBlocksIsRejected() {
+		HelmertBlockedMatrix blockedN = new HelmertBlockedMatrix(COLUMN_BLOCK, BLOCK_JUNCTIONS);
+		// innere Unbekannte der Bloecke 0 und 1
+		assertThrows(IllegalArgumentException.class, () -> blockedN.add(0, 2, 1.0));
+		// Verknuepfungsunbekannte 9 ist nicht mit Block 0 verknuepft
+		assertThrows(IllegalArgumentException.class, () -> blockedN.add(0, 9, 1.0));
+	}
+}
@@ -0,0 +1,244 @@
+/***********************************************************************
+* Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+*                                                                      *
+* This program is free software; you can redistribute it and/or modify *
+* it under the terms of the GNU General Public License as published by *
+* the Free Software Foundation; either version 3 of the License, or    *
+* at your option any later version.                                    *
+*                                                                      *
+* This program is distributed in the hope that it will be useful,      *
+* but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+* GNU General Public License for more details.                         *
+*                                                                      *
+* You should have received a copy of the GNU General Public License    *
+* along with this program; if not, see <http://www.gnu.org/licenses/>  *
+* or write to the                                                      *
+* Free Software Foundation, Inc.,                                      *
+* 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+*                                                                      *
+***********************************************************************/
+
+package org.applied_geodesy.adjustment.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.applied_geodesy.adjustment.EstimationStateType;
+import org.applied_geodesy.adjustment.EstimationType;
+import org.applied_geodesy.adjustment.MathExtension;
+import org.applied_geodesy.adjustment.NormalEquationSolverType;
+import org.applied_geodesy.adjustment.network.observation.Direction;
+import org.applied_geodesy.adjustment.network.observation.HorizontalDistance;
+import org.applied_geodesy.adjustment.network.observation.group.DirectionGroup;
+import org.applied_geodesy.adjustment.network.observation.group.HorizontalDistanceGroup;
+import org.applied_geodesy.adjustment.network.point.Point2D;
+import org.junit.jupiter.api.Test;
+
+class NetworkAdjustmentTest {
+	private final static int NX = 6, NY = 5, NUMBER_OF_STATIONS = NX * NY;
+	private final static double SPACING = 100.0, SIGMA_DISTANCE = 0.002, SIGMA_DIRECTION = 0.00003;
+	private final static double TOLERANCE = 1E-6;
+
+	/**
+	 * Gitternetz mit Strecken zu den Nachbarpunkten und Richtungssaetzen mit unbekannter Orientierung 
+	 * auf den Standpunkten; die Naeherungskoordinaten weichen um einige Zentimeter von den Sollkoordinaten ab
+	 */
+	private static class GridNetwork {
+		private final Point2D points[][] = new Point2D[NX][NY];
+		private final List<DirectionGroup> directionGroups = new ArrayList<DirectionGroup>();
+
+		private GridNetwork(double stdApriori) {
+			for (int i = 0; i < NX; i++)
+				for (int j = 0; j < NY; j++)
+					this.points[i][j] = new Point2D("P" + i + "_" + j, SPACING * i + 0.02 * ((i + 2 * j) % 3 - 1), SPACING * j - 0.03 * ((2 * i + j) % 3 - 1), stdApriori, stdApriori);
+
+			Random random = new Random(1L);
+			HorizontalDistanceGroup distances = new HorizontalDistanceGroup(1);
+			int neighbours[][] = { { 1, -1 }, { 1, 0 }, { 1, 1 }, { 0, 1 } };
+			for (int i = 0; i < NX; i++) {
+				for (int j = 0; j < NY; j++) {
+					for (int neighbour[] : neighbours) {
+						int k = i + neighbour[0], l = j + neighbour[1];
+						if (k >= NX || l < 0 || l >= NY)
+							continue;
+						double distance = SPACING * Math.hypot(neighbour[0], neighbour[1]);
+						distances.add(new HorizontalDistance(distances.size() + 1, this.points[i][j], this.points[k][l], 0, 0, distance + SIGMA_DISTANCE * random.nextGaussian(), SIGMA_DISTANCE, distance));
+					}
+				}
+			}
+		}
+
+		/**
+		 * Erzeugt die Richtungssaetze der Standpunkte first &lt;= s &lt; last (spaltenweise nummeriert)
+		 */
+		private List<DirectionGroup> addDirectionGroups(int first, int last) {
+			List<DirectionGroup> directionGroups = new ArrayList<DirectionGroup>();
+			for (int s = first; s < last; s++) {
+				int i = s / NY, j = s % NY;
+				Random random = new Random(100L + s);
+				DirectionGroup directions = new DirectionGroup(100 + s);
+				double orientation = 0.3 * i + 0.1 * j;
+				for (int k = Math.max(0, i - 1); k <= Math.min(NX - 1, i + 1); k++) {
+					for (int l = Math.max(0, j - 1); l <= Math.min(NY - 1, j + 1); l++) {
+						if (k == i && l == j)
+							continue;
+						double direction = MathExtension.MOD(Math.atan2(l - j, k - i) - orientation, 2.0 * Math.PI);
+						directions.add(new Direction(1000 * (s + 1) + directions.size(), this.points[i][j], this.points[k][l], 0, 0, direction + SIGMA_DIRECTION * random.nextGaussian(), SIGMA_DIRECTION, SPACING));
+					}
+				}
+				directionGroups.add(directions);
+			}
+			this.directionGroups.addAll(directionGroups);
+			return directionGroups;
+		}
+
+		private NetworkAdjustment createAdjustment(boolean freeNetwork) {
+			NetworkAdjustment adjustment = new NetworkAdjustment();
+			adjustment.setMaximalNumberOfIterations(50);
+			for (int i = 0; i < NX; i++) {
+				for (int j = 0; j < NY; j++) {
+					if (freeNetwork)
+						adjustment.addDatumPoint(this.points[i][j], null);
+					else if (i == 0 && j < 2)
+						adjustment.addReferencePoint(this.points[i][j], null);
+					else
+						adjustment.addNewPoint(this.points[i][j], null);
+				}
+			}
+			return adjustment;
+		}
+
+		private double[] getCoordinates() {
+			double coordinates[] = new double[2 * NUMBER_OF_STATIONS];
+			for (int i = 0; i < NX; i++) {
+				for (int j = 0; j < NY; j++) {
+					coordinates[2 * (i * NY + j)]     = this.points[i][j].getX();
+					coordinates[2 * (i * NY + j) + 1] = this.points[i][j].getY();
+				}
+			}
+			return coordinates;
+		}
+	}
+
+	private static void assertCoordinatesEquals(double expected[], double actual[], String message) {
+		for (int i = 0; i < expected.length; i++)
+			assertEquals(expected[i], actual[i], TOLERANCE, message + ", coordinate " + i);
+	}
+
+	private static double[] estimate(NormalEquationSolverType solverType, double omega[]) throws Exception {
+		GridNetwork network = new GridNetwork(0.0);
+		NetworkAdjustment adjustment = network.createAdjustment(false);
+		for (DirectionGroup directions : network.addDirectionGroups(0, NUMBER_OF_STATIONS))
+			adjustment.addAdditionalUnknownParameter(directions.getOrientation());
+		
+		adjustment.setNormalEquationSolverType(solverType);
+		if (solverType == NormalEquationSolverType.HELMERT_BLOCKING)
+			adjustment.setNumberOfHelmertBlocks(3);
+		if (solverType == NormalEquationSolverType.OUT_OF_CORE) {
+			Path directory = Files.createTempDirectory(NetworkAdjustmentTest.class.getSimpleName());
+			directory.toFile().deleteOnExit();
+			adjustment.setScratchDirectory(directory);
+		}
+		
+		assertEquals(EstimationStateType.ERROR_FREE_ESTIMATION, adjustment.estimateModel());
+		omega[0] = adjustment.getOmega();
+		adjustment.clearMatrices();
+		return network.getCoordinates();
+	}
+
+	@Test
+	void normalEquationSolversMatchDenseSolution() throws Exception {
+		double omega[] = new double[1];
+		double expected[] = estimate(NormalEquationSolverType.DENSE, omega);
+		double expectedOmega = omega[0];
+		assertTrue(expectedOmega > 0);
+
+		for (NormalEquationSolverType solverType : new NormalEquationSolverType[] { NormalEquationSolverType.SPARSE, NormalEquationSolverType.OUT_OF_CORE }) {
+			double actual[] = estimate(solverType, omega);
+			assertCoordinatesEquals(expected, actual, solverType.name());
+			assertEquals(expectedOmega, omega[0], 1E-6 * expectedOmega, solverType.name() + ", omega");
+		}
+
+		// Ohne Kofaktormatrix Qxx werden lediglich die Koordinaten verglichen
+		for (NormalEquationSolverType solverType : new NormalEquationSolverType[] { NormalEquationSolverType.HELMERT_BLOCKING, NormalEquationSolverType.ITERATIVE }) {
+			double actual[] = estimate(solverType, omega);
+			assertCoordinatesEquals(expected, actual, solverType.name());
+		}
+	}
+
+	@Test
+	void robustDowndateMatchesFullInversion() throws Exception {
+		double results[][] = new double[2][];
+		double omega[] = new double[2];
+		for (int k = 0; k < 2; k++) {
+			GridNetwork network = new GridNetwork(0.003);
+			// Grobe Abweichung eines stochastischen Anschlusspunktes, sodass dessen Pseudo-Beobachtung umgewichtet wird
+			Point2D outlier = network.points[NX - 1][NY - 1];
+			outlier.setX0(outlier.getX0() + 0.05);
+			
+			NetworkAdjustment adjustment = new NetworkAdjustment();
+			adjustment.setMaximalNumberOfIterations(500);
+			adjustment.setEstimationType(EstimationType.L1NORM);
+			adjustment.setRobustEstimationDowndate(k == 0);
+			for (int i = 0; i < NX; i++) {
+				for (int j = 0; j < NY; j++) {
+					if (i == 0 && j < 2)
+						adjustment.addReferencePoint(network.points[i][j], null);
+					else if (i == NX - 1 && (j == 0 || j == NY - 1))
+						adjustment.addStochasticPoint(network.points[i][j], null);
+					else
+						adjustment.addNewPoint(network.points[i][j], null);
+				}
+			}
+			for (DirectionGroup directions : network.addDirectionGroups(0, NUMBER_OF_STATIONS))
+				adjustment.addAdditionalUnknownParameter(directions.getOrientation());
+			
+			assertEquals(EstimationStateType.ERROR_FREE_ESTIMATION, adjustment.estimateModel());
+			results[k] = network.getCoordinates();
+			omega[k] = adjustment.getOmega();
+			adjustment.clearMatrices();
+		}
+		assertCoordinatesEquals(results[1], results[0], "downdate");
+		assertEquals(omega[1], omega[0], 1E-6 * omega[1], "omega");
+	}
+
+	@Test
+	void sequentialUpdateMatchesFullAdjustment() throws Exception {
+		// Die Richtungssaetze der letzten Standpunkte werden sequentiell eingefuehrt
+		int numberOfInitialStations = NUMBER_OF_STATIONS - 4;
+		for (boolean freeNetwork : new boolean[] { false, true }) {
+			String message = freeNetwork ? "free network" : "constrained network";
+			GridNetwork network = new GridNetwork(0.0);
+			NetworkAdjustment adjustment = network.createAdjustment(freeNetwork);
+			for (DirectionGroup directions : network.addDirectionGroups(0, NUMBER_OF_STATIONS))
+				adjustment.addAdditionalUnknownParameter(directions.getOrientation());
+			assertEquals(EstimationStateType.ERROR_FREE_ESTIMATION, adjustment.estimateModel());
+			double expected[] = network.getCoordinates();
+			double expectedOmega = adjustment.getOmega();
+			adjustment.clearMatrices();
+
+			network = new GridNetwork(0.0);
+			adjustment = network.createAdjustment(freeNetwork);
+			for (DirectionGroup directions : network.addDirectionGroups(0, numberOfInitialStations))
+				adjustment.addAdditionalUnknownParameter(directions.getOrientation());
+			assertEquals(EstimationStateType.ERROR_FREE_ESTIMATION, adjustment.estimateModel());
+			assertTrue(adjustment.isSequentialAdjustmentApplicable(), message);
+
+			for (DirectionGroup directions : network.addDirectionGroups(numberOfInitialStations, NUMBER_OF_STATIONS)) {
+				assertTrue(adjustment.addSequentialObservationGroup(directions), message);
+				assertTrue(adjustment.addSequentialAdditionalUnknownParameter(directions.getOrientation()), message);
+			}
+			assertEquals(EstimationStateType.ERROR_FREE_ESTIMATION, adjustment.estimateSequentialModel());
+			assertCoordinatesEquals(expected, network.getCoordinates(), message);
+			assertEquals(expectedOmega, adjustment.getOmega(), 1E-6 * expectedOmega, message + ", omega");
+			adjustment.clearMatrices();
+		}
+	}
+}
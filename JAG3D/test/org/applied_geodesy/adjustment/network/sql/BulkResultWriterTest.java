@@ -0,0 +1,123 @@
+/***********************************************************************
+* Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+*                                                                      *
+* This program is free software; you can redistribute it and/or modify *
+* it under the terms of the GNU General Public License as published by *
+* the Free Software Foundation; either version 3 of the License, or    *
+* at your option any later version.                                    *
+*                                                                      *
+* This program is distributed in the hope that it will be useful,      *
+* but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+* GNU General Public License for more details.                         *
+*                                                                      *
+* You should have received a copy of the GNU General Public License    *
+* along with this program; if not, see <http://www.gnu.org/licenses/>  *
+* or write to the                                                      *
+* Free Software Foundation, Inc.,                                      *
+* 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+*                                                                      *
+***********************************************************************/
+
+package org.applied_geodesy.adjustment.network.sql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+
+import org.applied_geodesy.util.CellValueType;
+import org.applied_geodesy.util.FormatterOptions;
+import org.applied_geodesy.util.sql.HSQLDB;
+import org.junit.jupiter.api.Test;
+
+class BulkResultWriterTest {
+	private final static BulkResultWriter.ResultTable RESULT_TABLE = new BulkResultWriter.ResultTable("Result", "Apriori",
+			new String[] { "id", "y", "residual", "label" },
+			new CellValueType[] { CellValueType.STRING, CellValueType.LENGTH, CellValueType.LENGTH_RESIDUAL, CellValueType.STRING }
+	);
+	
+	private static HSQLDB createDataBase(String... names) throws Exception {
+		Path directory = Files.createTempDirectory(BulkResultWriterTest.class.getSimpleName());
+		directory.toFile().deleteOnExit();
+		HSQLDB dataBase = new HSQLDB(directory.resolve("test").toString());
+		dataBase.open();
+		dataBase.getStatement().execute("CREATE TABLE \"Apriori\" (\"id\" INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, \"name\" VARCHAR(64) UNIQUE)");
+		dataBase.getStatement().execute("CREATE TABLE \"Result\" (\"id\" INTEGER PRIMARY KEY, \"y\" DOUBLE, \"residual\" DOUBLE, \"label\" VARCHAR(64))");
+		for (String name : names) {
+			try (PreparedStatement stmt = dataBase.getPreparedStatement("INSERT INTO \"Apriori\" (\"name\") VALUES (?)")) {
+				stmt.setString(1, name);
+				stmt.execute();
+			}
+		}
+		return dataBase;
+	}
+	
+	private static BulkResultWriter write(HSQLDB dataBase, boolean incremental, Object[]... rows) throws Exception {
+		BulkResultWriter writer = new BulkResultWriter(dataBase);
+		writer.setIncremental(incremental);
+		writer.write(List.of(RESULT_TABLE), List.of(w -> {
+			for (Object values[] : rows) {
+				BulkResultWriter.Row row = w.createRow(RESULT_TABLE);
+				row.setString(1, (String)values[0]);
+				row.setDouble(2, (Double)values[1]);
+				row.setDouble(3, (Double)values[2]);
+				row.setString(4, (String)values[3]);
+				w.add(row);
+			}
+		}), 2);
+		return writer;
+	}
+	
+	private static int count(HSQLDB dataBase, String sql) throws Exception {
+		try (PreparedStatement stmt = dataBase.getPreparedStatement(sql); ResultSet rs = stmt.executeQuery()) {
+			return rs.next() ? rs.getInt(1) : -1;
+		}
+	}
+
+	@Test
+	void incrementalWriteSkipsRowsWithinOutputResolution() throws Exception {
+		HSQLDB dataBase = createDataBase("A", "B", "C", "D");
+		try {
+			FormatterOptions options = FormatterOptions.getInstance();
+			double lengthResolution   = options.getModelResolution(CellValueType.LENGTH);
+			double residualResolution = options.getModelResolution(CellValueType.LENGTH_RESIDUAL);
+			
+			write(dataBase, false, 
+					new Object[] {"A", 5432109.1234, 0.0012, "a"},
+					new Object[] {"B", 5432110.1234, 0.0013, "b"},
+					new Object[] {"C", 5432111.1234, 0.0014, "c"}
+			);
+			assertEquals(3, count(dataBase, "SELECT COUNT(*) FROM \"Result\""));
+			
+			BulkResultWriter writer = write(dataBase, true, 
+					// unterhalb der Ausgabeaufloesung
+					new Object[] {"A", 5432109.1234 + 0.01 * lengthResolution, 0.0012 + 0.01 * residualResolution, "a"},
+					// Residuum geaendert
+					new Object[] {"B", 5432110.1234, 0.0013 + 2.0 * residualResolution, "b"},
+					// nur Zeichenkette geaendert
+					new Object[] {"D", 5432112.1234, 0.0015, "d"},
+					new Object[] {"C", 5432111.1234, 0.0014, "changed"}
+			);
+			
+			// unveraendert: A; aktualisiert: B, C; eingefuegt: D
+			assertEquals(1, writer.getNumberOfUnchangedRows());
+			assertEquals(3, writer.getNumberOfRows());
+			assertEquals(4, count(dataBase, "SELECT COUNT(*) FROM \"Result\""));
+			assertEquals(1, count(dataBase, "SELECT COUNT(*) FROM \"Result\" WHERE \"label\" = 'changed'"));
+			assertEquals(1, count(dataBase, "SELECT COUNT(*) FROM \"Result\" JOIN \"Apriori\" ON \"Result\".\"id\" = \"Apriori\".\"id\" WHERE \"name\" = 'B' AND \"residual\" > 0.0013 + " + residualResolution));
+			
+			// nicht mehr erzeugte Zeilen werden geloescht
+			writer = write(dataBase, true, new Object[] {"A", 5432109.1234, 0.0012, "a"});
+			assertEquals(1, writer.getNumberOfUnchangedRows());
+			assertEquals(3, writer.getNumberOfRows());
+			assertEquals(1, count(dataBase, "SELECT COUNT(*) FROM \"Result\""));
+		}
+		finally {
+			dataBase.close();
+		}
+	}
+}
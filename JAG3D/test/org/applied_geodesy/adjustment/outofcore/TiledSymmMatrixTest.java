@@ -0,0 +1,120 @@
+/***********************************************************************
+* Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+*                                                                      *
+* This program is free software; you can redistribute it and/or modify *
+* it under the terms of the GNU General Public License as published by *
+* the Free Software Foundation; either version 3 of the License, or    *
+* at your option any later version.                                    *
+*                                                                      *
+* This program is distributed in the hope that it will be useful,      *
+* but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+* GNU General Public License for more details.                         *
+*                                                                      *
+* You should have received a copy of the GNU General Public License    *
+* along with this program; if not, see <http://www.gnu.org/licenses/>  *
+* or write to the                                                      *
+* Free Software Foundation, Inc.,                                      *
+* 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+*                                                                      *
+***********************************************************************/
+
+package org.applied_geodesy.adjustment.outofcore;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.applied_geodesy.adjustment.MathExtension;
+import org.junit.jupiter.api.Test;
+
+import no.uib.cipr.matrix.DenseVector;
+import no.uib.cipr.matrix.MatrixNotSPDException;
+import no.uib.cipr.matrix.UpperSymmPackMatrix;
+
+class TiledSymmMatrixTest {
+	// Dimension ist kein Vielfaches der Kachelgroesse, sodass die letzte Kachel aufgefuellt wird
+	private final static int SIZE = 19, TILE_SIZE = 4, BANDWIDTH = 5;
+	private final static double TOLERANCE = 1E-12;
+
+	private static TiledSymmMatrix createMatrix(UpperSymmPackMatrix dense) throws Exception {
+		Path directory = Files.createTempDirectory(TiledSymmMatrixTest.class.getSimpleName());
+		directory.toFile().deleteOnExit();
+		TiledSymmMatrix tiled = new TiledSymmMatrix(dense.numRows(), directory, TILE_SIZE);
+		// Bandmatrix, sodass Kacheln ausserhalb der Huelle Null sind
+		Random random = new Random(1L);
+		for (int j = 0; j < dense.numRows(); j++) {
+			for (int i = Math.max(0, j - BANDWIDTH); i <= j; i++) {
+				double value = i == j ? 2.0 * BANDWIDTH + random.nextDouble() : 2.0 * random.nextDouble() - 1.0;
+				tiled.set(i, j, value);
+				dense.set(i, j, value);
+			}
+		}
+		return tiled;
+	}
+
+	private static DenseVector createVector(int size) {
+		Random random = new Random(2L);
+		DenseVector n = new DenseVector(size);
+		for (int i = 0; i < size; i++)
+			n.set(i, random.nextGaussian());
+		return n;
+	}
+
+	@Test
+	void solutionMatchesDenseSolution() throws Exception {
+		UpperSymmPackMatrix N = new UpperSymmPackMatrix(SIZE);
+		TiledSymmMatrix tiledN = createMatrix(N);
+		try {
+			DenseVector x = createVector(SIZE);
+			DenseVector tiledX = x.copy();
+			MathExtension.solve(N, x, false);
+			tiledN.solve(tiledX, false);
+			for (int i = 0; i < SIZE; i++)
+				assertEquals(x.get(i), tiledX.get(i), TOLERANCE, "x(" + i + ")");
+		}
+		finally {
+			tiledN.close();
+		}
+	}
+
+	@Test
+	void inverseMatchesDenseInverse() throws Exception {
+		UpperSymmPackMatrix N = new UpperSymmPackMatrix(SIZE);
+		TiledSymmMatrix tiledN = createMatrix(N);
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			tiledN.setForkJoinPool(pool);
+			DenseVector x = createVector(SIZE);
+			DenseVector tiledX = x.copy();
+			MathExtension.solve(N, x, true);
+			tiledN.solve(tiledX, true);
+			for (int i = 0; i < SIZE; i++) {
+				assertEquals(x.get(i), tiledX.get(i), TOLERANCE, "x(" + i + ")");
+				for (int j = 0; j < SIZE; j++)
+					assertEquals(N.get(i, j), tiledN.get(i, j), TOLERANCE, "Q(" + i + ", " + j + ")");
+			}
+		}
+		finally {
+			pool.shutdown();
+			tiledN.close();
+		}
+	}
+
+	@Test
+	void indefiniteMatrixIsRejected() throws Exception {
+		UpperSymmPackMatrix N = new UpperSymmPackMatrix(SIZE);
+		TiledSymmMatrix tiledN = createMatrix(N);
+		try {
+			tiledN.set(SIZE - 1, SIZE - 1, -1.0);
+			assertThrows(MatrixNotSPDException.class, () -> tiledN.solve(createVector(SIZE), false));
+		}
+		finally {
+			tiledN.close();
+		}
+	}
+}
@@ -0,0 +1,90 @@
+/***********************************************************************
+* Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+*                                                                      *
+* This program is free software; you can redistribute it and/or modify *
+* it under the terms of the GNU General Public License as published by *
+* the Free Software Foundation; either version 3 of the License, or    *
+* at your option any later version.                                    *
+*                                                                      *
+* This program is distributed in the hope that it will be useful,      *
+* but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+* GNU General Public License for more details.                         *
+*                                                                      *
+* You should have received a copy of the GNU General Public License    *
+* along with this program; if not, see <http://www.gnu.org/licenses/>  *
+* or write to the                                                      *
+* Free Software Foundation, Inc.,                                      *
+* 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+*                                                                      *
+***********************************************************************/
+
+package org.applied_geodesy.adjustment.sparse;
+
+import static org.applied_geodesy.adjustment.sparse.SparseLDLDecompositionTest.SIZE;
+import static org.applied_geodesy.adjustment.sparse.SparseLDLDecompositionTest.createMatrix;
+import static org.applied_geodesy.adjustment.sparse.SparseLDLDecompositionTest.createVector;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.applied_geodesy.adjustment.MathExtension;
+import org.junit.jupiter.api.Test;
+
+import no.uib.cipr.matrix.DenseVector;
+import no.uib.cipr.matrix.UpperSymmPackMatrix;
+
+class SelectedInverseMatrixTest {
+	private final static double TOLERANCE = 1E-12;
+
+	@Test
+	void selectedElementsMatchDenseInverse() throws Exception {
+		UpperSymmPackMatrix Q = new UpperSymmPackMatrix(SIZE);
+		SelectedInverseMatrix Z = new SelectedInverseMatrix(SparseLDLDecomposition.factorize(createMatrix(Q, 1L)));
+		MathExtension.inv(Q);
+
+		int numberOfSelectedElements = 0;
+		for (int i = 0; i < SIZE; i++) {
+			for (int j = 0; j <= i; j++) {
+				if (!Z.isSelected(i, j))
+					continue;
+				numberOfSelectedElements++;
+				assertEquals(Q.get(i, j), Z.get(i, j), TOLERANCE, "Z(" + i + ", " + j + ")");
+				assertEquals(Z.get(i, j), Z.get(j, i), 0.0);
+			}
+		}
+		assertEquals(numberOfSelectedElements, Z.nonZeros());
+	}
+
+	@Test
+	void unselectedElementsAreSolvedOnDemand() throws Exception {
+		UpperSymmPackMatrix Q = new UpperSymmPackMatrix(SIZE);
+		SelectedInverseMatrix Z = new SelectedInverseMatrix(SparseLDLDecomposition.factorize(createMatrix(Q, 2L)));
+		MathExtension.inv(Q);
+
+		int numberOfUnselectedElements = 0;
+		for (int i = 0; i < SIZE; i++) {
+			for (int j = 0; j < SIZE; j++) {
+				if (Z.isSelected(i, j))
+					continue;
+				numberOfUnselectedElements++;
+				assertEquals(Q.get(i, j), Z.get(i, j), TOLERANCE, "Z(" + i + ", " + j + ")");
+			}
+		}
+		assertTrue(numberOfUnselectedElements > 0);
+	}
+
+	@Test
+	void multAddMatchesDenseInverse() throws Exception {
+		UpperSymmPackMatrix Q = new UpperSymmPackMatrix(SIZE);
+		SelectedInverseMatrix Z = new SelectedInverseMatrix(SparseLDLDecomposition.factorize(createMatrix(Q, 3L)));
+		MathExtension.inv(Q);
+
+		DenseVector x = createVector(SIZE, 4L);
+		DenseVector y = createVector(SIZE, 5L);
+		DenseVector z = y.copy();
+		Q.multAdd(-2.0, x, y);
+		Z.multAdd(-2.0, x, z);
+		for (int i = 0; i < SIZE; i++)
+			assertEquals(y.get(i), z.get(i), TOLERANCE, "y(" + i + ")");
+	}
+}
@@ -0,0 +1,113 @@
+/***********************************************************************
+* Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+*                                                                      *
+* This program is free software; you can redistribute it and/or modify *
+* it under the terms of the GNU General Public License as published by *
+* the Free Software Foundation; either version 3 of the License, or    *
+* at your option any later version.                                    *
+*                                                                      *
+* This program is distributed in the hope that it will be useful,      *
+* but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+* GNU General Public License for more details.                         *
+*                                                                      *
+* You should have received a copy of the GNU General Public License    *
+* along with this program; if not, see <http://www.gnu.org/licenses/>  *
+* or write to the                                                      *
+* Free Software Foundation, Inc.,                                      *
+* 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+*                                                                      *
+***********************************************************************/
+
+package org.applied_geodesy.adjustment.sparse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.applied_geodesy.adjustment.MathExtension;
+import org.junit.jupiter.api.Test;
+
+import no.uib.cipr.matrix.DenseVector;
+import no.uib.cipr.matrix.MatrixSingularException;
+import no.uib.cipr.matrix.UpperSymmPackMatrix;
+
+class SparseLDLDecompositionTest {
+	final static int SIZE = 40;
+	private final static double TOLERANCE = 1E-10;
+
+	/**
+	 * Erzeugt eine diagonal dominante, duenn besetzte Matrix mit schmalem Band und einzelnen weit entfernten
+	 * Kopplungen, die Fill-in ausserhalb des Bandes verursachen; dense erhaelt dieselben Elemente
+	 */
+	static UpperSymmSparseMatrix createMatrix(UpperSymmPackMatrix dense, long seed) {
+		Random random = new Random(seed);
+		int size = dense.numRows();
+		UpperSymmSparseMatrix sparse = new UpperSymmSparseMatrix(size, 2);
+		for (int i = 0; i < size; i++) {
+			for (int j : new int[] { i + 1, i + 2, (7 * i + 3) % size }) {
+				if (j <= i || j >= size)
+					continue;
+				double value = 2.0 * random.nextDouble() - 1.0;
+				sparse.add(j, i, value);
+				dense.add(i, j, value);
+			}
+			double diagonal = size + random.nextDouble();
+			sparse.add(i, i, diagonal);
+			dense.add(i, i, diagonal);
+		}
+		return sparse;
+	}
+
+	static DenseVector createVector(int size, long seed) {
+		Random random = new Random(seed);
+		DenseVector n = new DenseVector(size);
+		for (int i = 0; i < size; i++)
+			n.set(i, random.nextGaussian());
+		return n;
+	}
+
+	@Test
+	void solveMatchesDenseSolution() throws Exception {
+		UpperSymmPackMatrix N = new UpperSymmPackMatrix(SIZE);
+		UpperSymmSparseMatrix sparseN = createMatrix(N, 1L);
+		DenseVector x = createVector(SIZE, 2L);
+		DenseVector sparseX = x.copy();
+
+		MathExtension.solve(N, x, false);
+		SparseLDLDecomposition ldl = MathExtension.solve(sparseN, sparseX);
+
+		for (int i = 0; i < SIZE; i++)
+			assertEquals(x.get(i), sparseX.get(i), TOLERANCE, "x(" + i + ")");
+		// die weit entfernten Kopplungen erzeugen Fill-in
+		assertTrue(ldl.nonZeros() > sparseN.nonZeros() - SIZE);
+	}
+
+	@Test
+	void factorizationIsReusableForSeveralRightHandSides() throws Exception {
+		UpperSymmPackMatrix N = new UpperSymmPackMatrix(SIZE);
+		SparseLDLDecomposition ldl = SparseLDLDecomposition.factorize(createMatrix(N, 3L));
+		MathExtension.inv(N);
+
+		for (long seed = 4L; seed < 7L; seed++) {
+			DenseVector n = createVector(SIZE, seed);
+			DenseVector x = new DenseVector(SIZE);
+			N.mult(n, x);
+			ldl.solve(n);
+			for (int i = 0; i < SIZE; i++)
+				assertEquals(x.get(i), n.get(i), TOLERANCE, "x(" + i + ")");
+		}
+	}
+
+	@Test
+	void singularMatrixIsRejected() {
+		UpperSymmSparseMatrix N = new UpperSymmSparseMatrix(3);
+		N.add(0, 0, 1.0);
+		N.add(0, 1, 1.0);
+		N.add(1, 1, 1.0);
+		N.add(2, 2, 1.0);
+		assertThrows(MatrixSingularException.class, () -> SparseLDLDecomposition.factorize(N));
+	}
+}
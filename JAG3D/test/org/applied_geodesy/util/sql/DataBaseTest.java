@@ -0,0 +1,148 @@
+/***********************************************************************
+* Copyright by Michael Loesler, https://software.applied-geodesy.org   *
+*                                                                      *
+* This program is free software; you can redistribute it and/or modify *
+* it under the terms of the GNU General Public License as published by *
+* the Free Software Foundation; either version 3 of the License, or    *
+* at your option any later version.                                    *
+*                                                                      *
+* This program is distributed in the hope that it will be useful,      *
+* but WITHOUT ANY WARRANTY; without even the implied warranty of       *
+* MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the        *
+* GNU General Public License for more details.                         *
+*                                                                      *
+* You should have received a copy of the GNU General Public License    *
+* along with this program; if not, see <http://www.gnu.org/licenses/>  *
+* or write to the                                                      *
+* Free Software Foundation, Inc.,                                      *
+* 59 Temple Place - Suite 330, Boston, MA  02111-1307, USA.            *
+*                                                                      *
+***********************************************************************/
+
+package org.applied_geodesy.util.sql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+
+class DataBaseTest {
+	private final static String SQL_SELECT = "SELECT \"id\" FROM \"Item\" WHERE \"id\" >= ? ORDER BY \"id\" ASC";
+	private final static String SQL_INSERT = "INSERT INTO \"Item\" (\"id\") VALUES (?)";
+	private final static int NUMBER_OF_ITEMS = 5;
+
+	private static HSQLDB createDataBase() throws Exception {
+		Path directory = Files.createTempDirectory(DataBaseTest.class.getSimpleName());
+		directory.toFile().deleteOnExit();
+		HSQLDB dataBase = new HSQLDB(directory.resolve("test").toString());
+		dataBase.open();
+		dataBase.getStatement().execute("CREATE TABLE \"Item\" (\"id\" INTEGER PRIMARY KEY)");
+		for (int id = 1; id <= NUMBER_OF_ITEMS; id++) {
+			try (PreparedStatement stmt = dataBase.getPreparedStatement(SQL_INSERT)) {
+				stmt.setInt(1, id);
+				stmt.execute();
+			}
+		}
+		return dataBase;
+	}
+
+	@Test
+	void nestedQueriesWithIdenticalStatement() throws Exception {
+		HSQLDB dataBase = createDataBase();
+		try (PreparedStatement outer = dataBase.getPreparedStatement(SQL_SELECT)) {
+			outer.setInt(1, 1);
+			try (ResultSet outerResult = outer.executeQuery()) {
+				int outerRows = 0;
+				while (outerResult.next()) {
+					int id = outerResult.getInt(1);
+					outerRows++;
+
+					try (PreparedStatement inner = dataBase.getPreparedStatement(SQL_SELECT)) {
+						assertNotSame(outer, inner);
+						inner.setInt(1, id);
+						int innerRows = 0;
+						try (ResultSet innerResult = inner.executeQuery()) {
+							while (innerResult.next())
+								innerRows++;
+						}
+						assertEquals(NUMBER_OF_ITEMS - id + 1, innerRows);
+					}
+				}
+				assertEquals(NUMBER_OF_ITEMS, outerRows);
+			}
+		}
+		finally {
+			dataBase.close();
+		}
+	}
+
+	@Test
+	void unreadResultSetIsNotClosedByIdenticalStatement() throws Exception {
+		HSQLDB dataBase = createDataBase();
+		try (PreparedStatement outer = dataBase.getPreparedStatement(SQL_SELECT)) {
+			outer.setInt(1, 2);
+			try (ResultSet outerResult = outer.executeQuery()) {
+				// Ergebnismenge ist geoeffnet, aber noch nicht gelesen
+				try (PreparedStatement inner = dataBase.getPreparedStatement(SQL_SELECT)) {
+					inner.setInt(1, NUMBER_OF_ITEMS);
+					inner.executeQuery().close();
+				}
+
+				int outerRows = 0;
+				while (outerResult.next())
+					outerRows++;
+				assertEquals(NUMBER_OF_ITEMS - 1, outerRows);
+			}
+		}
+		finally {
+			dataBase.close();
+		}
+	}
+
+	@Test
+	void pendingBatchIsNotShared() throws Exception {
+		HSQLDB dataBase = createDataBase();
+		try (PreparedStatement first = dataBase.getPreparedStatement(SQL_INSERT)) {
+			first.setInt(1, NUMBER_OF_ITEMS + 1);
+			first.addBatch();
+
+			try (PreparedStatement second = dataBase.getPreparedStatement(SQL_INSERT)) {
+				second.setInt(1, NUMBER_OF_ITEMS + 2);
+				second.addBatch();
+				assertEquals(1, second.executeBatch().length);
+			}
+
+			assertEquals(1, first.executeBatch().length);
+		}
+		finally {
+			dataBase.close();
+		}
+	}
+
+	@Test
+	void closedStatementIsReused() throws Exception {
+		HSQLDB dataBase = createDataBase();
+		try {
+			long hits = dataBase.getNumberOfCachedStatementHits();
+			try (PreparedStatement stmt = dataBase.getPreparedStatement(SQL_SELECT)) {
+				stmt.setInt(1, 1);
+				stmt.executeQuery();
+			}
+			try (PreparedStatement stmt = dataBase.getPreparedStatement(SQL_SELECT)) {
+				// Parameter der zurueckgegebenen Anweisung sind zurueckgesetzt
+				assertThrows(SQLException.class, stmt::executeQuery);
+			}
+			assertEquals(hits + 1, dataBase.getNumberOfCachedStatementHits());
+		}
+		finally {
+			dataBase.close();
+		}
+	}
+}